@@ -0,0 +1,30 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * A benchmark stand-in for the platform context.
+ */
+public class Context {
+  private final Resources mResources = new Resources();
+
+  public Resources getResources() {
+    return mResources;
+  }
+
+}
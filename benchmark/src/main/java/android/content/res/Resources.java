@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.content.res;
+
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.NinePatchDrawable;
+import android.util.DisplayMetrics;
+
+/**
+ * A benchmark stand-in for the platform resources.
+ */
+public class Resources {
+  private final DisplayMetrics mMetrics = new DisplayMetrics();
+
+  public DisplayMetrics getDisplayMetrics() {
+    return mMetrics;
+  }
+
+  public Drawable getDrawable(int id) {
+    return new NinePatchDrawable();
+  }
+
+}
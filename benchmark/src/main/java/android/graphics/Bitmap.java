@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+/**
+ * A benchmark stand-in for the platform bitmap. No pixels are allocated.
+ */
+public class Bitmap {
+  public enum Config {
+    ALPHA_8, RGB_565, ARGB_4444, ARGB_8888
+  }
+
+  /** The bitmap width. */
+  private final int mWidth;
+  /** The bitmap height. */
+  private final int mHeight;
+  /** If the bitmap was recycled. */
+  private boolean mRecycled;
+
+  private Bitmap(int width, int height) {
+    mWidth = width;
+    mHeight = height;
+  }
+
+  public static Bitmap createBitmap(int width, int height, Config config) {
+    return new Bitmap(width, height);
+  }
+
+  public int getWidth() {
+    return mWidth;
+  }
+
+  public int getHeight() {
+    return mHeight;
+  }
+
+  public void eraseColor(int color) {
+  }
+
+  public void setPixels(int[] pixels, int offset, int stride, int x, int y, int width,
+      int height) {
+  }
+
+  public void recycle() {
+    mRecycled = true;
+  }
+
+  public boolean isRecycled() {
+    return mRecycled;
+  }
+
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+/**
+ * A benchmark stand-in for the platform canvas. Nothing is drawn, the canvas
+ * only counts the drawing calls it receives.
+ */
+public class Canvas {
+  /** The default canvas width. */
+  public static final int DEFAULT_WIDTH = 800;
+  /** The default canvas height. */
+  public static final int DEFAULT_HEIGHT = 480;
+  /** The canvas width. */
+  private final int mWidth;
+  /** The canvas height. */
+  private final int mHeight;
+  /** The number of drawing calls. */
+  private long mCallCount;
+
+  public Canvas() {
+    this(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+  }
+
+  public Canvas(int width, int height) {
+    mWidth = width;
+    mHeight = height;
+  }
+
+  public Canvas(Bitmap bitmap) {
+    this(bitmap.getWidth(), bitmap.getHeight());
+  }
+
+  public long getCallCount() {
+    return mCallCount;
+  }
+
+  public void resetCallCount() {
+    mCallCount = 0;
+  }
+
+  public int getWidth() {
+    return mWidth;
+  }
+
+  public int getHeight() {
+    return mHeight;
+  }
+
+  public boolean getClipBounds(Rect bounds) {
+    bounds.set(0, 0, mWidth, mHeight);
+    return true;
+  }
+
+  public void drawText(String text, float x, float y, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawLines(float[] pts, int offset, int count, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawRect(RectF rect, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawRect(Rect r, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawRoundRect(RectF rect, float rx, float ry, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawPath(Path path, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawPoint(float x, float y, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawCircle(float cx, float cy, float radius, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawArc(RectF oval, float startAngle, float sweepAngle, boolean useCenter,
+      Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+    mCallCount++;
+  }
+
+  public void drawColor(int color) {
+    mCallCount++;
+  }
+
+  public void rotate(float degrees, float px, float py) {
+  }
+
+  public void translate(float dx, float dy) {
+  }
+
+  public void scale(float sx, float sy) {
+  }
+
+  public int save() {
+    return 0;
+  }
+
+  public void restore() {
+  }
+
+  public boolean clipRect(float left, float top, float right, float bottom) {
+    return true;
+  }
+
+  public boolean clipRect(Rect rect) {
+    return true;
+  }
+
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+/**
+ * A benchmark stand-in for the platform paint. The text metrics assume every
+ * character is half the text size wide.
+ */
+public class Paint {
+  public enum Align {
+    LEFT, CENTER, RIGHT
+  }
+
+  public enum Style {
+    FILL, STROKE, FILL_AND_STROKE
+  }
+
+  public enum Cap {
+    BUTT, ROUND, SQUARE
+  }
+
+  public enum Join {
+    MITER, ROUND, BEVEL
+  }
+
+  private int mColor;
+  private Style mStyle = Style.FILL;
+  private float mTextSize = 12;
+  private Align mTextAlign = Align.LEFT;
+  private Typeface mTypeface;
+  private Shader mShader;
+  private float mStrokeWidth;
+  private Cap mStrokeCap = Cap.BUTT;
+  private Join mStrokeJoin = Join.MITER;
+  private float mStrokeMiter = 4;
+  private PathEffect mPathEffect;
+
+  public Paint() {
+  }
+
+  public Paint(Paint paint) {
+    set(paint);
+  }
+
+  public void set(Paint src) {
+    mColor = src.mColor;
+    mStyle = src.mStyle;
+    mTextSize = src.mTextSize;
+    mTextAlign = src.mTextAlign;
+    mTypeface = src.mTypeface;
+    mShader = src.mShader;
+    mStrokeWidth = src.mStrokeWidth;
+    mStrokeCap = src.mStrokeCap;
+    mStrokeJoin = src.mStrokeJoin;
+    mStrokeMiter = src.mStrokeMiter;
+    mPathEffect = src.mPathEffect;
+  }
+
+  public int getColor() {
+    return mColor;
+  }
+
+  public void setColor(int color) {
+    mColor = color;
+  }
+
+  public void setAlpha(int a) {
+    mColor = (mColor & 0x00ffffff) | (a << 24);
+  }
+
+  public void setAntiAlias(boolean aa) {
+  }
+
+  public void setFilterBitmap(boolean filter) {
+  }
+
+  public Style getStyle() {
+    return mStyle;
+  }
+
+  public void setStyle(Style style) {
+    mStyle = style;
+  }
+
+  public float getTextSize() {
+    return mTextSize;
+  }
+
+  public void setTextSize(float textSize) {
+    mTextSize = textSize;
+  }
+
+  public Align getTextAlign() {
+    return mTextAlign;
+  }
+
+  public void setTextAlign(Align align) {
+    mTextAlign = align;
+  }
+
+  public Typeface getTypeface() {
+    return mTypeface;
+  }
+
+  public Typeface setTypeface(Typeface typeface) {
+    mTypeface = typeface;
+    return typeface;
+  }
+
+  public Shader setShader(Shader shader) {
+    mShader = shader;
+    return shader;
+  }
+
+  public float getStrokeWidth() {
+    return mStrokeWidth;
+  }
+
+  public void setStrokeWidth(float width) {
+    mStrokeWidth = width;
+  }
+
+  public Cap getStrokeCap() {
+    return mStrokeCap;
+  }
+
+  public void setStrokeCap(Cap cap) {
+    mStrokeCap = cap;
+  }
+
+  public Join getStrokeJoin() {
+    return mStrokeJoin;
+  }
+
+  public void setStrokeJoin(Join join) {
+    mStrokeJoin = join;
+  }
+
+  public float getStrokeMiter() {
+    return mStrokeMiter;
+  }
+
+  public void setStrokeMiter(float miter) {
+    mStrokeMiter = miter;
+  }
+
+  public PathEffect getPathEffect() {
+    return mPathEffect;
+  }
+
+  public PathEffect setPathEffect(PathEffect effect) {
+    mPathEffect = effect;
+    return effect;
+  }
+
+  public float measureText(String text) {
+    return text.length() * mTextSize / 2;
+  }
+
+  public void getTextBounds(String text, int start, int end, Rect bounds) {
+    bounds.set(0, (int) -mTextSize, (int) ((end - start) * mTextSize / 2), 0);
+  }
+
+  public int getTextWidths(String text, float[] widths) {
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      widths[i] = mTextSize / 2;
+    }
+    return length;
+  }
+
+  public int breakText(String text, boolean measureForwards, float maxWidth, float[] measuredWidth) {
+    int count = Math.min(text.length(), (int) (maxWidth / (mTextSize / 2)));
+    if (measuredWidth != null && measuredWidth.length > 0) {
+      measuredWidth[0] = count * mTextSize / 2;
+    }
+    return count;
+  }
+
+}
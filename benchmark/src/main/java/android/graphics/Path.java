@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+/**
+ * A benchmark stand-in for the platform path. Only the number of segments is
+ * kept.
+ */
+public class Path {
+  private int mSegmentCount;
+
+  public int getSegmentCount() {
+    return mSegmentCount;
+  }
+
+  public void moveTo(float x, float y) {
+    mSegmentCount++;
+  }
+
+  public void lineTo(float x, float y) {
+    mSegmentCount++;
+  }
+
+  public void cubicTo(float x1, float y1, float x2, float y2, float x3, float y3) {
+    mSegmentCount++;
+  }
+
+  public void close() {
+  }
+
+  public void reset() {
+    mSegmentCount = 0;
+  }
+
+  public void rewind() {
+    mSegmentCount = 0;
+  }
+
+}
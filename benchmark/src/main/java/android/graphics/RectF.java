@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+/**
+ * A benchmark stand-in for the platform float rectangle.
+ */
+public class RectF {
+  public float left;
+  public float top;
+  public float right;
+  public float bottom;
+
+  public RectF() {
+  }
+
+  public RectF(float left, float top, float right, float bottom) {
+    set(left, top, right, bottom);
+  }
+
+  public RectF(RectF r) {
+    set(r.left, r.top, r.right, r.bottom);
+  }
+
+  public void set(float left, float top, float right, float bottom) {
+    this.left = left;
+    this.top = top;
+    this.right = right;
+    this.bottom = bottom;
+  }
+
+  public void set(RectF src) {
+    set(src.left, src.top, src.right, src.bottom);
+  }
+
+  public float width() {
+    return right - left;
+  }
+
+  public float height() {
+    return bottom - top;
+  }
+
+  public float centerX() {
+    return (left + right) / 2;
+  }
+
+  public float centerY() {
+    return (top + bottom) / 2;
+  }
+
+  public boolean contains(float x, float y) {
+    return left < right && top < bottom && x >= left && x < right && y >= top && y < bottom;
+  }
+
+  public boolean intersects(float left, float top, float right, float bottom) {
+    return this.left < right && left < this.right && this.top < bottom && top < this.bottom;
+  }
+
+  public static boolean intersects(RectF a, RectF b) {
+    return a.left < b.right && b.left < a.right && a.top < b.bottom && b.top < a.bottom;
+  }
+
+  public void offset(float dx, float dy) {
+    left += dx;
+    top += dy;
+    right += dx;
+    bottom += dy;
+  }
+
+  public void union(float left, float top, float right, float bottom) {
+    this.left = Math.min(this.left, left);
+    this.top = Math.min(this.top, top);
+    this.right = Math.max(this.right, right);
+    this.bottom = Math.max(this.bottom, bottom);
+  }
+
+}
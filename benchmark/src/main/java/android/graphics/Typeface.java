@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+/**
+ * A benchmark stand-in for the platform typeface.
+ */
+public class Typeface {
+  public static final int NORMAL = 0;
+  public static final int BOLD = 1;
+  public static final int ITALIC = 2;
+  public static final int BOLD_ITALIC = 3;
+  public static final Typeface DEFAULT = new Typeface("sans-serif", NORMAL);
+  public static final Typeface SERIF = new Typeface("serif", NORMAL);
+
+  private final String mFamilyName;
+  private final int mStyle;
+
+  private Typeface(String familyName, int style) {
+    mFamilyName = familyName;
+    mStyle = style;
+  }
+
+  public static Typeface create(String familyName, int style) {
+    return new Typeface(familyName, style);
+  }
+
+  public static Typeface create(Typeface family, int style) {
+    return new Typeface(family == null ? DEFAULT.mFamilyName : family.mFamilyName, style);
+  }
+
+  public int getStyle() {
+    return mStyle;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof Typeface)) {
+      return false;
+    }
+    Typeface t = (Typeface) o;
+    return mStyle == t.mStyle && mFamilyName.equals(t.mFamilyName);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * mFamilyName.hashCode() + mStyle;
+  }
+
+  @Override
+  public String toString() {
+    return mFamilyName;
+  }
+
+}
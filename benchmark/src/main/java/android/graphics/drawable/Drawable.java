@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics.drawable;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+
+/**
+ * A benchmark stand-in for the platform drawable.
+ */
+public class Drawable {
+  private final Rect mBounds = new Rect();
+
+  public void setBounds(int left, int top, int right, int bottom) {
+    mBounds.set(left, top, right, bottom);
+  }
+
+  public Rect getBounds() {
+    return mBounds;
+  }
+
+  public void draw(Canvas canvas) {
+    canvas.drawRect(mBounds, null);
+  }
+
+}
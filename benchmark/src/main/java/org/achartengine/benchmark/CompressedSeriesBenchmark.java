@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.model.CompressedXYSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding a compressed series holding a day of values sampled every
+ * second, as a random walk with two decimals, and summarizing it from the
+ * block headers as when it is drawn zoomed out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressedSeriesBenchmark {
+  /** The number of values to decode. */
+  @Param({ "1000", "86400" })
+  public int range;
+  /** The number of values of the series. */
+  private static final int COUNT = 86400;
+  /** The width in pixels the summarized range is drawn on. */
+  private static final int PIXELS = 100;
+  /** The series. */
+  private CompressedXYSeries mSeries;
+  /** The decoded X values. */
+  private double[] mXs = new double[COUNT];
+  /** The decoded Y values. */
+  private double[] mYs = new double[COUNT];
+  /** The index of the next decoded range. */
+  private int mFrom;
+
+  @Setup
+  public void setUp() {
+    mSeries = new CompressedXYSeries("compressed");
+    Random random = new Random(42);
+    double value = 50;
+    for (int i = 0; i < COUNT; i++) {
+      value += Math.round(random.nextGaussian() * 100) / 100.0;
+      mSeries.add(1380000000000L + i * 1000L, Math.round(value * 100) / 100.0);
+    }
+  }
+
+  @Benchmark
+  public int decodeRange() {
+    int count = mSeries.copyRange(mFrom, mFrom + range, mXs, mYs);
+    mFrom = (mFrom + 7919) % (COUNT - range + 1);
+    return count;
+  }
+
+  @Benchmark
+  public int summarizeRange() {
+    // the X width of a pixel, in milliseconds
+    double pixelWidth = range * 1000.0 / PIXELS;
+    int count = mSeries.copySummary(mFrom, mFrom + range, pixelWidth, mXs, mYs);
+    mFrom = (mFrom + 7919) % (COUNT - range + 1);
+    return count;
+  }
+
+  @Benchmark
+  public int ceilingIndex() {
+    mFrom = (mFrom + 7919) % COUNT;
+    return mSeries.getCeilingIndex(1380000000000L + mFrom * 1000L + 500);
+  }
+
+}
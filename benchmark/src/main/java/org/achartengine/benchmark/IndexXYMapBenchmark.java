@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.util.IndexXYMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the index lookup of an X value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexXYMapBenchmark {
+  /** The number of entries. */
+  @Param({ "1000", "100000" })
+  public int size;
+  /** The map. */
+  private IndexXYMap<Double, Double> mMap;
+  /** The looked up key, moved on each call. */
+  private int mKey;
+
+  @Setup
+  public void setUp() {
+    mMap = new IndexXYMap<Double, Double>();
+    for (int i = 0; i < size; i++) {
+      mMap.put((double) i, (double) i);
+    }
+  }
+
+  @Benchmark
+  public int getIndexForKey() {
+    mKey = (mKey + 7919) % size;
+    return mMap.getIndexForKey((double) mKey);
+  }
+
+}
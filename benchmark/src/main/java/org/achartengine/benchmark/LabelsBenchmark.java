@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.chart.TimeChart;
+import org.achartengine.model.TimeSeries;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.renderer.XYSeriesRenderer;
+import org.achartengine.util.MathHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the axis labels computation, which runs for every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabelsBenchmark {
+  /** If the time chart labels are rounded. */
+  @Param({ "true", "false" })
+  public boolean roundedLabels;
+  /** The time chart. */
+  private LabelsTimeChart mTimeChart;
+  /** The start of the time range. */
+  private double mStart;
+  /** The end of the time range. */
+  private double mEnd;
+  /** The range offset, changed on each call such as no result can be reused. */
+  private double mOffset;
+
+  @Setup
+  public void setUp() {
+    TimeSeries series = new TimeSeries("time");
+    long start = 1356998400000L;
+    for (int i = 0; i < 10000; i++) {
+      series.add(start + i * 60000L, Math.sin(i / 10.0));
+    }
+    XYMultipleSeriesDataset dataset = new XYMultipleSeriesDataset();
+    dataset.addSeries(series);
+    XYMultipleSeriesRenderer renderer = new XYMultipleSeriesRenderer();
+    renderer.addSeriesRenderer(new XYSeriesRenderer());
+    renderer.setXRoundedLabels(roundedLabels);
+    mTimeChart = new LabelsTimeChart(dataset, renderer);
+    mStart = series.getMinX();
+    mEnd = series.getMaxX();
+  }
+
+  @Benchmark
+  public List<Double> mathHelperLabels() {
+    mOffset = (mOffset + 0.37) % 100;
+    return MathHelper.getTicks(-12.5 + mOffset, 187.25 + mOffset, 10);
+  }
+
+  @Benchmark
+  public List<Double> timeChartLabels() {
+    mOffset = (mOffset + 0.37) % 100;
+    return mTimeChart.xLabels(mStart + mOffset, mEnd + mOffset, 5);
+  }
+
+  /**
+   * A time chart that exposes the X labels computation.
+   */
+  private static class LabelsTimeChart extends TimeChart {
+
+    LabelsTimeChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
+      super(dataset, renderer);
+    }
+
+    List<Double> xLabels(double min, double max, int count) {
+      return getXLabels(min, max, count);
+    }
+  }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.chart.LineChart;
+import org.achartengine.model.Point;
+import org.achartengine.model.SeriesSelection;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.renderer.XYSeriesRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * Measures drawing a line chart on a recording canvas and hit-testing the
+ * drawn points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineChartBenchmark {
+  /** The number of points in each series. */
+  @Param({ "1000", "10000" })
+  public int size;
+  /** The number of series. */
+  @Param({ "1", "4" })
+  public int seriesCount;
+  /** The chart. */
+  private LineChart mChart;
+  /** The canvas. */
+  private Canvas mCanvas;
+  /** The paint. */
+  private Paint mPaint;
+  /** The hit-testing location, moved on each call. */
+  private int mHitX;
+
+  @Setup
+  public void setUp() {
+    XYMultipleSeriesDataset dataset = new XYMultipleSeriesDataset();
+    XYMultipleSeriesRenderer renderer = new XYMultipleSeriesRenderer();
+    for (int s = 0; s < seriesCount; s++) {
+      XYSeries series = new XYSeries("series " + s);
+      for (int i = 0; i < size; i++) {
+        series.add(i, Math.sin(i / 10.0 + s));
+      }
+      dataset.addSeries(series);
+      renderer.addSeriesRenderer(new XYSeriesRenderer());
+    }
+    mChart = new LineChart(dataset, renderer);
+    mCanvas = new Canvas();
+    mPaint = new Paint();
+    // the hit-testing works on the clickable areas of the last frame
+    draw();
+  }
+
+  @Benchmark
+  public long draw() {
+    mChart.draw(mCanvas, 0, 0, mCanvas.getWidth(), mCanvas.getHeight(), mPaint);
+    return mCanvas.getCallCount();
+  }
+
+  @Benchmark
+  public SeriesSelection hitTest() {
+    mHitX = (mHitX + 7) % mCanvas.getWidth();
+    return mChart.getSeriesAndPointForScreenCoordinate(new Point(mHitX, mCanvas.getHeight() / 2));
+  }
+
+}
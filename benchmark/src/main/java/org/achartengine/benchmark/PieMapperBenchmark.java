@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.chart.PieMapper;
+import org.achartengine.model.Point;
+import org.achartengine.model.SeriesSelection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookup of the pie segment under a screen point.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieMapperBenchmark {
+  /** The pie radius. */
+  private static final int RADIUS = 200;
+  /** The number of segments. */
+  @Param({ "10", "1000" })
+  public int segments;
+  /** The mapper. */
+  private PieMapper mMapper;
+  /** The lookup angle, moved on each call. */
+  private double mAngle;
+
+  @Setup
+  public void setUp() {
+    mMapper = new PieMapper();
+    mMapper.setDimensions(RADIUS, RADIUS, RADIUS);
+    float angle = 360f / segments;
+    for (int i = 0; i < segments; i++) {
+      mMapper.addPieSegment(i, i, i * angle, angle);
+    }
+  }
+
+  @Benchmark
+  public SeriesSelection lookup() {
+    mAngle = (mAngle + 0.1) % (2 * Math.PI);
+    float x = (float) (RADIUS + RADIUS / 2 * Math.cos(mAngle));
+    float y = (float) (RADIUS + RADIUS / 2 * Math.sin(mAngle));
+    return mMapper.getSeriesAndPointForScreenCoordinate(new Point(x, y));
+  }
+
+}
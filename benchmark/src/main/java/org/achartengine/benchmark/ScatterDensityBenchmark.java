@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.chart.ScatterChart;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.renderer.XYSeriesRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * Measures drawing a scatter chart of a gaussian cloud as points and as a
+ * density map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScatterDensityBenchmark {
+  /** The number of points of the series. */
+  @Param({ "10000", "1000000" })
+  public int size;
+  /** The chart drawing the points. */
+  private ScatterChart mPointsChart;
+  /** The chart drawing the density map. */
+  private ScatterChart mDensityChart;
+  /** The canvas. */
+  private Canvas mCanvas;
+  /** The paint. */
+  private Paint mPaint;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    double[] xs = new double[size];
+    double[] ys = new double[size];
+    for (int i = 0; i < size; i++) {
+      xs[i] = random.nextGaussian();
+      ys[i] = random.nextGaussian();
+    }
+    // the Y values are independent, so sorting the X values keeps the cloud
+    Arrays.sort(xs);
+    mPointsChart = createChart(xs, ys, Integer.MAX_VALUE);
+    mDensityChart = createChart(xs, ys, 0);
+    mCanvas = new Canvas();
+    mPaint = new Paint();
+  }
+
+  private ScatterChart createChart(double[] xs, double[] ys, int densityThreshold) {
+    XYSeries series = new XYSeries("cloud");
+    series.setDuplicateXAllowed(true);
+    for (int i = 0; i < size; i++) {
+      series.add(xs[i], ys[i]);
+    }
+    XYMultipleSeriesDataset dataset = new XYMultipleSeriesDataset();
+    dataset.addSeries(series);
+    XYSeriesRenderer seriesRenderer = new XYSeriesRenderer();
+    seriesRenderer.setDensityThreshold(densityThreshold);
+    XYMultipleSeriesRenderer renderer = new XYMultipleSeriesRenderer();
+    renderer.addSeriesRenderer(seriesRenderer);
+    return new ScatterChart(dataset, renderer);
+  }
+
+  @Benchmark
+  public long drawPoints() {
+    mPointsChart.draw(mCanvas, 0, 0, mCanvas.getWidth(), mCanvas.getHeight(), mPaint);
+    return mCanvas.getCallCount();
+  }
+
+  @Benchmark
+  public long drawDensity() {
+    mDensityChart.draw(mCanvas, 0, 0, mCanvas.getWidth(), mCanvas.getHeight(), mPaint);
+    return mCanvas.getCallCount();
+  }
+
+}
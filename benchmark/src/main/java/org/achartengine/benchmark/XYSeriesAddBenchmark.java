@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.model.XYSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures filling a series, with the X values appended in order, in random
+ * order and in bursts of values sharing the same X.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XYSeriesAddBenchmark {
+  /** The number of points added to the series. */
+  @Param({ "1000", "10000" })
+  public int size;
+  /** The number of values sharing the same X in a burst. */
+  private static final int BURST = 100;
+  /** The X values in random order. */
+  private double[] mRandomX;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    mRandomX = new double[size];
+    for (int i = 0; i < size; i++) {
+      mRandomX[i] = random.nextDouble() * size;
+    }
+  }
+
+  @Benchmark
+  public XYSeries addMonotonic() {
+    XYSeries series = new XYSeries("monotonic");
+    for (int i = 0; i < size; i++) {
+      series.add(i, i % 100);
+    }
+    return series;
+  }
+
+  @Benchmark
+  public XYSeries addRandom() {
+    XYSeries series = new XYSeries("random");
+    for (int i = 0; i < size; i++) {
+      series.add(mRandomX[i], i % 100);
+    }
+    return series;
+  }
+
+  @Benchmark
+  public XYSeries addBurstsPadded() {
+    XYSeries series = new XYSeries("padded");
+    for (int i = 0; i < size; i++) {
+      series.add(i / BURST, i % 100);
+    }
+    return series;
+  }
+
+  @Benchmark
+  public XYSeries addBurstsDuplicateX() {
+    XYSeries series = new XYSeries("duplicate");
+    series.setDuplicateXAllowed(true);
+    for (int i = 0; i < size; i++) {
+      series.add(i / BURST, i % 100);
+    }
+    return series;
+  }
+
+}
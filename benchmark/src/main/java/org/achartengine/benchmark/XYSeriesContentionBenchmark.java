@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.model.XYSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one thread sliding a window of points while reader threads read the
+ * whole window, either value by value or with a bulk copy. The number of
+ * readers can be changed with the -tg option, such as -tg 1,7 for 7 readers.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XYSeriesContentionBenchmark {
+  /** The number of points in the window. */
+  @Param({ "1000", "10000" })
+  public int window;
+  /** The series. */
+  private XYSeries mSeries;
+  /** The next X value, only changed by the writer. */
+  private double mNextX;
+
+  @Setup
+  public void setUp() {
+    mSeries = new XYSeries("window");
+    for (int i = 0; i < window; i++) {
+      mSeries.add(i, Math.sin(i / 10.0));
+    }
+    mNextX = window;
+  }
+
+  /**
+   * The reader buffers, one per thread.
+   */
+  @State(Scope.Thread)
+  public static class Buffers {
+    /** The X values. */
+    double[] mXs = new double[100000];
+    /** The Y values. */
+    double[] mYs = new double[100000];
+  }
+
+  /**
+   * Appends a point and drops the oldest one.
+   * 
+   * @return the series
+   */
+  private XYSeries slide() {
+    mSeries.add(mNextX, Math.sin(mNextX / 10.0));
+    mSeries.remove(0);
+    mNextX++;
+    return mSeries;
+  }
+
+  @Benchmark
+  @Group("eachValue")
+  @GroupThreads(1)
+  public XYSeries eachValueWriter() {
+    return slide();
+  }
+
+  @Benchmark
+  @Group("eachValue")
+  @GroupThreads(3)
+  public double eachValueReader() {
+    double sum = 0;
+    int count = mSeries.getItemCount();
+    for (int i = 0; i < count; i++) {
+      try {
+        sum += mSeries.getX(i) + mSeries.getY(i);
+      } catch (IndexOutOfBoundsException e) {
+        // the writer removed a point since the count was read
+        break;
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @Group("bulkCopy")
+  @GroupThreads(1)
+  public XYSeries bulkCopyWriter() {
+    return slide();
+  }
+
+  @Benchmark
+  @Group("bulkCopy")
+  @GroupThreads(3)
+  public double bulkCopyReader(Buffers buffers) {
+    double sum = 0;
+    int count = mSeries.copyRange(0, window + 1, buffers.mXs, buffers.mYs);
+    for (int i = 0; i < count; i++) {
+      sum += buffers.mXs[i] + buffers.mYs[i];
+    }
+    return sum;
+  }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.model.XYSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures getting and iterating the visible range of a series, the way
+ * XYChart does it for every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XYSeriesRangeBenchmark {
+  /** The number of points in the series. */
+  @Param({ "100000" })
+  public int size;
+  /** The number of points in the visible range. */
+  @Param({ "100", "10000" })
+  public int visible;
+  /** If the points right outside the range are included. */
+  @Param({ "false", "true" })
+  public boolean boundingPoints;
+  /** The series. */
+  private XYSeries mSeries;
+
+  @Setup
+  public void setUp() {
+    mSeries = new XYSeries("range");
+    for (int i = 0; i < size; i++) {
+      mSeries.add(i, Math.sin(i / 10.0));
+    }
+  }
+
+  @Benchmark
+  public double getRange() {
+    double start = (size - visible) / 2;
+    SortedMap<Double, Double> range = mSeries.getRange(start, start + visible, boundingPoints);
+    double sum = 0;
+    for (Entry<Double, Double> entry : range.entrySet()) {
+      sum += entry.getValue();
+    }
+    return sum;
+  }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.achartengine.model.XYSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a live chart that appends a point and drops the oldest one, keeping
+ * a fixed size window of points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XYSeriesSlidingWindowBenchmark {
+  /** The number of points in the window. */
+  @Param({ "1000", "100000" })
+  public int window;
+  /** The series. */
+  private XYSeries mSeries;
+  /** The next X value. */
+  private double mNextX;
+
+  @Setup
+  public void setUp() {
+    mSeries = new XYSeries("window");
+    for (int i = 0; i < window; i++) {
+      mSeries.add(i, Math.sin(i / 10.0));
+    }
+    mNextX = window;
+  }
+
+  @Benchmark
+  public XYSeries slide() {
+    mSeries.add(mNextX, Math.sin(mNextX / 10.0));
+    mSeries.remove(0);
+    mNextX++;
+    return mSeries;
+  }
+
+}
@@ -1,360 +1,715 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- * Copyright (C) 2013 - Henning Dodenhof
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine;
-
-import org.achartengine.chart.AbstractChart;
-import org.achartengine.chart.RoundChart;
-import org.achartengine.chart.XYChart;
-import org.achartengine.model.Point;
-import org.achartengine.model.SeriesSelection;
-import org.achartengine.renderer.DefaultRenderer;
-import org.achartengine.renderer.XYMultipleSeriesRenderer;
-import org.achartengine.tools.FitZoom;
-import org.achartengine.tools.MoveListener;
-import org.achartengine.tools.PanListener;
-import org.achartengine.tools.Zoom;
-import org.achartengine.tools.ZoomListener;
-
-import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-import android.graphics.Rect;
-import android.graphics.RectF;
-import android.os.Handler;
-import android.view.MotionEvent;
-import android.view.View;
-
-/**
- * The view that encapsulates the graphical chart.
- */
-public class GraphicalView extends View {
-  /** The chart to be drawn. */
-  private AbstractChart mChart;
-  /** The chart renderer. */
-  private DefaultRenderer mRenderer;
-  /** The view bounds. */
-  private Rect mRect = new Rect();
-  /** The user interface thread handler. */
-  private Handler mHandler;
-  /** The zoom buttons rectangle. */
-  private RectF mZoomR = new RectF();
-  /** The zoom in icon. */
-  private Bitmap zoomInImage;
-  /** The zoom out icon. */
-  private Bitmap zoomOutImage;
-  /** The fit zoom icon. */
-  private Bitmap fitZoomImage;
-  /** The zoom area size. */
-  private int zoomSize = 50;
-  /** The zoom buttons background color. */
-  private static final int ZOOM_BUTTONS_COLOR = Color.argb(175, 150, 150, 150);
-  /** The zoom in tool. */
-  private Zoom mZoomIn;
-  /** The zoom out tool. */
-  private Zoom mZoomOut;
-  /** The fit zoom tool. */
-  private FitZoom mFitZoom;
-  /** The paint to be used when drawing the chart. */
-  private Paint mPaint = new Paint();
-  /** The touch handler. */
-  private ITouchHandler mTouchHandler;
-  /** The old x coordinate. */
-  private float oldX;
-  /** The old y coordinate. */
-  private float oldY;
-  /** If the graphical view is drawn. */
-  private boolean mDrawn;
-
-  private Context mContext;
-
-  /**
-   * Creates a new graphical view.
-   * 
-   * @param context the context
-   * @param chart the chart to be drawn
-   */
-  public GraphicalView(Context context, AbstractChart chart) {
-    super(context);
-    mContext = context;
-    mChart = chart;
-    mHandler = new Handler();
-    if (mChart instanceof XYChart) {
-      mRenderer = ((XYChart) mChart).getRenderer();
-    } else {
-      mRenderer = ((RoundChart) mChart).getRenderer();
-    }
-    if (mRenderer.isZoomButtonsVisible()) {
-      zoomInImage = BitmapFactory.decodeStream(GraphicalView.class
-          .getResourceAsStream("image/zoom_in.png"));
-      zoomOutImage = BitmapFactory.decodeStream(GraphicalView.class
-          .getResourceAsStream("image/zoom_out.png"));
-      fitZoomImage = BitmapFactory.decodeStream(GraphicalView.class
-          .getResourceAsStream("image/zoom-1.png"));
-    }
-
-    if (mRenderer instanceof XYMultipleSeriesRenderer
-        && ((XYMultipleSeriesRenderer) mRenderer).getMarginsColor() == XYMultipleSeriesRenderer.NO_COLOR) {
-      ((XYMultipleSeriesRenderer) mRenderer).setMarginsColor(mPaint.getColor());
-    }
-    if (mRenderer.isZoomEnabled() && mRenderer.isZoomButtonsVisible()
-        || mRenderer.isExternalZoomEnabled()) {
-      mZoomIn = new Zoom(mChart, true, mRenderer.getZoomRate());
-      mZoomOut = new Zoom(mChart, false, mRenderer.getZoomRate());
-      mFitZoom = new FitZoom(mChart);
-    }
-
-    mTouchHandler = new TouchHandler(this, mContext, mChart);
-  }
-
-  /**
-   * Returns the current series selection object.
-   * 
-   * @return the series selection
-   */
-  public SeriesSelection getCurrentSeriesAndPoint() {
-    return mChart.getSeriesAndPointForScreenCoordinate(new Point(oldX, oldY));
-  }
-
-  /**
-   * Transforms the currently selected screen point to a real point.
-   * 
-   * @param scale the scale
-   * @return the currently selected real point
-   */
-  public double[] toRealPoint(int scale) {
-    if (mChart instanceof XYChart) {
-      XYChart chart = (XYChart) mChart;
-      return chart.toRealPoint(oldX, oldY, scale);
-    }
-    return null;
-  }
-
-  @Override
-  protected void onDraw(Canvas canvas) {
-    super.onDraw(canvas);
-    canvas.getClipBounds(mRect);
-    int top = mRect.top;
-    int left = mRect.left;
-    int width = mRect.width();
-    int height = mRect.height();
-    if (mRenderer.isInScroll()) {
-      top = 0;
-      left = 0;
-      width = getMeasuredWidth();
-      height = getMeasuredHeight();
-    }
-    mChart.draw(canvas, left, top, width, height, mPaint);
-    if (mRenderer != null && mRenderer.isZoomEnabled() && mRenderer.isZoomButtonsVisible()) {
-      mPaint.setColor(ZOOM_BUTTONS_COLOR);
-      zoomSize = Math.max(zoomSize, Math.min(width, height) / 7);
-      mZoomR.set(left + width - zoomSize * 3, top + height - zoomSize * 0.775f, left + width, top
-          + height);
-      canvas.drawRoundRect(mZoomR, zoomSize / 3, zoomSize / 3, mPaint);
-      float buttonY = top + height - zoomSize * 0.625f;
-      canvas.drawBitmap(zoomInImage, left + width - zoomSize * 2.75f, buttonY, null);
-      canvas.drawBitmap(zoomOutImage, left + width - zoomSize * 1.75f, buttonY, null);
-      canvas.drawBitmap(fitZoomImage, left + width - zoomSize * 0.75f, buttonY, null);
-    }
-    mDrawn = true;
-  }
-
-  /**
-   * Sets the zoom rate.
-   * 
-   * @param rate the zoom rate
-   */
-  public void setZoomRate(float rate) {
-    if (mZoomIn != null && mZoomOut != null) {
-      mZoomIn.setZoomRate(rate);
-      mZoomOut.setZoomRate(rate);
-    }
-  }
-
-  /**
-   * Do a chart zoom in.
-   */
-  public void zoomIn() {
-    if (mZoomIn != null) {
-      mZoomIn.apply(Zoom.ZOOM_AXIS_XY);
-      repaint();
-    }
-  }
-
-  /**
-   * Do a chart zoom out.
-   */
-  public void zoomOut() {
-    if (mZoomOut != null) {
-      mZoomOut.apply(Zoom.ZOOM_AXIS_XY);
-      repaint();
-    }
-  }
-
-  /**
-   * Do a chart zoom reset / fit zoom.
-   */
-  public void zoomReset() {
-    if (mFitZoom != null) {
-      mFitZoom.apply();
-      mZoomIn.notifyZoomResetListeners();
-      repaint();
-    }
-  }
-
-  /**
-   * Adds a new zoom listener.
-   * 
-   * @param listener zoom listener
-   */
-  public void addZoomListener(ZoomListener listener, boolean onButtons, boolean onPinch) {
-    if (onButtons) {
-      if (mZoomIn != null) {
-        mZoomIn.addZoomListener(listener);
-        mZoomOut.addZoomListener(listener);
-      }
-      if (onPinch) {
-        mTouchHandler.addZoomListener(listener);
-      }
-    }
-  }
-
-  /**
-   * Removes a zoom listener.
-   * 
-   * @param listener zoom listener
-   */
-  public synchronized void removeZoomListener(ZoomListener listener) {
-    if (mZoomIn != null) {
-      mZoomIn.removeZoomListener(listener);
-      mZoomOut.removeZoomListener(listener);
-    }
-    mTouchHandler.removeZoomListener(listener);
-  }
-
-  /**
-   * Adds a new pan listener.
-   * 
-   * @param listener pan listener
-   */
-  public void addPanListener(PanListener listener) {
-    mTouchHandler.addPanListener(listener);
-  }
-
-  /**
-   * Removes a pan listener.
-   * 
-   * @param listener pan listener
-   */
-  public void removePanListener(PanListener listener) {
-    mTouchHandler.removePanListener(listener);
-  }
-
-  /**
-   * Adds a new move listener.
-   * 
-   * @param listener move listener
-   */
-  public void addMoveListener(MoveListener listener) {
-    mTouchHandler.addMoveListener(listener);
-  }
-
-  /**
-   * Removes a move listener.
-   * 
-   * @param listener move listener
-   */
-  public void removeMoveListener(MoveListener listener) {
-    mTouchHandler.removeMoveListener(listener);
-  }
-
-  protected RectF getZoomRectangle() {
-    return mZoomR;
-  }
-
-  @Override
-  public boolean onTouchEvent(MotionEvent event) {
-    if (event.getAction() == MotionEvent.ACTION_DOWN) {
-      // save the x and y so they can be used in the click and long press
-      // listeners
-      oldX = event.getX();
-      oldY = event.getY();
-    }
-    if (mRenderer != null && mDrawn && (mRenderer.isPanEnabled() || mRenderer.isZoomEnabled())) {
-      if (mTouchHandler.handleTouch(event)) {
-        return true;
-      }
-    }
-    return super.onTouchEvent(event);
-  }
-
-  /**
-   * Schedule a view content repaint.
-   */
-  public void repaint() {
-    mHandler.post(new Runnable() {
-      public void run() {
-        invalidate();
-      }
-    });
-  }
-
-  /**
-   * Schedule a view content repaint, in the specified rectangle area.
-   * 
-   * @param left the left position of the area to be repainted
-   * @param top the top position of the area to be repainted
-   * @param right the right position of the area to be repainted
-   * @param bottom the bottom position of the area to be repainted
-   */
-  public void repaint(final int left, final int top, final int right, final int bottom) {
-    mHandler.post(new Runnable() {
-      public void run() {
-        invalidate(left, top, right, bottom);
-      }
-    });
-  }
-
-  /**
-   * Saves the content of the graphical view to a bitmap.
-   * 
-   * @return the bitmap
-   */
-  public Bitmap toBitmap() {
-    setDrawingCacheEnabled(false);
-    if (!isDrawingCacheEnabled()) {
-      setDrawingCacheEnabled(true);
-    }
-    if (mRenderer.isApplyBackgroundColor()) {
-      setDrawingCacheBackgroundColor(mRenderer.getBackgroundColor());
-    }
-    setDrawingCacheQuality(View.DRAWING_CACHE_QUALITY_HIGH);
-    return getDrawingCache(true);
-  }
-
-  /**
-   * Returns the chart that belongs to this view
-   * 
-   * @return the chart
-   */
-  public AbstractChart getChart() {
-    return mChart;
-  }
-
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ * Copyright (C) 2013 - Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.achartengine.chart.AbstractChart;
+import org.achartengine.chart.ChartOverlay;
+import org.achartengine.chart.RoundChart;
+import org.achartengine.chart.XYChart;
+import org.achartengine.model.Point;
+import org.achartengine.model.SeriesChangeListener;
+import org.achartengine.model.SeriesSelection;
+import org.achartengine.model.XYDataSourceListener;
+import org.achartengine.model.XYDataSourceSeries;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.DefaultRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.tools.AnimationTool;
+import org.achartengine.tools.FitZoom;
+import org.achartengine.tools.FlingListener;
+import org.achartengine.tools.MoveListener;
+import org.achartengine.tools.PanListener;
+import org.achartengine.tools.RangeAnimation;
+import org.achartengine.tools.Zoom;
+import org.achartengine.tools.ZoomListener;
+import org.achartengine.util.ChartMetrics;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.os.Handler;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+import android.view.View;
+
+/**
+ * The view that encapsulates the graphical chart.
+ */
+public class GraphicalView extends View {
+  /** The chart to be drawn. */
+  private AbstractChart mChart;
+  /** The chart renderer. */
+  private DefaultRenderer mRenderer;
+  /** The view bounds. */
+  private Rect mRect = new Rect();
+  /** The user interface thread handler. */
+  private Handler mHandler;
+  /** The zoom buttons rectangle. */
+  private RectF mZoomR = new RectF();
+  /** The zoom in icon. */
+  private Bitmap zoomInImage;
+  /** The zoom out icon. */
+  private Bitmap zoomOutImage;
+  /** The fit zoom icon. */
+  private Bitmap fitZoomImage;
+  /** The zoom area size. */
+  private int zoomSize = 50;
+  /** The zoom buttons background color. */
+  private static final int ZOOM_BUTTONS_COLOR = Color.argb(175, 150, 150, 150);
+  /** The zoom in tool. */
+  private Zoom mZoomIn;
+  /** The zoom out tool. */
+  private Zoom mZoomOut;
+  /** The fit zoom tool. */
+  private FitZoom mFitZoom;
+  /** The paint to be used when drawing the chart. */
+  private Paint mPaint = new Paint();
+  /** The listener that repaints the chart when a new data window gets loaded. */
+  private XYDataSourceListener mDataSourceListener = new XYDataSourceListener() {
+    public void windowLoaded(XYDataSourceSeries series) {
+      repaint();
+    }
+  };
+  /** If a repaint has been posted and did not run yet. */
+  private final AtomicBoolean mRepaintPending = new AtomicBoolean();
+  /** The number of repaint requests since the last frame. */
+  private final AtomicInteger mRepaintRequests = new AtomicInteger();
+  /** The number of repaint requests merged into a pending one since the last frame. */
+  private final AtomicInteger mRepaintsCoalesced = new AtomicInteger();
+  /** The runnable that invalidates the view for a repaint. */
+  private final Runnable mRepaintRunnable = new Runnable() {
+    public void run() {
+      mRepaintPending.set(false);
+      invalidate();
+    }
+  };
+  /** The delay between two animation frames, in milliseconds. */
+  private static final int ANIMATION_FRAME_DELAY = 16;
+  /** The running animations. */
+  private final List<AnimationTool> mAnimations = new ArrayList<AnimationTool>();
+  /** If the animation frame loop is running. */
+  private boolean mAnimating;
+  /** The animation frame loop, which steps all the running animations and draws the chart once. */
+  private final Runnable mAnimationRunnable = new Runnable() {
+    public void run() {
+      long time = SystemClock.uptimeMillis();
+      for (int i = mAnimations.size() - 1; i >= 0; i--) {
+        if (!mAnimations.get(i).step(time)) {
+          mAnimations.remove(i);
+        }
+      }
+      // the animations changed the range, so the chart must be drawn again
+      mChartDirty = true;
+      invalidate();
+      if (mAnimations.isEmpty()) {
+        mAnimating = false;
+      } else {
+        mHandler.postDelayed(this, ANIMATION_FRAME_DELAY);
+      }
+    }
+  };
+  /** The overlays drawn above the chart. */
+  private final List<ChartOverlay> mOverlays = new ArrayList<ChartOverlay>();
+  /** The paint to be used when drawing the overlays. */
+  private Paint mOverlayPaint = new Paint();
+  /** The chart rendering, kept while overlays are set. */
+  private Bitmap mChartBitmap;
+  /** The canvas drawing to the chart rendering. */
+  private Canvas mChartCanvas;
+  /** The dataset version the kept chart rendering was drawn with. */
+  private int mChartVersion;
+  /** If a dispatch of the series changes has been posted and did not run yet. */
+  private final AtomicBoolean mChangesPending = new AtomicBoolean();
+  /** The runnable that dispatches the series changes and repaints the chart once. */
+  private final Runnable mChangesRunnable = new Runnable() {
+    public void run() {
+      mChangesPending.set(false);
+      if (mChart instanceof XYChart && ((XYChart) mChart).getDataset().dispatchChanges()) {
+        repaint();
+      }
+    }
+  };
+  /** The listener that schedules a repaint when the series change. */
+  private final SeriesChangeListener mChangeListener = new SeriesChangeListener() {
+    public void changesPending(XYSeries series) {
+      if (mChangesPending.compareAndSet(false, true)) {
+        mHandler.post(mChangesRunnable);
+      }
+    }
+
+    public void valuesAdded(XYSeries series, int index, int count) {
+    }
+
+    public void valuesRemoved(XYSeries series, int index, int count) {
+    }
+
+    public void seriesCleared(XYSeries series) {
+    }
+  };
+  /** If only the overlays need to be drawn again. */
+  private volatile boolean mOverlayRepaint;
+  /** If the chart needs to be drawn again. */
+  private volatile boolean mChartDirty = true;
+  /** The zoom buttons animation, created on first use. */
+  private RangeAnimation mZoomAnimation;
+  /** The touch handler. */
+  private ITouchHandler mTouchHandler;
+  /** The old x coordinate. */
+  private float oldX;
+  /** The old y coordinate. */
+  private float oldY;
+  /** If the graphical view is drawn. */
+  private boolean mDrawn;
+
+  private Context mContext;
+
+  /**
+   * Creates a new graphical view.
+   * 
+   * @param context the context
+   * @param chart the chart to be drawn
+   */
+  public GraphicalView(Context context, AbstractChart chart) {
+    super(context);
+    mContext = context;
+    mChart = chart;
+    mHandler = new Handler();
+    mOverlayPaint.setAntiAlias(true);
+    if (mChart instanceof XYChart) {
+      mRenderer = ((XYChart) mChart).getRenderer();
+    } else {
+      mRenderer = ((RoundChart) mChart).getRenderer();
+    }
+    if (mRenderer.isZoomButtonsVisible()) {
+      zoomInImage = BitmapFactory.decodeStream(GraphicalView.class
+          .getResourceAsStream("image/zoom_in.png"));
+      zoomOutImage = BitmapFactory.decodeStream(GraphicalView.class
+          .getResourceAsStream("image/zoom_out.png"));
+      fitZoomImage = BitmapFactory.decodeStream(GraphicalView.class
+          .getResourceAsStream("image/zoom-1.png"));
+    }
+
+    if (mRenderer instanceof XYMultipleSeriesRenderer
+        && ((XYMultipleSeriesRenderer) mRenderer).getMarginsColor() == XYMultipleSeriesRenderer.NO_COLOR) {
+      ((XYMultipleSeriesRenderer) mRenderer).setMarginsColor(mPaint.getColor());
+    }
+    if (mRenderer.isZoomEnabled() && mRenderer.isZoomButtonsVisible()
+        || mRenderer.isExternalZoomEnabled()) {
+      mZoomIn = new Zoom(mChart, true, mRenderer.getZoomRate());
+      mZoomOut = new Zoom(mChart, false, mRenderer.getZoomRate());
+      mFitZoom = new FitZoom(mChart);
+    }
+
+    mTouchHandler = new TouchHandler(this, mContext, mChart);
+
+    if (mChart instanceof XYChart) {
+      XYMultipleSeriesDataset dataset = ((XYChart) mChart).getDataset();
+      for (XYSeries series : dataset.getSeries()) {
+        if (series instanceof XYDataSourceSeries) {
+          ((XYDataSourceSeries) series).addDataSourceListener(mDataSourceListener);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the current series selection object.
+   * 
+   * @return the series selection
+   */
+  public SeriesSelection getCurrentSeriesAndPoint() {
+    return mChart.getSeriesAndPointForScreenCoordinate(new Point(oldX, oldY));
+  }
+
+  /**
+   * Transforms the currently selected screen point to a real point.
+   * 
+   * @param scale the scale
+   * @return the currently selected real point
+   */
+  public double[] toRealPoint(int scale) {
+    if (mChart instanceof XYChart) {
+      XYChart chart = (XYChart) mChart;
+      return chart.toRealPoint(oldX, oldY, scale);
+    }
+    return null;
+  }
+
+  @Override
+  protected void onDraw(Canvas canvas) {
+    if (mOverlays.isEmpty()) {
+      drawChart(canvas);
+      return;
+    }
+    int width = getWidth();
+    int height = getHeight();
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    // the chart is drawn again unless only the overlays were repainted
+    int version = getDataVersion();
+    boolean overlaysOnly = mOverlayRepaint && !mChartDirty && version == mChartVersion;
+    mOverlayRepaint = false;
+    mChartVersion = version;
+    if (mChartBitmap == null || mChartBitmap.getWidth() != width
+        || mChartBitmap.getHeight() != height) {
+      releaseChartBitmap();
+      mChartBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      mChartCanvas = new Canvas(mChartBitmap);
+      overlaysOnly = false;
+    }
+    if (!overlaysOnly) {
+      mChartDirty = false;
+      mChartBitmap.eraseColor(Color.TRANSPARENT);
+      drawChart(mChartCanvas);
+    }
+    canvas.drawBitmap(mChartBitmap, 0, 0, null);
+    int count = mOverlays.size();
+    for (int i = 0; i < count; i++) {
+      mOverlays.get(i).draw(canvas, mChart, mOverlayPaint);
+    }
+  }
+
+  /**
+   * Returns the version of the chart data.
+   * 
+   * @return the data version, always 0 for the charts other than XY ones
+   */
+  private int getDataVersion() {
+    if (mChart instanceof XYChart) {
+      return ((XYChart) mChart).getDataset().getVersion();
+    }
+    return 0;
+  }
+
+  /**
+   * Sets if the chart is repainted when the series change. The changes made
+   * between two frames are dispatched to the series change listeners and
+   * repainted together, so the series can be changed from any thread without
+   * calling {@link #repaint()}. Only XY charts are supported.
+   * 
+   * @param repaint if the chart is repainted when the series change
+   */
+  public void setRepaintOnDataChange(boolean repaint) {
+    if (mChart instanceof XYChart) {
+      XYMultipleSeriesDataset dataset = ((XYChart) mChart).getDataset();
+      if (repaint) {
+        dataset.addChangeListener(mChangeListener);
+      } else {
+        dataset.removeChangeListener(mChangeListener);
+      }
+    }
+  }
+
+  /**
+   * Draws the chart, recording the metrics frame if a metrics listener is set.
+   * 
+   * @param canvas the canvas to paint to
+   */
+  private void drawChart(Canvas canvas) {
+    ChartMetrics metrics = mChart.beginMetricsFrame();
+    if (metrics == null) {
+      drawView(canvas);
+      return;
+    }
+    metrics.setRepaints(mRepaintRequests.getAndSet(0), mRepaintsCoalesced.getAndSet(0));
+    try {
+      drawView(canvas);
+    } finally {
+      mChart.endMetricsFrame();
+    }
+  }
+
+  /**
+   * Draws the chart and the zoom buttons.
+   * 
+   * @param canvas the canvas to paint to
+   */
+  private void drawView(Canvas canvas) {
+    super.onDraw(canvas);
+    canvas.getClipBounds(mRect);
+    int top = mRect.top;
+    int left = mRect.left;
+    int width = mRect.width();
+    int height = mRect.height();
+    if (mRenderer.isInScroll()) {
+      top = 0;
+      left = 0;
+      width = getMeasuredWidth();
+      height = getMeasuredHeight();
+    }
+    mChart.draw(canvas, left, top, width, height, mPaint);
+    if (mRenderer != null && mRenderer.isZoomEnabled() && mRenderer.isZoomButtonsVisible()) {
+      mPaint.setColor(ZOOM_BUTTONS_COLOR);
+      zoomSize = Math.max(zoomSize, Math.min(width, height) / 7);
+      mZoomR.set(left + width - zoomSize * 3, top + height - zoomSize * 0.775f, left + width, top
+          + height);
+      canvas.drawRoundRect(mZoomR, zoomSize / 3, zoomSize / 3, mPaint);
+      float buttonY = top + height - zoomSize * 0.625f;
+      canvas.drawBitmap(zoomInImage, left + width - zoomSize * 2.75f, buttonY, null);
+      canvas.drawBitmap(zoomOutImage, left + width - zoomSize * 1.75f, buttonY, null);
+      canvas.drawBitmap(fitZoomImage, left + width - zoomSize * 0.75f, buttonY, null);
+    }
+    mDrawn = true;
+  }
+
+  /**
+   * Sets the zoom rate.
+   * 
+   * @param rate the zoom rate
+   */
+  public void setZoomRate(float rate) {
+    if (mZoomIn != null && mZoomOut != null) {
+      mZoomIn.setZoomRate(rate);
+      mZoomOut.setZoomRate(rate);
+    }
+  }
+
+  /**
+   * Do a chart zoom in.
+   */
+  public void zoomIn() {
+    if (mZoomIn != null) {
+      beginZoomAnimation();
+      mZoomIn.apply(Zoom.ZOOM_AXIS_XY);
+      startZoomAnimation();
+    }
+  }
+
+  /**
+   * Do a chart zoom out.
+   */
+  public void zoomOut() {
+    if (mZoomOut != null) {
+      beginZoomAnimation();
+      mZoomOut.apply(Zoom.ZOOM_AXIS_XY);
+      startZoomAnimation();
+    }
+  }
+
+  /**
+   * Do a chart zoom reset / fit zoom.
+   */
+  public void zoomReset() {
+    if (mFitZoom != null) {
+      beginZoomAnimation();
+      mFitZoom.apply();
+      mZoomIn.notifyZoomResetListeners();
+      startZoomAnimation();
+    }
+  }
+
+  /**
+   * Returns the zoom buttons animation duration.
+   * 
+   * @return the duration, in milliseconds, 0 if the zoom is not animated
+   */
+  private int getZoomAnimationDuration() {
+    if (mChart instanceof XYChart) {
+      return ((XYChart) mChart).getRenderer().getZoomAnimationDuration();
+    }
+    return 0;
+  }
+
+  /**
+   * Captures the range a zoom button animation starts from, if animated.
+   */
+  private void beginZoomAnimation() {
+    if (getZoomAnimationDuration() > 0) {
+      if (mZoomAnimation == null) {
+        mZoomAnimation = new RangeAnimation(mChart);
+      }
+      mZoomAnimation.begin();
+    }
+  }
+
+  /**
+   * Animates the chart to the range set by a zoom button, or repaints it right
+   * away if the zoom is not animated.
+   */
+  private void startZoomAnimation() {
+    int duration = getZoomAnimationDuration();
+    if (duration > 0 && mZoomAnimation != null && mZoomAnimation.start(duration)) {
+      startAnimation(mZoomAnimation);
+    } else {
+      repaint();
+    }
+  }
+
+  /**
+   * Adds an overlay, drawn above the chart. While overlays are set, the chart
+   * rendering is kept in a bitmap, such as {@link #repaintOverlays()} only
+   * draws the overlays again.
+   * 
+   * @param overlay the overlay
+   */
+  public void addOverlay(ChartOverlay overlay) {
+    if (!mOverlays.contains(overlay)) {
+      mOverlays.add(overlay);
+    }
+    repaint();
+  }
+
+  /**
+   * Removes an overlay.
+   * 
+   * @param overlay the overlay
+   */
+  public void removeOverlay(ChartOverlay overlay) {
+    mOverlays.remove(overlay);
+    if (mOverlays.isEmpty()) {
+      releaseChartBitmap();
+    }
+    repaint();
+  }
+
+  /**
+   * Schedules a repaint of the overlays only, over the kept chart rendering.
+   */
+  public void repaintOverlays() {
+    mOverlayRepaint = true;
+    postInvalidate();
+  }
+
+  /**
+   * Releases the kept chart rendering.
+   */
+  private void releaseChartBitmap() {
+    if (mChartBitmap != null) {
+      mChartBitmap.recycle();
+      mChartBitmap = null;
+      mChartCanvas = null;
+    }
+  }
+
+  /**
+   * Starts stepping an animation from the animation frame loop, which draws the
+   * chart once per frame as long as any animation is running.
+   * 
+   * @param animation the animation
+   */
+  public void startAnimation(AnimationTool animation) {
+    if (!mAnimations.contains(animation)) {
+      mAnimations.add(animation);
+    }
+    if (!mAnimating) {
+      mAnimating = true;
+      mHandler.post(mAnimationRunnable);
+    }
+  }
+
+  /**
+   * Stops all the running animations.
+   * 
+   * @return if any animation was running
+   */
+  public boolean stopAnimations() {
+    boolean running = false;
+    for (AnimationTool animation : mAnimations) {
+      running |= animation.isRunning();
+      animation.cancel();
+    }
+    mAnimations.clear();
+    if (mAnimating) {
+      mHandler.removeCallbacks(mAnimationRunnable);
+      mAnimating = false;
+    }
+    return running;
+  }
+
+  /**
+   * Adds a new zoom listener.
+   * 
+   * @param listener zoom listener
+   */
+  public void addZoomListener(ZoomListener listener, boolean onButtons, boolean onPinch) {
+    if (onButtons) {
+      if (mZoomIn != null) {
+        mZoomIn.addZoomListener(listener);
+        mZoomOut.addZoomListener(listener);
+      }
+      if (onPinch) {
+        mTouchHandler.addZoomListener(listener);
+      }
+    }
+  }
+
+  /**
+   * Removes a zoom listener.
+   * 
+   * @param listener zoom listener
+   */
+  public synchronized void removeZoomListener(ZoomListener listener) {
+    if (mZoomIn != null) {
+      mZoomIn.removeZoomListener(listener);
+      mZoomOut.removeZoomListener(listener);
+    }
+    mTouchHandler.removeZoomListener(listener);
+  }
+
+  /**
+   * Adds a new pan listener.
+   * 
+   * @param listener pan listener
+   */
+  public void addPanListener(PanListener listener) {
+    mTouchHandler.addPanListener(listener);
+  }
+
+  /**
+   * Removes a pan listener.
+   * 
+   * @param listener pan listener
+   */
+  public void removePanListener(PanListener listener) {
+    mTouchHandler.removePanListener(listener);
+  }
+
+  /**
+   * Adds a new fling listener.
+   * 
+   * @param listener fling listener
+   */
+  public void addFlingListener(FlingListener listener) {
+    mTouchHandler.addFlingListener(listener);
+  }
+
+  /**
+   * Removes a fling listener.
+   * 
+   * @param listener fling listener
+   */
+  public void removeFlingListener(FlingListener listener) {
+    mTouchHandler.removeFlingListener(listener);
+  }
+
+  /**
+   * Adds a new move listener.
+   * 
+   * @param listener move listener
+   */
+  public void addMoveListener(MoveListener listener) {
+    mTouchHandler.addMoveListener(listener);
+  }
+
+  /**
+   * Removes a move listener.
+   * 
+   * @param listener move listener
+   */
+  public void removeMoveListener(MoveListener listener) {
+    mTouchHandler.removeMoveListener(listener);
+  }
+
+  protected RectF getZoomRectangle() {
+    return mZoomR;
+  }
+
+  @Override
+  public boolean onTouchEvent(MotionEvent event) {
+    if (event.getAction() == MotionEvent.ACTION_DOWN) {
+      // save the x and y so they can be used in the click and long press
+      // listeners
+      oldX = event.getX();
+      oldY = event.getY();
+    }
+    if (mRenderer != null && mDrawn && (mRenderer.isPanEnabled() || mRenderer.isZoomEnabled())) {
+      if (mTouchHandler.handleTouch(event)) {
+        return true;
+      }
+    }
+    return super.onTouchEvent(event);
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    stopAnimations();
+    releaseChartBitmap();
+    super.onDetachedFromWindow();
+  }
+
+  /**
+   * Schedule a view content repaint.
+   */
+  public void repaint() {
+    mChartDirty = true;
+    boolean metrics = mChart.getMetricsListener() != null;
+    if (metrics) {
+      mRepaintRequests.incrementAndGet();
+    }
+    // requests made before the posted repaint runs are served by it
+    if (mRepaintPending.compareAndSet(false, true)) {
+      mHandler.post(mRepaintRunnable);
+    } else if (metrics) {
+      mRepaintsCoalesced.incrementAndGet();
+    }
+  }
+
+  /**
+   * Schedule a view content repaint, in the specified rectangle area.
+   * 
+   * @param left the left position of the area to be repainted
+   * @param top the top position of the area to be repainted
+   * @param right the right position of the area to be repainted
+   * @param bottom the bottom position of the area to be repainted
+   */
+  public void repaint(final int left, final int top, final int right, final int bottom) {
+    mHandler.post(new Runnable() {
+      public void run() {
+        invalidate(left, top, right, bottom);
+      }
+    });
+  }
+
+  /**
+   * Saves the content of the graphical view to a bitmap.
+   * 
+   * @return the bitmap
+   */
+  public Bitmap toBitmap() {
+    setDrawingCacheEnabled(false);
+    if (!isDrawingCacheEnabled()) {
+      setDrawingCacheEnabled(true);
+    }
+    if (mRenderer.isApplyBackgroundColor()) {
+      setDrawingCacheBackgroundColor(mRenderer.getBackgroundColor());
+    }
+    setDrawingCacheQuality(View.DRAWING_CACHE_QUALITY_HIGH);
+    return getDrawingCache(true);
+  }
+
+  /**
+   * Returns the chart that belongs to this view
+   * 
+   * @return the chart
+   */
+  public AbstractChart getChart() {
+    return mChart;
+  }
+
 }
\ No newline at end of file
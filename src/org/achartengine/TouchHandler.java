@@ -1,279 +1,472 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- * Copyright (C) 2013 Henning Dodenhof
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine;
-
-import org.achartengine.chart.AbstractChart;
-import org.achartengine.chart.CombinedXYChart;
-import org.achartengine.chart.DragControlChart;
-import org.achartengine.chart.RoundChart;
-import org.achartengine.chart.XYChart;
-import org.achartengine.renderer.DefaultRenderer;
-import org.achartengine.tools.Move;
-import org.achartengine.tools.MoveListener;
-import org.achartengine.tools.Pan;
-import org.achartengine.tools.PanListener;
-import org.achartengine.tools.Zoom;
-import org.achartengine.tools.ZoomListener;
-
-import android.content.Context;
-import android.graphics.RectF;
-import android.view.MotionEvent;
-
-/**
- * The main handler of the touch events.
- */
-public class TouchHandler implements ITouchHandler {
-  /** The chart renderer. */
-  private DefaultRenderer mRenderer;
-  /** The old x coordinate. */
-  private float oldX;
-  /** The old y coordinate. */
-  private float oldY;
-  /** The old x2 coordinate. */
-  private float oldX2;
-  /** The old y2 coordinate. */
-  private float oldY2;
-  /** The zoom buttons rectangle. */
-  private RectF zoomR = new RectF();
-  /** The pan tool. */
-  private Pan mPan;
-  /** The zoom for the pinch gesture. */
-  private Zoom mPinchZoom;
-  /** The graphical view. */
-  private GraphicalView graphicalView;
-
-  private Move mMove;
-  private Context mContext;
-
-  /**
-   * Creates a new graphical view.
-   * 
-   * @param view the graphical view
-   * @param chart the chart to be drawn
-   */
-  public TouchHandler(GraphicalView view, Context context, AbstractChart chart) {
-    graphicalView = view;
-    zoomR = graphicalView.getZoomRectangle();
-    if (chart instanceof XYChart) {
-      mRenderer = ((XYChart) chart).getRenderer();
-    } else {
-      mRenderer = ((RoundChart) chart).getRenderer();
-    }
-    if (mRenderer.isPanEnabled()) {
-      mPan = new Pan(chart);
-    }
-    if (mRenderer.isZoomEnabled()) {
-      mPinchZoom = new Zoom(chart, true, 1);
-    }
-    // TODO Better way to do this without messing with the DefaultRenderer?
-    if (chart instanceof CombinedXYChart) {
-      CombinedXYChart combinedXYChart = (CombinedXYChart) chart;
-
-      for (int i = 0; i < combinedXYChart.getCharts().length; i++) {
-        if (combinedXYChart.getCharts()[i] instanceof DragControlChart) {
-          mMove = new Move(context, chart, i);
-          break;
-        }
-      }
-    }
-  }
-
-  /**
-   * Handles the touch event.
-   * 
-   * @param event the touch event
-   */
-  public boolean handleTouch(MotionEvent event) {
-    if (mMove != null) {
-      // Just fetching all touch events if a move tool exists isn't exactly
-      // great but serves its purpose (as zooming and panning is not allowed
-      // in an overview chart)
-      return handleMoveEvent(event);
-    }
-    int action = event.getAction();
-    if (mRenderer != null && action == MotionEvent.ACTION_MOVE) {
-      if (oldX >= 0 || oldY >= 0) {
-        float newX = event.getX(0);
-        float newY = event.getY(0);
-        if (event.getPointerCount() > 1 && (oldX2 >= 0 || oldY2 >= 0) && mRenderer.isZoomEnabled()) {
-          float newX2 = event.getX(1);
-          float newY2 = event.getY(1);
-          float newDeltaX = Math.abs(newX - newX2);
-          float newDeltaY = Math.abs(newY - newY2);
-          float oldDeltaX = Math.abs(oldX - oldX2);
-          float oldDeltaY = Math.abs(oldY - oldY2);
-          float zoomRate = 1;
-
-          float tan1 = Math.abs(newY - oldY) / Math.abs(newX - oldX);
-          float tan2 = Math.abs(newY2 - oldY2) / Math.abs(newX2 - oldX2);
-          if (tan1 <= 0.25 && tan2 <= 0.25) {
-            // horizontal pinch zoom, |deltaY| / |deltaX| is [0 ~ 0.25], 0.25 is
-            // the approximate value of tan(PI / 12)
-            zoomRate = newDeltaX / oldDeltaX;
-            applyZoom(zoomRate, Zoom.ZOOM_AXIS_X);
-          } else if (tan1 >= 3.73 && tan2 >= 3.73) {
-            // pinch zoom vertically, |deltaY| / |deltaX| is [3.73 ~ infinity],
-            // 3.732 is the approximate value of tan(PI / 2 - PI / 12)
-            zoomRate = newDeltaY / oldDeltaY;
-            applyZoom(zoomRate, Zoom.ZOOM_AXIS_Y);
-          } else {
-            // pinch zoom diagonally
-            if (Math.abs(newX - oldX) >= Math.abs(newY - oldY)) {
-              zoomRate = newDeltaX / oldDeltaX;
-            } else {
-              zoomRate = newDeltaY / oldDeltaY;
-            }
-            applyZoom(zoomRate, Zoom.ZOOM_AXIS_XY);
-          }
-          oldX2 = newX2;
-          oldY2 = newY2;
-        } else if (mRenderer.isPanEnabled()) {
-          mPan.apply(oldX, oldY, newX, newY);
-          oldX2 = 0;
-          oldY2 = 0;
-        }
-        oldX = newX;
-        oldY = newY;
-        graphicalView.repaint();
-        return true;
-      }
-    } else if (action == MotionEvent.ACTION_DOWN) {
-      oldX = event.getX(0);
-      oldY = event.getY(0);
-      if (mRenderer != null && mRenderer.isZoomEnabled() && zoomR.contains(oldX, oldY)) {
-        if (oldX < zoomR.left + zoomR.width() / 3) {
-          graphicalView.zoomIn();
-        } else if (oldX < zoomR.left + zoomR.width() * 2 / 3) {
-          graphicalView.zoomOut();
-        } else {
-          graphicalView.zoomReset();
-        }
-        return true;
-      }
-    } else if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_POINTER_UP) {
-      oldX = 0;
-      oldY = 0;
-      oldX2 = 0;
-      oldY2 = 0;
-      if (action == MotionEvent.ACTION_POINTER_UP) {
-        oldX = -1;
-        oldY = -1;
-      }
-    }
-    return !mRenderer.isClickEnabled();
-  }
-
-  private boolean handleMoveEvent(MotionEvent event) {
-    int action = event.getAction();
-    if (action == MotionEvent.ACTION_MOVE) {
-      if (oldX >= 0 || oldY >= 0) {
-        float newX = event.getX(0);
-        float newY = event.getY(0);
-
-        mMove.apply(oldX, oldY, newX, newY);
-      }
-    } else if (action == MotionEvent.ACTION_DOWN) {
-      oldX = event.getX(0);
-      oldY = event.getY(0);
-    } else if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_POINTER_UP) {
-      mMove.reset();
-      oldX = 0;
-      oldY = 0;
-      if (action == MotionEvent.ACTION_POINTER_UP) {
-        oldX = -1;
-        oldY = -1;
-      }
-    }
-    return true;
-  }
-
-  private void applyZoom(float zoomRate, int axis) {
-    zoomRate = Math.max(zoomRate, 0.9f);
-    zoomRate = Math.min(zoomRate, 1.1f);
-    if (zoomRate > 0.9 && zoomRate < 1.1) {
-      mPinchZoom.setZoomRate(zoomRate);
-      mPinchZoom.apply(axis);
-    }
-  }
-
-  /**
-   * Adds a new zoom listener.
-   * 
-   * @param listener zoom listener
-   */
-  public void addZoomListener(ZoomListener listener) {
-    if (mPinchZoom != null) {
-      mPinchZoom.addZoomListener(listener);
-    }
-  }
-
-  /**
-   * Removes a zoom listener.
-   * 
-   * @param listener zoom listener
-   */
-  public void removeZoomListener(ZoomListener listener) {
-    if (mPinchZoom != null) {
-      mPinchZoom.removeZoomListener(listener);
-    }
-  }
-
-  /**
-   * Adds a new pan listener.
-   * 
-   * @param listener pan listener
-   */
-  public void addPanListener(PanListener listener) {
-    if (mPan != null) {
-      mPan.addPanListener(listener);
-    }
-  }
-
-  /**
-   * Removes a pan listener.
-   * 
-   * @param listener pan listener
-   */
-  public void removePanListener(PanListener listener) {
-    if (mPan != null) {
-      mPan.removePanListener(listener);
-    }
-  }
-
-  /**
-   * Adds a new move listener.
-   * 
-   * @param listener pan listener
-   */
-  public void addMoveListener(MoveListener listener) {
-    if (mMove != null) {
-      mMove.addMoveListener(listener);
-    }
-  }
-
-  /**
-   * Removes a move listener.
-   * 
-   * @param listener move listener
-   */
-  @Override
-  public void removeMoveListener(MoveListener listener) {
-    if (mMove != null) {
-      mMove.removeMoveListener(listener);
-    }
-  }
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine;
+
+import org.achartengine.chart.AbstractChart;
+import org.achartengine.chart.CombinedXYChart;
+import org.achartengine.chart.DragControlChart;
+import org.achartengine.chart.RoundChart;
+import org.achartengine.chart.XYChart;
+import org.achartengine.renderer.DefaultRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.tools.Fling;
+import org.achartengine.tools.FlingListener;
+import org.achartengine.tools.Move;
+import org.achartengine.tools.MoveListener;
+import org.achartengine.tools.Pan;
+import org.achartengine.tools.PanListener;
+import org.achartengine.tools.Zoom;
+import org.achartengine.tools.ZoomListener;
+
+import android.content.Context;
+import android.graphics.RectF;
+import android.view.MotionEvent;
+
+/**
+ * The main handler of the touch events.
+ */
+public class TouchHandler implements ITouchHandler {
+  /** The maximum time between the last move and the touch up for a fling, in milliseconds. */
+  private static final long FLING_TIMEOUT = 100;
+  /** The chart renderer. */
+  private DefaultRenderer mRenderer;
+  /** The old x coordinate. */
+  private float oldX;
+  /** The old y coordinate. */
+  private float oldY;
+  /** The old x2 coordinate. */
+  private float oldX2;
+  /** The old y2 coordinate. */
+  private float oldY2;
+  /** The zoom buttons rectangle. */
+  private RectF zoomR = new RectF();
+  /** The pan tool. */
+  private Pan mPan;
+  /** The fling tool, which keeps panning after the touch up. */
+  private Fling mFling;
+  /** The zoom for the pinch gesture. */
+  private Zoom mPinchZoom;
+  /** The graphical view. */
+  private GraphicalView graphicalView;
+  /** The old event time. */
+  private long oldTime;
+  /** The smoothed pan velocity on the X axis, in pixels per second. */
+  private float velocityX;
+  /** The smoothed pan velocity on the Y axis, in pixels per second. */
+  private float velocityY;
+  /** The location the pending pan or move starts from, on the X axis. */
+  private float mPendingFromX;
+  /** The location the pending pan or move starts from, on the Y axis. */
+  private float mPendingFromY;
+  /** The location the pending pan or move goes to, on the X axis. */
+  private float mPendingToX;
+  /** The location the pending pan or move goes to, on the Y axis. */
+  private float mPendingToY;
+  /** If a pan or a move is pending. */
+  private boolean mPendingMotion;
+  /** The pending pinch zoom rate of each zoom axis, 1 if none. */
+  private final float[] mPendingZoomRates = new float[] { 1, 1, 1 };
+  /** If the pending gesture has been posted and did not run yet. */
+  private boolean mFramePending;
+  /**
+   * Applies the gesture accumulated since the previous frame, such as all the
+   * touch events received in between result in one range update and repaint.
+   */
+  private final Runnable mFrameRunnable = new Runnable() {
+    public void run() {
+      mFramePending = false;
+      applyPendingGesture();
+    }
+  };
+
+  private Move mMove;
+  private Context mContext;
+
+  /**
+   * Creates a new graphical view.
+   * 
+   * @param view the graphical view
+   * @param chart the chart to be drawn
+   */
+  public TouchHandler(GraphicalView view, Context context, AbstractChart chart) {
+    graphicalView = view;
+    zoomR = graphicalView.getZoomRectangle();
+    if (chart instanceof XYChart) {
+      mRenderer = ((XYChart) chart).getRenderer();
+    } else {
+      mRenderer = ((RoundChart) chart).getRenderer();
+    }
+    if (mRenderer.isPanEnabled()) {
+      mPan = new Pan(chart);
+      if (chart instanceof XYChart) {
+        mFling = new Fling(chart, mPan);
+      }
+    }
+    if (mRenderer.isZoomEnabled()) {
+      mPinchZoom = new Zoom(chart, true, 1);
+    }
+    // TODO Better way to do this without messing with the DefaultRenderer?
+    if (chart instanceof CombinedXYChart) {
+      CombinedXYChart combinedXYChart = (CombinedXYChart) chart;
+
+      for (int i = 0; i < combinedXYChart.getCharts().length; i++) {
+        if (combinedXYChart.getCharts()[i] instanceof DragControlChart) {
+          mMove = new Move(context, chart, i);
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Handles the touch event.
+   * 
+   * @param event the touch event
+   */
+  public boolean handleTouch(MotionEvent event) {
+    if (mMove != null) {
+      // Just fetching all touch events if a move tool exists isn't exactly
+      // great but serves its purpose (as zooming and panning is not allowed
+      // in an overview chart)
+      return handleMoveEvent(event);
+    }
+    int action = event.getAction();
+    if (mRenderer != null && action == MotionEvent.ACTION_MOVE) {
+      if (oldX >= 0 || oldY >= 0) {
+        float newX = event.getX(0);
+        float newY = event.getY(0);
+        if (event.getPointerCount() > 1 && (oldX2 >= 0 || oldY2 >= 0) && mRenderer.isZoomEnabled()) {
+          float newX2 = event.getX(1);
+          float newY2 = event.getY(1);
+          float newDeltaX = Math.abs(newX - newX2);
+          float newDeltaY = Math.abs(newY - newY2);
+          float oldDeltaX = Math.abs(oldX - oldX2);
+          float oldDeltaY = Math.abs(oldY - oldY2);
+          float zoomRate = 1;
+
+          float tan1 = Math.abs(newY - oldY) / Math.abs(newX - oldX);
+          float tan2 = Math.abs(newY2 - oldY2) / Math.abs(newX2 - oldX2);
+          if (tan1 <= 0.25 && tan2 <= 0.25) {
+            // horizontal pinch zoom, |deltaY| / |deltaX| is [0 ~ 0.25], 0.25 is
+            // the approximate value of tan(PI / 12)
+            zoomRate = newDeltaX / oldDeltaX;
+            queueZoom(zoomRate, Zoom.ZOOM_AXIS_X);
+          } else if (tan1 >= 3.73 && tan2 >= 3.73) {
+            // pinch zoom vertically, |deltaY| / |deltaX| is [3.73 ~ infinity],
+            // 3.732 is the approximate value of tan(PI / 2 - PI / 12)
+            zoomRate = newDeltaY / oldDeltaY;
+            queueZoom(zoomRate, Zoom.ZOOM_AXIS_Y);
+          } else {
+            // pinch zoom diagonally
+            if (Math.abs(newX - oldX) >= Math.abs(newY - oldY)) {
+              zoomRate = newDeltaX / oldDeltaX;
+            } else {
+              zoomRate = newDeltaY / oldDeltaY;
+            }
+            queueZoom(zoomRate, Zoom.ZOOM_AXIS_XY);
+          }
+          oldX2 = newX2;
+          oldY2 = newY2;
+        } else if (mRenderer.isPanEnabled()) {
+          float x = oldX;
+          float y = oldY;
+          int historySize = event.getHistorySize();
+          for (int h = 0; h < historySize; h++) {
+            float historicalX = event.getHistoricalX(0, h);
+            float historicalY = event.getHistoricalY(0, h);
+            updateVelocity(historicalX - x, historicalY - y, event.getHistoricalEventTime(h));
+            x = historicalX;
+            y = historicalY;
+          }
+          updateVelocity(newX - x, newY - y, event.getEventTime());
+          queueMotion(oldX, oldY, newX, newY);
+          oldX2 = 0;
+          oldY2 = 0;
+        }
+        oldX = newX;
+        oldY = newY;
+        return true;
+      }
+    } else if (action == MotionEvent.ACTION_DOWN) {
+      oldX = event.getX(0);
+      oldY = event.getY(0);
+      oldTime = event.getEventTime();
+      velocityX = 0;
+      velocityY = 0;
+      if (graphicalView.stopAnimations()) {
+        graphicalView.repaint();
+      }
+      if (mRenderer != null && mRenderer.isZoomEnabled() && zoomR.contains(oldX, oldY)) {
+        if (oldX < zoomR.left + zoomR.width() / 3) {
+          graphicalView.zoomIn();
+        } else if (oldX < zoomR.left + zoomR.width() * 2 / 3) {
+          graphicalView.zoomOut();
+        } else {
+          graphicalView.zoomReset();
+        }
+        return true;
+      }
+    } else if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_POINTER_UP) {
+      flushPendingGesture();
+      oldX = 0;
+      oldY = 0;
+      oldX2 = 0;
+      oldY2 = 0;
+      if (action == MotionEvent.ACTION_POINTER_UP) {
+        oldX = -1;
+        oldY = -1;
+      }
+      if (action == MotionEvent.ACTION_UP && startFling(event.getEventTime())) {
+        // the fling stops the panning once the velocity decays
+      } else if (mPan != null && mPan.stop()) {
+        graphicalView.repaint();
+      }
+    }
+    return !mRenderer.isClickEnabled();
+  }
+
+  private boolean handleMoveEvent(MotionEvent event) {
+    int action = event.getAction();
+    if (action == MotionEvent.ACTION_MOVE) {
+      if (oldX >= 0 || oldY >= 0) {
+        queueMotion(oldX, oldY, event.getX(0), event.getY(0));
+      }
+    } else if (action == MotionEvent.ACTION_DOWN) {
+      oldX = event.getX(0);
+      oldY = event.getY(0);
+    } else if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_POINTER_UP) {
+      flushPendingGesture();
+      mMove.reset();
+      oldX = 0;
+      oldY = 0;
+      if (action == MotionEvent.ACTION_POINTER_UP) {
+        oldX = -1;
+        oldY = -1;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Updates the pan velocity with the last touch movement. The velocity is
+   * smoothed over a few events, since the touch events are not evenly spaced.
+   * 
+   * @param deltaX the movement on X axis, in pixels
+   * @param deltaY the movement on Y axis, in pixels
+   * @param time the event time
+   */
+  private void updateVelocity(float deltaX, float deltaY, long time) {
+    long elapsed = time - oldTime;
+    oldTime = time;
+    if (elapsed <= 0) {
+      return;
+    }
+    velocityX = (velocityX + deltaX * 1000 / elapsed) / 2;
+    velocityY = (velocityY + deltaY * 1000 / elapsed) / 2;
+  }
+
+  /**
+   * Starts a fling with the current pan velocity, if enabled and if the touch
+   * up closely follows the last move.
+   * 
+   * @param time the touch up time
+   * @return if the fling was started
+   */
+  private boolean startFling(long time) {
+    if (mFling == null || !((XYMultipleSeriesRenderer) mRenderer).isFlingEnabled()
+        || time - oldTime > FLING_TIMEOUT || !mFling.start(velocityX, velocityY)) {
+      return false;
+    }
+    graphicalView.startAnimation(mFling);
+    return true;
+  }
+
+  /**
+   * Adds a pinch zoom step to the pending gesture.
+   * 
+   * @param zoomRate the zoom rate of the step
+   * @param axis the zoom axis
+   */
+  private void queueZoom(float zoomRate, int axis) {
+    zoomRate = Math.max(zoomRate, 0.9f);
+    zoomRate = Math.min(zoomRate, 1.1f);
+    if (zoomRate > 0.9 && zoomRate < 1.1) {
+      mPendingZoomRates[axis] *= zoomRate;
+      scheduleFrame();
+    }
+  }
+
+  /**
+   * Adds a pan or move step to the pending gesture. The tools work on the
+   * locations only, so the steps since the previous frame add up to a single
+   * step from the first location to the last one.
+   * 
+   * @param fromX the previous location on X axis
+   * @param fromY the previous location on Y axis
+   * @param toX the current location on X axis
+   * @param toY the current location on the Y axis
+   */
+  private void queueMotion(float fromX, float fromY, float toX, float toY) {
+    if (!mPendingMotion) {
+      mPendingFromX = fromX;
+      mPendingFromY = fromY;
+      mPendingMotion = true;
+    }
+    mPendingToX = toX;
+    mPendingToY = toY;
+    scheduleFrame();
+  }
+
+  /**
+   * Posts the pending gesture to be applied, unless it is already posted.
+   */
+  private void scheduleFrame() {
+    if (!mFramePending) {
+      mFramePending = true;
+      graphicalView.post(mFrameRunnable);
+    }
+  }
+
+  /**
+   * Applies the pending gesture right away, such as the gesture end sees the
+   * final range.
+   */
+  private void flushPendingGesture() {
+    if (mFramePending) {
+      graphicalView.removeCallbacks(mFrameRunnable);
+      mFramePending = false;
+      applyPendingGesture();
+    }
+  }
+
+  /**
+   * Applies the pending gesture to the tools and repaints the view once.
+   */
+  private void applyPendingGesture() {
+    boolean applied = false;
+    for (int axis = 0; axis < mPendingZoomRates.length; axis++) {
+      if (mPendingZoomRates[axis] != 1) {
+        mPinchZoom.setZoomRate(mPendingZoomRates[axis]);
+        mPinchZoom.apply(axis);
+        mPendingZoomRates[axis] = 1;
+        applied = true;
+      }
+    }
+    if (mPendingMotion) {
+      mPendingMotion = false;
+      if (mMove != null) {
+        mMove.apply(mPendingFromX, mPendingFromY, mPendingToX, mPendingToY);
+      } else {
+        mPan.setVelocity(velocityX, velocityY);
+        mPan.apply(mPendingFromX, mPendingFromY, mPendingToX, mPendingToY);
+      }
+      applied = true;
+    }
+    if (applied) {
+      graphicalView.repaint();
+    }
+  }
+
+  /**
+   * Adds a new zoom listener.
+   * 
+   * @param listener zoom listener
+   */
+  public void addZoomListener(ZoomListener listener) {
+    if (mPinchZoom != null) {
+      mPinchZoom.addZoomListener(listener);
+    }
+  }
+
+  /**
+   * Removes a zoom listener.
+   * 
+   * @param listener zoom listener
+   */
+  public void removeZoomListener(ZoomListener listener) {
+    if (mPinchZoom != null) {
+      mPinchZoom.removeZoomListener(listener);
+    }
+  }
+
+  /**
+   * Adds a new pan listener.
+   * 
+   * @param listener pan listener
+   */
+  public void addPanListener(PanListener listener) {
+    if (mPan != null) {
+      mPan.addPanListener(listener);
+    }
+  }
+
+  /**
+   * Removes a pan listener.
+   * 
+   * @param listener pan listener
+   */
+  public void removePanListener(PanListener listener) {
+    if (mPan != null) {
+      mPan.removePanListener(listener);
+    }
+  }
+
+  /**
+   * Adds a new fling listener.
+   * 
+   * @param listener fling listener
+   */
+  public void addFlingListener(FlingListener listener) {
+    if (mFling != null) {
+      mFling.addFlingListener(listener);
+    }
+  }
+
+  /**
+   * Removes a fling listener.
+   * 
+   * @param listener fling listener
+   */
+  public void removeFlingListener(FlingListener listener) {
+    if (mFling != null) {
+      mFling.removeFlingListener(listener);
+    }
+  }
+
+  /**
+   * Adds a new move listener.
+   * 
+   * @param listener pan listener
+   */
+  public void addMoveListener(MoveListener listener) {
+    if (mMove != null) {
+      mMove.addMoveListener(listener);
+    }
+  }
+
+  /**
+   * Removes a move listener.
+   * 
+   * @param listener move listener
+   */
+  @Override
+  public void removeMoveListener(MoveListener listener) {
+    if (mMove != null) {
+      mMove.removeMoveListener(listener);
+    }
+  }
 }
\ No newline at end of file
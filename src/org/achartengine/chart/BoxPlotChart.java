@@ -0,0 +1,217 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import java.util.List;
+
+import org.achartengine.model.BoxPlotSeries;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.SimpleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer.Orientation;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Paint.Style;
+import android.graphics.RectF;
+
+/**
+ * The box plot chart rendering class, which draws the boxes of box plot
+ * series. A box spans the first to the third quartile, with a line at the
+ * median, and its whiskers reach the low and high whisker values.
+ */
+public class BoxPlotChart extends XYChart {
+  /** The constant to identify this chart type. */
+  public static final String TYPE = "BoxPlot";
+  /** The legend shape width. */
+  private static final int SHAPE_WIDTH = 10;
+  /** The box width when there is a single box, in pixels. */
+  private static final float DEFAULT_BOX_WIDTH = 20;
+  /** The box width, as a fraction of the smallest distance between boxes. */
+  private static final float BOX_FRACTION = 0.6f;
+  /** The box plot series being drawn, or null if the series is not a box plot one. */
+  private BoxPlotSeries mSeries;
+  /** The half of the box width of the series being drawn. */
+  private float mHalfWidth;
+  /** The screen coordinates of a box, reused to avoid allocations. */
+  private final float[] mBox = new float[4];
+
+  BoxPlotChart() {
+  }
+
+  /**
+   * Builds a new box plot chart instance.
+   * 
+   * @param dataset the multiple series dataset
+   * @param renderer the multiple series renderer
+   */
+  public BoxPlotChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
+    super(dataset, renderer);
+  }
+
+  @Override
+  protected void drawSeries(XYSeries series, Canvas canvas, Paint paint, List<Float> pointsList,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, Orientation or,
+      int startIndex) {
+    mSeries = series instanceof BoxPlotSeries ? (BoxPlotSeries) series : null;
+    mHalfWidth = getHalfBoxWidth();
+    super.drawSeries(series, canvas, paint, pointsList, seriesRenderer, yAxisValue, seriesIndex,
+        or, startIndex);
+  }
+
+  /**
+   * The graphical representation of a series.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param points the array of points to be used for drawing the series
+   * @param seriesRenderer the series renderer
+   * @param yAxisValue the minimum value of the y axis
+   * @param seriesIndex the index of the series currently being drawn
+   * @param startIndex the start index of the rendering points
+   */
+  @Override
+  public void drawSeries(Canvas canvas, Paint paint, List<Float> points,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, int startIndex) {
+    Style style = paint.getStyle();
+    paint.setStyle(Style.STROKE);
+    paint.setColor(seriesRenderer.getColor());
+    float halfWidth = mHalfWidth;
+    int length = points.size();
+    for (int i = 0; i < length; i += 2) {
+      float x = points.get(i);
+      float median = points.get(i + 1);
+      getBox(startIndex + i / 2, median, mBox);
+      // the screen Y axis is inverted, the low values are at the bottom
+      canvas.drawLine(x, mBox[0], x, mBox[1], paint);
+      canvas.drawLine(x, mBox[2], x, mBox[3], paint);
+      canvas.drawLine(x - halfWidth / 2, mBox[0], x + halfWidth / 2, mBox[0], paint);
+      canvas.drawLine(x - halfWidth / 2, mBox[3], x + halfWidth / 2, mBox[3], paint);
+      canvas.drawRect(x - halfWidth, Math.min(mBox[1], mBox[2]), x + halfWidth, Math.max(
+          mBox[1], mBox[2]), paint);
+      canvas.drawLine(x - halfWidth, median, x + halfWidth, median, paint);
+    }
+    paint.setStyle(style);
+  }
+
+  /**
+   * Returns the half of the box width of the series being drawn, with the scale
+   * of the frame being drawn.
+   * 
+   * @return the half box width, in pixels
+   */
+  private float getHalfBoxWidth() {
+    double distance = mSeries == null ? 0 : mSeries.getMinBoxDistance();
+    if (distance == 0 || mValuesTransform == null) {
+      return DEFAULT_BOX_WIDTH / 2;
+    }
+    double width = distance * mValuesTransform.getPixelsPerUnitX();
+    return (float) Math.max(1, width * BOX_FRACTION / 2);
+  }
+
+  /**
+   * Computes the screen coordinates of the whiskers and quartiles of a box,
+   * from the screen coordinate of its median and the transform of the frame
+   * being drawn.
+   * 
+   * @param index the box index
+   * @param median the median screen coordinate
+   * @param box an array that receives the low whisker, first quartile, third
+   *          quartile and high whisker coordinates
+   */
+  private void getBox(int index, float median, float[] box) {
+    if (mSeries == null || mValuesTransform == null) {
+      box[0] = median;
+      box[1] = median;
+      box[2] = median;
+      box[3] = median;
+      return;
+    }
+    ViewportTransform transform = mValuesTransform;
+    double base = transform.toScreenY(mSeries.getMedian(index));
+    box[0] = median + (float) (transform.toScreenY(mSeries.getLowWhisker(index)) - base);
+    box[1] = median + (float) (transform.toScreenY(mSeries.getFirstQuartile(index)) - base);
+    box[2] = median + (float) (transform.toScreenY(mSeries.getThirdQuartile(index)) - base);
+    box[3] = median + (float) (transform.toScreenY(mSeries.getHighWhisker(index)) - base);
+  }
+
+  @Override
+  protected ClickableArea[] clickableAreasForPoints(List<Float> points, List<Double> values,
+      float yAxisValue, int seriesIndex, int startIndex) {
+    int length = points.size();
+    ClickableArea[] ret = new ClickableArea[length / 2];
+    for (int i = 0; i < length; i += 2) {
+      float x = points.get(i);
+      getBox(startIndex + i / 2, points.get(i + 1), mBox);
+      ret[i / 2] = new ClickableArea(new RectF(x - mHalfWidth, Math.min(mBox[0], mBox[3]), x
+          + mHalfWidth, Math.max(mBox[0], mBox[3])), values.get(i), values.get(i + 1));
+    }
+    return ret;
+  }
+
+  /**
+   * Returns if the series can be drawn in a bitmap that is only shifted while
+   * panning. The box width depends on the distance between all the boxes, so
+   * the boxes are always drawn entirely.
+   * 
+   * @return false
+   */
+  @Override
+  protected boolean isPanBitmapCacheSupported() {
+    return false;
+  }
+
+  /**
+   * Returns the legend shape width.
+   * 
+   * @param seriesIndex the series index
+   * @return the legend shape width
+   */
+  public int getLegendShapeWidth(int seriesIndex) {
+    return SHAPE_WIDTH;
+  }
+
+  /**
+   * The graphical representation of the legend shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param renderer the series renderer
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   * @param seriesIndex the series index
+   * @param paint the paint to be used for drawing
+   */
+  public void drawLegendShape(Canvas canvas, SimpleSeriesRenderer renderer, float x, float y,
+      int seriesIndex, Paint paint) {
+    float center = x + SHAPE_WIDTH / 2;
+    canvas.drawLine(center, y - 6, center, y - 3, paint);
+    canvas.drawLine(center, y + 3, center, y + 6, paint);
+    paint.setStyle(Style.STROKE);
+    canvas.drawRect(x + 2, y - 3, x + SHAPE_WIDTH - 2, y + 3, paint);
+    canvas.drawLine(x + 2, y, x + SHAPE_WIDTH - 2, y, paint);
+  }
+
+  /**
+   * Returns the chart type identifier.
+   * 
+   * @return the chart type
+   */
+  public String getChartType() {
+    return TYPE;
+  }
+
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import java.util.List;
+
+import org.achartengine.model.OHLCSeries;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.SimpleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer.Orientation;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Paint.Style;
+import android.graphics.RectF;
+
+/**
+ * The candlestick chart rendering class, which draws the bars of OHLC series.
+ * The candles of rising bars are hollow and the candles of falling bars are
+ * filled. When a series has coarser series and the candles get narrower than a
+ * few pixels, the coarsest series needed is drawn instead, so zooming out does
+ * not draw more candles than the screen can show.
+ */
+public class CandlestickChart extends XYChart {
+  /** The constant to identify this chart type. */
+  public static final String TYPE = "Candlestick";
+  /** The legend shape width. */
+  private static final int SHAPE_WIDTH = 10;
+  /** The candle width under which a coarser series is drawn, in pixels. */
+  private static final float MIN_CANDLE_WIDTH = 3;
+  /** The candle width, as a fraction of the bucket width. */
+  private static final float CANDLE_FRACTION = 0.7f;
+  /** The OHLC series being drawn, or null if the series is not an OHLC one. */
+  private OHLCSeries mSeries;
+  /** The open, high and low screen Y values of a candle, reused between candles. */
+  private final float[] mCandle = new float[3];
+
+  CandlestickChart() {
+  }
+
+  /**
+   * Builds a new candlestick chart instance.
+   * 
+   * @param dataset the multiple series dataset
+   * @param renderer the multiple series renderer
+   */
+  public CandlestickChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
+    super(dataset, renderer);
+  }
+
+  @Override
+  protected XYSeries getDrawnSeries(XYSeries series, int seriesIndex, double xPixelsPerUnit) {
+    if (!(series instanceof OHLCSeries)) {
+      return series;
+    }
+    OHLCSeries drawn = (OHLCSeries) series;
+    OHLCSeries coarser = drawn.getCoarserSeries();
+    while (coarser != null && drawn.getBucketSize() * xPixelsPerUnit < MIN_CANDLE_WIDTH) {
+      drawn = coarser;
+      coarser = drawn.getCoarserSeries();
+    }
+    return drawn;
+  }
+
+  @Override
+  protected void drawSeries(XYSeries series, Canvas canvas, Paint paint, List<Float> pointsList,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, Orientation or,
+      int startIndex) {
+    mSeries = series instanceof OHLCSeries ? (OHLCSeries) series : null;
+    super.drawSeries(series, canvas, paint, pointsList, seriesRenderer, yAxisValue, seriesIndex,
+        or, startIndex);
+  }
+
+  /**
+   * The graphical representation of a series.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param points the array of points to be used for drawing the series
+   * @param seriesRenderer the series renderer
+   * @param yAxisValue the minimum value of the y axis
+   * @param seriesIndex the index of the series currently being drawn
+   * @param startIndex the start index of the rendering points
+   */
+  @Override
+  public void drawSeries(Canvas canvas, Paint paint, List<Float> points,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, int startIndex) {
+    Style style = paint.getStyle();
+    paint.setColor(seriesRenderer.getColor());
+    float halfWidth = getHalfCandleWidth();
+    float[] candle = mCandle;
+    int length = points.size();
+    for (int i = 0; i < length; i += 2) {
+      float x = points.get(i);
+      float close = points.get(i + 1);
+      getCandle(startIndex + i / 2, close, candle);
+      float open = candle[0];
+      float top = Math.min(open, close);
+      float bottom = Math.max(open, close);
+      // the wick is only drawn outside the body, as rising candles are hollow
+      canvas.drawLine(x, candle[1], x, top, paint);
+      canvas.drawLine(x, bottom, x, candle[2], paint);
+      if (top == bottom) {
+        canvas.drawLine(x - halfWidth, top, x + halfWidth, top, paint);
+      } else {
+        // the screen Y axis is inverted, a close above the open is a rising bar
+        paint.setStyle(close < open ? Style.STROKE : Style.FILL);
+        canvas.drawRect(x - halfWidth, top, x + halfWidth, bottom, paint);
+      }
+    }
+    paint.setStyle(style);
+  }
+
+  /**
+   * Returns the half of the candle width of the series being drawn, with the
+   * scale of the frame being drawn.
+   * 
+   * @return the half candle width, in pixels
+   */
+  private float getHalfCandleWidth() {
+    if (mSeries == null || mValuesTransform == null) {
+      return MIN_CANDLE_WIDTH / 2;
+    }
+    double width = mSeries.getBucketSize() * mValuesTransform.getPixelsPerUnitX();
+    return (float) Math.max(0.5, width * CANDLE_FRACTION / 2);
+  }
+
+  /**
+   * Computes the screen coordinates of the open, high and low values of a bar,
+   * from the screen coordinate of its close value and the transform of the
+   * frame being drawn.
+   * 
+   * @param index the bar index
+   * @param close the close screen coordinate
+   * @param candle an array that receives the open, high and low coordinates
+   */
+  private void getCandle(int index, float close, float[] candle) {
+    if (mSeries == null || mValuesTransform == null) {
+      candle[0] = close;
+      candle[1] = close;
+      candle[2] = close;
+      return;
+    }
+    ViewportTransform transform = mValuesTransform;
+    double base = transform.toScreenY(mSeries.getClose(index));
+    candle[0] = close + (float) (transform.toScreenY(mSeries.getOpen(index)) - base);
+    candle[1] = close + (float) (transform.toScreenY(mSeries.getHigh(index)) - base);
+    candle[2] = close + (float) (transform.toScreenY(mSeries.getLow(index)) - base);
+  }
+
+  @Override
+  protected ClickableArea[] clickableAreasForPoints(List<Float> points, List<Double> values,
+      float yAxisValue, int seriesIndex, int startIndex) {
+    int length = points.size();
+    float halfWidth = getHalfCandleWidth();
+    float[] candle = mCandle;
+    ClickableArea[] ret = new ClickableArea[length / 2];
+    for (int i = 0; i < length; i += 2) {
+      float x = points.get(i);
+      getCandle(startIndex + i / 2, points.get(i + 1), candle);
+      ret[i / 2] = new ClickableArea(new RectF(x - halfWidth, Math.min(candle[1], candle[2]), x
+          + halfWidth, Math.max(candle[1], candle[2])), values.get(i), values.get(i + 1));
+    }
+    return ret;
+  }
+
+  /**
+   * Returns the legend shape width.
+   * 
+   * @param seriesIndex the series index
+   * @return the legend shape width
+   */
+  public int getLegendShapeWidth(int seriesIndex) {
+    return SHAPE_WIDTH;
+  }
+
+  /**
+   * The graphical representation of the legend shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param renderer the series renderer
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   * @param seriesIndex the series index
+   * @param paint the paint to be used for drawing
+   */
+  public void drawLegendShape(Canvas canvas, SimpleSeriesRenderer renderer, float x, float y,
+      int seriesIndex, Paint paint) {
+    float center = x + SHAPE_WIDTH / 2;
+    canvas.drawLine(center, y - 6, center, y + 6, paint);
+    paint.setStyle(Style.FILL);
+    canvas.drawRect(x + 2, y - 3, x + SHAPE_WIDTH - 2, y + 3, paint);
+  }
+
+  /**
+   * Returns the chart type identifier.
+   * 
+   * @return the chart type
+   */
+  public String getChartType() {
+    return TYPE;
+  }
+
+}
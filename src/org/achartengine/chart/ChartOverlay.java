@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * A layer drawn above the chart, such as a crosshair, a selection highlight
+ * or a tooltip. The graphical view keeps the chart rendering while overlays
+ * are set, so repainting only the overlays does not draw the chart again.
+ */
+public interface ChartOverlay {
+
+  /**
+   * Draws the overlay.
+   *
+   * @param canvas the canvas to paint to
+   * @param chart the chart the overlay is drawn above
+   * @param paint the paint to be used for drawing
+   */
+  void draw(Canvas canvas, AbstractChart chart, Paint paint);
+
+}
@@ -0,0 +1,250 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.util.TextLayoutCache.TextLayout;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Paint.Align;
+import android.graphics.Paint.Style;
+import android.graphics.Rect;
+
+/**
+ * A crosshair that follows a screen location, with a marker on the point of
+ * each series that is the nearest on the X axis and a tooltip with the values
+ * of these points. The nearest points are found by a binary search on the X
+ * values, so moving the crosshair costs O(log n) per series. The crosshair is
+ * only drawn on horizontal XY charts.
+ */
+public class CrosshairOverlay implements ChartOverlay {
+  /** The tooltip padding. */
+  private static final float TOOLTIP_PADDING = 4;
+  /** The crosshair location on the X axis. */
+  private float mX;
+  /** The crosshair location on the Y axis. */
+  private float mY;
+  /** If the crosshair is visible. */
+  private boolean mVisible;
+  /** The crosshair lines color. */
+  private int mColor = Color.LTGRAY;
+  /** The tooltip background color. */
+  private int mTooltipColor = Color.argb(200, 40, 40, 40);
+  /** The point markers radius. */
+  private float mMarkerRadius = 4;
+  /** The index of the nearest point of each series, or -1. */
+  private int[] mNearest = new int[0];
+  /** The screen coordinates of the nearest point of each series. */
+  private float[] mNearestPoints = new float[0];
+  /** The tooltip text of each series. */
+  private String[] mLabels = new String[0];
+  /** The X value each tooltip text was built for. */
+  private double[] mLabelX = new double[0];
+  /** The Y value each tooltip text was built for. */
+  private double[] mLabelY = new double[0];
+  /** The series each tooltip text was built for. */
+  private XYSeries[] mLabelSeries = new XYSeries[0];
+  /** The screen coordinates of a point, reused to avoid allocations. */
+  private final float[] mPoint = new float[2];
+
+  /**
+   * Moves the crosshair to a screen location and shows it.
+   *
+   * @param x the location on the X axis
+   * @param y the location on the Y axis
+   */
+  public void setPosition(float x, float y) {
+    mX = x;
+    mY = y;
+    mVisible = true;
+  }
+
+  /**
+   * Hides the crosshair.
+   */
+  public void hide() {
+    mVisible = false;
+  }
+
+  /**
+   * Returns if the crosshair is visible.
+   *
+   * @return if the crosshair is visible
+   */
+  public boolean isVisible() {
+    return mVisible;
+  }
+
+  /**
+   * Sets the crosshair lines color.
+   *
+   * @param color the color
+   */
+  public void setColor(int color) {
+    mColor = color;
+  }
+
+  /**
+   * Sets the tooltip background color.
+   *
+   * @param color the color
+   */
+  public void setTooltipColor(int color) {
+    mTooltipColor = color;
+  }
+
+  /**
+   * Sets the point markers radius.
+   *
+   * @param radius the radius
+   */
+  public void setMarkerRadius(float radius) {
+    mMarkerRadius = radius;
+  }
+
+  /**
+   * Returns the index of the point of a series that was the nearest to the
+   * crosshair when it was last drawn.
+   *
+   * @param seriesIndex the series index
+   * @return the point index, or -1 if the series had no point
+   */
+  public int getNearestIndex(int seriesIndex) {
+    if (seriesIndex >= mNearest.length) {
+      return -1;
+    }
+    return mNearest[seriesIndex];
+  }
+
+  public void draw(Canvas canvas, AbstractChart chart, Paint paint) {
+    if (!mVisible || !(chart instanceof XYChart)) {
+      return;
+    }
+    XYChart xyChart = (XYChart) chart;
+    XYMultipleSeriesRenderer renderer = xyChart.getRenderer();
+    Rect screen = xyChart.getScreenR();
+    if (screen == null || xyChart.isVertical(renderer) || !screen.contains((int) mX, (int) mY)) {
+      return;
+    }
+    int count = findNearest(xyChart);
+    paint.setColor(mColor);
+    canvas.drawLine(mX, screen.top, mX, screen.bottom, paint);
+    canvas.drawLine(screen.left, mY, screen.right, mY, paint);
+
+    paint.setStyle(Style.FILL);
+    paint.setTextSize(renderer.getLabelsTextSize());
+    paint.setTextAlign(Align.LEFT);
+    float width = 0;
+    float height = 0;
+    int lines = 0;
+    for (int i = 0; i < count; i++) {
+      if (mNearest[i] < 0) {
+        continue;
+      }
+      float x = mNearestPoints[2 * i];
+      float y = mNearestPoints[2 * i + 1];
+      if (screen.contains((int) x, (int) y)) {
+        paint.setColor(renderer.getSeriesRendererAt(i).getColor());
+        canvas.drawCircle(x, y, mMarkerRadius, paint);
+      }
+      TextLayout layout = xyChart.getTextLayout(mLabels[i], paint);
+      width = Math.max(width, layout.getWidth());
+      height += renderer.getLabelsTextSize() + TOOLTIP_PADDING;
+      lines++;
+    }
+    if (lines == 0) {
+      return;
+    }
+    // keep the tooltip next to the crosshair, on the side that has room
+    float left = mX + TOOLTIP_PADDING * 2;
+    if (left + width + TOOLTIP_PADDING * 2 > screen.right) {
+      left = mX - TOOLTIP_PADDING * 4 - width;
+    }
+    float top = Math.max(screen.top, mY - height - TOOLTIP_PADDING * 3);
+    paint.setColor(mTooltipColor);
+    canvas.drawRect(left, top, left + width + TOOLTIP_PADDING * 2, top + height + TOOLTIP_PADDING,
+        paint);
+    float baseline = top;
+    for (int i = 0; i < count; i++) {
+      if (mNearest[i] >= 0) {
+        baseline += renderer.getLabelsTextSize() + TOOLTIP_PADDING;
+        paint.setColor(renderer.getSeriesRendererAt(i).getColor());
+        canvas.drawText(mLabels[i], left + TOOLTIP_PADDING, baseline, paint);
+      }
+    }
+  }
+
+  /**
+   * Finds the point of each series that is the nearest to the crosshair on the
+   * X axis, and builds the tooltip texts of the points that changed.
+   *
+   * @param chart the XY chart
+   * @return the number of series
+   */
+  private int findNearest(XYChart chart) {
+    XYMultipleSeriesDataset dataset = chart.getDataset();
+    int count = dataset.getSeriesCount();
+    if (mNearest.length < count) {
+      mNearest = new int[count];
+      mNearestPoints = new float[2 * count];
+      mLabels = new String[count];
+      mLabelX = new double[count];
+      mLabelY = new double[count];
+      mLabelSeries = new XYSeries[count];
+    }
+    XYMultipleSeriesRenderer renderer = chart.getRenderer();
+    for (int i = 0; i < count; i++) {
+      XYSeries series = dataset.getSeriesAt(i);
+      int index = -1;
+      double x = 0;
+      double y = 0;
+      synchronized (series) {
+        int itemCount = series.getItemCount();
+        if (itemCount > 0) {
+          ViewportTransform transform = chart.getViewportTransform(series.getScaleNumber());
+          double realX = transform.toRealX(mX);
+          index = series.getCeilingIndex(realX);
+          if (index == itemCount
+              || index > 0 && realX - series.getX(index - 1) < series.getX(index) - realX) {
+            index--;
+          }
+          x = series.getX(index);
+          y = series.getY(index);
+          transform.toScreenPoint(x, y, mPoint);
+        }
+      }
+      mNearest[i] = index;
+      if (index < 0) {
+        continue;
+      }
+      mNearestPoints[2 * i] = mPoint[0];
+      mNearestPoints[2 * i + 1] = mPoint[1];
+      if (mLabels[i] == null || mLabelSeries[i] != series || mLabelX[i] != x || mLabelY[i] != y) {
+        mLabels[i] = series.getTitle() + ": " + chart.getLabel(renderer.getLabelFormat(), x)
+            + ", " + chart.getLabel(renderer.getLabelFormat(), y);
+        mLabelX[i] = x;
+        mLabelY[i] = y;
+        mLabelSeries[i] = series;
+      }
+    }
+    return count;
+  }
+
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import java.util.List;
+
+import org.achartengine.model.HistogramSeries;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.SimpleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Paint.Style;
+import android.graphics.RectF;
+
+/**
+ * The histogram chart rendering class. Each value is drawn as a bar from its
+ * X value to the next one, so the bars of a histogram series span their
+ * buckets. The bars are drawn straight from the visible values, which are read
+ * from the sketch of a histogram series without building the chart points.
+ */
+public class HistogramChart extends XYChart {
+  /** The constant to identify this chart type. */
+  public static final String TYPE = "Histogram";
+  /** The legend shape width. */
+  private static final int SHAPE_WIDTH = 10;
+
+  HistogramChart() {
+  }
+
+  /**
+   * Builds a new histogram chart instance.
+   * 
+   * @param dataset the multiple series dataset
+   * @param renderer the multiple series renderer
+   */
+  public HistogramChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
+    super(dataset, renderer);
+  }
+
+  /**
+   * Draws the bars of the visible values. The last bar of a histogram series
+   * ends at the upper bound of its bucket, the one of other series is as wide
+   * as the previous one.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param xs the visible X values
+   * @param ys the visible Y values
+   * @param count the number of visible values
+   * @param seriesRenderer the series renderer
+   * @param transform the transform from the values to the canvas coordinates
+   * @param seriesIndex the series index
+   * @return true, the values are never drawn as points
+   */
+  @Override
+  protected boolean drawSeriesValues(Canvas canvas, Paint paint, double[] xs, double[] ys,
+      int count, SimpleSeriesRenderer seriesRenderer, ViewportTransform transform,
+      int seriesIndex) {
+    XYSeries series = mDataset.getSeriesAt(seriesIndex);
+    double lastWidth = 0;
+    if (series instanceof HistogramSeries) {
+      lastWidth = xs[count - 1] * (((HistogramSeries) series).getSketch().getGamma() - 1);
+    } else if (count > 1) {
+      lastWidth = xs[count - 1] - xs[count - 2];
+    }
+    Style style = paint.getStyle();
+    paint.setStyle(Style.FILL);
+    paint.setColor(seriesRenderer.getColor());
+    float base = (float) transform.toScreenY(0);
+    for (int k = 0; k < count; k++) {
+      double y = ys[k];
+      if (isNullValue(y) || y == 0) {
+        continue;
+      }
+      double next = k + 1 < count ? xs[k + 1] : xs[k] + lastWidth;
+      float left = (float) transform.toScreenX(xs[k]);
+      // a bar narrower than a pixel is still drawn
+      float right = Math.max(left + 1, (float) transform.toScreenX(next));
+      float top = (float) transform.toScreenY(y);
+      canvas.drawRect(left, Math.min(top, base), right, Math.max(top, base), paint);
+    }
+    paint.setStyle(style);
+    return true;
+  }
+
+  /**
+   * The graphical representation of a series, only used when the values cannot
+   * be drawn straight from the series.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param points the array of points to be used for drawing the series
+   * @param seriesRenderer the series renderer
+   * @param yAxisValue the minimum value of the y axis
+   * @param seriesIndex the index of the series currently being drawn
+   * @param startIndex the start index of the rendering points
+   */
+  @Override
+  public void drawSeries(Canvas canvas, Paint paint, List<Float> points,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, int startIndex) {
+    paint.setColor(seriesRenderer.getColor());
+    int length = points.size();
+    for (int i = 0; i < length; i += 2) {
+      float x = points.get(i);
+      canvas.drawLine(x, points.get(i + 1), x, yAxisValue, paint);
+    }
+  }
+
+  @Override
+  protected ClickableArea[] clickableAreasForPoints(List<Float> points, List<Double> values,
+      float yAxisValue, int seriesIndex, int startIndex) {
+    int length = points.size();
+    ClickableArea[] ret = new ClickableArea[length / 2];
+    for (int i = 0; i < length; i += 2) {
+      float x = points.get(i);
+      float y = points.get(i + 1);
+      ret[i / 2] = new ClickableArea(new RectF(x - 1, Math.min(y, yAxisValue), x + 1, Math.max(
+          y, yAxisValue)), values.get(i), values.get(i + 1));
+    }
+    return ret;
+  }
+
+  /**
+   * Returns if the series can be drawn in a bitmap that is only shifted while
+   * panning. A bar spans to the next value, which may be outside of a strip,
+   * so the bars are always drawn entirely.
+   * 
+   * @return false
+   */
+  @Override
+  protected boolean isPanBitmapCacheSupported() {
+    return false;
+  }
+
+  /**
+   * Returns the legend shape width.
+   * 
+   * @param seriesIndex the series index
+   * @return the legend shape width
+   */
+  public int getLegendShapeWidth(int seriesIndex) {
+    return SHAPE_WIDTH;
+  }
+
+  /**
+   * The graphical representation of the legend shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param renderer the series renderer
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   * @param seriesIndex the series index
+   * @param paint the paint to be used for drawing
+   */
+  public void drawLegendShape(Canvas canvas, SimpleSeriesRenderer renderer, float x, float y,
+      int seriesIndex, Paint paint) {
+    paint.setStyle(Style.FILL);
+    canvas.drawRect(x, y - 2, x + 3, y + 6, paint);
+    canvas.drawRect(x + 3, y - 6, x + 7, y + 6, paint);
+    canvas.drawRect(x + 7, y + 1, x + SHAPE_WIDTH, y + 6, paint);
+  }
+
+  /**
+   * Returns the chart type identifier.
+   * 
+   * @return the chart type
+   */
+  public String getChartType() {
+    return TYPE;
+  }
+
+}
@@ -0,0 +1,285 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Rect;
+
+/**
+ * The series of an XY chart, drawn in a bitmap that is kept from frame to
+ * frame. When the visible range only moved along the X axis, the bitmap is
+ * shifted by a whole number of pixels and only the exposed strip needs to be
+ * drawn. The X origin of the bitmap follows the shifts exactly, such as the
+ * remaining sub pixel offset is applied when the bitmap is drawn and does not
+ * accumulate.
+ */
+class PanLayer {
+  /**
+   * The largest difference, in pixels across the screen area width, between
+   * the X scale of the bitmap and the one of a frame for the bitmap to be
+   * shifted. Panning moves both ends of the range by the same delta, but the
+   * scale computed from them often differs in the last bits.
+   */
+  private static final double MAX_SCALE_DRIFT = 0.5;
+  /** The bitmap holding the series. */
+  private Bitmap mBitmap;
+  /** The canvas drawing to the bitmap. */
+  private Canvas mCanvas;
+  /** The bitmap the series are shifted to. */
+  private Bitmap mSpareBitmap;
+  /** The canvas drawing to the spare bitmap. */
+  private Canvas mSpareCanvas;
+  /** The screen area the series are drawn in. */
+  private final Rect mScreen = new Rect();
+  /** The number of scales. */
+  private int mScales;
+  /** The X value at the screen area left of each scale, as drawn in the bitmap. */
+  private double[] mOriginX = new double[0];
+  /** The minimum of the Y axis range of each scale. */
+  private double[] mMinY = new double[0];
+  /** The maximum of the Y axis range of each scale. */
+  private double[] mMaxY = new double[0];
+  /** The number of pixels per unit on the X axis of each scale. */
+  private double[] mXPixelsPerUnit = new double[0];
+  /** The minimum of the X range to draw of each scale. */
+  private double[] mStripMinX = new double[0];
+  /** The maximum of the X range to draw of each scale. */
+  private double[] mStripMaxX = new double[0];
+  /** The offset the bitmap is drawn with. */
+  private float mOffset;
+  /** If the bitmap holds the series drawn in a previous frame. */
+  private boolean mValid;
+  /** If only a strip is drawn in the current frame. */
+  private boolean mShifted;
+
+  /**
+   * Prepares the layer for drawing a frame. When the layer can be shifted, the
+   * series drawn in the previous frame are moved and the layer canvas is
+   * clipped to the exposed strip, otherwise the layer is cleared and the whole
+   * series are to be drawn. In both cases, the canvas must be restored with
+   * {@link #end(Canvas)}.
+   *
+   * @param screen the screen area the series are drawn in
+   * @param scales the number of scales
+   * @param minX the minimum of the X axis range of each scale
+   * @param minY the minimum of the Y axis range of each scale
+   * @param maxY the maximum of the Y axis range of each scale
+   * @param xPixelsPerUnit the number of pixels per unit on the X axis of each
+   *          scale
+   * @param allowShift if the series drawn in the previous frame can be reused
+   * @return false if the layer cannot be used for this frame, in which case the
+   *         series must be drawn directly
+   */
+  boolean begin(Rect screen, int scales, double[] minX, double[] minY, double[] maxY,
+      double[] xPixelsPerUnit, boolean allowShift) {
+    int width = screen.right;
+    int height = screen.bottom;
+    if (screen.width() <= 0 || screen.height() <= 0) {
+      return false;
+    }
+    for (int i = 0; i < scales; i++) {
+      if (xPixelsPerUnit[i] <= 0) {
+        return false;
+      }
+    }
+    if (mBitmap == null || mBitmap.getWidth() != width || mBitmap.getHeight() != height) {
+      recycle();
+      mBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      mCanvas = new Canvas(mBitmap);
+      mSpareBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      mSpareCanvas = new Canvas(mSpareBitmap);
+    }
+    int shift = 0;
+    mShifted = allowShift && mValid && mScreen.equals(screen) && mScales == scales;
+    for (int i = 0; i < scales && mShifted; i++) {
+      double delta = (mOriginX[i] - minX[i]) * xPixelsPerUnit[i];
+      if (i == 0) {
+        shift = (int) Math.round(delta);
+      }
+      double drift = Math.abs(1 - xPixelsPerUnit[i] / mXPixelsPerUnit[i]) * screen.width();
+      mShifted = mMinY[i] == minY[i] && mMaxY[i] == maxY[i] && drift < MAX_SCALE_DRIFT
+          && Math.round(delta) == shift;
+    }
+    if (mShifted && Math.abs(shift) >= screen.width()) {
+      mShifted = false;
+    }
+    if (mShifted) {
+      shift(shift);
+    } else {
+      reset(screen, scales, minX, minY, maxY, xPixelsPerUnit);
+    }
+    mOffset = (float) ((mOriginX[0] - minX[0]) * xPixelsPerUnit[0]);
+    return true;
+  }
+
+  /**
+   * Shifts the series drawn in the previous frame and clips the layer canvas
+   * to the exposed strip.
+   *
+   * @param shift the shift, in pixels
+   */
+  private void shift(int shift) {
+    int stripLeft = mScreen.left;
+    int stripRight = mScreen.right;
+    mSpareBitmap.eraseColor(Color.TRANSPARENT);
+    mSpareCanvas.save();
+    if (shift < 0) {
+      stripLeft = mScreen.right + shift;
+      mSpareCanvas.clipRect(mScreen.left, mScreen.top, stripLeft, mScreen.bottom);
+    } else {
+      stripRight = mScreen.left + shift;
+      mSpareCanvas.clipRect(stripRight, mScreen.top, mScreen.right, mScreen.bottom);
+    }
+    mSpareCanvas.drawBitmap(mBitmap, shift, 0, null);
+    mSpareCanvas.restore();
+    Bitmap bitmap = mBitmap;
+    mBitmap = mSpareBitmap;
+    mSpareBitmap = bitmap;
+    Canvas canvas = mCanvas;
+    mCanvas = mSpareCanvas;
+    mSpareCanvas = canvas;
+
+    for (int i = 0; i < mScales; i++) {
+      mOriginX[i] -= shift / mXPixelsPerUnit[i];
+      mStripMinX[i] = mOriginX[i] + (stripLeft - mScreen.left) / mXPixelsPerUnit[i];
+      mStripMaxX[i] = mOriginX[i] + (stripRight - mScreen.left) / mXPixelsPerUnit[i];
+    }
+    mCanvas.save();
+    mCanvas.clipRect(stripLeft, mScreen.top, stripRight, mScreen.bottom);
+  }
+
+  /**
+   * Clears the layer and clips the layer canvas to the screen area.
+   *
+   * @param screen the screen area the series are drawn in
+   * @param scales the number of scales
+   * @param minX the minimum of the X axis range of each scale
+   * @param minY the minimum of the Y axis range of each scale
+   * @param maxY the maximum of the Y axis range of each scale
+   * @param xPixelsPerUnit the number of pixels per unit on the X axis of each
+   *          scale
+   */
+  private void reset(Rect screen, int scales, double[] minX, double[] minY, double[] maxY,
+      double[] xPixelsPerUnit) {
+    mScreen.set(screen);
+    if (mOriginX.length < scales) {
+      mOriginX = new double[scales];
+      mMinY = new double[scales];
+      mMaxY = new double[scales];
+      mXPixelsPerUnit = new double[scales];
+      mStripMinX = new double[scales];
+      mStripMaxX = new double[scales];
+    }
+    mScales = scales;
+    System.arraycopy(minX, 0, mOriginX, 0, scales);
+    System.arraycopy(minY, 0, mMinY, 0, scales);
+    System.arraycopy(maxY, 0, mMaxY, 0, scales);
+    System.arraycopy(xPixelsPerUnit, 0, mXPixelsPerUnit, 0, scales);
+    for (int i = 0; i < scales; i++) {
+      mStripMinX[i] = minX[i];
+      mStripMaxX[i] = minX[i] + screen.width() / xPixelsPerUnit[i];
+    }
+    mBitmap.eraseColor(Color.TRANSPARENT);
+    mValid = true;
+    mCanvas.save();
+    mCanvas.clipRect(screen);
+  }
+
+  /**
+   * Returns if only the exposed strip is to be drawn in the current frame.
+   *
+   * @return if the series drawn in the previous frame were shifted
+   */
+  boolean isShifted() {
+    return mShifted;
+  }
+
+  /**
+   * Returns the canvas the series are to be drawn to.
+   *
+   * @return the layer canvas
+   */
+  Canvas getCanvas() {
+    return mCanvas;
+  }
+
+  /**
+   * Returns the X value at the screen area left of each scale, to be used
+   * instead of the X axis minimum when computing the point coordinates.
+   *
+   * @return the X origins, not to be modified
+   */
+  double[] getOriginX() {
+    return mOriginX;
+  }
+
+  /**
+   * Returns the minimum of the X range to draw of each scale.
+   *
+   * @return the range minimums, not to be modified
+   */
+  double[] getStripMinX() {
+    return mStripMinX;
+  }
+
+  /**
+   * Returns the maximum of the X range to draw of each scale.
+   *
+   * @return the range maximums, not to be modified
+   */
+  double[] getStripMaxX() {
+    return mStripMaxX;
+  }
+
+  /**
+   * Restores the layer canvas and draws the layer.
+   *
+   * @param canvas the canvas to draw the layer to
+   */
+  void end(Canvas canvas) {
+    mCanvas.restore();
+    canvas.save();
+    canvas.clipRect(mScreen);
+    canvas.drawBitmap(mBitmap, mOffset, 0, null);
+    canvas.restore();
+  }
+
+  /**
+   * Discards the series drawn in the previous frame, such as the next frame
+   * draws them entirely.
+   */
+  void invalidate() {
+    mValid = false;
+  }
+
+  /**
+   * Releases the bitmaps.
+   */
+  void recycle() {
+    if (mBitmap != null) {
+      mBitmap.recycle();
+      mSpareBitmap.recycle();
+      mBitmap = null;
+      mSpareBitmap = null;
+      mCanvas = null;
+      mSpareCanvas = null;
+    }
+    mValid = false;
+  }
+
+}
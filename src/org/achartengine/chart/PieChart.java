@@ -15,14 +15,12 @@
  */
 package org.achartengine.chart;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.achartengine.model.CategorySeries;
 import org.achartengine.model.Point;
 import org.achartengine.model.SeriesSelection;
 import org.achartengine.renderer.DefaultRenderer;
 import org.achartengine.renderer.SimpleSeriesRenderer;
+import org.achartengine.util.LabelGrid;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
@@ -37,6 +35,28 @@ import android.graphics.Shader.TileMode;
 public class PieChart extends RoundChart {
   /** Handles returning values when tapping on PieChart. */
   private PieMapper mPieMapper;
+  /** The dataset version the slice geometry was computed for. */
+  private transient int mGeometryVersion = -1;
+  /** The start angle the slice geometry was computed for. */
+  private transient float mGeometryStartAngle;
+  /** The slice titles. */
+  private transient String[] mTitles;
+  /** The slice start angles. */
+  private transient float[] mStartAngles;
+  /** The slice angles. */
+  private transient float[] mAngles;
+  /** The slice gradients, reused while their parameters don't change. */
+  private transient RadialGradient[] mGradients;
+  /** The slice gradient start colors. */
+  private transient int[] mGradientStartColors;
+  /** The slice gradient stop colors. */
+  private transient int[] mGradientStopColors;
+  /** The gradients center on the X axis. */
+  private transient int mGradientCenterX;
+  /** The gradients center on the Y axis. */
+  private transient int mGradientCenterY;
+  /** The gradients radius. */
+  private transient float mGradientRadius;
 
   /**
    * Builds a new pie chart instance.
@@ -68,13 +88,8 @@ public class PieChart extends RoundChart {
     int left = x;
     int top = y;
     int right = x + width;
-    int sLength = mDataset.getItemCount();
-    double total = 0;
-    String[] titles = new String[sLength];
-    for (int i = 0; i < sLength; i++) {
-      total += mDataset.getValue(i);
-      titles[i] = mDataset.getCategory(i);
-    }
+    int sLength = updateGeometry();
+    String[] titles = mTitles;
     if (mRenderer.isFitLegend()) {
       legendSize = drawLegend(canvas, mRenderer, titles, left, right, y, width, height, legendSize,
           paint, true);
@@ -82,7 +97,6 @@ public class PieChart extends RoundChart {
     int bottom = y + height - legendSize;
     drawBackground(mRenderer, canvas, x, y, width, height, paint, false, DefaultRenderer.NO_COLOR);
 
-    float currentAngle = mRenderer.getStartAngle();
     int mRadius = Math.min(Math.abs(right - left), Math.abs(bottom - top));
     int radius = (int) (mRadius * 0.35 * mRenderer.getScale());
 
@@ -95,30 +109,33 @@ public class PieChart extends RoundChart {
 
     // Hook in clip detection after center has been calculated
     mPieMapper.setDimensions(radius, mCenterX, mCenterY);
-    boolean loadPieCfg = !mPieMapper.areAllSegmentPresent(sLength);
-    if (loadPieCfg) {
-      mPieMapper.clearPieSegments();
-    }
 
     float shortRadius = radius * 0.9f;
     float longRadius = radius * 1.1f;
     RectF oval = new RectF(mCenterX - radius, mCenterY - radius, mCenterX + radius, mCenterY
         + radius);
-    List<RectF> prevLabelsBounds = new ArrayList<RectF>();
+    LabelGrid labelGrid = resetLabelGrid(left, top, right, bottom,
+        mRenderer.getLabelsTextSize() * 2);
+    if (mGradientCenterX != mCenterX || mGradientCenterY != mCenterY
+        || mGradientRadius != longRadius) {
+      mGradientCenterX = mCenterX;
+      mGradientCenterY = mCenterY;
+      mGradientRadius = longRadius;
+      for (int i = 0; i < sLength; i++) {
+        mGradients[i] = null;
+      }
+    }
 
     for (int i = 0; i < sLength; i++) {
       SimpleSeriesRenderer seriesRenderer = mRenderer.getSeriesRendererAt(i);
       if (seriesRenderer.isGradientEnabled()) {
-        RadialGradient grad = new RadialGradient(mCenterX, mCenterY, longRadius,
-            seriesRenderer.getGradientStartColor(), seriesRenderer.getGradientStopColor(),
-            TileMode.MIRROR);
-        paint.setShader(grad);
+        paint.setShader(getGradient(i, seriesRenderer));
       } else {
         paint.setColor(seriesRenderer.getColor());
       }
 
-      float value = (float) mDataset.getValue(i);
-      float angle = (float) (value / total * 360);
+      float currentAngle = mStartAngles[i];
+      float angle = mAngles[i];
       if (seriesRenderer.isHighlighted()) {
         double rAngle = Math.toRadians(90 - (currentAngle + angle / 2));
         float translateX = (float) (radius * 0.1 * Math.sin(rAngle));
@@ -131,26 +148,78 @@ public class PieChart extends RoundChart {
       }
       paint.setColor(seriesRenderer.getColor());
       paint.setShader(null);
-      drawLabel(canvas, mDataset.getCategory(i), mRenderer, prevLabelsBounds, mCenterX, mCenterY,
+      drawLabel(canvas, mDataset.getCategory(i), mRenderer, labelGrid, mCenterX, mCenterY,
           shortRadius, longRadius, currentAngle, angle, left, right, mRenderer.getLabelsColor(),
           paint, true, false);
       if (mRenderer.isDisplayValues()) {
         drawLabel(
             canvas,
             getLabel(mRenderer.getSeriesRendererAt(i).getChartValuesFormat(), mDataset.getValue(i)),
-            mRenderer, prevLabelsBounds, mCenterX, mCenterY, shortRadius / 2, longRadius / 2,
+            mRenderer, labelGrid, mCenterX, mCenterY, shortRadius / 2, longRadius / 2,
             currentAngle, angle, left, right, mRenderer.getLabelsColor(), paint, false, true);
       }
+    }
+    drawLegend(canvas, mRenderer, titles, left, right, y, width, height, legendSize, paint, false);
+    drawTitle(canvas, x, y, width, paint);
+  }
 
+  /**
+   * Computes the slice titles and angles and the selection segments again if
+   * the dataset or the start angle changed since they were last computed.
+   * 
+   * @return the number of slices
+   */
+  private int updateGeometry() {
+    synchronized (mDataset) {
+      int version = mDataset.getVersion();
+      float startAngle = mRenderer.getStartAngle();
+      int sLength = mDataset.getItemCount();
+      if (version == mGeometryVersion && startAngle == mGeometryStartAngle && mTitles != null) {
+        return sLength;
+      }
+      if (mTitles == null || mTitles.length != sLength) {
+        mTitles = new String[sLength];
+        mStartAngles = new float[sLength];
+        mAngles = new float[sLength];
+        mGradients = new RadialGradient[sLength];
+        mGradientStartColors = new int[sLength];
+        mGradientStopColors = new int[sLength];
+      }
+      double total = mDataset.getTotal();
       // Save details for getSeries functionality
-      if (loadPieCfg) {
-        mPieMapper.addPieSegment(i, value, currentAngle, angle);
+      mPieMapper.clearPieSegments();
+      for (int i = 0; i < sLength; i++) {
+        mTitles[i] = mDataset.getCategory(i);
+        mStartAngles[i] = (float) (startAngle + mDataset.getPrefixSum(i) / total * 360);
+        float value = (float) mDataset.getValue(i);
+        mAngles[i] = (float) (value / total * 360);
+        mPieMapper.addPieSegment(i, value, mStartAngles[i], mAngles[i]);
       }
-      currentAngle += angle;
+      mGeometryVersion = version;
+      mGeometryStartAngle = startAngle;
+      return sLength;
     }
-    prevLabelsBounds.clear();
-    drawLegend(canvas, mRenderer, titles, left, right, y, width, height, legendSize, paint, false);
-    drawTitle(canvas, x, y, width, paint);
+  }
+
+  /**
+   * Returns the gradient of a slice, which is only built again when the
+   * gradient colors or the pie geometry change.
+   * 
+   * @param index the slice index
+   * @param seriesRenderer the slice renderer
+   * @return the gradient
+   */
+  private RadialGradient getGradient(int index, SimpleSeriesRenderer seriesRenderer) {
+    int startColor = seriesRenderer.getGradientStartColor();
+    int stopColor = seriesRenderer.getGradientStopColor();
+    if (mGradients[index] == null || mGradientStartColors[index] != startColor
+        || mGradientStopColors[index] != stopColor) {
+      mGradients[index] = new RadialGradient(mGradientCenterX, mGradientCenterY, mGradientRadius,
+          startColor, stopColor, TileMode.MIRROR);
+      mGradientStartColors[index] = startColor;
+      mGradientStopColors[index] = stopColor;
+    }
+    return mGradients[index];
   }
 
   public SeriesSelection getSeriesAndPointForScreenCoordinate(Point screenPoint) {
@@ -29,6 +29,12 @@ public class PieMapper implements Serializable {
 
   private List<PieSegment> mPieSegmentList = new ArrayList<PieSegment>();
 
+  /** The segment start angles, relative to the first segment start angle. */
+  private float[] mRelativeStartAngles = new float[16];
+
+  /** If the segments were added in increasing start angle order. */
+  private boolean mSorted = true;
+
   private int mPieChartRadius;
 
   private int mCenterX, mCenterY;
@@ -65,6 +71,18 @@ public class PieMapper implements Serializable {
    * @param angle
    */
   public void addPieSegment(int dataIndex, float value, float startAngle, float angle) {
+    int count = mPieSegmentList.size();
+    float relativeStart = 0;
+    if (count > 0) {
+      relativeStart = startAngle - mPieSegmentList.get(0).getStartAngle();
+      mSorted &= relativeStart >= mRelativeStartAngles[count - 1];
+    }
+    if (count == mRelativeStartAngles.length) {
+      float[] angles = new float[count * 2];
+      System.arraycopy(mRelativeStartAngles, 0, angles, 0, count);
+      mRelativeStartAngles = angles;
+    }
+    mRelativeStartAngles[count] = relativeStart;
     mPieSegmentList.add(new PieSegment(dataIndex, value, startAngle, angle));
   }
   
@@ -73,6 +91,7 @@ public class PieMapper implements Serializable {
    */
   public void clearPieSegments() {
     mPieSegmentList.clear();
+    mSorted = true;
   }
 
   /**
@@ -126,7 +145,12 @@ public class PieMapper implements Serializable {
   public SeriesSelection getSeriesAndPointForScreenCoordinate(Point screenPoint) {
     if (isOnPieChart(screenPoint)) {
       double angleFromPieCenter = getAngle(screenPoint);
-
+      PieSegment segment = findSegment(angleFromPieCenter);
+      if (segment != null) {
+        return new SeriesSelection(0, segment.getDataIndex(), segment.getValue(),
+            segment.getValue());
+      }
+      // the segments don't cover the pie contiguously, fall back to a scan
       for (PieSegment pieSeg : mPieSegmentList) {
         if (pieSeg.isInSegment(angleFromPieCenter)) {
           return new SeriesSelection(0, pieSeg.getDataIndex(), pieSeg.getValue(),
@@ -136,4 +160,40 @@ public class PieMapper implements Serializable {
     }
     return null;
   }
+
+  /**
+   * Finds the segment an angle falls in, by binary search of the segment start
+   * angles.
+   * 
+   * @param angle the angle in degrees, from 0 to 360
+   * @return the segment or null if it could not be found that way
+   */
+  private PieSegment findSegment(double angle) {
+    int count = mPieSegmentList.size();
+    if (count == 0 || !mSorted) {
+      return null;
+    }
+    double relative = (angle - mPieSegmentList.get(0).getStartAngle()) % 360;
+    if (relative < 0) {
+      relative += 360;
+    }
+    int low = 0;
+    int high = count - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (mRelativeStartAngles[middle] <= relative) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    // a point on the border between two segments belongs to the first one
+    if (low > 0 && mPieSegmentList.get(low - 1).isInSegment(angle)) {
+      return mPieSegmentList.get(low - 1);
+    }
+    if (mPieSegmentList.get(low).isInSegment(angle)) {
+      return mPieSegmentList.get(low);
+    }
+    return null;
+  }
 }
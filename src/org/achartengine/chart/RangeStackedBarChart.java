@@ -1,29 +1,29 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.chart;
-
-public class RangeStackedBarChart extends RangeBarChart {
-  /** The chart type. */
-  public static final String TYPE = "RangeStackedBar";
-
-  RangeStackedBarChart() {
-    super(Type.STACKED);
-  }
-
-  public String getChartType() {
-    return TYPE;
-  }
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+public class RangeStackedBarChart extends RangeBarChart {
+  /** The chart type. */
+  public static final String TYPE = "RangeStackedBar";
+
+  RangeStackedBarChart() {
+    super(Type.STACKED);
+  }
+
+  public String getChartType() {
+    return TYPE;
+  }
 }
\ No newline at end of file
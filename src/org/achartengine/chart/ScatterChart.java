@@ -1,287 +1,429 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- * Copyright (C) 2013 Henning Dodenhof
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.chart;
-
-import java.util.List;
-
-import org.achartengine.model.XYMultipleSeriesDataset;
-import org.achartengine.renderer.SimpleSeriesRenderer;
-import org.achartengine.renderer.XYMultipleSeriesRenderer;
-import org.achartengine.renderer.XYSeriesRenderer;
-
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-import android.graphics.Paint.Style;
-import android.graphics.RectF;
-
-/**
- * The scatter chart rendering class.
- */
-public class ScatterChart extends XYChart {
-  /** The constant to identify this chart type. */
-  public static final String TYPE = "Scatter";
-  /** The default point shape size. */
-  private static final float SIZE = 3;
-  /** The legend shape width. */
-  private static final int SHAPE_WIDTH = 10;
-  /** The point shape size. */
-  private float size = SIZE;
-
-  ScatterChart() {
-  }
-
-  /**
-   * Builds a new scatter chart instance.
-   * 
-   * @param dataset the multiple series dataset
-   * @param renderer the multiple series renderer
-   */
-  public ScatterChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
-    super(dataset, renderer);
-    size = renderer.getPointSize();
-  }
-
-  // TODO: javadoc
-  protected void setDatasetRenderer(XYMultipleSeriesDataset dataset,
-      XYMultipleSeriesRenderer renderer) {
-    super.setDatasetRenderer(dataset, renderer);
-    size = renderer.getPointSize();
-  }
-
-  /**
-   * The graphical representation of a series.
-   * 
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param points the array of points to be used for drawing the series
-   * @param seriesRenderer the series renderer
-   * @param yAxisValue the minimum value of the y axis
-   * @param seriesIndex the index of the series currently being drawn
-   * @param startIndex the start index of the rendering points
-   */
-  @Override
-  public void drawSeries(Canvas canvas, Paint paint, List<Float> points,
-      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, int startIndex) {
-    XYSeriesRenderer renderer = (XYSeriesRenderer) seriesRenderer;
-    size = renderer.getPointSize();
-    paint.setColor(renderer.getColor());
-    final float stroke = paint.getStrokeWidth();
-    if (renderer.isFillPoints()) {
-      paint.setStyle(Style.FILL);
-    } else {
-      paint.setStrokeWidth(renderer.getPointStrokeWidth());
-      paint.setStyle(Style.STROKE);
-    }
-    int length = points.size();
-    switch (renderer.getPointStyle()) {
-    case X:
-      paint.setStrokeWidth(renderer.getPointStrokeWidth());
-      for (int i = 0; i < length; i += 2) {
-        drawX(canvas, paint, points.get(i), points.get(i + 1));
-      }
-      break;
-    case CIRCLE:
-      for (int i = 0; i < length; i += 2) {
-        drawCircle(canvas, paint, points.get(i), points.get(i + 1));
-      }
-      break;
-    case CIRCLE_FILLED:
-      for (int i = 0; i < length; i += 2) {
-        Paint fill = new Paint();
-        fill.setColor(Color.WHITE); // TODO
-        fill.setStyle(Style.FILL);
-        drawCircle(canvas, fill, points.get(i), points.get(i + 1));
-        drawCircle(canvas, paint, points.get(i), points.get(i + 1));
-      }
-      break;
-    case TRIANGLE:
-      float[] path = new float[6];
-      for (int i = 0; i < length; i += 2) {
-        drawTriangle(canvas, paint, path, points.get(i), points.get(i + 1));
-      }
-      break;
-    case SQUARE:
-      for (int i = 0; i < length; i += 2) {
-        drawSquare(canvas, paint, points.get(i), points.get(i + 1));
-      }
-      break;
-    case DIAMOND:
-      path = new float[8];
-      for (int i = 0; i < length; i += 2) {
-        drawDiamond(canvas, paint, path, points.get(i), points.get(i + 1));
-      }
-      break;
-    case POINT:
-      for (int i = 0; i < length; i += 2) {
-        canvas.drawPoint(points.get(i), points.get(i + 1), paint);
-      }
-      break;
-    }
-    paint.setStrokeWidth(stroke);
-  }
-
-  @Override
-  protected ClickableArea[] clickableAreasForPoints(List<Float> points, List<Double> values,
-      float yAxisValue, int seriesIndex, int startIndex) {
-    int length = points.size();
-    ClickableArea[] ret = new ClickableArea[length / 2];
-    for (int i = 0; i < length; i += 2) {
-      int selectableBuffer = mRenderer.getSelectableBuffer();
-      ret[i / 2] = new ClickableArea(new RectF(points.get(i) - selectableBuffer, points.get(i + 1)
-          - selectableBuffer, points.get(i) + selectableBuffer, points.get(i + 1)
-          + selectableBuffer), values.get(i), values.get(i + 1));
-    }
-    return ret;
-  }
-
-  /**
-   * Returns the legend shape width.
-   * 
-   * @param seriesIndex the series index
-   * @return the legend shape width
-   */
-  public int getLegendShapeWidth(int seriesIndex) {
-    return SHAPE_WIDTH;
-  }
-
-  /**
-   * The graphical representation of the legend shape.
-   * 
-   * @param canvas the canvas to paint to
-   * @param renderer the series renderer
-   * @param x the x value of the point the shape should be drawn at
-   * @param y the y value of the point the shape should be drawn at
-   * @param seriesIndex the series index
-   * @param paint the paint to be used for drawing
-   */
-  public void drawLegendShape(Canvas canvas, SimpleSeriesRenderer renderer, float x, float y,
-      int seriesIndex, Paint paint) {
-    if (((XYSeriesRenderer) renderer).isFillPoints()) {
-      paint.setStyle(Style.FILL);
-    } else {
-      paint.setStyle(Style.STROKE);
-    }
-    switch (((XYSeriesRenderer) renderer).getPointStyle()) {
-    case X:
-      drawX(canvas, paint, x + SHAPE_WIDTH, y);
-      break;
-    case CIRCLE:
-      drawCircle(canvas, paint, x + SHAPE_WIDTH, y);
-      break;
-    case TRIANGLE:
-      drawTriangle(canvas, paint, new float[6], x + SHAPE_WIDTH, y);
-      break;
-    case SQUARE:
-      drawSquare(canvas, paint, x + SHAPE_WIDTH, y);
-      break;
-    case DIAMOND:
-      drawDiamond(canvas, paint, new float[8], x + SHAPE_WIDTH, y);
-      break;
-    case POINT:
-      canvas.drawPoint(x + SHAPE_WIDTH, y, paint);
-      break;
-    }
-  }
-
-  /**
-   * The graphical representation of an X point shape.
-   * 
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param x the x value of the point the shape should be drawn at
-   * @param y the y value of the point the shape should be drawn at
-   */
-  private void drawX(Canvas canvas, Paint paint, float x, float y) {
-    canvas.drawLine(x - size, y - size, x + size, y + size, paint);
-    canvas.drawLine(x + size, y - size, x - size, y + size, paint);
-  }
-
-  /**
-   * The graphical representation of a circle point shape.
-   * 
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param x the x value of the point the shape should be drawn at
-   * @param y the y value of the point the shape should be drawn at
-   */
-  private void drawCircle(Canvas canvas, Paint paint, float x, float y) {
-    canvas.drawCircle(x, y, size, paint);
-  }
-
-  /**
-   * The graphical representation of a triangle point shape.
-   * 
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param path the triangle path
-   * @param x the x value of the point the shape should be drawn at
-   * @param y the y value of the point the shape should be drawn at
-   */
-  private void drawTriangle(Canvas canvas, Paint paint, float[] path, float x, float y) {
-    path[0] = x;
-    path[1] = y - size - size / 2;
-    path[2] = x - size;
-    path[3] = y + size;
-    path[4] = x + size;
-    path[5] = path[3];
-    drawPath(canvas, path, paint, true);
-  }
-
-  /**
-   * The graphical representation of a square point shape.
-   * 
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param x the x value of the point the shape should be drawn at
-   * @param y the y value of the point the shape should be drawn at
-   */
-  private void drawSquare(Canvas canvas, Paint paint, float x, float y) {
-    canvas.drawRect(x - size, y - size, x + size, y + size, paint);
-  }
-
-  /**
-   * The graphical representation of a diamond point shape.
-   * 
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param path the diamond path
-   * @param x the x value of the point the shape should be drawn at
-   * @param y the y value of the point the shape should be drawn at
-   */
-  private void drawDiamond(Canvas canvas, Paint paint, float[] path, float x, float y) {
-    path[0] = x;
-    path[1] = y - size;
-    path[2] = x - size;
-    path[3] = y;
-    path[4] = x;
-    path[5] = y + size;
-    path[6] = x + size;
-    path[7] = y;
-    drawPath(canvas, path, paint, true);
-  }
-
-  /**
-   * Returns the chart type identifier.
-   * 
-   * @return the chart type
-   */
-  public String getChartType() {
-    return TYPE;
-  }
-
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.renderer.SimpleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.renderer.XYSeriesRenderer;
+import org.achartengine.util.DensityGrid;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Paint.Style;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * The scatter chart rendering class.
+ */
+public class ScatterChart extends XYChart {
+  /** The constant to identify this chart type. */
+  public static final String TYPE = "Scatter";
+  /** The default point shape size. */
+  private static final float SIZE = 3;
+  /** The legend shape width. */
+  private static final int SHAPE_WIDTH = 10;
+  /** The point shape size. */
+  private float size = SIZE;
+  /** The number of colors of the density map color ramp. */
+  private static final int RAMP_SIZE = 256;
+  /** The density map grid, reused between frames. */
+  private transient DensityGrid mDensityGrid;
+  /** The density maps of the series, by series index, reused between frames. */
+  private transient DensityMap[] mDensityMaps;
+
+  ScatterChart() {
+  }
+
+  /**
+   * Builds a new scatter chart instance.
+   * 
+   * @param dataset the multiple series dataset
+   * @param renderer the multiple series renderer
+   */
+  public ScatterChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
+    super(dataset, renderer);
+    size = renderer.getPointSize();
+  }
+
+  // TODO: javadoc
+  protected void setDatasetRenderer(XYMultipleSeriesDataset dataset,
+      XYMultipleSeriesRenderer renderer) {
+    super.setDatasetRenderer(dataset, renderer);
+    size = renderer.getPointSize();
+  }
+
+  /**
+   * The graphical representation of a series.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param points the array of points to be used for drawing the series
+   * @param seriesRenderer the series renderer
+   * @param yAxisValue the minimum value of the y axis
+   * @param seriesIndex the index of the series currently being drawn
+   * @param startIndex the start index of the rendering points
+   */
+  @Override
+  public void drawSeries(Canvas canvas, Paint paint, List<Float> points,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, int startIndex) {
+    XYSeriesRenderer renderer = (XYSeriesRenderer) seriesRenderer;
+    size = renderer.getPointSize();
+    paint.setColor(renderer.getColor());
+    final float stroke = paint.getStrokeWidth();
+    if (renderer.isFillPoints()) {
+      paint.setStyle(Style.FILL);
+    } else {
+      paint.setStrokeWidth(renderer.getPointStrokeWidth());
+      paint.setStyle(Style.STROKE);
+    }
+    int length = points.size();
+    switch (renderer.getPointStyle()) {
+    case X:
+      paint.setStrokeWidth(renderer.getPointStrokeWidth());
+      for (int i = 0; i < length; i += 2) {
+        drawX(canvas, paint, points.get(i), points.get(i + 1));
+      }
+      break;
+    case CIRCLE:
+      for (int i = 0; i < length; i += 2) {
+        drawCircle(canvas, paint, points.get(i), points.get(i + 1));
+      }
+      break;
+    case CIRCLE_FILLED:
+      for (int i = 0; i < length; i += 2) {
+        Paint fill = new Paint();
+        fill.setColor(Color.WHITE); // TODO
+        fill.setStyle(Style.FILL);
+        drawCircle(canvas, fill, points.get(i), points.get(i + 1));
+        drawCircle(canvas, paint, points.get(i), points.get(i + 1));
+      }
+      break;
+    case TRIANGLE:
+      float[] path = new float[6];
+      for (int i = 0; i < length; i += 2) {
+        drawTriangle(canvas, paint, path, points.get(i), points.get(i + 1));
+      }
+      break;
+    case SQUARE:
+      for (int i = 0; i < length; i += 2) {
+        drawSquare(canvas, paint, points.get(i), points.get(i + 1));
+      }
+      break;
+    case DIAMOND:
+      path = new float[8];
+      for (int i = 0; i < length; i += 2) {
+        drawDiamond(canvas, paint, path, points.get(i), points.get(i + 1));
+      }
+      break;
+    case POINT:
+      for (int i = 0; i < length; i += 2) {
+        canvas.drawPoint(points.get(i), points.get(i + 1), paint);
+      }
+      break;
+    }
+    paint.setStrokeWidth(stroke);
+  }
+
+  /**
+   * Draws the visible values as a density map when there are more of them than
+   * the density threshold of the series renderer. The values are binned into
+   * a pixel grid whose counts are mapped to colors and drawn as one bitmap.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param xs the visible X values
+   * @param ys the visible Y values
+   * @param count the number of visible values
+   * @param seriesRenderer the series renderer
+   * @param transform the transform from the values to the canvas coordinates
+   * @param seriesIndex the series index
+   * @return false if the values must be drawn as points
+   */
+  @Override
+  protected boolean drawSeriesValues(Canvas canvas, Paint paint, double[] xs, double[] ys,
+      int count, SimpleSeriesRenderer seriesRenderer, ViewportTransform transform,
+      int seriesIndex) {
+    if (!(seriesRenderer instanceof XYSeriesRenderer)) {
+      return false;
+    }
+    XYSeriesRenderer renderer = (XYSeriesRenderer) seriesRenderer;
+    Rect screen = getScreenR();
+    if (count < renderer.getDensityThreshold() || screen == null || screen.width() <= 0
+        || screen.height() <= 0) {
+      return false;
+    }
+    int width = screen.width();
+    int height = screen.height();
+    if (mDensityGrid == null) {
+      mDensityGrid = new DensityGrid();
+    }
+    mDensityGrid.bin(xs, ys, count, width, height, transform.getMinX(),
+        transform.getPixelsPerUnitX(), transform.getMaxY(), transform.getPixelsPerUnitY());
+    DensityMap map = getDensityMap(seriesIndex);
+    if (map.mBitmap == null || map.mBitmap.getWidth() != width
+        || map.mBitmap.getHeight() != height) {
+      if (map.mBitmap != null) {
+        map.mBitmap.recycle();
+      }
+      map.mBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+    map.mBitmap.setPixels(mDensityGrid.getPixels(getRamp(map, renderer)), 0, width, 0, 0, width,
+        height);
+    canvas.drawBitmap(map.mBitmap, screen.left, screen.top, null);
+    return true;
+  }
+
+  /**
+   * Returns the density map of a series. Each series has its own bitmap, as a
+   * drawn bitmap may still be referenced by the canvas when the next series is
+   * drawn.
+   * 
+   * @param seriesIndex the series index
+   * @return the density map
+   */
+  private DensityMap getDensityMap(int seriesIndex) {
+    if (mDensityMaps == null || mDensityMaps.length <= seriesIndex) {
+      DensityMap[] maps = new DensityMap[seriesIndex + 1];
+      if (mDensityMaps != null) {
+        System.arraycopy(mDensityMaps, 0, maps, 0, mDensityMaps.length);
+      }
+      mDensityMaps = maps;
+    }
+    DensityMap map = mDensityMaps[seriesIndex];
+    if (map == null) {
+      map = new DensityMap();
+      mDensityMaps[seriesIndex] = map;
+    }
+    return map;
+  }
+
+  /**
+   * Returns the color ramp of a density map, which is only built again when the
+   * colors of the series renderer change.
+   * 
+   * @param map the density map
+   * @param renderer the series renderer
+   * @return the color ramp
+   */
+  private int[] getRamp(DensityMap map, XYSeriesRenderer renderer) {
+    int[] colors = renderer.getDensityColors();
+    if (colors == null || colors.length < 2) {
+      int color = renderer.getColor();
+      if (map.mRamp == null || map.mRampColors != null || map.mDefaultColor != color) {
+        // from a faint to the full series color
+        map.mRamp = DensityGrid.createRamp(new int[] { (color & 0xffffff) | 0x40000000, color },
+            RAMP_SIZE);
+        map.mRampColors = null;
+        map.mDefaultColor = color;
+      }
+    } else if (map.mRamp == null || !Arrays.equals(colors, map.mRampColors)) {
+      map.mRamp = DensityGrid.createRamp(colors, RAMP_SIZE);
+      map.mRampColors = colors.clone();
+    }
+    return map.mRamp;
+  }
+
+  /**
+   * Returns if the series can be drawn in a bitmap that is only shifted while
+   * panning. A density map is scaled to the highest count of the frame, so it
+   * cannot be drawn by strips.
+   * 
+   * @return if the pan bitmap cache can be used
+   */
+  @Override
+  protected boolean isPanBitmapCacheSupported() {
+    int count = mRenderer.getSeriesRendererCount();
+    for (int i = 0; i < count; i++) {
+      SimpleSeriesRenderer renderer = mRenderer.getSeriesRendererAt(i);
+      if (renderer instanceof XYSeriesRenderer
+          && ((XYSeriesRenderer) renderer).getDensityThreshold() < Integer.MAX_VALUE) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected ClickableArea[] clickableAreasForPoints(List<Float> points, List<Double> values,
+      float yAxisValue, int seriesIndex, int startIndex) {
+    int length = points.size();
+    ClickableArea[] ret = new ClickableArea[length / 2];
+    for (int i = 0; i < length; i += 2) {
+      int selectableBuffer = mRenderer.getSelectableBuffer();
+      ret[i / 2] = new ClickableArea(new RectF(points.get(i) - selectableBuffer, points.get(i + 1)
+          - selectableBuffer, points.get(i) + selectableBuffer, points.get(i + 1)
+          + selectableBuffer), values.get(i), values.get(i + 1));
+    }
+    return ret;
+  }
+
+  /**
+   * Returns the legend shape width.
+   * 
+   * @param seriesIndex the series index
+   * @return the legend shape width
+   */
+  public int getLegendShapeWidth(int seriesIndex) {
+    return SHAPE_WIDTH;
+  }
+
+  /**
+   * The graphical representation of the legend shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param renderer the series renderer
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   * @param seriesIndex the series index
+   * @param paint the paint to be used for drawing
+   */
+  public void drawLegendShape(Canvas canvas, SimpleSeriesRenderer renderer, float x, float y,
+      int seriesIndex, Paint paint) {
+    if (((XYSeriesRenderer) renderer).isFillPoints()) {
+      paint.setStyle(Style.FILL);
+    } else {
+      paint.setStyle(Style.STROKE);
+    }
+    switch (((XYSeriesRenderer) renderer).getPointStyle()) {
+    case X:
+      drawX(canvas, paint, x + SHAPE_WIDTH, y);
+      break;
+    case CIRCLE:
+      drawCircle(canvas, paint, x + SHAPE_WIDTH, y);
+      break;
+    case TRIANGLE:
+      drawTriangle(canvas, paint, new float[6], x + SHAPE_WIDTH, y);
+      break;
+    case SQUARE:
+      drawSquare(canvas, paint, x + SHAPE_WIDTH, y);
+      break;
+    case DIAMOND:
+      drawDiamond(canvas, paint, new float[8], x + SHAPE_WIDTH, y);
+      break;
+    case POINT:
+      canvas.drawPoint(x + SHAPE_WIDTH, y, paint);
+      break;
+    }
+  }
+
+  /**
+   * The graphical representation of an X point shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   */
+  private void drawX(Canvas canvas, Paint paint, float x, float y) {
+    canvas.drawLine(x - size, y - size, x + size, y + size, paint);
+    canvas.drawLine(x + size, y - size, x - size, y + size, paint);
+  }
+
+  /**
+   * The graphical representation of a circle point shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   */
+  private void drawCircle(Canvas canvas, Paint paint, float x, float y) {
+    canvas.drawCircle(x, y, size, paint);
+  }
+
+  /**
+   * The graphical representation of a triangle point shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param path the triangle path
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   */
+  private void drawTriangle(Canvas canvas, Paint paint, float[] path, float x, float y) {
+    path[0] = x;
+    path[1] = y - size - size / 2;
+    path[2] = x - size;
+    path[3] = y + size;
+    path[4] = x + size;
+    path[5] = path[3];
+    drawPath(canvas, path, paint, true);
+  }
+
+  /**
+   * The graphical representation of a square point shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   */
+  private void drawSquare(Canvas canvas, Paint paint, float x, float y) {
+    canvas.drawRect(x - size, y - size, x + size, y + size, paint);
+  }
+
+  /**
+   * The graphical representation of a diamond point shape.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param path the diamond path
+   * @param x the x value of the point the shape should be drawn at
+   * @param y the y value of the point the shape should be drawn at
+   */
+  private void drawDiamond(Canvas canvas, Paint paint, float[] path, float x, float y) {
+    path[0] = x;
+    path[1] = y - size;
+    path[2] = x - size;
+    path[3] = y;
+    path[4] = x;
+    path[5] = y + size;
+    path[6] = x + size;
+    path[7] = y;
+    drawPath(canvas, path, paint, true);
+  }
+
+  /**
+   * Returns the chart type identifier.
+   * 
+   * @return the chart type
+   */
+  public String getChartType() {
+    return TYPE;
+  }
+
+  /**
+   * The density map bitmap and color ramp of a series, reused between frames.
+   */
+  private static class DensityMap {
+    /** The density map bitmap. */
+    private Bitmap mBitmap;
+    /** The colors the color ramp was built from, or null for the default ramp. */
+    private int[] mRampColors;
+    /** The series color the default color ramp was built from. */
+    private int mDefaultColor;
+    /** The color ramp. */
+    private int[] mRamp;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,240 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import android.graphics.Rect;
+
+/**
+ * The transform between the real values of one scale of an XY chart and the
+ * screen coordinates. The scale factors are only computed again when the
+ * visible range or the screen area change, and none of the methods allocate.
+ * An instance is obtained with {@link XYChart#getViewportTransform(int)}.
+ */
+public class ViewportTransform {
+  /** The screen area left. */
+  private int mLeft;
+  /** The screen area top. */
+  private int mTop;
+  /** The screen area width. */
+  private int mWidth;
+  /** The screen area height. */
+  private int mHeight;
+  /** The visible range minimum on the X axis. */
+  private double mMinX;
+  /** The visible range maximum on the X axis. */
+  private double mMaxX;
+  /** The visible range minimum on the Y axis. */
+  private double mMinY;
+  /** The visible range maximum on the Y axis. */
+  private double mMaxY;
+  /** If there is no screen area yet, in which case the transform is the identity. */
+  private boolean mIdentity = true;
+  /** The number of pixels per unit on the X axis. */
+  private double mPixelsPerUnitX = 1;
+  /** The number of pixels per unit on the Y axis. */
+  private double mPixelsPerUnitY = 1;
+  /** The number of units per pixel on the X axis. */
+  private double mUnitsPerPixelX = 1;
+  /** The number of units per pixel on the Y axis. */
+  private double mUnitsPerPixelY = 1;
+
+  /**
+   * Updates the transform, if the screen area or the visible range changed.
+   *
+   * @param screen the screen area, null if not known yet
+   * @param minX the visible range minimum on the X axis
+   * @param maxX the visible range maximum on the X axis
+   * @param minY the visible range minimum on the Y axis
+   * @param maxY the visible range maximum on the Y axis
+   */
+  void update(Rect screen, double minX, double maxX, double minY, double maxY) {
+    if (screen == null) {
+      mIdentity = true;
+      return;
+    }
+    if (!mIdentity && mLeft == screen.left && mTop == screen.top && mWidth == screen.width()
+        && mHeight == screen.height() && mMinX == minX && mMaxX == maxX && mMinY == minY
+        && mMaxY == maxY) {
+      return;
+    }
+    mIdentity = false;
+    mLeft = screen.left;
+    mTop = screen.top;
+    mWidth = screen.width();
+    mHeight = screen.height();
+    mMinX = minX;
+    mMaxX = maxX;
+    mMinY = minY;
+    mMaxY = maxY;
+    mPixelsPerUnitX = mWidth / (maxX - minX);
+    mPixelsPerUnitY = mHeight / (maxY - minY);
+    mUnitsPerPixelX = (maxX - minX) / mWidth;
+    mUnitsPerPixelY = (maxY - minY) / mHeight;
+  }
+
+  /**
+   * Returns the visible range minimum on the X axis.
+   *
+   * @return the X axis minimum
+   */
+  public double getMinX() {
+    return mMinX;
+  }
+
+  /**
+   * Returns the visible range maximum on the Y axis.
+   *
+   * @return the Y axis maximum
+   */
+  public double getMaxY() {
+    return mMaxY;
+  }
+
+  /**
+   * Returns the number of pixels per unit on the X axis.
+   *
+   * @return the number of pixels per unit
+   */
+  public double getPixelsPerUnitX() {
+    return mPixelsPerUnitX;
+  }
+
+  /**
+   * Returns the number of pixels per unit on the Y axis.
+   *
+   * @return the number of pixels per unit
+   */
+  public double getPixelsPerUnitY() {
+    return mPixelsPerUnitY;
+  }
+
+  /**
+   * Transforms a real X value to a screen coordinate.
+   *
+   * @param x the real X value
+   * @return the screen X coordinate
+   */
+  public double toScreenX(double x) {
+    if (mIdentity) {
+      return x;
+    }
+    return (x - mMinX) * mPixelsPerUnitX + mLeft;
+  }
+
+  /**
+   * Transforms a real Y value to a screen coordinate.
+   *
+   * @param y the real Y value
+   * @return the screen Y coordinate
+   */
+  public double toScreenY(double y) {
+    if (mIdentity) {
+      return y;
+    }
+    return (mMaxY - y) * mPixelsPerUnitY + mTop;
+  }
+
+  /**
+   * Transforms a screen X coordinate to a real value.
+   *
+   * @param x the screen X coordinate
+   * @return the real X value
+   */
+  public double toRealX(float x) {
+    if (mIdentity) {
+      return x;
+    }
+    return (x - mLeft) * mUnitsPerPixelX + mMinX;
+  }
+
+  /**
+   * Transforms a screen Y coordinate to a real value.
+   *
+   * @param y the screen Y coordinate
+   * @return the real Y value
+   */
+  public double toRealY(float y) {
+    if (mIdentity) {
+      return y;
+    }
+    return (mTop + mHeight - y) * mUnitsPerPixelY + mMinY;
+  }
+
+  /**
+   * Transforms a real point to screen coordinates.
+   *
+   * @param x the real X value
+   * @param y the real Y value
+   * @param out an array that receives the screen coordinates
+   */
+  public void toScreenPoint(double x, double y, float[] out) {
+    out[0] = (float) toScreenX(x);
+    out[1] = (float) toScreenY(y);
+  }
+
+  /**
+   * Transforms a screen point to real values.
+   *
+   * @param x the screen X coordinate
+   * @param y the screen Y coordinate
+   * @param out an array that receives the real values
+   */
+  public void toRealPoint(float x, float y, double[] out) {
+    out[0] = toRealX(x);
+    out[1] = toRealY(y);
+  }
+
+  /**
+   * Transforms real X values to screen coordinates.
+   *
+   * @param in the real X values
+   * @param out an array that receives the screen X coordinates
+   * @param count the number of values to transform
+   */
+  public void toScreenX(double[] in, float[] out, int count) {
+    for (int i = 0; i < count; i++) {
+      out[i] = (float) toScreenX(in[i]);
+    }
+  }
+
+  /**
+   * Transforms real Y values to screen coordinates.
+   *
+   * @param in the real Y values
+   * @param out an array that receives the screen Y coordinates
+   * @param count the number of values to transform
+   */
+  public void toScreenY(double[] in, float[] out, int count) {
+    for (int i = 0; i < count; i++) {
+      out[i] = (float) toScreenY(in[i]);
+    }
+  }
+
+  /**
+   * Transforms interleaved real X and Y values to screen coordinates.
+   *
+   * @param in the real values, as X and Y pairs
+   * @param out an array that receives the screen coordinates, as X and Y pairs
+   * @param count the number of points to transform
+   */
+  public void toScreenPoints(double[] in, float[] out, int count) {
+    for (int i = 0; i < 2 * count; i += 2) {
+      out[i] = (float) toScreenX(in[i]);
+      out[i + 1] = (float) toScreenY(in[i + 1]);
+    }
+  }
+
+}
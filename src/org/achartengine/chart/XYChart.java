@@ -1,962 +1,1460 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- * 
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- * 
- *      http://www.apache.org/licenses/LICENSE-2.0
- * 
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.chart;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.SortedMap;
-
-import org.achartengine.model.Point;
-import org.achartengine.model.SeriesSelection;
-import org.achartengine.model.XYMultipleSeriesDataset;
-import org.achartengine.model.XYSeries;
-import org.achartengine.renderer.BasicStroke;
-import org.achartengine.renderer.DefaultRenderer;
-import org.achartengine.renderer.SimpleSeriesRenderer;
-import org.achartengine.renderer.XYMultipleSeriesRenderer;
-import org.achartengine.renderer.XYMultipleSeriesRenderer.Orientation;
-import org.achartengine.util.MathHelper;
-
-import android.graphics.Canvas;
-import android.graphics.DashPathEffect;
-import android.graphics.Paint;
-import android.graphics.Paint.Align;
-import android.graphics.Paint.Cap;
-import android.graphics.Paint.Join;
-import android.graphics.Paint.Style;
-import android.graphics.PathEffect;
-import android.graphics.Rect;
-import android.graphics.RectF;
-import android.graphics.Typeface;
-
-/**
- * The XY chart rendering class.
- */
-public abstract class XYChart extends AbstractChart {
-  /** The multiple series dataset. */
-  protected XYMultipleSeriesDataset mDataset;
-  /** The multiple series renderer. */
-  protected XYMultipleSeriesRenderer mRenderer;
-  /** The current scale value. */
-  private float mScale;
-  /** The current translate value. */
-  private float mTranslate;
-  /** The canvas center point. */
-  private Point mCenter;
-  /** The visible chart area, in screen coordinates. */
-  private Rect mScreenR;
-  /** The calculated range. */
-  private final Map<Integer, double[]> mCalcRange = new HashMap<Integer, double[]>();
-
-  /**
-   * The clickable areas for all points. The array index is the series index,
-   * and the RectF list index is the point index in that series.
-   */
-  private Map<Integer, List<ClickableArea>> clickableAreas = new HashMap<Integer, List<ClickableArea>>();
-
-  protected XYChart() {
-  }
-
-  /**
-   * Builds a new XY chart instance.
-   * 
-   * @param dataset the multiple series dataset
-   * @param renderer the multiple series renderer
-   */
-  public XYChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
-    mDataset = dataset;
-    mRenderer = renderer;
-  }
-
-  // TODO: javadoc
-  protected void setDatasetRenderer(XYMultipleSeriesDataset dataset,
-      XYMultipleSeriesRenderer renderer) {
-    mDataset = dataset;
-    mRenderer = renderer;
-  }
-
-  /**
-   * The graphical representation of the XY chart.
-   * 
-   * @param canvas the canvas to paint to
-   * @param x the top left x value of the view to draw to
-   * @param y the top left y value of the view to draw to
-   * @param width the width of the view to draw to
-   * @param height the height of the view to draw to
-   * @param paint the paint
-   */
-  public void draw(Canvas canvas, int x, int y, int width, int height, Paint paint) {
-    paint.setAntiAlias(mRenderer.isAntialiasing());
-    int legendSize = getLegendSize(mRenderer, height / 5, mRenderer.getAxisTitleTextSize());
-    int[] margins = mRenderer.getMargins();
-    int left = x + margins[1];
-    int top = y + margins[0];
-    int right = x + width - margins[3];
-    int sLength = mDataset.getSeriesCount();
-    String[] titles = new String[sLength];
-    for (int i = 0; i < sLength; i++) {
-      titles[i] = mDataset.getSeriesAt(i).getTitle();
-    }
-    if (mRenderer.isFitLegend() && mRenderer.isShowLegend()) {
-      legendSize = drawLegend(canvas, mRenderer, titles, left, right, y, width, height, legendSize,
-          paint, true);
-    }
-    int bottom = y + height - margins[2] - legendSize;
-    if (mScreenR == null) {
-      mScreenR = new Rect();
-    }
-    mScreenR.set(left, top, right, bottom);
-    drawBackground(mRenderer, canvas, x, y, width, height, paint, false, DefaultRenderer.NO_COLOR);
-
-    if (paint.getTypeface() == null
-        || (mRenderer.getTextTypeface() != null && paint.getTypeface().equals(
-            mRenderer.getTextTypeface()))
-        || !paint.getTypeface().toString().equals(mRenderer.getTextTypefaceName())
-        || paint.getTypeface().getStyle() != mRenderer.getTextTypefaceStyle()) {
-      if (mRenderer.getTextTypeface() != null) {
-        paint.setTypeface(mRenderer.getTextTypeface());
-      } else {
-        paint.setTypeface(Typeface.create(mRenderer.getTextTypefaceName(),
-            mRenderer.getTextTypefaceStyle()));
-      }
-    }
-    Orientation or = mRenderer.getOrientation();
-    if (or == Orientation.VERTICAL) {
-      right -= legendSize;
-      bottom += legendSize - 20;
-    }
-    int angle = or.getAngle();
-    boolean rotate = angle == 90;
-    mScale = (float) (height) / width;
-    mTranslate = Math.abs(width - height) / 2;
-    if (mScale < 1) {
-      mTranslate *= -1;
-    }
-    mCenter = new Point((x + width) / 2, (y + height) / 2);
-    if (rotate) {
-      transform(canvas, angle, false);
-    }
-
-    int maxScaleNumber = -Integer.MAX_VALUE;
-    for (int i = 0; i < sLength; i++) {
-      maxScaleNumber = Math.max(maxScaleNumber, mDataset.getSeriesAt(i).getScaleNumber());
-    }
-    maxScaleNumber++;
-    if (maxScaleNumber < 0) {
-      return;
-    }
-    double[] minX = new double[maxScaleNumber];
-    double[] maxX = new double[maxScaleNumber];
-    double[] minY = new double[maxScaleNumber];
-    double[] maxY = new double[maxScaleNumber];
-    boolean[] isMinXSet = new boolean[maxScaleNumber];
-    boolean[] isMaxXSet = new boolean[maxScaleNumber];
-    boolean[] isMinYSet = new boolean[maxScaleNumber];
-    boolean[] isMaxYSet = new boolean[maxScaleNumber];
-
-    for (int i = 0; i < maxScaleNumber; i++) {
-      minX[i] = mRenderer.getXAxisMin(i);
-      maxX[i] = mRenderer.getXAxisMax(i);
-      minY[i] = mRenderer.getYAxisMin(i);
-      maxY[i] = mRenderer.getYAxisMax(i);
-      isMinXSet[i] = mRenderer.isMinXSet(i);
-      isMaxXSet[i] = mRenderer.isMaxXSet(i);
-      isMinYSet[i] = mRenderer.isMinYSet(i);
-      isMaxYSet[i] = mRenderer.isMaxYSet(i);
-      if (mCalcRange.get(i) == null) {
-        mCalcRange.put(i, new double[4]);
-      }
-    }
-    double[] xPixelsPerUnit = new double[maxScaleNumber];
-    double[] yPixelsPerUnit = new double[maxScaleNumber];
-    for (int i = 0; i < sLength; i++) {
-      XYSeries series = mDataset.getSeriesAt(i);
-      int scale = series.getScaleNumber();
-      if (series.getItemCount() == 0) {
-        continue;
-      }
-      if (!isMinXSet[scale]) {
-        double minimumX = series.getMinX();
-        minX[scale] = Math.min(minX[scale], minimumX);
-        mCalcRange.get(scale)[0] = minX[scale];
-      }
-      if (!isMaxXSet[scale]) {
-        double maximumX = series.getMaxX();
-        maxX[scale] = Math.max(maxX[scale], maximumX);
-        mCalcRange.get(scale)[1] = maxX[scale];
-      }
-      if (!isMinYSet[scale]) {
-        double minimumY = series.getMinY();
-        minY[scale] = Math.min(minY[scale], (float) minimumY);
-        mCalcRange.get(scale)[2] = minY[scale];
-      }
-      if (!isMaxYSet[scale]) {
-        double maximumY = series.getMaxY();
-        maxY[scale] = Math.max(maxY[scale], (float) maximumY);
-        mCalcRange.get(scale)[3] = maxY[scale];
-      }
-    }
-    for (int i = 0; i < maxScaleNumber; i++) {
-      if (maxX[i] - minX[i] != 0) {
-        xPixelsPerUnit[i] = (right - left) / (maxX[i] - minX[i]);
-      }
-      if (maxY[i] - minY[i] != 0) {
-        yPixelsPerUnit[i] = (float) ((bottom - top) / (maxY[i] - minY[i]));
-      }
-    }
-
-    boolean hasValues = false;
-    // use a linked list for these reasons:
-    // 1) Avoid a large contiguous memory allocation
-    // 2) We don't need random seeking, only sequential reading/writing, so
-    // linked list makes sense
-    clickableAreas = new HashMap<Integer, List<ClickableArea>>();
-    for (int i = 0; i < sLength; i++) {
-      XYSeries series = mDataset.getSeriesAt(i);
-      int scale = series.getScaleNumber();
-      if (series.getItemCount() == 0) {
-        continue;
-      }
-
-      hasValues = true;
-      SimpleSeriesRenderer seriesRenderer = mRenderer.getSeriesRendererAt(i);
-
-      // int originalValuesLength = series.getItemCount();
-      // int valuesLength = originalValuesLength;
-      // int length = valuesLength * 2;
-
-      List<Float> points = new ArrayList<Float>();
-      List<Double> values = new ArrayList<Double>();
-      float yAxisValue = Math.min(bottom, (float) (bottom + yPixelsPerUnit[scale] * minY[scale]));
-      LinkedList<ClickableArea> clickableArea = new LinkedList<ClickableArea>();
-
-      clickableAreas.put(i, clickableArea);
-
-      synchronized (series) {
-        SortedMap<Double, Double> range = series.getRange(minX[scale], maxX[scale],
-            seriesRenderer.isDisplayBoundingPoints());
-        int startIndex = -1;
-
-        for (Entry<Double, Double> value : range.entrySet()) {
-          double xValue = value.getKey();
-          double yValue = value.getValue();
-          if (startIndex < 0 && (!isNullValue(yValue) || isRenderNullValues())) {
-            startIndex = series.getIndexForKey(xValue);
-          }
-
-          // points.add((float) (left + xPixelsPerUnit[scale]
-          // * (value.getKey().floatValue() - minX[scale])));
-          // points.add((float) (bottom - yPixelsPerUnit[scale]
-          // * (value.getValue().floatValue() - minY[scale])));
-          values.add(value.getKey());
-          values.add(value.getValue());
-
-          if (!isNullValue(yValue)) {
-            points.add((float) (left + xPixelsPerUnit[scale] * (xValue - minX[scale])));
-            points.add((float) (bottom - yPixelsPerUnit[scale] * (yValue - minY[scale])));
-          } else if (isRenderNullValues()) {
-            points.add((float) (left + xPixelsPerUnit[scale] * (xValue - minX[scale])));
-            points.add((float) (bottom - yPixelsPerUnit[scale] * (-minY[scale])));
-          } else {
-            if (points.size() > 0) {
-              drawSeries(series, canvas, paint, points, seriesRenderer, yAxisValue, i, or,
-                  startIndex);
-              ClickableArea[] clickableAreasForSubSeries = clickableAreasForPoints(points, values,
-                  yAxisValue, i, startIndex);
-              clickableArea.addAll(Arrays.asList(clickableAreasForSubSeries));
-              points.clear();
-              values.clear();
-              startIndex = -1;
-            }
-            clickableArea.add(null);
-          }
-        }
-
-        int count = series.getAnnotationCount();
-        if (count > 0) {
-          paint.setColor(mRenderer.getLabelsColor());
-          Rect bound = new Rect();
-          for (int j = 0; j < count; j++) {
-            float xS = (float) (left + xPixelsPerUnit[scale]
-                * (series.getAnnotationX(j) - minX[scale]));
-            float yS = (float) (bottom - yPixelsPerUnit[scale]
-                * (series.getAnnotationY(j) - minY[scale]));
-            paint.getTextBounds(series.getAnnotationAt(j), 0, series.getAnnotationAt(j).length(),
-                bound);
-            if (xS < (xS + bound.width()) && yS < canvas.getHeight()) {
-              drawString(canvas, series.getAnnotationAt(j), xS, yS, paint);
-            }
-          }
-        }
-
-        if (points.size() > 0) {
-          drawSeries(series, canvas, paint, points, seriesRenderer, yAxisValue, i, or, startIndex);
-          ClickableArea[] clickableAreasForSubSeries = clickableAreasForPoints(points, values,
-              yAxisValue, i, startIndex);
-          clickableArea.addAll(Arrays.asList(clickableAreasForSubSeries));
-        }
-      }
-    }
-    // draw stuff over the margins such as data doesn't render on these areas
-    drawBackground(mRenderer, canvas, x, bottom, width, height - bottom, paint, true,
-        mRenderer.getMarginsColor());
-    drawBackground(mRenderer, canvas, x, y, width, margins[0], paint, true,
-        mRenderer.getMarginsColor());
-    if (or == Orientation.HORIZONTAL) {
-      drawBackground(mRenderer, canvas, x, y, left - x, height - y, paint, true,
-          mRenderer.getMarginsColor());
-      drawBackground(mRenderer, canvas, right, y, margins[3], height - y, paint, true,
-          mRenderer.getMarginsColor());
-    } else if (or == Orientation.VERTICAL) {
-      drawBackground(mRenderer, canvas, right, y, width - right, height - y, paint, true,
-          mRenderer.getMarginsColor());
-      drawBackground(mRenderer, canvas, x, y, left - x, height - y, paint, true,
-          mRenderer.getMarginsColor());
-    }
-
-    boolean showLabels = mRenderer.isShowLabels() && hasValues;
-    boolean showGridX = mRenderer.isShowGridX();
-    boolean showCustomTextGrid = mRenderer.isShowCustomTextGrid();
-    if (showLabels || showGridX) {
-      List<Double> xLabels = getValidLabels(getXLabels(minX[0], maxX[0], mRenderer.getXLabels()));
-      Map<Integer, List<Double>> allYLabels = getYLabels(minY, maxY, maxScaleNumber);
-
-      int xLabelsLeft = left;
-      if (showLabels) {
-        paint.setColor(mRenderer.getXLabelsColor());
-        paint.setTextSize(mRenderer.getLabelsTextSize());
-        paint.setTextAlign(mRenderer.getXLabelsAlign());
-        if (mRenderer.getXLabelsAlign() == Align.LEFT) {
-          xLabelsLeft += mRenderer.getLabelsTextSize() / 4;
-        }
-      }
-      drawXLabels(xLabels, mRenderer.getXTextLabelLocations(), canvas, paint, xLabelsLeft, top,
-          bottom, xPixelsPerUnit[0], minX[0], maxX[0]);
-      drawYLabels(allYLabels, canvas, paint, maxScaleNumber, left, right, bottom, yPixelsPerUnit,
-          minY);
-
-      if (showLabels) {
-        paint.setColor(mRenderer.getLabelsColor());
-        for (int i = 0; i < maxScaleNumber; i++) {
-          Align axisAlign = mRenderer.getYAxisAlign(i);
-          Double[] yTextLabelLocations = mRenderer.getYTextLabelLocations(i);
-          for (Double location : yTextLabelLocations) {
-            if (minY[i] <= location && location <= maxY[i]) {
-              float yLabel = (float) (bottom - yPixelsPerUnit[i]
-                  * (location.doubleValue() - minY[i]));
-              String label = mRenderer.getYTextLabel(location, i);
-              paint.setColor(mRenderer.getYLabelsColor(i));
-              paint.setTextAlign(mRenderer.getYLabelsAlign(i));
-              if (or == Orientation.HORIZONTAL) {
-                if (axisAlign == Align.LEFT) {
-                  canvas.drawLine(left + getLabelLinePos(axisAlign), yLabel, left, yLabel, paint);
-                  drawText(canvas, label, left, yLabel - 2, paint, mRenderer.getYLabelsAngle());
-                } else {
-                  canvas.drawLine(right, yLabel, right + getLabelLinePos(axisAlign), yLabel, paint);
-                  drawText(canvas, label, right, yLabel - 2, paint, mRenderer.getYLabelsAngle());
-                }
-
-                if (showCustomTextGrid) {
-                  paint.setColor(mRenderer.getGridColor());
-                  canvas.drawLine(left, yLabel, right, yLabel, paint);
-                }
-              } else {
-                canvas.drawLine(right - getLabelLinePos(axisAlign), yLabel, right, yLabel, paint);
-                drawText(canvas, label, right + 10, yLabel - 2, paint, mRenderer.getYLabelsAngle());
-                if (showCustomTextGrid) {
-                  paint.setColor(mRenderer.getGridColor());
-                  canvas.drawLine(right, yLabel, left, yLabel, paint);
-                }
-              }
-            }
-          }
-        }
-      }
-
-      if (showLabels) {
-        paint.setColor(mRenderer.getLabelsColor());
-        float size = mRenderer.getAxisTitleTextSize();
-        paint.setTextSize(size);
-        paint.setTextAlign(Align.CENTER);
-        if (or == Orientation.HORIZONTAL) {
-          drawText(
-              canvas,
-              mRenderer.getXTitle(),
-              x + width / 2,
-              bottom + mRenderer.getLabelsTextSize() * 4 / 3 + mRenderer.getXLabelsPadding() + size,
-              paint, 0);
-          for (int i = 0; i < maxScaleNumber; i++) {
-            Align axisAlign = mRenderer.getYAxisAlign(i);
-            if (axisAlign == Align.LEFT) {
-              drawText(canvas, mRenderer.getYTitle(i), x + size, y + height / 2, paint, -90);
-            } else {
-              drawText(canvas, mRenderer.getYTitle(i), x + width, y + height / 2, paint, -90);
-            }
-          }
-          paint.setTextSize(mRenderer.getChartTitleTextSize());
-          drawText(canvas, mRenderer.getChartTitle(), x + width / 2,
-              y + mRenderer.getChartTitleTextSize(), paint, 0);
-        } else if (or == Orientation.VERTICAL) {
-          drawText(canvas, mRenderer.getXTitle(), x + width / 2,
-              y + height - size + mRenderer.getXLabelsPadding(), paint, -90);
-          drawText(canvas, mRenderer.getYTitle(), right + 20, y + height / 2, paint, 0);
-          paint.setTextSize(mRenderer.getChartTitleTextSize());
-          drawText(canvas, mRenderer.getChartTitle(), x + size, top + height / 2, paint, 0);
-        }
-      }
-    }
-    if (or == Orientation.HORIZONTAL) {
-      drawLegend(canvas, mRenderer, titles, left, right, y + (int) mRenderer.getXLabelsPadding(),
-          width, height, legendSize, paint, false);
-    } else if (or == Orientation.VERTICAL) {
-      transform(canvas, angle, true);
-      drawLegend(canvas, mRenderer, titles, left, right, y + (int) mRenderer.getXLabelsPadding(),
-          width, height, legendSize, paint, false);
-      transform(canvas, angle, false);
-    }
-    if (mRenderer.isShowAxes()) {
-      paint.setColor(mRenderer.getAxesColor());
-      canvas.drawLine(left, bottom, right, bottom, paint);
-      boolean rightAxis = false;
-      for (int i = 0; i < maxScaleNumber && !rightAxis; i++) {
-        rightAxis = mRenderer.getYAxisAlign(i) == Align.RIGHT;
-      }
-      if (or == Orientation.HORIZONTAL) {
-        canvas.drawLine(left, top, left, bottom, paint);
-        if (rightAxis) {
-          canvas.drawLine(right, top, right, bottom, paint);
-        }
-      } else if (or == Orientation.VERTICAL) {
-        canvas.drawLine(right, top, right, bottom, paint);
-      }
-    }
-    if (rotate) {
-      transform(canvas, angle, true);
-    }
-  }
-
-  protected List<Double> getXLabels(double min, double max, int count) {
-    return MathHelper.getLabels(min, max, count);
-  }
-
-  protected Map<Integer, List<Double>> getYLabels(double[] minY, double[] maxY, int maxScaleNumber) {
-    Map<Integer, List<Double>> allYLabels = new HashMap<Integer, List<Double>>();
-    for (int i = 0; i < maxScaleNumber; i++) {
-      allYLabels.put(i,
-          getValidLabels(MathHelper.getLabels(minY[i], maxY[i], mRenderer.getYLabels())));
-    }
-    return allYLabels;
-  }
-
-  protected Rect getScreenR() {
-    return mScreenR;
-  }
-
-  protected void setScreenR(Rect screenR) {
-    mScreenR = screenR;
-  }
-
-  private List<Double> getValidLabels(List<Double> labels) {
-    List<Double> result = new ArrayList<Double>(labels);
-    for (Double label : labels) {
-      if (label.isNaN()) {
-        result.remove(label);
-      }
-    }
-    return result;
-  }
-
-  /**
-   * Draws the series.
-   * 
-   * @param series the series
-   * @param canvas the canvas
-   * @param paint the paint object
-   * @param pointsList the points to be rendered
-   * @param seriesRenderer the series renderer
-   * @param yAxisValue the y axis value in pixels
-   * @param seriesIndex the series index
-   * @param or the orientation
-   * @param startIndex the start index of the rendering points
-   */
-  protected void drawSeries(XYSeries series, Canvas canvas, Paint paint, List<Float> pointsList,
-      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, Orientation or,
-      int startIndex) {
-    BasicStroke stroke = seriesRenderer.getStroke();
-    Cap cap = paint.getStrokeCap();
-    Join join = paint.getStrokeJoin();
-    float miter = paint.getStrokeMiter();
-    PathEffect pathEffect = paint.getPathEffect();
-    Style style = paint.getStyle();
-    if (stroke != null) {
-      PathEffect effect = null;
-      if (stroke.getIntervals() != null) {
-        effect = new DashPathEffect(stroke.getIntervals(), stroke.getPhase());
-      }
-      setStroke(stroke.getCap(), stroke.getJoin(), stroke.getMiter(), Style.FILL_AND_STROKE,
-          effect, paint);
-    }
-    // float[] points = MathHelper.getFloats(pointsList);
-    drawSeries(canvas, paint, pointsList, seriesRenderer, yAxisValue, seriesIndex, startIndex);
-    if (isRenderPoints(seriesRenderer)) {
-      ScatterChart pointsChart = getPointsChart();
-      if (pointsChart != null) {
-        pointsChart.drawSeries(canvas, paint, pointsList, seriesRenderer, yAxisValue, seriesIndex,
-            startIndex);
-      }
-    }
-    paint.setTextSize(seriesRenderer.getChartValuesTextSize());
-    if (or == Orientation.HORIZONTAL) {
-      paint.setTextAlign(Align.CENTER);
-    } else {
-      paint.setTextAlign(Align.LEFT);
-    }
-    if (seriesRenderer.isDisplayChartValues()) {
-      paint.setTextAlign(seriesRenderer.getChartValuesTextAlign());
-      drawChartValuesText(canvas, series, seriesRenderer, paint, pointsList, seriesIndex,
-          startIndex);
-    }
-    if (stroke != null) {
-      setStroke(cap, join, miter, style, pathEffect, paint);
-    }
-  }
-
-  private void setStroke(Cap cap, Join join, float miter, Style style, PathEffect pathEffect,
-      Paint paint) {
-    paint.setStrokeCap(cap);
-    paint.setStrokeJoin(join);
-    paint.setStrokeMiter(miter);
-    paint.setPathEffect(pathEffect);
-    paint.setStyle(style);
-  }
-
-  /**
-   * The graphical representation of the series values as text.
-   * 
-   * @param canvas the canvas to paint to
-   * @param series the series to be painted
-   * @param renderer the series renderer
-   * @param paint the paint to be used for drawing
-   * @param points the array of points to be used for drawing the series
-   * @param seriesIndex the index of the series currently being drawn
-   * @param startIndex the start index of the rendering points
-   */
-  protected void drawChartValuesText(Canvas canvas, XYSeries series, SimpleSeriesRenderer renderer,
-      Paint paint, List<Float> points, int seriesIndex, int startIndex) {
-    if (points.size() > 1) { // there are more than one point
-      // record the first point's position
-      float previousPointX = points.get(0);
-      float previousPointY = points.get(1);
-      for (int k = 0; k < points.size(); k += 2) {
-        if (k == 2) { // decide whether to display first two points' values or
-                      // not
-          if (Math.abs(points.get(2) - points.get(0)) > renderer.getDisplayChartValuesDistance()
-              || Math.abs(points.get(3) - points.get(1)) > renderer.getDisplayChartValuesDistance()) {
-            // first point
-            drawText(canvas, getLabel(renderer.getChartValuesFormat(), series.getY(startIndex)),
-                points.get(0), points.get(1) - renderer.getChartValuesSpacing(), paint, 0);
-            // second point
-            drawText(canvas,
-                getLabel(renderer.getChartValuesFormat(), series.getY(startIndex + 1)),
-                points.get(2), points.get(3) - renderer.getChartValuesSpacing(), paint, 0);
-
-            previousPointX = points.get(2);
-            previousPointY = points.get(3);
-          }
-        } else if (k > 2) {
-          // compare current point's position with the previous point's, if they
-          // are not too close, display
-          if (Math.abs(points.get(k) - previousPointX) > renderer.getDisplayChartValuesDistance()
-              || Math.abs(points.get(k + 1) - previousPointY) > renderer
-                  .getDisplayChartValuesDistance()) {
-            drawText(canvas,
-                getLabel(renderer.getChartValuesFormat(), series.getY(startIndex + k / 2)),
-                points.get(k), points.get(k + 1) - renderer.getChartValuesSpacing(), paint, 0);
-            previousPointX = points.get(k);
-            previousPointY = points.get(k + 1);
-          }
-        }
-      }
-    } else { // if only one point, display it
-      for (int k = 0; k < points.size(); k += 2) {
-        drawText(canvas,
-            getLabel(renderer.getChartValuesFormat(), series.getY(startIndex + k / 2)),
-            points.get(k), points.get(k + 1) - renderer.getChartValuesSpacing(), paint, 0);
-      }
-    }
-  }
-
-  /**
-   * The graphical representation of a text, to handle both HORIZONTAL and
-   * VERTICAL orientations and extra rotation angles.
-   * 
-   * @param canvas the canvas to paint to
-   * @param text the text to be rendered
-   * @param x the X axis location of the text
-   * @param y the Y axis location of the text
-   * @param paint the paint to be used for drawing
-   * @param extraAngle the text angle
-   */
-  protected void drawText(Canvas canvas, String text, float x, float y, Paint paint,
-      float extraAngle) {
-    float angle = -mRenderer.getOrientation().getAngle() + extraAngle;
-    if (angle != 0) {
-      // canvas.scale(1 / mScale, mScale);
-      canvas.rotate(angle, x, y);
-    }
-    drawString(canvas, text, x, y, paint);
-    if (angle != 0) {
-      canvas.rotate(-angle, x, y);
-      // canvas.scale(mScale, 1 / mScale);
-    }
-  }
-
-  /**
-   * Transform the canvas such as it can handle both HORIZONTAL and VERTICAL
-   * orientations.
-   * 
-   * @param canvas the canvas to paint to
-   * @param angle the angle of rotation
-   * @param inverse if the inverse transform needs to be applied
-   */
-  private void transform(Canvas canvas, float angle, boolean inverse) {
-    if (inverse) {
-      canvas.scale(1 / mScale, mScale);
-      canvas.translate(mTranslate, -mTranslate);
-      canvas.rotate(-angle, mCenter.getX(), mCenter.getY());
-    } else {
-      canvas.rotate(angle, mCenter.getX(), mCenter.getY());
-      canvas.translate(-mTranslate, mTranslate);
-      canvas.scale(mScale, 1 / mScale);
-    }
-  }
-
-  /**
-   * The graphical representation of the labels on the X axis.
-   * 
-   * @param xLabels the X labels values
-   * @param xTextLabelLocations the X text label locations
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param left the left value of the labels area
-   * @param top the top value of the labels area
-   * @param bottom the bottom value of the labels area
-   * @param xPixelsPerUnit the amount of pixels per one unit in the chart labels
-   * @param minX the minimum value on the X axis in the chart
-   * @param maxX the maximum value on the X axis in the chart
-   */
-  protected void drawXLabels(List<Double> xLabels, Double[] xTextLabelLocations, Canvas canvas,
-      Paint paint, int left, int top, int bottom, double xPixelsPerUnit, double minX, double maxX) {
-    int length = xLabels.size();
-    boolean showLabels = mRenderer.isShowLabels();
-    boolean showGridY = mRenderer.isShowGridY();
-    for (int i = 0; i < length; i++) {
-      double label = xLabels.get(i);
-      float xLabel = (float) (left + xPixelsPerUnit * (label - minX));
-      if (showLabels) {
-        paint.setColor(mRenderer.getXLabelsColor());
-        canvas.drawLine(xLabel, bottom, xLabel, bottom + mRenderer.getLabelsTextSize() / 3, paint);
-        drawText(canvas, getLabel(mRenderer.getLabelFormat(), label), xLabel,
-            bottom + mRenderer.getLabelsTextSize() * 4 / 3 + mRenderer.getXLabelsPadding(), paint,
-            mRenderer.getXLabelsAngle());
-      }
-      if (showGridY) {
-        paint.setColor(mRenderer.getGridColor());
-        canvas.drawLine(xLabel, bottom, xLabel, top, paint);
-      }
-    }
-    drawXTextLabels(xTextLabelLocations, canvas, paint, showLabels, left, top, bottom,
-        xPixelsPerUnit, minX, maxX);
-  }
-
-  /**
-   * The graphical representation of the labels on the Y axis.
-   * 
-   * @param allYLabels the Y labels values
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param maxScaleNumber the maximum scale number
-   * @param left the left value of the labels area
-   * @param right the right value of the labels area
-   * @param bottom the bottom value of the labels area
-   * @param yPixelsPerUnit the amount of pixels per one unit in the chart labels
-   * @param minY the minimum value on the Y axis in the chart
-   */
-  protected void drawYLabels(Map<Integer, List<Double>> allYLabels, Canvas canvas, Paint paint,
-      int maxScaleNumber, int left, int right, int bottom, double[] yPixelsPerUnit, double[] minY) {
-    Orientation or = mRenderer.getOrientation();
-    boolean showGridX = mRenderer.isShowGridX();
-    boolean showLabels = mRenderer.isShowLabels();
-    for (int i = 0; i < maxScaleNumber; i++) {
-      paint.setTextAlign(mRenderer.getYLabelsAlign(i));
-      List<Double> yLabels = allYLabels.get(i);
-      int length = yLabels.size();
-      for (int j = 0; j < length; j++) {
-        double label = yLabels.get(j);
-        Align axisAlign = mRenderer.getYAxisAlign(i);
-        boolean textLabel = mRenderer.getYTextLabel(label, i) != null;
-        float yLabel = (float) (bottom - yPixelsPerUnit[i] * (label - minY[i]));
-        if (or == Orientation.HORIZONTAL) {
-          if (showLabels && !textLabel) {
-            paint.setColor(mRenderer.getYLabelsColor(i));
-            if (axisAlign == Align.LEFT) {
-              canvas.drawLine(left + getLabelLinePos(axisAlign), yLabel, left, yLabel, paint);
-              drawText(canvas, getLabel(mRenderer.getLabelFormat(), label),
-                  left - mRenderer.getYLabelsPadding(),
-                  yLabel - mRenderer.getYLabelsVerticalPadding(), paint,
-                  mRenderer.getYLabelsAngle());
-            } else {
-              canvas.drawLine(right, yLabel, right + getLabelLinePos(axisAlign), yLabel, paint);
-              drawText(canvas, getLabel(mRenderer.getLabelFormat(), label),
-                  right + mRenderer.getYLabelsPadding(),
-                  yLabel - mRenderer.getYLabelsVerticalPadding(), paint,
-                  mRenderer.getYLabelsAngle());
-            }
-          }
-          if (showGridX) {
-            paint.setColor(mRenderer.getGridColor());
-            canvas.drawLine(left, yLabel, right, yLabel, paint);
-          }
-        } else if (or == Orientation.VERTICAL) {
-          if (showLabels && !textLabel) {
-            paint.setColor(mRenderer.getYLabelsColor(i));
-            canvas.drawLine(right - getLabelLinePos(axisAlign), yLabel, right, yLabel, paint);
-            drawText(canvas, getLabel(mRenderer.getLabelFormat(), label),
-                right + 10 + mRenderer.getYLabelsPadding(), yLabel - 2, paint,
-                mRenderer.getYLabelsAngle());
-          }
-          if (showGridX) {
-            paint.setColor(mRenderer.getGridColor());
-            canvas.drawLine(right, yLabel, left, yLabel, paint);
-          }
-        }
-      }
-    }
-  }
-
-  /**
-   * The graphical representation of the text labels on the X axis.
-   * 
-   * @param xTextLabelLocations the X text label locations
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param left the left value of the labels area
-   * @param top the top value of the labels area
-   * @param bottom the bottom value of the labels area
-   * @param xPixelsPerUnit the amount of pixels per one unit in the chart labels
-   * @param minX the minimum value on the X axis in the chart
-   * @param maxX the maximum value on the X axis in the chart
-   */
-  protected void drawXTextLabels(Double[] xTextLabelLocations, Canvas canvas, Paint paint,
-      boolean showLabels, int left, int top, int bottom, double xPixelsPerUnit, double minX,
-      double maxX) {
-    boolean showCustomTextGrid = mRenderer.isShowCustomTextGrid();
-    if (showLabels) {
-      paint.setColor(mRenderer.getXLabelsColor());
-      for (Double location : xTextLabelLocations) {
-        if (minX <= location && location <= maxX) {
-          float xLabel = (float) (left + xPixelsPerUnit * (location.doubleValue() - minX));
-          paint.setColor(mRenderer.getXLabelsColor());
-          canvas
-              .drawLine(xLabel, bottom, xLabel, bottom + mRenderer.getLabelsTextSize() / 3, paint);
-          drawText(canvas, mRenderer.getXTextLabel(location), xLabel,
-              bottom + mRenderer.getLabelsTextSize() * 4 / 3, paint, mRenderer.getXLabelsAngle());
-          if (showCustomTextGrid) {
-            paint.setColor(mRenderer.getGridColor());
-            canvas.drawLine(xLabel, bottom, xLabel, top, paint);
-          }
-        }
-      }
-    }
-  }
-
-  // TODO: docs
-  public XYMultipleSeriesRenderer getRenderer() {
-    return mRenderer;
-  }
-
-  public XYMultipleSeriesDataset getDataset() {
-    return mDataset;
-  }
-
-  public double[] getCalcRange(int scale) {
-    return mCalcRange.get(scale);
-  }
-
-  public void setCalcRange(double[] range, int scale) {
-    mCalcRange.put(scale, range);
-  }
-
-  public double[] toRealPoint(float screenX, float screenY) {
-    return toRealPoint(screenX, screenY, 0);
-  }
-
-  public double[] toScreenPoint(double[] realPoint) {
-    return toScreenPoint(realPoint, 0);
-  }
-
-  private int getLabelLinePos(Align align) {
-    int pos = 4;
-    if (align == Align.LEFT) {
-      pos = -pos;
-    }
-    return pos;
-  }
-
-  /**
-   * Transforms a screen point to a real coordinates point.
-   * 
-   * @param screenX the screen x axis value
-   * @param screenY the screen y axis value
-   * @return the real coordinates point
-   */
-  public double[] toRealPoint(float screenX, float screenY, int scale) {
-    double realMinX = mRenderer.getXAxisMin(scale);
-    double realMaxX = mRenderer.getXAxisMax(scale);
-    double realMinY = mRenderer.getYAxisMin(scale);
-    double realMaxY = mRenderer.getYAxisMax(scale);
-    if (mScreenR != null) {
-      return new double[] {
-          (screenX - mScreenR.left) * (realMaxX - realMinX) / mScreenR.width() + realMinX,
-          (mScreenR.top + mScreenR.height() - screenY) * (realMaxY - realMinY) / mScreenR.height()
-              + realMinY };
-    } else {
-      return new double[] { screenX, screenY };
-    }
-  }
-
-  public double[] toScreenPoint(double[] realPoint, int scale) {
-    double realMinX = mRenderer.getXAxisMin(scale);
-    double realMaxX = mRenderer.getXAxisMax(scale);
-    double realMinY = mRenderer.getYAxisMin(scale);
-    double realMaxY = mRenderer.getYAxisMax(scale);
-    if (!mRenderer.isMinXSet(scale) || !mRenderer.isMaxXSet(scale) || !mRenderer.isMinXSet(scale)
-        || !mRenderer.isMaxYSet(scale)) {
-      double[] calcRange = getCalcRange(scale);
-      realMinX = calcRange[0];
-      realMaxX = calcRange[1];
-      realMinY = calcRange[2];
-      realMaxY = calcRange[3];
-    }
-    if (mScreenR != null) {
-      return new double[] {
-          (realPoint[0] - realMinX) * mScreenR.width() / (realMaxX - realMinX) + mScreenR.left,
-          (realMaxY - realPoint[1]) * mScreenR.height() / (realMaxY - realMinY) + mScreenR.top };
-    } else {
-      return realPoint;
-    }
-  }
-
-  public SeriesSelection getSeriesAndPointForScreenCoordinate(final Point screenPoint) {
-    if (clickableAreas != null)
-      for (int seriesIndex = clickableAreas.size() - 1; seriesIndex >= 0; seriesIndex--) {
-        // series 0 is drawn first. Then series 1 is drawn on top, and series 2
-        // on top of that.
-        // we want to know what the user clicked on, so traverse them in the
-        // order they appear on the screen.
-        int pointIndex = 0;
-        if (clickableAreas.get(seriesIndex) != null) {
-          RectF rectangle;
-          for (ClickableArea area : clickableAreas.get(seriesIndex)) {
-            if (area != null) {
-              rectangle = area.getRect();
-              if (rectangle != null && rectangle.contains(screenPoint.getX(), screenPoint.getY())) {
-                return new SeriesSelection(seriesIndex, pointIndex, area.getX(), area.getY());
-              }
-            }
-            pointIndex++;
-          }
-        }
-      }
-    return super.getSeriesAndPointForScreenCoordinate(screenPoint);
-  }
-
-  /**
-   * The graphical representation of a series.
-   * 
-   * @param canvas the canvas to paint to
-   * @param paint the paint to be used for drawing
-   * @param points the array of points to be used for drawing the series
-   * @param seriesRenderer the series renderer
-   * @param yAxisValue the minimum value of the y axis
-   * @param seriesIndex the index of the series currently being drawn
-   * @param startIndex the start index of the rendering points
-   */
-  public abstract void drawSeries(Canvas canvas, Paint paint, List<Float> points,
-      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, int startIndex);
-
-  /**
-   * Returns the clickable areas for all passed points
-   * 
-   * @param points the array of points
-   * @param values the array of values of each point
-   * @param yAxisValue the minimum value of the y axis
-   * @param seriesIndex the index of the series to which the points belong
-   * @return an array of rectangles with the clickable area
-   * @param startIndex the start index of the rendering points
-   */
-  protected abstract ClickableArea[] clickableAreasForPoints(List<Float> points,
-      List<Double> values, float yAxisValue, int seriesIndex, int startIndex);
-
-  /**
-   * Returns if the chart should display the null values.
-   * 
-   * @return if null values should be rendered
-   */
-  protected boolean isRenderNullValues() {
-    return false;
-  }
-
-  /**
-   * Returns if the chart should display the points as a certain shape.
-   * 
-   * @param renderer the series renderer
-   */
-  public boolean isRenderPoints(SimpleSeriesRenderer renderer) {
-    return false;
-  }
-
-  /**
-   * Returns the default axis minimum.
-   * 
-   * @return the default axis minimum
-   */
-  public double getDefaultMinimum() {
-    return MathHelper.NULL_VALUE;
-  }
-
-  /**
-   * Returns the scatter chart to be used for drawing the data points.
-   * 
-   * @return the data points scatter chart
-   */
-  public ScatterChart getPointsChart() {
-    return null;
-  }
-
-  /**
-   * Returns the chart type identifier.
-   * 
-   * @return the chart type
-   */
-  public abstract String getChartType();
-
-}
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.chart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.achartengine.model.CompressedXYSeries;
+import org.achartengine.model.Point;
+import org.achartengine.model.SeriesSelection;
+import org.achartengine.model.SharedXDataset;
+import org.achartengine.model.SharedXSeries;
+import org.achartengine.model.XYDataSourceSeries;
+import org.achartengine.model.XYMultipleSeriesDataset;
+import org.achartengine.model.XYSeries;
+import org.achartengine.renderer.BasicStroke;
+import org.achartengine.renderer.DefaultRenderer;
+import org.achartengine.renderer.SimpleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer;
+import org.achartengine.renderer.XYMultipleSeriesRenderer.Orientation;
+import org.achartengine.renderer.XYRendererStyle;
+import org.achartengine.util.ChartMetrics;
+import org.achartengine.util.LabelGrid;
+import org.achartengine.util.MathHelper;
+
+import android.graphics.Canvas;
+import android.graphics.DashPathEffect;
+import android.graphics.Paint;
+import android.graphics.Paint.Align;
+import android.graphics.Paint.Cap;
+import android.graphics.Paint.Join;
+import android.graphics.Paint.Style;
+import android.graphics.PathEffect;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+
+/**
+ * The XY chart rendering class.
+ */
+public abstract class XYChart extends AbstractChart {
+  /** The multiple series dataset. */
+  protected XYMultipleSeriesDataset mDataset;
+  /** The multiple series renderer. */
+  protected XYMultipleSeriesRenderer mRenderer;
+  /** The current scale value. */
+  private float mScale;
+  /** The current translate value. */
+  private float mTranslate;
+  /** The canvas center point. */
+  private Point mCenter;
+  /** The visible chart area, in screen coordinates. */
+  private Rect mScreenR;
+  /** The calculated range. */
+  private final Map<Integer, double[]> mCalcRange = new HashMap<Integer, double[]>();
+
+  /**
+   * The clickable areas for all points. The array index is the series index,
+   * and the RectF list index is the point index in that series.
+   */
+  private Map<Integer, List<ClickableArea>> clickableAreas = new HashMap<Integer, List<ClickableArea>>();
+  /**
+   * The bounds of the series values drawn in the current frame, null if the
+   * values are drawn without checking for overlaps.
+   */
+  protected transient LabelGrid mValueLabelGrid;
+  /** The candidate positions of a series value, reused to avoid allocations. */
+  private transient float[] mValueCandidates;
+  /** The viewport transform of each scale, created on first use. */
+  private transient ViewportTransform[] mTransforms;
+  /** The bitmap the series are drawn to while panning, created on first use. */
+  private transient PanLayer mPanLayer;
+  /** If the chart is being panned. */
+  private transient boolean mPanning;
+  /** The dataset version the pan bitmap was drawn with. */
+  private transient int mPanLayerVersion;
+  /** The X values of the series being drawn, reused between frames. */
+  private transient double[] mRangeXs;
+  /** The Y values of the series being drawn, reused between frames. */
+  private transient double[] mRangeYs;
+  /** The transform of the series being drawn, from the pan layer origin. */
+  protected transient ViewportTransform mValuesTransform;
+  /** The renderer style of the frame being drawn. */
+  private transient XYRendererStyle mStyle;
+  /** The Y range fitted to the visible X range, reused between frames. */
+  private final double[] mFitYRange = new double[2];
+  /** The index range found by the last search, as {start, end}. */
+  private final int[] mFoundRange = new int[2];
+  /** The shared X dataset the last search was made for, or null. */
+  private transient SharedXDataset mFoundDataset;
+  /** The X range the last search was made for, as {min, max}. */
+  private final double[] mFoundX = new double[2];
+  /** If the last search included the bounding points. */
+  private transient boolean mFoundBounding;
+
+  protected XYChart() {
+  }
+
+  /**
+   * Builds a new XY chart instance.
+   * 
+   * @param dataset the multiple series dataset
+   * @param renderer the multiple series renderer
+   */
+  public XYChart(XYMultipleSeriesDataset dataset, XYMultipleSeriesRenderer renderer) {
+    mDataset = dataset;
+    mRenderer = renderer;
+  }
+
+  // TODO: javadoc
+  protected void setDatasetRenderer(XYMultipleSeriesDataset dataset,
+      XYMultipleSeriesRenderer renderer) {
+    mDataset = dataset;
+    mRenderer = renderer;
+    mStyle = null;
+  }
+
+  /**
+   * The graphical representation of the XY chart.
+   * 
+   * @param canvas the canvas to paint to
+   * @param x the top left x value of the view to draw to
+   * @param y the top left y value of the view to draw to
+   * @param width the width of the view to draw to
+   * @param height the height of the view to draw to
+   * @param paint the paint
+   */
+  public void draw(Canvas canvas, int x, int y, int width, int height, Paint paint) {
+    if (mFrameMetrics == null && beginMetricsFrame() != null) {
+      try {
+        drawChart(canvas, x, y, width, height, paint);
+      } finally {
+        endMetricsFrame();
+      }
+    } else {
+      drawChart(canvas, x, y, width, height, paint);
+    }
+  }
+
+  /**
+   * Draws the chart, recording the phase metrics if a metrics frame is being
+   * recorded.
+   * 
+   * @param canvas the canvas to paint to
+   * @param x the top left x value of the view to draw to
+   * @param y the top left y value of the view to draw to
+   * @param width the width of the view to draw to
+   * @param height the height of the view to draw to
+   * @param paint the paint
+   */
+  private void drawChart(Canvas canvas, int x, int y, int width, int height, Paint paint) {
+    ChartMetrics metrics = mFrameMetrics;
+    long phaseStart = 0;
+    paint.setAntiAlias(mRenderer.isAntialiasing());
+    XYRendererStyle style = mRenderer.getStyle();
+    mStyle = style;
+    int legendSize = getLegendSize(mRenderer, height / 5, style.getAxisTitleTextSize());
+    int[] margins = mRenderer.getMargins();
+    int left = x + margins[1];
+    int top = y + margins[0];
+    int right = x + width - margins[3];
+    int sLength = mDataset.getSeriesCount();
+    String[] titles = new String[sLength];
+    for (int i = 0; i < sLength; i++) {
+      titles[i] = mDataset.getSeriesAt(i).getTitle();
+    }
+    if (mRenderer.isFitLegend() && mRenderer.isShowLegend()) {
+      if (metrics != null) {
+        phaseStart = System.nanoTime();
+      }
+      legendSize = drawLegend(canvas, mRenderer, titles, left, right, y, width, height, legendSize,
+          paint, true);
+      if (metrics != null) {
+        metrics.addPhaseTime(ChartMetrics.PHASE_LEGEND, System.nanoTime() - phaseStart);
+      }
+    }
+    int bottom = y + height - margins[2] - legendSize;
+    if (mScreenR == null) {
+      mScreenR = new Rect();
+    }
+    mScreenR.set(left, top, right, bottom);
+    drawBackground(mRenderer, canvas, x, y, width, height, paint, false, DefaultRenderer.NO_COLOR);
+
+    if (paint.getTypeface() == null
+        || (mRenderer.getTextTypeface() != null && paint.getTypeface().equals(
+            mRenderer.getTextTypeface()))
+        || !paint.getTypeface().toString().equals(mRenderer.getTextTypefaceName())
+        || paint.getTypeface().getStyle() != mRenderer.getTextTypefaceStyle()) {
+      if (mRenderer.getTextTypeface() != null) {
+        paint.setTypeface(mRenderer.getTextTypeface());
+      } else {
+        paint.setTypeface(Typeface.create(mRenderer.getTextTypefaceName(),
+            mRenderer.getTextTypefaceStyle()));
+      }
+    }
+    Orientation or = mRenderer.getOrientation();
+    if (or == Orientation.VERTICAL) {
+      right -= legendSize;
+      bottom += legendSize - 20;
+    }
+    int angle = or.getAngle();
+    boolean rotate = angle == 90;
+    mScale = (float) (height) / width;
+    mTranslate = Math.abs(width - height) / 2;
+    if (mScale < 1) {
+      mTranslate *= -1;
+    }
+    mCenter = new Point((x + width) / 2, (y + height) / 2);
+    if (rotate) {
+      transform(canvas, angle, false);
+    }
+
+    int maxScaleNumber = -Integer.MAX_VALUE;
+    for (int i = 0; i < sLength; i++) {
+      maxScaleNumber = Math.max(maxScaleNumber, mDataset.getSeriesAt(i).getScaleNumber());
+    }
+    maxScaleNumber++;
+    if (maxScaleNumber < 0) {
+      return;
+    }
+    if (metrics != null) {
+      phaseStart = System.nanoTime();
+    }
+    double[] minX = new double[maxScaleNumber];
+    double[] maxX = new double[maxScaleNumber];
+    double[] minY = new double[maxScaleNumber];
+    double[] maxY = new double[maxScaleNumber];
+    boolean[] isMinXSet = new boolean[maxScaleNumber];
+    boolean[] isMaxXSet = new boolean[maxScaleNumber];
+    boolean[] isMinYSet = new boolean[maxScaleNumber];
+    boolean[] isMaxYSet = new boolean[maxScaleNumber];
+
+    for (int i = 0; i < maxScaleNumber; i++) {
+      minX[i] = mRenderer.getXAxisMin(i);
+      maxX[i] = mRenderer.getXAxisMax(i);
+      minY[i] = mRenderer.getYAxisMin(i);
+      maxY[i] = mRenderer.getYAxisMax(i);
+      isMinXSet[i] = mRenderer.isMinXSet(i);
+      isMaxXSet[i] = mRenderer.isMaxXSet(i);
+      isMinYSet[i] = mRenderer.isMinYSet(i);
+      isMaxYSet[i] = mRenderer.isMaxYSet(i);
+      if (mCalcRange.get(i) == null) {
+        mCalcRange.put(i, new double[4]);
+      }
+    }
+    double[] xPixelsPerUnit = new double[maxScaleNumber];
+    double[] yPixelsPerUnit = new double[maxScaleNumber];
+    for (int i = 0; i < sLength; i++) {
+      XYSeries series = mDataset.getSeriesAt(i);
+      int scale = series.getScaleNumber();
+      if (series.getItemCount() == 0) {
+        continue;
+      }
+      if (!isMinXSet[scale]) {
+        double minimumX = series.getMinX();
+        minX[scale] = Math.min(minX[scale], minimumX);
+        mCalcRange.get(scale)[0] = minX[scale];
+      }
+      if (!isMaxXSet[scale]) {
+        double maximumX = series.getMaxX();
+        maxX[scale] = Math.max(maxX[scale], maximumX);
+        mCalcRange.get(scale)[1] = maxX[scale];
+      }
+      if (!isMinYSet[scale]) {
+        double minimumY = series.getMinY();
+        minY[scale] = Math.min(minY[scale], (float) minimumY);
+        mCalcRange.get(scale)[2] = minY[scale];
+      }
+      if (!isMaxYSet[scale]) {
+        double maximumY = series.getMaxY();
+        maxY[scale] = Math.max(maxY[scale], (float) maximumY);
+        mCalcRange.get(scale)[3] = maxY[scale];
+      }
+    }
+    if (mRenderer.isFitYToVisibleX()) {
+      double[] yRange = mFitYRange;
+      for (int i = 0; i < maxScaleNumber; i++) {
+        if (getYRange(i, minX[i], maxX[i], yRange)) {
+          minY[i] = yRange[0];
+          maxY[i] = yRange[1];
+          mCalcRange.get(i)[2] = minY[i];
+          mCalcRange.get(i)[3] = maxY[i];
+          // keep the range the tools work with in sync with the drawn one
+          if (isMinYSet[i] || isMaxYSet[i]) {
+            mRenderer.setYAxisMin(minY[i], i);
+            mRenderer.setYAxisMax(maxY[i], i);
+          }
+        }
+      }
+    }
+    for (int i = 0; i < maxScaleNumber; i++) {
+      if (maxX[i] - minX[i] != 0) {
+        xPixelsPerUnit[i] = (right - left) / (maxX[i] - minX[i]);
+      }
+      if (maxY[i] - minY[i] != 0) {
+        yPixelsPerUnit[i] = (float) ((bottom - top) / (maxY[i] - minY[i]));
+      }
+    }
+    if (metrics != null) {
+      metrics.addPhaseTime(ChartMetrics.PHASE_RANGE_SCAN, System.nanoTime() - phaseStart);
+    }
+
+    mValueLabelGrid = null;
+    if (mRenderer.getOrientation().getAngle() == 0) {
+      float valuesTextSize = 0;
+      for (int i = 0; i < sLength; i++) {
+        SimpleSeriesRenderer seriesRenderer = mRenderer.getSeriesRendererAt(i);
+        if (seriesRenderer.isDisplayChartValues()) {
+          valuesTextSize = Math.max(valuesTextSize, seriesRenderer.getChartValuesTextSize());
+        }
+      }
+      if (valuesTextSize > 0) {
+        mValueLabelGrid = resetLabelGrid(left, top, right, bottom, valuesTextSize * 2);
+      }
+    }
+
+    Canvas seriesCanvas = canvas;
+    double[] originX = minX;
+    double[] rangeMinX = minX;
+    double[] rangeMaxX = maxX;
+    boolean stripOnly = false;
+    PanLayer panLayer = null;
+    if (mRenderer.isPanBitmapCacheEnabled() && angle == 0 && isPanBitmapCacheSupported()) {
+      if (mPanLayer == null) {
+        mPanLayer = new PanLayer();
+      }
+      // the series drawn in the previous frame are outdated if the data changed
+      int version = mDataset.getVersion();
+      boolean allowShift = mPanning && version == mPanLayerVersion;
+      mPanLayerVersion = version;
+      if (mPanLayer.begin(mScreenR, maxScaleNumber, minX, minY, maxY, xPixelsPerUnit, allowShift)) {
+        // the series are drawn to the layer, only within the exposed strip
+        // when the layer could be shifted
+        panLayer = mPanLayer;
+        seriesCanvas = panLayer.getCanvas();
+        originX = panLayer.getOriginX();
+        rangeMinX = panLayer.getStripMinX();
+        rangeMaxX = panLayer.getStripMaxX();
+        stripOnly = panLayer.isShifted();
+      }
+    } else if (mPanLayer != null) {
+      mPanLayer.recycle();
+      mPanLayer = null;
+    }
+
+    boolean hasValues = false;
+    // use a linked list for these reasons:
+    // 1) Avoid a large contiguous memory allocation
+    // 2) We don't need random seeking, only sequential reading/writing, so
+    // linked list makes sense
+    clickableAreas = new HashMap<Integer, List<ClickableArea>>();
+    mFoundDataset = null;
+    for (int i = 0; i < sLength; i++) {
+      XYSeries series = mDataset.getSeriesAt(i);
+      int scale = series.getScaleNumber();
+      series = getDrawnSeries(series, i, xPixelsPerUnit[scale]);
+      if (series.getItemCount() == 0) {
+        continue;
+      }
+
+      hasValues = true;
+      SimpleSeriesRenderer seriesRenderer = mRenderer.getSeriesRendererAt(i);
+
+      // int originalValuesLength = series.getItemCount();
+      // int valuesLength = originalValuesLength;
+      // int length = valuesLength * 2;
+
+      List<Float> points = new ArrayList<Float>();
+      List<Double> values = new ArrayList<Double>();
+      float yAxisValue = Math.min(bottom, (float) (bottom + yPixelsPerUnit[scale] * minY[scale]));
+      LinkedList<ClickableArea> clickableArea = new LinkedList<ClickableArea>();
+
+      clickableAreas.put(i, clickableArea);
+
+      if (series instanceof XYDataSourceSeries) {
+        ((XYDataSourceSeries) series).requestWindow(minX[scale], maxX[scale], right - left);
+      }
+      synchronized (series) {
+        if (metrics != null) {
+          phaseStart = System.nanoTime();
+        }
+        findRange(series, rangeMinX[scale], rangeMaxX[scale],
+            stripOnly || seriesRenderer.isDisplayBoundingPoints());
+        int rangeStart = mFoundRange[0];
+        int rangeEnd = mFoundRange[1];
+        boolean summary = !seriesRenderer.isDisplayChartValues() && isValueSummarySupported(i);
+        int rangeLength = copyRange(series, rangeStart, rangeEnd, xPixelsPerUnit[scale], summary);
+        double[] rangeXs = mRangeXs;
+        double[] rangeYs = mRangeYs;
+        int startIndex = -1;
+        long pathNanos = 0;
+        if (metrics != null) {
+          long now = System.nanoTime();
+          metrics.addPhaseTime(ChartMetrics.PHASE_RANGE_SCAN, now - phaseStart);
+          metrics.addPointsScanned(rangeLength);
+          phaseStart = now;
+        }
+        int pointCount = rangeLength;
+        if (rangeLength > 0) {
+          if (mValuesTransform == null) {
+            mValuesTransform = new ViewportTransform();
+          }
+          mValuesTransform.update(mScreenR, originX[scale], originX[scale] + maxX[scale]
+              - minX[scale], minY[scale], maxY[scale]);
+          if (drawSeriesValues(seriesCanvas, paint, rangeXs, rangeYs, rangeLength, seriesRenderer,
+              mValuesTransform, i)) {
+            pointCount = 0;
+          }
+        }
+
+        for (int k = 0; k < pointCount; k++) {
+          double xValue = rangeXs[k];
+          double yValue = rangeYs[k];
+          if (startIndex < 0 && (!isNullValue(yValue) || isRenderNullValues())) {
+            startIndex = rangeStart + k;
+          }
+
+          // points.add((float) (left + xPixelsPerUnit[scale]
+          // * (value.getKey().floatValue() - minX[scale])));
+          // points.add((float) (bottom - yPixelsPerUnit[scale]
+          // * (value.getValue().floatValue() - minY[scale])));
+          values.add(xValue);
+          values.add(yValue);
+
+          if (!isNullValue(yValue)) {
+            points.add((float) (left + xPixelsPerUnit[scale] * (xValue - originX[scale])));
+            points.add((float) (bottom - yPixelsPerUnit[scale] * (yValue - minY[scale])));
+          } else if (isRenderNullValues()) {
+            points.add((float) (left + xPixelsPerUnit[scale] * (xValue - originX[scale])));
+            points.add((float) (bottom - yPixelsPerUnit[scale] * (-minY[scale])));
+          } else {
+            if (points.size() > 0) {
+              long pathStart = metrics != null ? System.nanoTime() : 0;
+              drawSeries(series, seriesCanvas, paint, points, seriesRenderer, yAxisValue, i, or,
+                  startIndex);
+              ClickableArea[] clickableAreasForSubSeries = clickableAreasForPoints(points, values,
+                  yAxisValue, i, startIndex);
+              clickableArea.addAll(Arrays.asList(clickableAreasForSubSeries));
+              if (metrics != null) {
+                pathNanos += System.nanoTime() - pathStart;
+                countDrawnPoints(metrics, points.size(), clickableAreasForSubSeries.length);
+              }
+              points.clear();
+              values.clear();
+              startIndex = -1;
+            }
+            clickableArea.add(null);
+          }
+        }
+
+        if (metrics != null) {
+          long now = System.nanoTime();
+          metrics.addPhaseTime(ChartMetrics.PHASE_PROJECTION, now - phaseStart - pathNanos);
+          metrics.addPhaseTime(ChartMetrics.PHASE_PATH_BUILD, pathNanos);
+          phaseStart = now;
+        }
+        int count = series.getAnnotationCount();
+        if (count > 0) {
+          paint.setColor(mRenderer.getLabelsColor());
+          for (int j = 0; j < count; j++) {
+            float xS = (float) (left + xPixelsPerUnit[scale]
+                * (series.getAnnotationX(j) - originX[scale]));
+            float yS = (float) (bottom - yPixelsPerUnit[scale]
+                * (series.getAnnotationY(j) - minY[scale]));
+            int boundsWidth = getTextLayout(series.getAnnotationAt(j), paint).getBoundsWidth();
+            if (xS < (xS + boundsWidth) && yS < seriesCanvas.getHeight()) {
+              drawString(seriesCanvas, series.getAnnotationAt(j), xS, yS, paint);
+            }
+          }
+        }
+
+        if (metrics != null) {
+          long now = System.nanoTime();
+          metrics.addPhaseTime(ChartMetrics.PHASE_LABELS, now - phaseStart);
+          phaseStart = now;
+        }
+        if (points.size() > 0) {
+          drawSeries(series, seriesCanvas, paint, points, seriesRenderer, yAxisValue, i, or,
+              startIndex);
+          ClickableArea[] clickableAreasForSubSeries = clickableAreasForPoints(points, values,
+              yAxisValue, i, startIndex);
+          clickableArea.addAll(Arrays.asList(clickableAreasForSubSeries));
+          if (metrics != null) {
+            countDrawnPoints(metrics, points.size(), clickableAreasForSubSeries.length);
+          }
+        }
+        if (metrics != null) {
+          metrics.addPhaseTime(ChartMetrics.PHASE_PATH_BUILD, System.nanoTime() - phaseStart);
+        }
+      }
+    }
+    if (panLayer != null) {
+      panLayer.end(canvas);
+    }
+    if (metrics != null) {
+      phaseStart = System.nanoTime();
+    }
+    // draw stuff over the margins such as data doesn't render on these areas
+    drawBackground(mRenderer, canvas, x, bottom, width, height - bottom, paint, true,
+        style.getMarginsColor());
+    drawBackground(mRenderer, canvas, x, y, width, margins[0], paint, true,
+        style.getMarginsColor());
+    if (or == Orientation.HORIZONTAL) {
+      drawBackground(mRenderer, canvas, x, y, left - x, height - y, paint, true,
+          style.getMarginsColor());
+      drawBackground(mRenderer, canvas, right, y, margins[3], height - y, paint, true,
+          style.getMarginsColor());
+    } else if (or == Orientation.VERTICAL) {
+      drawBackground(mRenderer, canvas, right, y, width - right, height - y, paint, true,
+          style.getMarginsColor());
+      drawBackground(mRenderer, canvas, x, y, left - x, height - y, paint, true,
+          style.getMarginsColor());
+    }
+
+    boolean showLabels = style.isShowLabels() && hasValues;
+    boolean showGridX = style.isShowGridX();
+    boolean showCustomTextGrid = style.isShowCustomTextGrid();
+    if (showLabels || showGridX) {
+      List<Double> xLabels = getValidLabels(getXLabels(minX[0], maxX[0], mRenderer.getXLabels()));
+      Map<Integer, List<Double>> allYLabels = getYLabels(minY, maxY, maxScaleNumber);
+
+      int xLabelsLeft = left;
+      if (showLabels) {
+        paint.setColor(style.getXLabelsColor());
+        paint.setTextSize(style.getLabelsTextSize());
+        paint.setTextAlign(style.getXLabelsAlign());
+        if (style.getXLabelsAlign() == Align.LEFT) {
+          xLabelsLeft += style.getLabelsTextSize() / 4;
+        }
+      }
+      drawXLabels(xLabels, style.getXTextLabelLocations(), canvas, paint, xLabelsLeft, top,
+          bottom, xPixelsPerUnit[0], minX[0], maxX[0]);
+      drawYLabels(allYLabels, canvas, paint, maxScaleNumber, left, right, bottom, yPixelsPerUnit,
+          minY);
+
+      if (showLabels) {
+        paint.setColor(style.getLabelsColor());
+        for (int i = 0; i < maxScaleNumber; i++) {
+          Align axisAlign = style.getYAxisAlign(i);
+          Double[] yTextLabelLocations = style.getYTextLabelLocations(i);
+          for (Double location : yTextLabelLocations) {
+            if (minY[i] <= location && location <= maxY[i]) {
+              float yLabel = (float) (bottom - yPixelsPerUnit[i]
+                  * (location.doubleValue() - minY[i]));
+              String label = style.getYTextLabel(location, i);
+              paint.setColor(style.getYLabelsColor(i));
+              paint.setTextAlign(style.getYLabelsAlign(i));
+              if (or == Orientation.HORIZONTAL) {
+                if (axisAlign == Align.LEFT) {
+                  canvas.drawLine(left + getLabelLinePos(axisAlign), yLabel, left, yLabel, paint);
+                  drawText(canvas, label, left, yLabel - 2, paint, style.getYLabelsAngle());
+                } else {
+                  canvas.drawLine(right, yLabel, right + getLabelLinePos(axisAlign), yLabel, paint);
+                  drawText(canvas, label, right, yLabel - 2, paint, style.getYLabelsAngle());
+                }
+
+                if (showCustomTextGrid) {
+                  paint.setColor(style.getGridColor());
+                  canvas.drawLine(left, yLabel, right, yLabel, paint);
+                }
+              } else {
+                canvas.drawLine(right - getLabelLinePos(axisAlign), yLabel, right, yLabel, paint);
+                drawText(canvas, label, right + 10, yLabel - 2, paint, style.getYLabelsAngle());
+                if (showCustomTextGrid) {
+                  paint.setColor(style.getGridColor());
+                  canvas.drawLine(right, yLabel, left, yLabel, paint);
+                }
+              }
+            }
+          }
+        }
+      }
+
+      if (showLabels) {
+        paint.setColor(style.getLabelsColor());
+        float size = style.getAxisTitleTextSize();
+        paint.setTextSize(size);
+        paint.setTextAlign(Align.CENTER);
+        if (or == Orientation.HORIZONTAL) {
+          drawText(
+              canvas,
+              style.getXTitle(),
+              x + width / 2,
+              bottom + style.getLabelsTextSize() * 4 / 3 + style.getXLabelsPadding() + size,
+              paint, 0);
+          for (int i = 0; i < maxScaleNumber; i++) {
+            Align axisAlign = style.getYAxisAlign(i);
+            if (axisAlign == Align.LEFT) {
+              drawText(canvas, style.getYTitle(i), x + size, y + height / 2, paint, -90);
+            } else {
+              drawText(canvas, style.getYTitle(i), x + width, y + height / 2, paint, -90);
+            }
+          }
+          paint.setTextSize(style.getChartTitleTextSize());
+          drawText(canvas, style.getChartTitle(), x + width / 2,
+              y + style.getChartTitleTextSize(), paint, 0);
+        } else if (or == Orientation.VERTICAL) {
+          drawText(canvas, style.getXTitle(), x + width / 2,
+              y + height - size + style.getXLabelsPadding(), paint, -90);
+          drawText(canvas, style.getYTitle(0), right + 20, y + height / 2, paint, 0);
+          paint.setTextSize(style.getChartTitleTextSize());
+          drawText(canvas, style.getChartTitle(), x + size, top + height / 2, paint, 0);
+        }
+      }
+    }
+    if (metrics != null) {
+      long now = System.nanoTime();
+      metrics.addPhaseTime(ChartMetrics.PHASE_LABELS, now - phaseStart);
+      phaseStart = now;
+    }
+    if (or == Orientation.HORIZONTAL) {
+      drawLegend(canvas, mRenderer, titles, left, right, y + (int) style.getXLabelsPadding(),
+          width, height, legendSize, paint, false);
+    } else if (or == Orientation.VERTICAL) {
+      transform(canvas, angle, true);
+      drawLegend(canvas, mRenderer, titles, left, right, y + (int) style.getXLabelsPadding(),
+          width, height, legendSize, paint, false);
+      transform(canvas, angle, false);
+    }
+    if (metrics != null) {
+      long now = System.nanoTime();
+      metrics.addPhaseTime(ChartMetrics.PHASE_LEGEND, now - phaseStart);
+      phaseStart = now;
+    }
+    if (style.isShowAxes()) {
+      paint.setColor(style.getAxesColor());
+      canvas.drawLine(left, bottom, right, bottom, paint);
+      boolean rightAxis = false;
+      for (int i = 0; i < maxScaleNumber && !rightAxis; i++) {
+        rightAxis = style.getYAxisAlign(i) == Align.RIGHT;
+      }
+      if (or == Orientation.HORIZONTAL) {
+        canvas.drawLine(left, top, left, bottom, paint);
+        if (rightAxis) {
+          canvas.drawLine(right, top, right, bottom, paint);
+        }
+      } else if (or == Orientation.VERTICAL) {
+        canvas.drawLine(right, top, right, bottom, paint);
+      }
+      if (metrics != null) {
+        metrics.addCanvasCalls(rightAxis && or == Orientation.HORIZONTAL ? 3 : 2);
+      }
+    }
+    if (rotate) {
+      transform(canvas, angle, true);
+    }
+    if (metrics != null) {
+      metrics.addPhaseTime(ChartMetrics.PHASE_LABELS, System.nanoTime() - phaseStart);
+    }
+  }
+
+  /**
+   * Records the points of a drawn sub series.
+   * 
+   * @param metrics the frame metrics
+   * @param coordinates the number of screen coordinates, two per point
+   * @param clickableAreas the number of clickable areas built for the points
+   */
+  private static void countDrawnPoints(ChartMetrics metrics, int coordinates, int clickableAreas) {
+    metrics.addPointsDrawn(coordinates / 2);
+    // the boxed coordinates, the clickable areas and their array
+    metrics.addAllocations(coordinates + clickableAreas + 1);
+  }
+
+  /**
+   * Returns the X axis labels. The returned list may be shared with the
+   * following frames, so it must not be modified.
+   * 
+   * @param min the minimum X value
+   * @param max the maximum X value
+   * @param count the approximate number of labels
+   * @return the label values
+   */
+  protected List<Double> getXLabels(double min, double max, int count) {
+    return MathHelper.getTicks(min, max, count);
+  }
+
+  protected Map<Integer, List<Double>> getYLabels(double[] minY, double[] maxY, int maxScaleNumber) {
+    Map<Integer, List<Double>> allYLabels = new HashMap<Integer, List<Double>>();
+    for (int i = 0; i < maxScaleNumber; i++) {
+      allYLabels.put(i,
+          getValidLabels(MathHelper.getTicks(minY[i], maxY[i], mRenderer.getYLabels())));
+    }
+    return allYLabels;
+  }
+
+  /**
+   * Returns if the series can be drawn in a bitmap that is only shifted while
+   * panning, which requires that drawing the points within a strip of the
+   * visible range gives the same result, in that strip, as drawing all the
+   * visible points.
+   * 
+   * @return if the pan bitmap cache can be used
+   */
+  protected boolean isPanBitmapCacheSupported() {
+    return true;
+  }
+
+  /**
+   * Returns if the values of a series can be summarized when drawn, which
+   * replaces the values of a compressed series block with its first, last,
+   * lowest and highest ones. The drawn points then no longer follow the series
+   * indexes from the start index, so charts that read the series values by
+   * index must not allow it.
+   * 
+   * @param seriesIndex the series index
+   * @return if the drawn values can be summarized
+   */
+  protected boolean isValueSummarySupported(int seriesIndex) {
+    return true;
+  }
+
+  /**
+   * Finds the index range of the values of a series within an X range, plus the
+   * values just outside of it when the bounding points are displayed. The
+   * views of a shared X dataset share the same X values, so the range is only
+   * searched again for them when the X range changes.
+   * 
+   * @param series the series
+   * @param minX the X range minimum
+   * @param maxX the X range maximum
+   * @param bounding if the bounding points are included
+   */
+  private void findRange(XYSeries series, double minX, double maxX, boolean bounding) {
+    SharedXDataset dataset = null;
+    if (series instanceof SharedXSeries) {
+      dataset = ((SharedXSeries) series).getSharedXDataset();
+      if (dataset == mFoundDataset && minX == mFoundX[0] && maxX == mFoundX[1]
+          && bounding == mFoundBounding) {
+        return;
+      }
+    }
+    int start = series.getCeilingIndex(minX);
+    int end = series.getCeilingIndex(maxX);
+    if (bounding) {
+      start = Math.max(0, start - 1);
+      end = Math.min(series.getItemCount(), end + 1);
+    }
+    mFoundRange[0] = start;
+    mFoundRange[1] = end;
+    mFoundDataset = dataset;
+    mFoundX[0] = minX;
+    mFoundX[1] = maxX;
+    mFoundBounding = bounding;
+  }
+
+  /**
+   * Copies the values of a series within an index range to the range buffers,
+   * growing them when needed. The blocks of a compressed series that fit in a
+   * pixel are summarized from their headers instead of being decoded, when
+   * allowed.
+   * 
+   * @param series the series
+   * @param start the first index, inclusive
+   * @param end the last index, exclusive
+   * @param xPixelsPerUnit the number of pixels per unit on the X axis
+   * @param summary if the blocks of a compressed series can be summarized
+   * @return the number of copied values
+   */
+  private int copyRange(XYSeries series, int start, int end, double xPixelsPerUnit,
+      boolean summary) {
+    int length = end - start;
+    if (length <= 0) {
+      return 0;
+    }
+    if (mRangeXs == null || mRangeXs.length < length) {
+      mRangeXs = new double[length];
+      mRangeYs = new double[length];
+    }
+    if (summary && series instanceof CompressedXYSeries) {
+      return ((CompressedXYSeries) series).copySummary(start, end, 1 / xPixelsPerUnit, mRangeXs,
+          mRangeYs);
+    }
+    return series.copyRange(start, end, mRangeXs, mRangeYs);
+  }
+
+  /**
+   * Sets if the chart is being panned. While panning, and if the pan bitmap
+   * cache is enabled, the series drawn in the previous frame are reused as long
+   * as only the X axis range moved. The clickable areas then only cover the
+   * newly drawn points, until the panning stops.
+   * 
+   * @param panning if the chart is being panned
+   * @see XYMultipleSeriesRenderer#setPanBitmapCacheEnabled(boolean)
+   */
+  public void setPanning(boolean panning) {
+    mPanning = panning;
+  }
+
+  /**
+   * Returns if the chart is being panned.
+   * 
+   * @return if the chart is being panned
+   */
+  public boolean isPanning() {
+    return mPanning;
+  }
+
+  protected Rect getScreenR() {
+    return mScreenR;
+  }
+
+  protected void setScreenR(Rect screenR) {
+    mScreenR = screenR;
+  }
+
+  private List<Double> getValidLabels(List<Double> labels) {
+    int length = labels.size();
+    for (int i = 0; i < length; i++) {
+      if (labels.get(i).isNaN()) {
+        // copy only when there is something to remove, the labels are
+        // usually valid and may be shared
+        List<Double> result = new ArrayList<Double>(length);
+        for (Double label : labels) {
+          if (!label.isNaN()) {
+            result.add(label);
+          }
+        }
+        return result;
+      }
+    }
+    return labels;
+  }
+
+  /**
+   * Returns the series that is drawn for a series of the dataset, which lets a
+   * chart draw a coarser version of the series when it is zoomed out.
+   * 
+   * @param series the dataset series
+   * @param seriesIndex the series index
+   * @param xPixelsPerUnit the number of pixels per unit on the X axis
+   * @return the series to draw
+   */
+  protected XYSeries getDrawnSeries(XYSeries series, int seriesIndex, double xPixelsPerUnit) {
+    return series;
+  }
+
+  /**
+   * Draws the visible values of a series at once, straight from the value
+   * arrays, instead of the points built from them. The values are then neither
+   * drawn as points nor clickable.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param xs the visible X values
+   * @param ys the visible Y values
+   * @param count the number of visible values
+   * @param seriesRenderer the series renderer
+   * @param transform the transform from the values to the canvas coordinates
+   * @param seriesIndex the series index
+   * @return false if the values must be drawn as points
+   */
+  protected boolean drawSeriesValues(Canvas canvas, Paint paint, double[] xs, double[] ys,
+      int count, SimpleSeriesRenderer seriesRenderer, ViewportTransform transform,
+      int seriesIndex) {
+    return false;
+  }
+
+  /**
+   * Draws the series.
+   * 
+   * @param series the series
+   * @param canvas the canvas
+   * @param paint the paint object
+   * @param pointsList the points to be rendered
+   * @param seriesRenderer the series renderer
+   * @param yAxisValue the y axis value in pixels
+   * @param seriesIndex the series index
+   * @param or the orientation
+   * @param startIndex the start index of the rendering points
+   */
+  protected void drawSeries(XYSeries series, Canvas canvas, Paint paint, List<Float> pointsList,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, Orientation or,
+      int startIndex) {
+    BasicStroke stroke = seriesRenderer.getStroke();
+    Cap cap = paint.getStrokeCap();
+    Join join = paint.getStrokeJoin();
+    float miter = paint.getStrokeMiter();
+    PathEffect pathEffect = paint.getPathEffect();
+    Style style = paint.getStyle();
+    if (stroke != null) {
+      PathEffect effect = null;
+      if (stroke.getIntervals() != null) {
+        effect = new DashPathEffect(stroke.getIntervals(), stroke.getPhase());
+      }
+      setStroke(stroke.getCap(), stroke.getJoin(), stroke.getMiter(), Style.FILL_AND_STROKE,
+          effect, paint);
+    }
+    // float[] points = MathHelper.getFloats(pointsList);
+    drawSeries(canvas, paint, pointsList, seriesRenderer, yAxisValue, seriesIndex, startIndex);
+    if (isRenderPoints(seriesRenderer)) {
+      ScatterChart pointsChart = getPointsChart();
+      if (pointsChart != null) {
+        pointsChart.drawSeries(canvas, paint, pointsList, seriesRenderer, yAxisValue, seriesIndex,
+            startIndex);
+      }
+    }
+    paint.setTextSize(seriesRenderer.getChartValuesTextSize());
+    if (or == Orientation.HORIZONTAL) {
+      paint.setTextAlign(Align.CENTER);
+    } else {
+      paint.setTextAlign(Align.LEFT);
+    }
+    if (seriesRenderer.isDisplayChartValues()) {
+      paint.setTextAlign(seriesRenderer.getChartValuesTextAlign());
+      drawChartValuesText(canvas, series, seriesRenderer, paint, pointsList, seriesIndex,
+          startIndex);
+    }
+    if (stroke != null) {
+      setStroke(cap, join, miter, style, pathEffect, paint);
+    }
+  }
+
+  private void setStroke(Cap cap, Join join, float miter, Style style, PathEffect pathEffect,
+      Paint paint) {
+    paint.setStrokeCap(cap);
+    paint.setStrokeJoin(join);
+    paint.setStrokeMiter(miter);
+    paint.setPathEffect(pathEffect);
+    paint.setStyle(style);
+  }
+
+  /**
+   * The graphical representation of the series values as text.
+   * 
+   * @param canvas the canvas to paint to
+   * @param series the series to be painted
+   * @param renderer the series renderer
+   * @param paint the paint to be used for drawing
+   * @param points the array of points to be used for drawing the series
+   * @param seriesIndex the index of the series currently being drawn
+   * @param startIndex the start index of the rendering points
+   */
+  protected void drawChartValuesText(Canvas canvas, XYSeries series, SimpleSeriesRenderer renderer,
+      Paint paint, List<Float> points, int seriesIndex, int startIndex) {
+    if (points.size() > 1) { // there are more than one point
+      // record the first point's position
+      float previousPointX = points.get(0);
+      float previousPointY = points.get(1);
+      for (int k = 0; k < points.size(); k += 2) {
+        if (k == 2) { // decide whether to display first two points' values or
+                      // not
+          if (Math.abs(points.get(2) - points.get(0)) > renderer.getDisplayChartValuesDistance()
+              || Math.abs(points.get(3) - points.get(1)) > renderer.getDisplayChartValuesDistance()) {
+            // first point
+            drawChartValue(canvas, getLabel(renderer.getChartValuesFormat(),
+                series.getY(startIndex)), points.get(0), points.get(1), renderer, paint);
+            // second point
+            drawChartValue(canvas, getLabel(renderer.getChartValuesFormat(),
+                series.getY(startIndex + 1)), points.get(2), points.get(3), renderer, paint);
+
+            previousPointX = points.get(2);
+            previousPointY = points.get(3);
+          }
+        } else if (k > 2) {
+          // compare current point's position with the previous point's, if they
+          // are not too close, display
+          if ((Math.abs(points.get(k) - previousPointX) > renderer.getDisplayChartValuesDistance()
+              || Math.abs(points.get(k + 1) - previousPointY) > renderer
+                  .getDisplayChartValuesDistance())
+              && drawChartValue(canvas, getLabel(renderer.getChartValuesFormat(),
+                  series.getY(startIndex + k / 2)), points.get(k), points.get(k + 1), renderer,
+                  paint)) {
+            previousPointX = points.get(k);
+            previousPointY = points.get(k + 1);
+          }
+        }
+      }
+    } else { // if only one point, display it
+      for (int k = 0; k < points.size(); k += 2) {
+        drawChartValue(canvas, getLabel(renderer.getChartValuesFormat(),
+            series.getY(startIndex + k / 2)), points.get(k), points.get(k + 1), renderer, paint);
+      }
+    }
+  }
+
+  /**
+   * Draws a series value above its point or, if it would overlap a value that
+   * was already drawn, below its point. The value is not drawn if it overlaps
+   * other values at both positions.
+   * 
+   * @param canvas the canvas to paint to
+   * @param text the value text
+   * @param x the point X screen coordinate
+   * @param y the point Y screen coordinate
+   * @param renderer the series renderer
+   * @param paint the paint to be used for drawing
+   * @return if the value was drawn
+   */
+  protected boolean drawChartValue(Canvas canvas, String text, float x, float y,
+      SimpleSeriesRenderer renderer, Paint paint) {
+    float spacing = renderer.getChartValuesSpacing();
+    if (mValueLabelGrid == null) {
+      drawText(canvas, text, x, y - spacing, paint, 0);
+      return true;
+    }
+    float width = getTextLayout(text, paint).getWidth();
+    float height = paint.getTextSize();
+    float left = x;
+    if (paint.getTextAlign() == Align.CENTER) {
+      left = x - width / 2;
+    } else if (paint.getTextAlign() == Align.RIGHT) {
+      left = x - width;
+    }
+    if (mValueCandidates == null) {
+      mValueCandidates = new float[4];
+    }
+    mValueCandidates[0] = left;
+    mValueCandidates[1] = y - spacing - height;
+    mValueCandidates[2] = left;
+    mValueCandidates[3] = y + spacing;
+    int candidate = mValueLabelGrid.place(width, height, mValueCandidates, 2);
+    if (candidate < 0) {
+      return false;
+    }
+    drawText(canvas, text, x, mValueCandidates[2 * candidate + 1] + height, paint, 0);
+    return true;
+  }
+
+  /**
+   * The graphical representation of a text, to handle both HORIZONTAL and
+   * VERTICAL orientations and extra rotation angles.
+   * 
+   * @param canvas the canvas to paint to
+   * @param text the text to be rendered
+   * @param x the X axis location of the text
+   * @param y the Y axis location of the text
+   * @param paint the paint to be used for drawing
+   * @param extraAngle the text angle
+   */
+  protected void drawText(Canvas canvas, String text, float x, float y, Paint paint,
+      float extraAngle) {
+    float angle = -getStyle().getOrientationAngle() + extraAngle;
+    if (angle != 0) {
+      // canvas.scale(1 / mScale, mScale);
+      canvas.rotate(angle, x, y);
+    }
+    drawString(canvas, text, x, y, paint);
+    if (angle != 0) {
+      canvas.rotate(-angle, x, y);
+      // canvas.scale(mScale, 1 / mScale);
+    }
+  }
+
+  /**
+   * Transform the canvas such as it can handle both HORIZONTAL and VERTICAL
+   * orientations.
+   * 
+   * @param canvas the canvas to paint to
+   * @param angle the angle of rotation
+   * @param inverse if the inverse transform needs to be applied
+   */
+  private void transform(Canvas canvas, float angle, boolean inverse) {
+    if (inverse) {
+      canvas.scale(1 / mScale, mScale);
+      canvas.translate(mTranslate, -mTranslate);
+      canvas.rotate(-angle, mCenter.getX(), mCenter.getY());
+    } else {
+      canvas.rotate(angle, mCenter.getX(), mCenter.getY());
+      canvas.translate(-mTranslate, mTranslate);
+      canvas.scale(mScale, 1 / mScale);
+    }
+  }
+
+  /**
+   * The graphical representation of the labels on the X axis.
+   * 
+   * @param xLabels the X labels values
+   * @param xTextLabelLocations the X text label locations
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param left the left value of the labels area
+   * @param top the top value of the labels area
+   * @param bottom the bottom value of the labels area
+   * @param xPixelsPerUnit the amount of pixels per one unit in the chart labels
+   * @param minX the minimum value on the X axis in the chart
+   * @param maxX the maximum value on the X axis in the chart
+   */
+  protected void drawXLabels(List<Double> xLabels, Double[] xTextLabelLocations, Canvas canvas,
+      Paint paint, int left, int top, int bottom, double xPixelsPerUnit, double minX, double maxX) {
+    XYRendererStyle style = getStyle();
+    int length = xLabels.size();
+    boolean showLabels = style.isShowLabels();
+    boolean showGridY = style.isShowGridY();
+    for (int i = 0; i < length; i++) {
+      double label = xLabels.get(i);
+      float xLabel = (float) (left + xPixelsPerUnit * (label - minX));
+      if (showLabels) {
+        paint.setColor(style.getXLabelsColor());
+        canvas.drawLine(xLabel, bottom, xLabel, bottom + style.getLabelsTextSize() / 3, paint);
+        drawText(canvas, getLabel(style.getLabelFormat(), label), xLabel,
+            bottom + style.getLabelsTextSize() * 4 / 3 + style.getXLabelsPadding(), paint,
+            style.getXLabelsAngle());
+      }
+      if (showGridY) {
+        paint.setColor(style.getGridColor());
+        canvas.drawLine(xLabel, bottom, xLabel, top, paint);
+      }
+    }
+    drawXTextLabels(xTextLabelLocations, canvas, paint, showLabels, left, top, bottom,
+        xPixelsPerUnit, minX, maxX);
+  }
+
+  /**
+   * The graphical representation of the labels on the Y axis.
+   * 
+   * @param allYLabels the Y labels values
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param maxScaleNumber the maximum scale number
+   * @param left the left value of the labels area
+   * @param right the right value of the labels area
+   * @param bottom the bottom value of the labels area
+   * @param yPixelsPerUnit the amount of pixels per one unit in the chart labels
+   * @param minY the minimum value on the Y axis in the chart
+   */
+  protected void drawYLabels(Map<Integer, List<Double>> allYLabels, Canvas canvas, Paint paint,
+      int maxScaleNumber, int left, int right, int bottom, double[] yPixelsPerUnit, double[] minY) {
+    XYRendererStyle style = getStyle();
+    Orientation or = mRenderer.getOrientation();
+    boolean showGridX = style.isShowGridX();
+    boolean showLabels = style.isShowLabels();
+    for (int i = 0; i < maxScaleNumber; i++) {
+      paint.setTextAlign(style.getYLabelsAlign(i));
+      List<Double> yLabels = allYLabels.get(i);
+      int length = yLabels.size();
+      for (int j = 0; j < length; j++) {
+        double label = yLabels.get(j);
+        Align axisAlign = style.getYAxisAlign(i);
+        boolean textLabel = style.getYTextLabel(label, i) != null;
+        float yLabel = (float) (bottom - yPixelsPerUnit[i] * (label - minY[i]));
+        if (or == Orientation.HORIZONTAL) {
+          if (showLabels && !textLabel) {
+            paint.setColor(style.getYLabelsColor(i));
+            if (axisAlign == Align.LEFT) {
+              canvas.drawLine(left + getLabelLinePos(axisAlign), yLabel, left, yLabel, paint);
+              drawText(canvas, getLabel(style.getLabelFormat(), label),
+                  left - style.getYLabelsPadding(),
+                  yLabel - style.getYLabelsVerticalPadding(), paint,
+                  style.getYLabelsAngle());
+            } else {
+              canvas.drawLine(right, yLabel, right + getLabelLinePos(axisAlign), yLabel, paint);
+              drawText(canvas, getLabel(style.getLabelFormat(), label),
+                  right + style.getYLabelsPadding(),
+                  yLabel - style.getYLabelsVerticalPadding(), paint,
+                  style.getYLabelsAngle());
+            }
+          }
+          if (showGridX) {
+            paint.setColor(style.getGridColor());
+            canvas.drawLine(left, yLabel, right, yLabel, paint);
+          }
+        } else if (or == Orientation.VERTICAL) {
+          if (showLabels && !textLabel) {
+            paint.setColor(style.getYLabelsColor(i));
+            canvas.drawLine(right - getLabelLinePos(axisAlign), yLabel, right, yLabel, paint);
+            drawText(canvas, getLabel(style.getLabelFormat(), label),
+                right + 10 + style.getYLabelsPadding(), yLabel - 2, paint,
+                style.getYLabelsAngle());
+          }
+          if (showGridX) {
+            paint.setColor(style.getGridColor());
+            canvas.drawLine(right, yLabel, left, yLabel, paint);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * The graphical representation of the text labels on the X axis.
+   * 
+   * @param xTextLabelLocations the X text label locations
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param left the left value of the labels area
+   * @param top the top value of the labels area
+   * @param bottom the bottom value of the labels area
+   * @param xPixelsPerUnit the amount of pixels per one unit in the chart labels
+   * @param minX the minimum value on the X axis in the chart
+   * @param maxX the maximum value on the X axis in the chart
+   */
+  protected void drawXTextLabels(Double[] xTextLabelLocations, Canvas canvas, Paint paint,
+      boolean showLabels, int left, int top, int bottom, double xPixelsPerUnit, double minX,
+      double maxX) {
+    XYRendererStyle style = getStyle();
+    boolean showCustomTextGrid = style.isShowCustomTextGrid();
+    if (showLabels) {
+      paint.setColor(style.getXLabelsColor());
+      for (Double location : xTextLabelLocations) {
+        if (minX <= location && location <= maxX) {
+          float xLabel = (float) (left + xPixelsPerUnit * (location.doubleValue() - minX));
+          paint.setColor(style.getXLabelsColor());
+          canvas
+              .drawLine(xLabel, bottom, xLabel, bottom + style.getLabelsTextSize() / 3, paint);
+          drawText(canvas, style.getXTextLabel(location), xLabel,
+              bottom + style.getLabelsTextSize() * 4 / 3, paint, style.getXLabelsAngle());
+          if (showCustomTextGrid) {
+            paint.setColor(style.getGridColor());
+            canvas.drawLine(xLabel, bottom, xLabel, top, paint);
+          }
+        }
+      }
+    }
+  }
+
+  // TODO: docs
+  public XYMultipleSeriesRenderer getRenderer() {
+    return mRenderer;
+  }
+
+  /**
+   * Returns the renderer style snapshot of the frame being drawn, or the
+   * current one before the first frame.
+   * 
+   * @return the renderer style
+   */
+  protected XYRendererStyle getStyle() {
+    if (mStyle == null) {
+      mStyle = mRenderer.getStyle();
+    }
+    return mStyle;
+  }
+
+  public XYMultipleSeriesDataset getDataset() {
+    return mDataset;
+  }
+
+  public double[] getCalcRange(int scale) {
+    return mCalcRange.get(scale);
+  }
+
+  public void setCalcRange(double[] range, int scale) {
+    mCalcRange.put(scale, range);
+  }
+
+  /**
+   * Computes the Y range of the values of the series of a scale that are
+   * within an X range. The series keep an index of their values, so this is
+   * cheap enough to be called on every frame.
+   * 
+   * @param scale the scale
+   * @param minX the X range minimum
+   * @param maxX the X range maximum
+   * @param range an array that receives {minY, maxY}
+   * @return false if there are no values within the X range, in which case the
+   *         array is left unchanged
+   */
+  public boolean getYRange(int scale, double minX, double maxX, double[] range) {
+    double min = MathHelper.NULL_VALUE;
+    double max = -MathHelper.NULL_VALUE;
+    double[] seriesRange = new double[2];
+    boolean found = false;
+    int length = mDataset.getSeriesCount();
+    for (int i = 0; i < length; i++) {
+      XYSeries series = mDataset.getSeriesAt(i);
+      if (series.getScaleNumber() == scale && series.getYRange(minX, maxX, seriesRange)) {
+        min = Math.min(min, seriesRange[0]);
+        max = Math.max(max, seriesRange[1]);
+        found = true;
+      }
+    }
+    if (found) {
+      range[0] = min;
+      range[1] = max;
+    }
+    return found;
+  }
+
+  public double[] toRealPoint(float screenX, float screenY) {
+    return toRealPoint(screenX, screenY, 0);
+  }
+
+  public double[] toScreenPoint(double[] realPoint) {
+    return toScreenPoint(realPoint, 0);
+  }
+
+  private int getLabelLinePos(Align align) {
+    int pos = 4;
+    if (align == Align.LEFT) {
+      pos = -pos;
+    }
+    return pos;
+  }
+
+  /**
+   * Transforms a screen point to a real coordinates point.
+   * 
+   * @param screenX the screen x axis value
+   * @param screenY the screen y axis value
+   * @return the real coordinates point
+   */
+  public double[] toRealPoint(float screenX, float screenY, int scale) {
+    ViewportTransform transform = getViewportTransform(scale);
+    return new double[] { transform.toRealX(screenX), transform.toRealY(screenY) };
+  }
+
+  public double[] toScreenPoint(double[] realPoint, int scale) {
+    if (mScreenR == null) {
+      return realPoint;
+    }
+    ViewportTransform transform = getViewportTransform(scale);
+    return new double[] { transform.toScreenX(realPoint[0]), transform.toScreenY(realPoint[1]) };
+  }
+
+  /**
+   * Returns the transform between the real values of a scale and the screen
+   * coordinates, for the current visible range. The returned instance is
+   * reused, so it should not be kept across range changes.
+   * 
+   * @param scale the scale
+   * @return the viewport transform
+   */
+  public ViewportTransform getViewportTransform(int scale) {
+    if (mTransforms == null || mTransforms.length <= scale) {
+      ViewportTransform[] transforms = new ViewportTransform[scale + 1];
+      if (mTransforms != null) {
+        System.arraycopy(mTransforms, 0, transforms, 0, mTransforms.length);
+      }
+      mTransforms = transforms;
+    }
+    if (mTransforms[scale] == null) {
+      mTransforms[scale] = new ViewportTransform();
+    }
+    double minX = mRenderer.getXAxisMin(scale);
+    double maxX = mRenderer.getXAxisMax(scale);
+    double minY = mRenderer.getYAxisMin(scale);
+    double maxY = mRenderer.getYAxisMax(scale);
+    // the calculated range only holds the bounds that are not set
+    double[] calcRange = getCalcRange(scale);
+    if (calcRange != null) {
+      if (!mRenderer.isMinXSet(scale)) {
+        minX = calcRange[0];
+      }
+      if (!mRenderer.isMaxXSet(scale)) {
+        maxX = calcRange[1];
+      }
+      if (!mRenderer.isMinYSet(scale)) {
+        minY = calcRange[2];
+      }
+      if (!mRenderer.isMaxYSet(scale)) {
+        maxY = calcRange[3];
+      }
+    }
+    mTransforms[scale].update(mScreenR, minX, maxX, minY, maxY);
+    return mTransforms[scale];
+  }
+
+  public SeriesSelection getSeriesAndPointForScreenCoordinate(final Point screenPoint) {
+    if (clickableAreas != null)
+      for (int seriesIndex = clickableAreas.size() - 1; seriesIndex >= 0; seriesIndex--) {
+        // series 0 is drawn first. Then series 1 is drawn on top, and series 2
+        // on top of that.
+        // we want to know what the user clicked on, so traverse them in the
+        // order they appear on the screen.
+        int pointIndex = 0;
+        if (clickableAreas.get(seriesIndex) != null) {
+          RectF rectangle;
+          for (ClickableArea area : clickableAreas.get(seriesIndex)) {
+            if (area != null) {
+              rectangle = area.getRect();
+              if (rectangle != null && rectangle.contains(screenPoint.getX(), screenPoint.getY())) {
+                return new SeriesSelection(seriesIndex, pointIndex, area.getX(), area.getY());
+              }
+            }
+            pointIndex++;
+          }
+        }
+      }
+    return super.getSeriesAndPointForScreenCoordinate(screenPoint);
+  }
+
+  /**
+   * The graphical representation of a series.
+   * 
+   * @param canvas the canvas to paint to
+   * @param paint the paint to be used for drawing
+   * @param points the array of points to be used for drawing the series
+   * @param seriesRenderer the series renderer
+   * @param yAxisValue the minimum value of the y axis
+   * @param seriesIndex the index of the series currently being drawn
+   * @param startIndex the start index of the rendering points
+   */
+  public abstract void drawSeries(Canvas canvas, Paint paint, List<Float> points,
+      SimpleSeriesRenderer seriesRenderer, float yAxisValue, int seriesIndex, int startIndex);
+
+  /**
+   * Returns the clickable areas for all passed points
+   * 
+   * @param points the array of points
+   * @param values the array of values of each point
+   * @param yAxisValue the minimum value of the y axis
+   * @param seriesIndex the index of the series to which the points belong
+   * @return an array of rectangles with the clickable area
+   * @param startIndex the start index of the rendering points
+   */
+  protected abstract ClickableArea[] clickableAreasForPoints(List<Float> points,
+      List<Double> values, float yAxisValue, int seriesIndex, int startIndex);
+
+  /**
+   * Returns if the chart should display the null values.
+   * 
+   * @return if null values should be rendered
+   */
+  protected boolean isRenderNullValues() {
+    return false;
+  }
+
+  /**
+   * Returns if the chart should display the points as a certain shape.
+   * 
+   * @param renderer the series renderer
+   */
+  public boolean isRenderPoints(SimpleSeriesRenderer renderer) {
+    return false;
+  }
+
+  /**
+   * Returns the default axis minimum.
+   * 
+   * @return the default axis minimum
+   */
+  public double getDefaultMinimum() {
+    return MathHelper.NULL_VALUE;
+  }
+
+  /**
+   * Returns the scatter chart to be used for drawing the data points.
+   * 
+   * @return the data points scatter chart
+   */
+  public ScatterChart getPointsChart() {
+    return null;
+  }
+
+  /**
+   * Returns the chart type identifier.
+   * 
+   * @return the chart type
+   */
+  public abstract String getChartType();
+
+}
@@ -0,0 +1,351 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.achartengine.util.MathHelper;
+import org.achartengine.util.RangeMinMaxIndex;
+
+/**
+ * An extension of the XY series for box plots, with one histogram sketch per
+ * box, such as the latency distribution of each minute or of each endpoint.
+ * The Y value of a box is the median of its sketch. The quartiles and the
+ * whiskers are estimated from the sketches when a box is added and when
+ * {@link #update()} is called, such as the sketches can keep recording values
+ * while the boxes are drawn.
+ */
+public class BoxPlotSeries extends XYSeries {
+  /** The sketches, in index order. */
+  private final List<HistogramSketch> mSketches = new ArrayList<HistogramSketch>();
+  /** The low whisker values, in index order. */
+  private double[] mLowWhiskers = new double[16];
+  /** The first quartile values, in index order. */
+  private double[] mFirstQuartiles = new double[16];
+  /** The third quartile values, in index order. */
+  private double[] mThirdQuartiles = new double[16];
+  /** The high whisker values, in index order. */
+  private double[] mHighWhiskers = new double[16];
+  /** The index of the low whiskers, used to get the Y range of an X range. */
+  private final RangeMinMaxIndex mLowIndex = new RangeMinMaxIndex();
+  /** The index of the high whiskers, used to get the Y range of an X range. */
+  private final RangeMinMaxIndex mHighIndex = new RangeMinMaxIndex();
+  /** The quantiles of the low whisker, quartiles, median and high whisker. */
+  private final double[] mQuantiles = new double[] { 0, 0.25, 0.5, 0.75, 1 };
+  /** The estimates of the quantiles, reused to avoid allocations. */
+  private final double[] mEstimates = new double[5];
+  /** A Y range, reused to avoid allocations. */
+  private final double[] mRange = new double[2];
+
+  /**
+   * Builds a new box plot series.
+   * 
+   * @param title the series title
+   */
+  public BoxPlotSeries(String title) {
+    this(title, 0);
+  }
+
+  /**
+   * Builds a new box plot series.
+   * 
+   * @param title the series title
+   * @param scaleNumber the series scale number
+   */
+  public BoxPlotSeries(String title, int scaleNumber) {
+    super(title, scaleNumber);
+  }
+
+  /**
+   * Sets the quantile of the low whisker, the high whisker being at the
+   * symmetric quantile. The default is 0, the whiskers are at the lowest and
+   * highest values.
+   * 
+   * @param quantile the low whisker quantile, between 0 and 0.25
+   */
+  public synchronized void setWhiskerQuantile(double quantile) {
+    if (!(quantile >= 0 && quantile <= 0.25)) {
+      throw new IllegalArgumentException("The whisker quantile must be between 0 and 0.25: "
+          + quantile);
+    }
+    mQuantiles[0] = quantile;
+    mQuantiles[4] = 1 - quantile;
+    update();
+  }
+
+  /**
+   * Returns the quantile of the low whisker.
+   * 
+   * @return the low whisker quantile
+   */
+  public synchronized double getWhiskerQuantile() {
+    return mQuantiles[0];
+  }
+
+  /**
+   * Adds a box, after the boxes with the same X value.
+   * 
+   * @param x the box value for the X axis
+   * @param sketch the sketch of the box values
+   */
+  public synchronized void add(double x, HistogramSketch sketch) {
+    int index = getFloorIndex(x) + 1;
+    estimate(sketch);
+    super.add(index, x, mEstimates[2]);
+    mSketches.add(index, sketch);
+    if (mSketches.size() > mLowWhiskers.length) {
+      int capacity = mLowWhiskers.length * 2;
+      mLowWhiskers = grow(mLowWhiskers, capacity);
+      mFirstQuartiles = grow(mFirstQuartiles, capacity);
+      mThirdQuartiles = grow(mThirdQuartiles, capacity);
+      mHighWhiskers = grow(mHighWhiskers, capacity);
+    }
+    int count = mSketches.size() - index - 1;
+    System.arraycopy(mLowWhiskers, index, mLowWhiskers, index + 1, count);
+    System.arraycopy(mFirstQuartiles, index, mFirstQuartiles, index + 1, count);
+    System.arraycopy(mThirdQuartiles, index, mThirdQuartiles, index + 1, count);
+    System.arraycopy(mHighWhiskers, index, mHighWhiskers, index + 1, count);
+    mLowWhiskers[index] = mEstimates[0];
+    mFirstQuartiles[index] = mEstimates[1];
+    mThirdQuartiles[index] = mEstimates[3];
+    mHighWhiskers[index] = mEstimates[4];
+    mLowIndex.add(index, mEstimates[0]);
+    mHighIndex.add(index, mEstimates[4]);
+  }
+
+  /**
+   * Not supported, a box is added with its sketch.
+   */
+  @Override
+  public void add(double x, double y) {
+    throw new UnsupportedOperationException("A box is added with its sketch");
+  }
+
+  /**
+   * Not supported, a box is added with its sketch.
+   */
+  @Override
+  public void add(int index, double x, double y) {
+    throw new UnsupportedOperationException("A box is added with its sketch");
+  }
+
+  /**
+   * Estimates the quantiles of the boxes again, from the values their
+   * sketches recorded since.
+   */
+  public synchronized void update() {
+    int count = mSketches.size();
+    for (int i = 0; i < count; i++) {
+      estimate(mSketches.get(i));
+      if (mEstimates[0] != mLowWhiskers[i]) {
+        mLowWhiskers[i] = mEstimates[0];
+        mLowIndex.set(i, mEstimates[0]);
+      }
+      mFirstQuartiles[i] = mEstimates[1];
+      mThirdQuartiles[i] = mEstimates[3];
+      if (mEstimates[4] != mHighWhiskers[i]) {
+        mHighWhiskers[i] = mEstimates[4];
+        mHighIndex.set(i, mEstimates[4]);
+      }
+      if (mEstimates[2] != getY(i)) {
+        setY(i, mEstimates[2]);
+      }
+    }
+  }
+
+  /**
+   * Estimates the quantiles of a sketch, the ones of an empty sketch being null
+   * values.
+   * 
+   * @param sketch the sketch
+   */
+  private void estimate(HistogramSketch sketch) {
+    sketch.getQuantiles(mQuantiles, mEstimates);
+    for (int i = 0; i < mEstimates.length; i++) {
+      if (Double.isNaN(mEstimates[i])) {
+        mEstimates[i] = MathHelper.NULL_VALUE;
+      }
+    }
+  }
+
+  /**
+   * Copies values to a larger array.
+   * 
+   * @param values the values
+   * @param capacity the new array length
+   * @return the new array
+   */
+  private double[] grow(double[] values, int capacity) {
+    double[] grown = new double[capacity];
+    System.arraycopy(values, 0, grown, 0, values.length);
+    return grown;
+  }
+
+  @Override
+  public synchronized void remove(int index) {
+    super.remove(index);
+    mSketches.remove(index);
+    int count = mSketches.size() - index;
+    System.arraycopy(mLowWhiskers, index + 1, mLowWhiskers, index, count);
+    System.arraycopy(mFirstQuartiles, index + 1, mFirstQuartiles, index, count);
+    System.arraycopy(mThirdQuartiles, index + 1, mThirdQuartiles, index, count);
+    System.arraycopy(mHighWhiskers, index + 1, mHighWhiskers, index, count);
+    mLowIndex.remove(index);
+    mHighIndex.remove(index);
+  }
+
+  @Override
+  public synchronized void clear() {
+    super.clear();
+    mSketches.clear();
+    mLowIndex.clear();
+    mHighIndex.clear();
+  }
+
+  /**
+   * Returns the sketch of the box at the specified index.
+   * 
+   * @param index the index
+   * @return the sketch
+   */
+  public synchronized HistogramSketch getSketch(int index) {
+    return mSketches.get(index);
+  }
+
+  /**
+   * Returns the low whisker value at the specified index.
+   * 
+   * @param index the index
+   * @return the low whisker value
+   */
+  public synchronized double getLowWhisker(int index) {
+    checkBox(index);
+    return mLowWhiskers[index];
+  }
+
+  /**
+   * Returns the first quartile value at the specified index.
+   * 
+   * @param index the index
+   * @return the first quartile value
+   */
+  public synchronized double getFirstQuartile(int index) {
+    checkBox(index);
+    return mFirstQuartiles[index];
+  }
+
+  /**
+   * Returns the median value at the specified index.
+   * 
+   * @param index the index
+   * @return the median value
+   */
+  public double getMedian(int index) {
+    return getY(index);
+  }
+
+  /**
+   * Returns the third quartile value at the specified index.
+   * 
+   * @param index the index
+   * @return the third quartile value
+   */
+  public synchronized double getThirdQuartile(int index) {
+    checkBox(index);
+    return mThirdQuartiles[index];
+  }
+
+  /**
+   * Returns the high whisker value at the specified index.
+   * 
+   * @param index the index
+   * @return the high whisker value
+   */
+  public synchronized double getHighWhisker(int index) {
+    checkBox(index);
+    return mHighWhiskers[index];
+  }
+
+  /**
+   * Returns the smallest distance between the X values of two adjacent boxes,
+   * which bounds the box width.
+   * 
+   * @return the smallest distance, or 0 if there are less than two boxes
+   */
+  public synchronized double getMinBoxDistance() {
+    double distance = Double.MAX_VALUE;
+    int count = mSketches.size();
+    for (int i = 1; i < count; i++) {
+      double delta = getX(i) - getX(i - 1);
+      if (delta > 0) {
+        distance = Math.min(distance, delta);
+      }
+    }
+    return distance == Double.MAX_VALUE ? 0 : distance;
+  }
+
+  /**
+   * Checks that an index is within the boxes.
+   * 
+   * @param index the index
+   */
+  private void checkBox(int index) {
+    if (index < 0 || index >= mSketches.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSketches.size());
+    }
+  }
+
+  @Override
+  public synchronized boolean getYRange(double start, double stop, double[] range) {
+    int from = getCeilingIndex(start);
+    int to = getFloorIndex(stop) + 1;
+    if (!mLowIndex.getMinMax(from, to, mRange)) {
+      return false;
+    }
+    range[0] = mRange[0];
+    mHighIndex.getMinMax(from, to, mRange);
+    range[1] = mRange[1];
+    return true;
+  }
+
+  /**
+   * Returns the lowest low whisker value.
+   * 
+   * @return the Y axis minimum value
+   */
+  @Override
+  public synchronized double getMinY() {
+    if (!mLowIndex.getMinMax(0, mSketches.size(), mRange)) {
+      return MathHelper.NULL_VALUE;
+    }
+    return mRange[0];
+  }
+
+  /**
+   * Returns the highest high whisker value.
+   * 
+   * @return the Y axis maximum value
+   */
+  @Override
+  public synchronized double getMaxY() {
+    if (!mHighIndex.getMinMax(0, mSketches.size(), mRange)) {
+      return -MathHelper.NULL_VALUE;
+    }
+    return mRange[1];
+  }
+
+}
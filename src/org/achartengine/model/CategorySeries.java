@@ -1,143 +1,211 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.model;
-
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * A series for the category charts like the pie ones.
- */
-public class CategorySeries implements Serializable {
-  /** The series title. */
-  private String mTitle;
-  /** The series categories. */
-  private List<String> mCategories = new ArrayList<String>();
-  /** The series values. */
-  private List<Double> mValues = new ArrayList<Double>();
-
-  /**
-   * Builds a new category series.
-   * 
-   * @param title the series title
-   */
-  public CategorySeries(String title) {
-    mTitle = title;
-  }
-
-  /**
-   * Returns the series title.
-   * 
-   * @return the series title
-   */
-  public String getTitle() {
-    return mTitle;
-  }
-
-  /**
-   * Adds a new value to the series
-   * 
-   * @param value the new value
-   */
-  public synchronized void add(double value) {
-    add(mCategories.size() + "", value);
-  }
-
-  /**
-   * Adds a new value to the series.
-   * 
-   * @param category the category
-   * @param value the new value
-   */
-  public synchronized void add(String category, double value) {
-    mCategories.add(category);
-    mValues.add(value);
-  }
-
-  /**
-   * Replaces the value at the specific index in the series.
-   * 
-   * @param index the index in the series
-   * @param category the category
-   * @param value the new value
-   */
-  public synchronized void set(int index, String category, double value) {
-    mCategories.set(index, category);
-    mValues.set(index, value);
-  }
-
-  /**
-   * Removes an existing value from the series.
-   * 
-   * @param index the index in the series of the value to remove
-   */
-  public synchronized void remove(int index) {
-    mCategories.remove(index);
-    mValues.remove(index);
-  }
-
-  /**
-   * Removes all the existing values from the series.
-   */
-  public synchronized void clear() {
-    mCategories.clear();
-    mValues.clear();
-  }
-
-  /**
-   * Returns the value at the specified index.
-   * 
-   * @param index the index
-   * @return the value at the index
-   */
-  public synchronized double getValue(int index) {
-    return mValues.get(index);
-  }
-
-  /**
-   * Returns the category name at the specified index.
-   * 
-   * @param index the index
-   * @return the category name at the index
-   */
-  public synchronized String getCategory(int index) {
-    return mCategories.get(index);
-  }
-
-  /**
-   * Returns the series item count.
-   * 
-   * @return the series item count
-   */
-  public synchronized int getItemCount() {
-    return mCategories.size();
-  }
-
-  /**
-   * Transforms the category series to an XY series.
-   * 
-   * @return the XY series
-   */
-  public XYSeries toXYSeries() {
-    XYSeries xySeries = new XYSeries(mTitle);
-    int k = 0;
-    for (double value : mValues) {
-      xySeries.add(++k, value);
-    }
-    return xySeries;
-  }
-}
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A series for the category charts like the pie ones.
+ */
+public class CategorySeries implements Serializable {
+  /** The series title. */
+  private String mTitle;
+  /** The series categories. */
+  private List<String> mCategories = new ArrayList<String>();
+  /** The series values. */
+  private List<Double> mValues = new ArrayList<Double>();
+  /** The series version, incremented on every change. */
+  private int mVersion;
+  /** The sums of the values before each index, computed on demand. */
+  private transient double[] mPrefixSums;
+  /** The number of prefix sums that are up to date, after the first one. */
+  private transient int mPrefixSumsValid;
+
+  /**
+   * Builds a new category series.
+   * 
+   * @param title the series title
+   */
+  public CategorySeries(String title) {
+    mTitle = title;
+  }
+
+  /**
+   * Returns the series title.
+   * 
+   * @return the series title
+   */
+  public String getTitle() {
+    return mTitle;
+  }
+
+  /**
+   * Adds a new value to the series
+   * 
+   * @param value the new value
+   */
+  public synchronized void add(double value) {
+    add(mCategories.size() + "", value);
+  }
+
+  /**
+   * Adds a new value to the series.
+   * 
+   * @param category the category
+   * @param value the new value
+   */
+  public synchronized void add(String category, double value) {
+    mCategories.add(category);
+    mValues.add(value);
+    mVersion++;
+  }
+
+  /**
+   * Replaces the value at the specific index in the series.
+   * 
+   * @param index the index in the series
+   * @param category the category
+   * @param value the new value
+   */
+  public synchronized void set(int index, String category, double value) {
+    mCategories.set(index, category);
+    mValues.set(index, value);
+    invalidatePrefixSums(index);
+  }
+
+  /**
+   * Removes an existing value from the series.
+   * 
+   * @param index the index in the series of the value to remove
+   */
+  public synchronized void remove(int index) {
+    mCategories.remove(index);
+    mValues.remove(index);
+    invalidatePrefixSums(index);
+  }
+
+  /**
+   * Removes all the existing values from the series.
+   */
+  public synchronized void clear() {
+    mCategories.clear();
+    mValues.clear();
+    invalidatePrefixSums(0);
+  }
+
+  /**
+   * Marks the prefix sums after an index as outdated.
+   * 
+   * @param index the index of the first changed value
+   */
+  private void invalidatePrefixSums(int index) {
+    mPrefixSumsValid = Math.min(mPrefixSumsValid, index);
+    mVersion++;
+  }
+
+  /**
+   * Returns the sum of the values before an index. The sums are kept between
+   * calls, so appending values does not require summing the previous ones
+   * again.
+   * 
+   * @param index the index, up to the item count
+   * @return the sum of the values before the index
+   */
+  public synchronized double getPrefixSum(int index) {
+    if (index < 0 || index > mValues.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mValues.size());
+    }
+    if (mPrefixSums == null || mPrefixSums.length <= index) {
+      double[] sums = new double[Math.max(16, Math.max(index + 1, mValues.size() + 1))];
+      if (mPrefixSums != null) {
+        System.arraycopy(mPrefixSums, 0, sums, 0, mPrefixSumsValid + 1);
+      } else {
+        mPrefixSumsValid = 0;
+      }
+      mPrefixSums = sums;
+    }
+    for (int i = mPrefixSumsValid; i < index; i++) {
+      mPrefixSums[i + 1] = mPrefixSums[i] + mValues.get(i);
+    }
+    mPrefixSumsValid = Math.max(mPrefixSumsValid, index);
+    return mPrefixSums[index];
+  }
+
+  /**
+   * Returns the sum of all the values.
+   * 
+   * @return the values total
+   */
+  public synchronized double getTotal() {
+    return getPrefixSum(mValues.size());
+  }
+
+  /**
+   * Returns the series version, which changes every time a value is added,
+   * replaced or removed. It can be used for knowing when the data derived from
+   * the series needs to be computed again.
+   * 
+   * @return the series version
+   */
+  public synchronized int getVersion() {
+    return mVersion;
+  }
+
+  /**
+   * Returns the value at the specified index.
+   * 
+   * @param index the index
+   * @return the value at the index
+   */
+  public synchronized double getValue(int index) {
+    return mValues.get(index);
+  }
+
+  /**
+   * Returns the category name at the specified index.
+   * 
+   * @param index the index
+   * @return the category name at the index
+   */
+  public synchronized String getCategory(int index) {
+    return mCategories.get(index);
+  }
+
+  /**
+   * Returns the series item count.
+   * 
+   * @return the series item count
+   */
+  public synchronized int getItemCount() {
+    return mCategories.size();
+  }
+
+  /**
+   * Transforms the category series to an XY series.
+   * 
+   * @return the XY series
+   */
+  public XYSeries toXYSeries() {
+    XYSeries xySeries = new XYSeries(mTitle);
+    int k = 0;
+    for (double value : mValues) {
+      xySeries.add(++k, value);
+    }
+    return xySeries;
+  }
+}
@@ -0,0 +1,501 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.achartengine.util.CompressedBlock;
+import org.achartengine.util.MathHelper;
+
+/**
+ * An append-only XY series that keeps its values compressed, for series with
+ * a long retention such as weeks of values sampled every second. The values
+ * are stored in blocks of up to {@link #BLOCK_SIZE} values, compressed as they
+ * are appended (see {@link CompressedBlock}). The block headers are used to
+ * find values by X and to compute Y ranges, so only the blocks that are only
+ * partly in a range are decoded. When zoomed out, the blocks narrower than a
+ * pixel are drawn from their headers (see
+ * {@link #copySummary(int, int, double, double[], double[])}). The last decoded
+ * block is kept, such as the values of a block can be read one by one.
+ */
+public class CompressedXYSeries extends XYSeries {
+  /** The maximum number of values of a block. */
+  public static final int BLOCK_SIZE = 512;
+  /** The number of values a summarized block is replaced with. */
+  private static final int SUMMARY_SIZE = 4;
+  /** The blocks. */
+  private final List<CompressedBlock> mBlocks = new ArrayList<CompressedBlock>();
+  /** The index of the first value of each block. */
+  private int[] mBlockStarts = new int[16];
+  /** The number of values. */
+  private int mCount;
+  /** The index of the decoded block, or -1. */
+  private transient int mDecodedBlock = -1;
+  /** The X values of the decoded block. */
+  private transient double[] mDecodedXs;
+  /** The Y values of the decoded block. */
+  private transient double[] mDecodedYs;
+
+  /**
+   * Builds a new compressed XY series.
+   * 
+   * @param title the series title
+   */
+  public CompressedXYSeries(String title) {
+    this(title, 0);
+  }
+
+  /**
+   * Builds a new compressed XY series.
+   * 
+   * @param title the series title
+   * @param scaleNumber the series scale number
+   */
+  public CompressedXYSeries(String title, int scaleNumber) {
+    super(title, scaleNumber);
+    setDuplicateXAllowed(true);
+  }
+
+  /**
+   * Appends a new value to the series. The X value must not be lower than the
+   * last one, values sharing the same X are kept as they are.
+   * 
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   */
+  @Override
+  public synchronized void add(double x, double y) {
+    CompressedBlock last = mBlocks.isEmpty() ? null : mBlocks.get(mBlocks.size() - 1);
+    if (last != null && x < last.getLastX()) {
+      throw new IllegalArgumentException("The values must be added in X order, " + x
+          + " is lower than " + last.getLastX());
+    }
+    if (last == null || last.getCount() == BLOCK_SIZE || !last.canAppend(x)) {
+      if (last != null) {
+        last.trim();
+      }
+      last = new CompressedBlock();
+      if (mBlocks.size() == mBlockStarts.length) {
+        int[] starts = new int[mBlockStarts.length * 2];
+        System.arraycopy(mBlockStarts, 0, starts, 0, mBlockStarts.length);
+        mBlockStarts = starts;
+      }
+      mBlockStarts[mBlocks.size()] = mCount;
+      mBlocks.add(last);
+    }
+    last.append(x, y);
+    mCount++;
+    if (mDecodedBlock == mBlocks.size() - 1) {
+      mDecodedBlock = -1;
+    }
+    recordChange(CHANGE_ADDED, mCount - 1);
+  }
+
+  /**
+   * Appends a new value to the series, only supported at the end.
+   * 
+   * @param index the index, which must be the item count
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   */
+  @Override
+  public synchronized void add(int index, double x, double y) {
+    if (index != mCount) {
+      throw new UnsupportedOperationException("The values can only be appended");
+    }
+    add(x, y);
+  }
+
+  /**
+   * Not supported, the values are removed by whole blocks with
+   * {@link #removeBlocksBefore(double)}.
+   */
+  @Override
+  public void remove(int index) {
+    throw new UnsupportedOperationException("The values are removed by whole blocks");
+  }
+
+  /**
+   * Removes the blocks that only contain values lower than an X value, such
+   * as the values older than the retention period.
+   * 
+   * @param x the X value
+   * @return the number of removed values
+   */
+  public synchronized int removeBlocksBefore(double x) {
+    int blocks = 0;
+    // the last block is kept, as values are appended to it
+    while (blocks < mBlocks.size() - 1 && mBlocks.get(blocks).getLastX() < x) {
+      blocks++;
+    }
+    if (blocks == 0) {
+      return 0;
+    }
+    int removed = mBlockStarts[blocks];
+    mBlocks.subList(0, blocks).clear();
+    for (int i = 0; i < mBlocks.size(); i++) {
+      mBlockStarts[i] = mBlockStarts[i + blocks] - removed;
+    }
+    mCount -= removed;
+    mDecodedBlock = -1;
+    for (int i = 0; i < removed; i++) {
+      recordChange(CHANGE_REMOVED, 0);
+    }
+    return removed;
+  }
+
+  @Override
+  public synchronized void clear() {
+    mBlocks.clear();
+    mCount = 0;
+    mDecodedBlock = -1;
+    recordChange(CHANGE_CLEARED, 0);
+  }
+
+  /**
+   * Returns the number of blocks.
+   * 
+   * @return the number of blocks
+   */
+  public synchronized int getBlockCount() {
+    return mBlocks.size();
+  }
+
+  /**
+   * Returns a block, whose header can be used to summarize its values without
+   * decoding them, such as when drawing more values than pixels.
+   * 
+   * @param index the block index
+   * @return the block
+   */
+  public synchronized CompressedBlock getBlock(int index) {
+    return mBlocks.get(index);
+  }
+
+  /**
+   * Returns the index of the first value of a block.
+   * 
+   * @param index the block index
+   * @return the index of the first value
+   */
+  public synchronized int getBlockStart(int index) {
+    if (index < 0 || index >= mBlocks.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mBlocks.size());
+    }
+    return mBlockStarts[index];
+  }
+
+  /**
+   * Returns the size of the compressed values.
+   * 
+   * @return the size, in bytes
+   */
+  public synchronized long getEncodedSize() {
+    long size = 0;
+    for (CompressedBlock block : mBlocks) {
+      size += block.getEncodedSize();
+    }
+    return size;
+  }
+
+  /**
+   * Returns the block holding a value.
+   * 
+   * @param index the value index
+   * @return the block index
+   */
+  private int getBlockIndex(int index) {
+    if (index < 0 || index >= mCount) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+    }
+    int low = 0;
+    int high = mBlocks.size() - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (mBlockStarts[middle] <= index) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Decodes a block into the decoded values, unless it is already.
+   * 
+   * @param block the block index
+   */
+  private void decode(int block) {
+    if (mDecodedBlock == block && mDecodedXs != null) {
+      return;
+    }
+    if (mDecodedXs == null) {
+      mDecodedXs = new double[BLOCK_SIZE];
+      mDecodedYs = new double[BLOCK_SIZE];
+    }
+    mBlocks.get(block).decode(mDecodedXs, mDecodedYs, 0);
+    mDecodedBlock = block;
+  }
+
+  @Override
+  public synchronized int getItemCount() {
+    return mCount;
+  }
+
+  @Override
+  public synchronized double getX(int index) {
+    int block = getBlockIndex(index);
+    decode(block);
+    return mDecodedXs[index - mBlockStarts[block]];
+  }
+
+  @Override
+  public synchronized double getY(int index) {
+    int block = getBlockIndex(index);
+    decode(block);
+    return mDecodedYs[index - mBlockStarts[block]];
+  }
+
+  @Override
+  public synchronized int copyRange(int from, int to, double[] xs, double[] ys) {
+    from = Math.max(from, 0);
+    to = Math.min(to, mCount);
+    if (from >= to) {
+      return 0;
+    }
+    int index = from;
+    for (int block = getBlockIndex(from); index < to; block++) {
+      int start = mBlockStarts[block];
+      int count = Math.min(mBlocks.get(block).getCount(), to - start) - (index - start);
+      decode(block);
+      if (xs != null) {
+        System.arraycopy(mDecodedXs, index - start, xs, index - from, count);
+      }
+      if (ys != null) {
+        System.arraycopy(mDecodedYs, index - start, ys, index - from, count);
+      }
+      index += count;
+    }
+    return to - from;
+  }
+
+  /**
+   * Copies the values within an index range, summarizing the blocks that are
+   * not wider than a given X width. Such a block is replaced, without being
+   * decoded, by its first value, its minimum and maximum Y values in the middle
+   * of the block and its last value. When the width is the one of a pixel, the
+   * summary is drawn as the same vertical line as the values it replaces. The
+   * other blocks, and the blocks only partly in the range, are decoded.
+   * 
+   * @param from the first index, inclusive
+   * @param to the last index, exclusive
+   * @param maxBlockWidth the X width under which a block is summarized
+   * @param xs the array that receives the X values
+   * @param ys the array that receives the Y values
+   * @return the number of copied values, which is at most the number of values
+   *         within the range
+   */
+  public synchronized int copySummary(int from, int to, double maxBlockWidth, double[] xs,
+      double[] ys) {
+    from = Math.max(from, 0);
+    to = Math.min(to, mCount);
+    if (from >= to) {
+      return 0;
+    }
+    int count = 0;
+    int index = from;
+    for (int block = getBlockIndex(from); index < to; block++) {
+      CompressedBlock values = mBlocks.get(block);
+      int start = mBlockStarts[block];
+      int end = start + values.getCount();
+      if (index == start && end <= to && values.getCount() > SUMMARY_SIZE
+          && values.getLastX() - values.getFirstX() <= maxBlockWidth
+          && values.getMinY() <= values.getMaxY()) {
+        double middle = (values.getFirstX() + values.getLastX()) / 2;
+        xs[count] = values.getFirstX();
+        ys[count] = values.getFirstY();
+        xs[count + 1] = middle;
+        ys[count + 1] = values.getMinY();
+        xs[count + 2] = middle;
+        ys[count + 2] = values.getMaxY();
+        xs[count + 3] = values.getLastX();
+        ys[count + 3] = values.getLastY();
+        count += SUMMARY_SIZE;
+        index = end;
+      } else {
+        int length = Math.min(end, to) - index;
+        decode(block);
+        System.arraycopy(mDecodedXs, index - start, xs, count, length);
+        System.arraycopy(mDecodedYs, index - start, ys, count, length);
+        count += length;
+        index += length;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public synchronized int getCeilingIndex(double x) {
+    return search(x, false);
+  }
+
+  /**
+   * Searches the first value with an X greater than or equal to the given one,
+   * or greater than it.
+   * 
+   * @param x the X value
+   * @param after if the values with the same X are skipped
+   * @return the index, or the item count if there is no such value
+   */
+  private int search(double x, boolean after) {
+    // the first block ending at or after x, found from the block headers
+    int low = 0;
+    int high = mBlocks.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      double lastX = mBlocks.get(middle).getLastX();
+      if (lastX < x || after && lastX == x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    if (low == mBlocks.size()) {
+      return mCount;
+    }
+    CompressedBlock block = mBlocks.get(low);
+    if (x < block.getFirstX() || !after && x == block.getFirstX()) {
+      return mBlockStarts[low];
+    }
+    decode(low);
+    int first = 0;
+    int last = block.getCount() - 1;
+    while (first < last) {
+      int middle = (first + last) >>> 1;
+      if (mDecodedXs[middle] < x || after && mDecodedXs[middle] == x) {
+        first = middle + 1;
+      } else {
+        last = middle;
+      }
+    }
+    return mBlockStarts[low] + first;
+  }
+
+  @Override
+  public synchronized int getFloorIndex(double x) {
+    return search(x, true) - 1;
+  }
+
+  @Override
+  public synchronized int getIndexForKey(double key) {
+    int index = getCeilingIndex(key);
+    if (index < mCount && getX(index) == key) {
+      return index;
+    }
+    return -index - 1;
+  }
+
+  @Override
+  public synchronized boolean getYRange(double start, double stop, double[] range) {
+    double min = MathHelper.NULL_VALUE;
+    double max = -MathHelper.NULL_VALUE;
+    int from = getCeilingIndex(start);
+    int to = getFloorIndex(stop) + 1;
+    if (from >= to) {
+      return false;
+    }
+    for (int block = getBlockIndex(from); block < mBlocks.size() && mBlockStarts[block] < to;
+        block++) {
+      CompressedBlock values = mBlocks.get(block);
+      int blockStart = mBlockStarts[block];
+      int blockEnd = blockStart + values.getCount();
+      if (from <= blockStart && blockEnd <= to) {
+        // the whole block is in the range, its header has the range
+        min = Math.min(min, values.getMinY());
+        max = Math.max(max, values.getMaxY());
+      } else {
+        decode(block);
+        for (int i = Math.max(from, blockStart); i < Math.min(to, blockEnd); i++) {
+          double y = mDecodedYs[i - blockStart];
+          if (!Double.isNaN(y) && y != MathHelper.NULL_VALUE) {
+            min = Math.min(min, y);
+            max = Math.max(max, y);
+          }
+        }
+      }
+    }
+    if (min > max) {
+      return false;
+    }
+    range[0] = min;
+    range[1] = max;
+    return true;
+  }
+
+  @Override
+  public synchronized SortedMap<Double, Double> getRange(double start, double stop,
+      boolean beforeAfterPoints) {
+    int from = getCeilingIndex(start);
+    int to = getCeilingIndex(stop);
+    if (beforeAfterPoints) {
+      from = Math.max(0, from - 1);
+      to++;
+    }
+    SortedMap<Double, Double> range = new TreeMap<Double, Double>();
+    int length = Math.max(0, Math.min(to, mCount) - from);
+    double[] xs = new double[length];
+    double[] ys = new double[length];
+    int count = copyRange(from, to, xs, ys);
+    for (int i = 0; i < count; i++) {
+      range.put(xs[i], ys[i]);
+    }
+    return range;
+  }
+
+  @Override
+  public synchronized double getMinX() {
+    return mBlocks.isEmpty() ? MathHelper.NULL_VALUE : mBlocks.get(0).getFirstX();
+  }
+
+  @Override
+  public synchronized double getMaxX() {
+    return mBlocks.isEmpty() ? -MathHelper.NULL_VALUE : mBlocks.get(mBlocks.size() - 1)
+        .getLastX();
+  }
+
+  @Override
+  public synchronized double getMinY() {
+    double min = MathHelper.NULL_VALUE;
+    for (CompressedBlock block : mBlocks) {
+      min = Math.min(min, block.getMinY());
+    }
+    return min;
+  }
+
+  @Override
+  public synchronized double getMaxY() {
+    double max = -MathHelper.NULL_VALUE;
+    for (CompressedBlock block : mBlocks) {
+      max = Math.max(max, block.getMaxY());
+    }
+    return max;
+  }
+
+}
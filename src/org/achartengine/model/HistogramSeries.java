@@ -0,0 +1,265 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.achartengine.util.MathHelper;
+
+/**
+ * An XY series that exposes the buckets of a histogram sketch, such as a
+ * histogram chart can draw a distribution that is recorded as it goes. There
+ * is one value per bucket: the X value is the bucket lower bound and the Y
+ * value is the bucket count. The values are read from the sketch when they are
+ * drawn, so they are not copied and the values are added to the sketch, not to
+ * the series.
+ */
+public class HistogramSeries extends XYSeries {
+  /** The sketch. */
+  private final HistogramSketch mSketch;
+
+  /**
+   * Builds a new histogram series.
+   * 
+   * @param title the series title
+   * @param sketch the sketch
+   */
+  public HistogramSeries(String title, HistogramSketch sketch) {
+    this(title, sketch, 0);
+  }
+
+  /**
+   * Builds a new histogram series.
+   * 
+   * @param title the series title
+   * @param sketch the sketch
+   * @param scaleNumber the series scale number
+   */
+  public HistogramSeries(String title, HistogramSketch sketch, int scaleNumber) {
+    super(title, scaleNumber);
+    mSketch = sketch;
+  }
+
+  /**
+   * Returns the sketch.
+   * 
+   * @return the sketch
+   */
+  public HistogramSketch getSketch() {
+    return mSketch;
+  }
+
+  /**
+   * Not supported, the values are added to the sketch.
+   */
+  @Override
+  public void add(double x, double y) {
+    throw new UnsupportedOperationException("The values are added to the sketch");
+  }
+
+  /**
+   * Not supported, the values are added to the sketch.
+   */
+  @Override
+  public void add(int index, double x, double y) {
+    throw new UnsupportedOperationException("The values are added to the sketch");
+  }
+
+  /**
+   * Not supported, the values are added to the sketch.
+   */
+  @Override
+  public void remove(int index) {
+    throw new UnsupportedOperationException("The values are added to the sketch");
+  }
+
+  /**
+   * Removes all the values from the sketch.
+   */
+  @Override
+  public synchronized void clear() {
+    super.clear();
+    mSketch.clear();
+  }
+
+  /**
+   * Returns the series version, which also changes with each value added to
+   * the sketch.
+   * 
+   * @return the series version
+   */
+  @Override
+  public int getVersion() {
+    return super.getVersion() + mSketch.getVersion();
+  }
+
+  @Override
+  public int getItemCount() {
+    return mSketch.getBucketCount();
+  }
+
+  @Override
+  public synchronized double getX(int index) {
+    checkBucket(index);
+    return mSketch.getLowerBound(index);
+  }
+
+  @Override
+  public synchronized double getY(int index) {
+    checkBucket(index);
+    return mSketch.getCount(index);
+  }
+
+  /**
+   * Checks that an index is within the buckets.
+   * 
+   * @param index the index
+   */
+  private void checkBucket(int index) {
+    if (index < 0 || index >= mSketch.getBucketCount()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+          + mSketch.getBucketCount());
+    }
+  }
+
+  @Override
+  public synchronized int copyRange(int from, int to, double[] xs, double[] ys) {
+    from = Math.max(from, 0);
+    to = Math.min(to, mSketch.getBucketCount());
+    if (from >= to) {
+      return 0;
+    }
+    if (xs != null) {
+      for (int i = from; i < to; i++) {
+        xs[i - from] = mSketch.getLowerBound(i);
+      }
+    }
+    if (ys != null) {
+      mSketch.copyCounts(from, to, ys, 0);
+    }
+    return to - from;
+  }
+
+  @Override
+  public synchronized int getCeilingIndex(double x) {
+    int count = mSketch.getBucketCount();
+    if (!(x > mSketch.getMinValue())) {
+      return 0;
+    }
+    // the bucket index of x, moved to the first lower bound not below x
+    int index = mSketch.getBucketIndex(x);
+    while (index > 0 && mSketch.getLowerBound(index - 1) >= x) {
+      index--;
+    }
+    while (index < count && mSketch.getLowerBound(index) < x) {
+      index++;
+    }
+    return index;
+  }
+
+  @Override
+  public synchronized int getFloorIndex(double x) {
+    int index = getCeilingIndex(x);
+    if (index < mSketch.getBucketCount() && mSketch.getLowerBound(index) == x) {
+      return index;
+    }
+    return index - 1;
+  }
+
+  @Override
+  public synchronized int getIndexForKey(double key) {
+    int index = getCeilingIndex(key);
+    if (index < mSketch.getBucketCount() && mSketch.getLowerBound(index) == key) {
+      return index;
+    }
+    return -index - 1;
+  }
+
+  /**
+   * Returns the Y range of the buckets within an X range, which starts at 0.
+   * 
+   * @param start the start of the X range
+   * @param stop the end of the X range
+   * @param range an array that receives the minimum and maximum Y values
+   * @return false if there are no buckets within the range
+   */
+  @Override
+  public synchronized boolean getYRange(double start, double stop, double[] range) {
+    int from = getCeilingIndex(start);
+    int to = getFloorIndex(stop) + 1;
+    if (from >= to) {
+      return false;
+    }
+    long max = 0;
+    for (int i = from; i < to; i++) {
+      max = Math.max(max, mSketch.getCount(i));
+    }
+    range[0] = 0;
+    range[1] = max;
+    return true;
+  }
+
+  @Override
+  public synchronized SortedMap<Double, Double> getRange(double start, double stop,
+      boolean beforeAfterPoints) {
+    int from = getCeilingIndex(start);
+    int to = getCeilingIndex(stop);
+    if (beforeAfterPoints) {
+      from = Math.max(0, from - 1);
+      to++;
+    }
+    to = Math.min(to, mSketch.getBucketCount());
+    SortedMap<Double, Double> range = new TreeMap<Double, Double>();
+    for (int i = from; i < to; i++) {
+      range.put(mSketch.getLowerBound(i), (double) mSketch.getCount(i));
+    }
+    return range;
+  }
+
+  /**
+   * Returns the lower bound of the first bucket that is not empty.
+   * 
+   * @return the X axis minimum value
+   */
+  @Override
+  public synchronized double getMinX() {
+    int index = mSketch.getFirstIndex();
+    return index < 0 ? MathHelper.NULL_VALUE : mSketch.getLowerBound(index);
+  }
+
+  /**
+   * Returns the upper bound of the last bucket that is not empty.
+   * 
+   * @return the X axis maximum value
+   */
+  @Override
+  public synchronized double getMaxX() {
+    int index = mSketch.getLastIndex();
+    return index < 0 ? -MathHelper.NULL_VALUE : mSketch.getUpperBound(index);
+  }
+
+  @Override
+  public synchronized double getMinY() {
+    return mSketch.getFirstIndex() < 0 ? MathHelper.NULL_VALUE : 0;
+  }
+
+  @Override
+  public synchronized double getMaxY() {
+    return mSketch.getFirstIndex() < 0 ? -MathHelper.NULL_VALUE : mSketch.getMaxCount();
+  }
+
+}
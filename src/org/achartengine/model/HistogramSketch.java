@@ -0,0 +1,407 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.io.Serializable;
+
+/**
+ * A histogram of values in logarithmic buckets, such as the distribution of
+ * millions of latency samples can be kept and drawn without holding the
+ * samples. Each bucket is wider than the previous one by a constant factor, so
+ * any quantile is estimated within the relative accuracy given at creation.
+ * Adding a value only increments the counter of its bucket and the memory only
+ * depends on the bucket layout. Sketches with the same layout can be merged,
+ * such as each thread can record into its own sketch and merge it into a shared
+ * one.
+ */
+public class HistogramSketch implements Serializable {
+  /** The lower bound of the first bucket. */
+  private final double mMinValue;
+  /** The relative accuracy of the quantiles. */
+  private final double mRelativeAccuracy;
+  /** The ratio between the bounds of a bucket. */
+  private final double mGamma;
+  /** The inverse of the logarithm of the bucket ratio. */
+  private final double mInverseLogGamma;
+  /** The value counts of the buckets. */
+  private final long[] mCounts;
+  /** The number of values. */
+  private long mCount;
+  /** The sum of the values. */
+  private double mSum;
+  /** The lowest value. */
+  private double mMin = Double.POSITIVE_INFINITY;
+  /** The highest value. */
+  private double mMax = Double.NEGATIVE_INFINITY;
+  /** The index of the first bucket that is not empty, or -1. */
+  private int mFirstIndex = -1;
+  /** The index of the last bucket that is not empty, or -1. */
+  private int mLastIndex = -1;
+  /** The highest bucket count. */
+  private long mMaxCount;
+  /** The sketch version, which changes with each added value. */
+  private volatile int mVersion;
+
+  /**
+   * Builds a new histogram sketch. The values lower than the minimum value are
+   * counted in the first bucket and the ones higher than the maximum value in
+   * the last bucket.
+   * 
+   * @param minValue the lowest value that is bucketed accurately, positive
+   * @param maxValue the highest value that is bucketed accurately
+   * @param relativeAccuracy the relative accuracy of the quantiles, such as 0.01
+   *          for 1%
+   */
+  public HistogramSketch(double minValue, double maxValue, double relativeAccuracy) {
+    if (!(minValue > 0) || !(maxValue > minValue)) {
+      throw new IllegalArgumentException("Invalid value range: " + minValue + " - " + maxValue);
+    }
+    if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+      throw new IllegalArgumentException("The relative accuracy must be between 0 and 1: "
+          + relativeAccuracy);
+    }
+    mMinValue = minValue;
+    mRelativeAccuracy = relativeAccuracy;
+    mGamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+    mInverseLogGamma = 1 / Math.log(mGamma);
+    int count = (int) Math.ceil(Math.log(maxValue / minValue) * mInverseLogGamma);
+    mCounts = new long[Math.max(1, count)];
+  }
+
+  /**
+   * Returns the lower bound of the first bucket.
+   * 
+   * @return the minimum value
+   */
+  public double getMinValue() {
+    return mMinValue;
+  }
+
+  /**
+   * Returns the relative accuracy of the quantiles.
+   * 
+   * @return the relative accuracy
+   */
+  public double getRelativeAccuracy() {
+    return mRelativeAccuracy;
+  }
+
+  /**
+   * Returns the ratio between the upper and the lower bound of a bucket.
+   * 
+   * @return the bucket ratio
+   */
+  public double getGamma() {
+    return mGamma;
+  }
+
+  /**
+   * Returns the number of buckets.
+   * 
+   * @return the bucket count
+   */
+  public int getBucketCount() {
+    return mCounts.length;
+  }
+
+  /**
+   * Returns the index of the bucket a value is counted in.
+   * 
+   * @param value the value
+   * @return the bucket index
+   */
+  public int getBucketIndex(double value) {
+    if (!(value > mMinValue)) {
+      return 0;
+    }
+    int index = (int) (Math.log(value / mMinValue) * mInverseLogGamma);
+    return Math.min(index, mCounts.length - 1);
+  }
+
+  /**
+   * Returns the lower bound of a bucket.
+   * 
+   * @param index the bucket index
+   * @return the lower bound
+   */
+  public double getLowerBound(int index) {
+    return mMinValue * Math.pow(mGamma, index);
+  }
+
+  /**
+   * Returns the upper bound of a bucket.
+   * 
+   * @param index the bucket index
+   * @return the upper bound
+   */
+  public double getUpperBound(int index) {
+    return mMinValue * Math.pow(mGamma, index + 1);
+  }
+
+  /**
+   * Adds a value.
+   * 
+   * @param value the value, NaN values are ignored
+   */
+  public void add(double value) {
+    add(value, 1);
+  }
+
+  /**
+   * Adds a number of occurrences of a value.
+   * 
+   * @param value the value, NaN values are ignored
+   * @param count the number of occurrences
+   */
+  public synchronized void add(double value, long count) {
+    if (Double.isNaN(value) || count <= 0) {
+      return;
+    }
+    int index = getBucketIndex(value);
+    long bucketCount = mCounts[index] + count;
+    mCounts[index] = bucketCount;
+    mCount += count;
+    mSum += value * count;
+    mMin = Math.min(mMin, value);
+    mMax = Math.max(mMax, value);
+    if (mFirstIndex < 0 || index < mFirstIndex) {
+      mFirstIndex = index;
+    }
+    mLastIndex = Math.max(mLastIndex, index);
+    mMaxCount = Math.max(mMaxCount, bucketCount);
+    mVersion++;
+  }
+
+  /**
+   * Returns if a sketch has the same bucket layout, such as it can be merged
+   * into this one.
+   * 
+   * @param sketch the other sketch
+   * @return if the sketches have the same layout
+   */
+  public boolean isCompatible(HistogramSketch sketch) {
+    return mMinValue == sketch.mMinValue && mGamma == sketch.mGamma
+        && mCounts.length == sketch.mCounts.length;
+  }
+
+  /**
+   * Adds the values of another sketch with the same bucket layout. The other
+   * sketch is read under its own lock before this one is updated, so sketches
+   * can be merged into each other from different threads.
+   * 
+   * @param sketch the sketch to merge
+   */
+  public void merge(HistogramSketch sketch) {
+    if (sketch == this) {
+      throw new IllegalArgumentException("A sketch cannot be merged into itself");
+    }
+    if (!isCompatible(sketch)) {
+      throw new IllegalArgumentException("The sketches have different bucket layouts");
+    }
+    long[] counts;
+    long count;
+    double sum;
+    double min;
+    double max;
+    synchronized (sketch) {
+      counts = sketch.mCounts.clone();
+      count = sketch.mCount;
+      sum = sketch.mSum;
+      min = sketch.mMin;
+      max = sketch.mMax;
+    }
+    if (count == 0) {
+      return;
+    }
+    synchronized (this) {
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          long bucketCount = mCounts[i] + counts[i];
+          mCounts[i] = bucketCount;
+          if (mFirstIndex < 0 || i < mFirstIndex) {
+            mFirstIndex = i;
+          }
+          mLastIndex = Math.max(mLastIndex, i);
+          mMaxCount = Math.max(mMaxCount, bucketCount);
+        }
+      }
+      mCount += count;
+      mSum += sum;
+      mMin = Math.min(mMin, min);
+      mMax = Math.max(mMax, max);
+      mVersion++;
+    }
+  }
+
+  /**
+   * Removes all the values.
+   */
+  public synchronized void clear() {
+    for (int i = 0; i < mCounts.length; i++) {
+      mCounts[i] = 0;
+    }
+    mCount = 0;
+    mSum = 0;
+    mMin = Double.POSITIVE_INFINITY;
+    mMax = Double.NEGATIVE_INFINITY;
+    mFirstIndex = -1;
+    mLastIndex = -1;
+    mMaxCount = 0;
+    mVersion++;
+  }
+
+  /**
+   * Returns the number of values of a bucket.
+   * 
+   * @param index the bucket index
+   * @return the bucket count
+   */
+  public synchronized long getCount(int index) {
+    return mCounts[index];
+  }
+
+  /**
+   * Copies the value counts of a range of buckets.
+   * 
+   * @param from the index of the first bucket
+   * @param to the index after the last bucket
+   * @param counts the array that receives the counts
+   * @param offset the index in the array of the first count
+   */
+  public synchronized void copyCounts(int from, int to, double[] counts, int offset) {
+    for (int i = from; i < to; i++) {
+      counts[offset + i - from] = mCounts[i];
+    }
+  }
+
+  /**
+   * Returns the number of values.
+   * 
+   * @return the value count
+   */
+  public synchronized long getCount() {
+    return mCount;
+  }
+
+  /**
+   * Returns the mean of the values.
+   * 
+   * @return the mean, or NaN if there are no values
+   */
+  public synchronized double getMean() {
+    return mCount == 0 ? Double.NaN : mSum / mCount;
+  }
+
+  /**
+   * Returns the lowest value.
+   * 
+   * @return the lowest value, or NaN if there are no values
+   */
+  public synchronized double getMin() {
+    return mCount == 0 ? Double.NaN : mMin;
+  }
+
+  /**
+   * Returns the highest value.
+   * 
+   * @return the highest value, or NaN if there are no values
+   */
+  public synchronized double getMax() {
+    return mCount == 0 ? Double.NaN : mMax;
+  }
+
+  /**
+   * Returns the index of the first bucket that is not empty.
+   * 
+   * @return the bucket index, or -1 if there are no values
+   */
+  public synchronized int getFirstIndex() {
+    return mFirstIndex;
+  }
+
+  /**
+   * Returns the index of the last bucket that is not empty.
+   * 
+   * @return the bucket index, or -1 if there are no values
+   */
+  public synchronized int getLastIndex() {
+    return mLastIndex;
+  }
+
+  /**
+   * Returns the highest bucket count.
+   * 
+   * @return the highest bucket count
+   */
+  public synchronized long getMaxCount() {
+    return mMaxCount;
+  }
+
+  /**
+   * Returns the sketch version, which changes with each added value, such as
+   * the work depending on the values can be skipped when it did not change.
+   * 
+   * @return the sketch version
+   */
+  public int getVersion() {
+    return mVersion;
+  }
+
+  /**
+   * Returns an estimate of a quantile of the values.
+   * 
+   * @param quantile the quantile, between 0 and 1
+   * @return the estimate, or NaN if there are no values
+   */
+  public synchronized double getQuantile(double quantile) {
+    double[] values = new double[1];
+    getQuantiles(new double[] { quantile }, values);
+    return values[0];
+  }
+
+  /**
+   * Estimates several quantiles of the values in one pass over the buckets.
+   * 
+   * @param quantiles the quantiles, between 0 and 1 in ascending order
+   * @param values the array that receives the estimates, NaN if there are no
+   *          values
+   */
+  public synchronized void getQuantiles(double[] quantiles, double[] values) {
+    int index = mFirstIndex;
+    long cumulative = index < 0 ? 0 : mCounts[index];
+    for (int i = 0; i < quantiles.length; i++) {
+      double quantile = quantiles[i];
+      if (mCount == 0) {
+        values[i] = Double.NaN;
+      } else if (quantile <= 0) {
+        values[i] = mMin;
+      } else if (quantile >= 1) {
+        values[i] = mMax;
+      } else {
+        // the bucket holding the value of that rank
+        double rank = quantile * (mCount - 1);
+        while (cumulative <= rank && index < mLastIndex) {
+          index++;
+          cumulative += mCounts[index];
+        }
+        // the value with the same relative distance to both bucket bounds
+        double value = 2 * getUpperBound(index) / (1 + mGamma);
+        values[i] = Math.max(mMin, Math.min(mMax, value));
+      }
+    }
+  }
+
+}
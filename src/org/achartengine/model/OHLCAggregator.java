@@ -0,0 +1,263 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+/**
+ * Aggregates the ticks of an XY series into the bars of an OHLC series. The
+ * ticks appended to the tick series since the last update are merged into the
+ * bars of their buckets, so an update costs the number of new ticks and not the
+ * tick history. The aggregator is notified of each change of the tick series
+ * while it is locked, and only keeps track of the merged ticks then. On update,
+ * the ticks inserted before the last merged one are merged into their bars as
+ * late ticks, and when the first ticks were removed, as a retention limit does,
+ * only the leading bar is built again. The bars are only rebuilt from all the
+ * ticks when merged ticks are removed from the middle of the series.
+ */
+public class OHLCAggregator implements SeriesChangeListener {
+  /** The maximum number of late ticks kept between two updates. */
+  private static final int MAX_LATE_TICKS = 64;
+  /** The tick series. */
+  private final XYSeries mTicks;
+  /** The OHLC series. */
+  private final OHLCSeries mSeries;
+  /** The number of leading ticks that are merged into the bars. */
+  private int mMergedCount;
+  /** The indexes of the ticks inserted among the merged ones, not merged yet. */
+  private final int[] mLateTicks = new int[MAX_LATE_TICKS];
+  /** The number of late ticks. */
+  private int mLateCount;
+  /** If the first ticks were removed, which changes the leading bar. */
+  private boolean mTrimmed;
+  /** If the bars must be rebuilt from all the ticks. */
+  private boolean mRebuild;
+  /** The X values of the ticks being merged, reused between updates. */
+  private final double[] mXs = new double[256];
+  /** The Y values of the ticks being merged, reused between updates. */
+  private final double[] mYs = new double[256];
+
+  /**
+   * Builds a new aggregator, which merges the current ticks into the OHLC
+   * series.
+   * 
+   * @param ticks the tick series
+   * @param series the OHLC series
+   */
+  public OHLCAggregator(XYSeries ticks, OHLCSeries series) {
+    mTicks = ticks;
+    mSeries = series;
+    synchronized (ticks) {
+      ticks.addLockedListener(this);
+      rebuild();
+    }
+  }
+
+  /**
+   * Returns the tick series.
+   * 
+   * @return the tick series
+   */
+  public XYSeries getTicks() {
+    return mTicks;
+  }
+
+  /**
+   * Returns the OHLC series.
+   * 
+   * @return the OHLC series
+   */
+  public OHLCSeries getSeries() {
+    return mSeries;
+  }
+
+  /**
+   * Merges the ticks changed since the last update into the bars. The tick
+   * series is locked during the update, such as the ticks cannot change between
+   * the tracked changes and the merge.
+   */
+  public void update() {
+    synchronized (mTicks) {
+      synchronized (this) {
+        if (mRebuild) {
+          rebuild();
+          return;
+        }
+        if (mTrimmed) {
+          trim();
+        }
+        for (int i = 0; i < mLateCount; i++) {
+          mSeries.addTick(mTicks.getX(mLateTicks[i]), mTicks.getY(mLateTicks[i]));
+        }
+        mLateCount = 0;
+        merge(mTicks.getItemCount());
+      }
+    }
+  }
+
+  /**
+   * Stops following the tick series.
+   */
+  public void detach() {
+    mTicks.removeLockedListener(this);
+  }
+
+  public void changesPending(XYSeries series) {
+    // the changes are tracked as they are made
+  }
+
+  /**
+   * Tracks an added tick. It is called while the tick series is locked.
+   * 
+   * @param series the tick series
+   * @param index the index of the added tick
+   * @param count the number of added ticks, always 1
+   */
+  public synchronized void valuesAdded(XYSeries series, int index, int count) {
+    if (index >= mMergedCount) {
+      // merged on the next update, with the other new ticks
+      return;
+    }
+    for (int i = 0; i < mLateCount; i++) {
+      if (mLateTicks[i] >= index) {
+        mLateTicks[i] += count;
+      }
+    }
+    if (mLateCount + count > MAX_LATE_TICKS) {
+      mRebuild = true;
+    } else {
+      for (int i = 0; i < count; i++) {
+        mLateTicks[mLateCount++] = index + i;
+      }
+    }
+    mMergedCount += count;
+  }
+
+  /**
+   * Tracks a removed tick. It is called while the tick series is locked.
+   * 
+   * @param series the tick series
+   * @param index the index of the removed tick
+   * @param count the number of removed ticks, always 1
+   */
+  public synchronized void valuesRemoved(XYSeries series, int index, int count) {
+    if (index >= mMergedCount) {
+      return;
+    }
+    int late = 0;
+    for (int i = 0; i < mLateCount; i++) {
+      int tick = mLateTicks[i];
+      if (tick >= index + count) {
+        mLateTicks[late++] = tick - count;
+      } else if (tick < index) {
+        mLateTicks[late++] = tick;
+      }
+    }
+    mLateCount = late;
+    mMergedCount -= Math.min(count, mMergedCount - index);
+    if (index == 0) {
+      mTrimmed = true;
+    } else {
+      // a tick cannot be taken out of a bar without the other ticks of the bar
+      mRebuild = true;
+    }
+  }
+
+  /**
+   * Tracks the tick series being cleared. It is called while the tick series
+   * is locked.
+   * 
+   * @param series the tick series
+   */
+  public synchronized void seriesCleared(XYSeries series) {
+    mRebuild = true;
+  }
+
+  /**
+   * Rebuilds the bars from all the ticks.
+   */
+  private synchronized void rebuild() {
+    mSeries.clear();
+    mMergedCount = 0;
+    mLateCount = 0;
+    mTrimmed = false;
+    mRebuild = false;
+    merge(mTicks.getItemCount());
+  }
+
+  /**
+   * Removes the bars whose ticks were all removed and builds the leading bar
+   * again from its remaining ticks.
+   */
+  private void trim() {
+    mTrimmed = false;
+    if (mMergedCount == 0) {
+      mSeries.clear();
+      return;
+    }
+    double bucket = mSeries.getBucket(mTicks.getX(0));
+    while (mSeries.getItemCount() > 0 && mSeries.getX(0) < bucket) {
+      mSeries.remove(0);
+    }
+    int end = Math.min(mMergedCount, mTicks.getCeilingIndex(bucket + mSeries.getBucketSize()));
+    double firstX = 0;
+    double open = 0;
+    double high = 0;
+    double low = 0;
+    double lastX = 0;
+    double close = 0;
+    for (int from = 0; from < end;) {
+      int copied = mTicks.copyRange(from, Math.min(end, from + mXs.length), mXs, mYs);
+      if (copied == 0) {
+        break;
+      }
+      if (from == 0) {
+        firstX = mXs[0];
+        open = mYs[0];
+        high = open;
+        low = open;
+      }
+      for (int i = 0; i < copied; i++) {
+        high = Math.max(high, mYs[i]);
+        low = Math.min(low, mYs[i]);
+      }
+      lastX = mXs[copied - 1];
+      close = mYs[copied - 1];
+      from += copied;
+    }
+    if (mSeries.getItemCount() > 0 && mSeries.getX(0) == bucket) {
+      mSeries.setBar(0, firstX, lastX, open, high, low, close);
+    }
+  }
+
+  /**
+   * Merges the ticks that were not merged yet.
+   * 
+   * @param count the number of ticks
+   */
+  private void merge(int count) {
+    while (mMergedCount < count) {
+      int to = Math.min(count, mMergedCount + mXs.length);
+      int copied = mTicks.copyRange(mMergedCount, to, mXs, mYs);
+      if (copied == 0) {
+        break;
+      }
+      for (int i = 0; i < copied; i++) {
+        mSeries.addTick(mXs[i], mYs[i]);
+      }
+      mMergedCount += copied;
+    }
+  }
+
+}
@@ -0,0 +1,468 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import org.achartengine.util.MathHelper;
+import org.achartengine.util.RangeMinMaxIndex;
+
+/**
+ * An extension of the XY series for open, high, low and close (OHLC) bars, such
+ * as the bars of a candlestick chart. The X value of a bar is the start of its
+ * bucket and the Y value is its close. The bars are built incrementally from
+ * ticks with {@link #addTick(double, double)}, which only updates the bar of the
+ * tick bucket. Coarser series are derived from the bars with
+ * {@link #addCoarserSeries(int)} and updated along, such as a chart that is
+ * zoomed out can draw fewer bars.
+ */
+public class OHLCSeries extends XYSeries {
+  /** The bucket size on the X axis. */
+  private final double mBucketSize;
+  /** The open values, in index order. */
+  private double[] mOpens = new double[16];
+  /** The high values, in index order. */
+  private double[] mHighs = new double[16];
+  /** The low values, in index order. */
+  private double[] mLows = new double[16];
+  /** The X of the first tick of each bar, which gives the open value. */
+  private double[] mFirstXs = new double[16];
+  /** The X of the last tick of each bar, which gives the close value. */
+  private double[] mLastXs = new double[16];
+  /** The number of bars. */
+  private int mBarCount;
+  /** The index of the high values, used to get the Y range of an X range. */
+  private final RangeMinMaxIndex mHighIndex = new RangeMinMaxIndex();
+  /** The index of the low values, used to get the Y range of an X range. */
+  private final RangeMinMaxIndex mLowIndex = new RangeMinMaxIndex();
+  /** The next coarser series, or null. */
+  private OHLCSeries mCoarser;
+  /** A Y range, reused to avoid allocations. */
+  private final double[] mRange = new double[2];
+
+  /**
+   * Builds a new OHLC series.
+   * 
+   * @param title the series title
+   * @param bucketSize the size of the bar buckets on the X axis
+   */
+  public OHLCSeries(String title, double bucketSize) {
+    this(title, bucketSize, 0);
+  }
+
+  /**
+   * Builds a new OHLC series.
+   * 
+   * @param title the series title
+   * @param bucketSize the size of the bar buckets on the X axis
+   * @param scaleNumber the series scale number
+   */
+  public OHLCSeries(String title, double bucketSize, int scaleNumber) {
+    super(title, scaleNumber);
+    if (!(bucketSize > 0)) {
+      throw new IllegalArgumentException("The bucket size must be positive: " + bucketSize);
+    }
+    mBucketSize = bucketSize;
+  }
+
+  /**
+   * Returns the size of the bar buckets on the X axis.
+   * 
+   * @return the bucket size
+   */
+  public double getBucketSize() {
+    return mBucketSize;
+  }
+
+  /**
+   * Returns the start of the bucket an X value belongs to.
+   * 
+   * @param x the X value
+   * @return the bucket start
+   */
+  public double getBucket(double x) {
+    return Math.floor(x / mBucketSize) * mBucketSize;
+  }
+
+  /**
+   * Adds a tick to the bar of its bucket, creating the bar if needed. The open
+   * and close values of the bar are the ones of its first and last ticks on the
+   * X axis, so ticks may arrive late.
+   * 
+   * @param x the tick value for the X axis
+   * @param price the tick price
+   */
+  public synchronized void addTick(double x, double price) {
+    merge(x, x, price, price, price, price);
+  }
+
+  /**
+   * Adds a bar, or merges it with the bar of the same bucket.
+   * 
+   * @param x the bar start on the X axis
+   * @param open the open value
+   * @param high the high value
+   * @param low the low value
+   * @param close the close value
+   */
+  public synchronized void add(double x, double open, double high, double low, double close) {
+    merge(x, x, open, high, low, close);
+  }
+
+  /**
+   * Adds a bar with the same open, high, low and close values.
+   * 
+   * @param x the bar start on the X axis
+   * @param y the bar value
+   */
+  @Override
+  public synchronized void add(double x, double y) {
+    add(x, y, y, y, y);
+  }
+
+  /**
+   * Adds a bar with the same open, high, low and close values at the specified
+   * index.
+   * 
+   * @param index the index to be added the bar to
+   * @param x the bar start on the X axis
+   * @param y the bar value
+   */
+  @Override
+  public synchronized void add(int index, double x, double y) {
+    super.add(index, x, y);
+    insertBar(index, x, x, y, y, y);
+    if (mCoarser != null) {
+      mCoarser.merge(x, x, y, y, y, y);
+    }
+  }
+
+  /**
+   * Merges ticks into the bar of their bucket. It is synchronized as it is also
+   * called on the coarser series, with the lock of the finer series held.
+   * 
+   * @param firstX the X of the first tick
+   * @param lastX the X of the last tick
+   * @param open the first tick value
+   * @param high the highest tick value
+   * @param low the lowest tick value
+   * @param close the last tick value
+   */
+  private synchronized void merge(double firstX, double lastX, double open, double high,
+      double low, double close) {
+    double bucket = getBucket(firstX);
+    int count = getItemCount();
+    int index;
+    if (count > 0 && getX(count - 1) == bucket) {
+      // most ticks go to the last bar
+      index = count - 1;
+    } else {
+      index = getIndexForKey(bucket);
+    }
+    if (index < 0) {
+      index = -index - 1;
+      super.add(index, bucket, close);
+      insertBar(index, firstX, lastX, open, high, low);
+    } else {
+      if (firstX < mFirstXs[index]) {
+        mFirstXs[index] = firstX;
+        mOpens[index] = open;
+      }
+      if (high > mHighs[index]) {
+        mHighs[index] = high;
+        mHighIndex.set(index, high);
+      }
+      if (low < mLows[index]) {
+        mLows[index] = low;
+        mLowIndex.set(index, low);
+      }
+      double barClose = getY(index);
+      if (lastX >= mLastXs[index]) {
+        mLastXs[index] = lastX;
+        barClose = close;
+      }
+      setY(index, barClose);
+    }
+    if (mCoarser != null) {
+      mCoarser.merge(firstX, lastX, open, high, low, close);
+    }
+  }
+
+  /**
+   * Inserts the open, high and low values of a bar, growing the arrays when
+   * needed.
+   * 
+   * @param index the index
+   * @param firstX the X of the first tick
+   * @param lastX the X of the last tick
+   * @param open the open value
+   * @param high the high value
+   * @param low the low value
+   */
+  private void insertBar(int index, double firstX, double lastX, double open, double high,
+      double low) {
+    if (mBarCount == mOpens.length) {
+      int capacity = mOpens.length * 2;
+      mOpens = grow(mOpens, capacity);
+      mHighs = grow(mHighs, capacity);
+      mLows = grow(mLows, capacity);
+      mFirstXs = grow(mFirstXs, capacity);
+      mLastXs = grow(mLastXs, capacity);
+    }
+    int count = mBarCount - index;
+    System.arraycopy(mOpens, index, mOpens, index + 1, count);
+    System.arraycopy(mHighs, index, mHighs, index + 1, count);
+    System.arraycopy(mLows, index, mLows, index + 1, count);
+    System.arraycopy(mFirstXs, index, mFirstXs, index + 1, count);
+    System.arraycopy(mLastXs, index, mLastXs, index + 1, count);
+    mOpens[index] = open;
+    mHighs[index] = high;
+    mLows[index] = low;
+    mFirstXs[index] = firstX;
+    mLastXs[index] = lastX;
+    mHighIndex.add(index, high);
+    mLowIndex.add(index, low);
+    mBarCount++;
+  }
+
+  /**
+   * Copies values to a larger array.
+   * 
+   * @param values the values
+   * @param capacity the new array length
+   * @return the new array
+   */
+  private double[] grow(double[] values, int capacity) {
+    double[] grown = new double[capacity];
+    System.arraycopy(values, 0, grown, 0, mBarCount);
+    return grown;
+  }
+
+  /**
+   * Adds a coarser series, which merges a number of consecutive buckets of the
+   * coarsest series into one bar. It is built from the current bars and then
+   * updated along with this series.
+   * 
+   * @param factor the number of buckets merged into a coarser one, at least 2
+   * @return the coarser series
+   */
+  public synchronized OHLCSeries addCoarserSeries(int factor) {
+    if (factor < 2) {
+      throw new IllegalArgumentException("The factor must be at least 2: " + factor);
+    }
+    if (mCoarser != null) {
+      return mCoarser.addCoarserSeries(factor);
+    }
+    OHLCSeries coarser = new OHLCSeries(getTitle(), mBucketSize * factor, getScaleNumber());
+    for (int i = 0; i < mBarCount; i++) {
+      coarser.merge(mFirstXs[i], mLastXs[i], mOpens[i], mHighs[i], mLows[i], getY(i));
+    }
+    mCoarser = coarser;
+    return coarser;
+  }
+
+  /**
+   * Returns the next coarser series.
+   * 
+   * @return the coarser series, or null
+   */
+  public synchronized OHLCSeries getCoarserSeries() {
+    return mCoarser;
+  }
+
+  /**
+   * Replaces the values of a bar, such as when some of the ticks it was built
+   * from were removed.
+   * 
+   * @param index the bar index
+   * @param firstX the X of the first tick
+   * @param lastX the X of the last tick
+   * @param open the open value
+   * @param high the high value
+   * @param low the low value
+   * @param close the close value
+   */
+  synchronized void setBar(int index, double firstX, double lastX, double open, double high,
+      double low, double close) {
+    checkBar(index);
+    mFirstXs[index] = firstX;
+    mLastXs[index] = lastX;
+    mOpens[index] = open;
+    mHighs[index] = high;
+    mHighIndex.set(index, high);
+    mLows[index] = low;
+    mLowIndex.set(index, low);
+    setY(index, close);
+    if (mCoarser != null) {
+      mCoarser.updateBucket(this, getX(index));
+    }
+  }
+
+  /**
+   * Builds the bar of a bucket again from the bars of the finer series within
+   * the bucket, or removes it when there are none left. Only the bar of the
+   * bucket changes, instead of all the bars being merged again.
+   * 
+   * @param finer the finer series
+   * @param x an X value within the bucket
+   */
+  private synchronized void updateBucket(OHLCSeries finer, double x) {
+    double bucket = getBucket(x);
+    int index = getIndexForKey(bucket);
+    int from = finer.getCeilingIndex(bucket);
+    int to = finer.getCeilingIndex(bucket + mBucketSize);
+    if (from >= to) {
+      if (index >= 0) {
+        remove(index);
+      }
+      return;
+    }
+    double high = finer.mHighs[from];
+    double low = finer.mLows[from];
+    for (int i = from + 1; i < to; i++) {
+      high = Math.max(high, finer.mHighs[i]);
+      low = Math.min(low, finer.mLows[i]);
+    }
+    double close = finer.getY(to - 1);
+    if (index < 0) {
+      merge(finer.mFirstXs[from], finer.mLastXs[to - 1], finer.mOpens[from], high, low, close);
+    } else {
+      setBar(index, finer.mFirstXs[from], finer.mLastXs[to - 1], finer.mOpens[from], high, low,
+          close);
+    }
+  }
+
+  @Override
+  public synchronized void remove(int index) {
+    double x = getX(index);
+    super.remove(index);
+    int count = mBarCount - index - 1;
+    System.arraycopy(mOpens, index + 1, mOpens, index, count);
+    System.arraycopy(mHighs, index + 1, mHighs, index, count);
+    System.arraycopy(mLows, index + 1, mLows, index, count);
+    System.arraycopy(mFirstXs, index + 1, mFirstXs, index, count);
+    System.arraycopy(mLastXs, index + 1, mLastXs, index, count);
+    mHighIndex.remove(index);
+    mLowIndex.remove(index);
+    mBarCount--;
+    if (mCoarser != null) {
+      mCoarser.updateBucket(this, x);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    super.clear();
+    mBarCount = 0;
+    mHighIndex.clear();
+    mLowIndex.clear();
+    if (mCoarser != null) {
+      mCoarser.clear();
+    }
+  }
+
+  /**
+   * Returns the open value at the specified index.
+   * 
+   * @param index the index
+   * @return the open value
+   */
+  public synchronized double getOpen(int index) {
+    checkBar(index);
+    return mOpens[index];
+  }
+
+  /**
+   * Returns the high value at the specified index.
+   * 
+   * @param index the index
+   * @return the high value
+   */
+  public synchronized double getHigh(int index) {
+    checkBar(index);
+    return mHighs[index];
+  }
+
+  /**
+   * Returns the low value at the specified index.
+   * 
+   * @param index the index
+   * @return the low value
+   */
+  public synchronized double getLow(int index) {
+    checkBar(index);
+    return mLows[index];
+  }
+
+  /**
+   * Returns the close value at the specified index.
+   * 
+   * @param index the index
+   * @return the close value
+   */
+  public double getClose(int index) {
+    return getY(index);
+  }
+
+  /**
+   * Checks that an index is within the bars.
+   * 
+   * @param index the index
+   */
+  private void checkBar(int index) {
+    if (index < 0 || index >= mBarCount) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mBarCount);
+    }
+  }
+
+  @Override
+  public synchronized boolean getYRange(double start, double stop, double[] range) {
+    int from = getCeilingIndex(start);
+    int to = getFloorIndex(stop) + 1;
+    if (!mLowIndex.getMinMax(from, to, mRange)) {
+      return false;
+    }
+    range[0] = mRange[0];
+    mHighIndex.getMinMax(from, to, mRange);
+    range[1] = mRange[1];
+    return true;
+  }
+
+  /**
+   * Returns the lowest low value.
+   * 
+   * @return the Y axis minimum value
+   */
+  @Override
+  public synchronized double getMinY() {
+    if (!mLowIndex.getMinMax(0, mBarCount, mRange)) {
+      return MathHelper.NULL_VALUE;
+    }
+    return mRange[0];
+  }
+
+  /**
+   * Returns the highest high value.
+   * 
+   * @return the Y axis maximum value
+   */
+  @Override
+  public synchronized double getMaxY() {
+    if (!mHighIndex.getMinMax(0, mBarCount, mRange)) {
+      return -MathHelper.NULL_VALUE;
+    }
+    return mRange[1];
+  }
+
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+/**
+ * A series change listener. The changes of a series are collected and
+ * delivered in batches by {@link XYSeries#dispatchChanges()}, usually once per
+ * frame, with consecutive changes merged into ranges.
+ */
+public interface SeriesChangeListener {
+
+  /**
+   * Called from the thread that changed the series, on the first change after
+   * the changes were dispatched, such as a dispatch can be scheduled. It is
+   * called while the series is locked, so it should not do anything else.
+   *
+   * @param series the changed series
+   */
+  void changesPending(XYSeries series);
+
+  /**
+   * Called when values were added to the series.
+   *
+   * @param series the changed series
+   * @param index the index of the first added value
+   * @param count the number of added values
+   */
+  void valuesAdded(XYSeries series, int index, int count);
+
+  /**
+   * Called when values were removed from the series.
+   *
+   * @param series the changed series
+   * @param index the index of the first removed value
+   * @param count the number of removed values
+   */
+  void valuesRemoved(XYSeries series, int index, int count);
+
+  /**
+   * Called when all the values were removed from the series.
+   *
+   * @param series the changed series
+   */
+  void seriesCleared(XYSeries series);
+
+}
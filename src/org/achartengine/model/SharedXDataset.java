@@ -0,0 +1,532 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.achartengine.util.MathHelper;
+import org.achartengine.util.RangeMinMaxIndex;
+
+/**
+ * A dataset of series that share the same X values, such as metrics sampled at
+ * the same times. The X values are stored once, in a column shared by all the
+ * series, and each series only stores its Y values. The series are exposed as
+ * {@link SharedXSeries} views that can be used by all the XY charts, which
+ * search the visible range only once for all the views of the dataset.
+ */
+public class SharedXDataset extends XYMultipleSeriesDataset {
+  /** The initial capacity of the columns. */
+  private static final int INITIAL_CAPACITY = 16;
+  /**
+   * The lock of the changes. It is not the dataset lock, as the charts can
+   * read the dataset while holding a series lock.
+   */
+  private final Object mWriteLock = new Object[0];
+  /** The lock of the columns, an array such as the dataset stays serializable. */
+  private final Object mLock = new Object[0];
+  /** The X column. */
+  private double[] mXs = new double[INITIAL_CAPACITY];
+  /** The Y columns. */
+  private double[][] mYs = new double[0][];
+  /** The Y values index of each column, used to get the Y range of an X range. */
+  private RangeMinMaxIndex[] mYIndexes = new RangeMinMaxIndex[0];
+  /** The minimum Y value of each column. */
+  private double[] mMinY = new double[0];
+  /** The maximum Y value of each column. */
+  private double[] mMaxY = new double[0];
+  /** The number of rows. */
+  private int mSize;
+  /** The series views of the columns. */
+  private final List<SharedXSeries> mColumns = new ArrayList<SharedXSeries>();
+
+  /**
+   * Adds a new column and its series view to the dataset. The column has no
+   * value on the rows that were added before.
+   * 
+   * @param title the series title
+   * @return the series view of the column
+   */
+  public SharedXSeries addColumn(String title) {
+    return addColumn(title, 0);
+  }
+
+  /**
+   * Adds a new column and its series view to the dataset. The column has no
+   * value on the rows that were added before.
+   * 
+   * @param title the series title
+   * @param scaleNumber the series scale number
+   * @return the series view of the column
+   */
+  public SharedXSeries addColumn(String title, int scaleNumber) {
+    synchronized (mWriteLock) {
+      return addColumnLocked(title, scaleNumber);
+    }
+  }
+
+  /**
+   * Adds a new column and its series view to the dataset, while holding the
+   * changes lock.
+   * 
+   * @param title the series title
+   * @param scaleNumber the series scale number
+   * @return the series view of the column
+   */
+  private SharedXSeries addColumnLocked(String title, int scaleNumber) {
+    synchronized (mLock) {
+      int columns = mColumns.size();
+      double[][] ys = new double[columns + 1][];
+      System.arraycopy(mYs, 0, ys, 0, columns);
+      ys[columns] = new double[mXs.length];
+      RangeMinMaxIndex[] indexes = new RangeMinMaxIndex[columns + 1];
+      System.arraycopy(mYIndexes, 0, indexes, 0, columns);
+      indexes[columns] = new RangeMinMaxIndex();
+      for (int i = 0; i < mSize; i++) {
+        ys[columns][i] = MathHelper.NULL_VALUE;
+        indexes[columns].add(MathHelper.NULL_VALUE);
+      }
+      mYs = ys;
+      mYIndexes = indexes;
+      mMinY = grow(mMinY, columns + 1);
+      mMaxY = grow(mMaxY, columns + 1);
+      initRange(columns);
+    }
+    SharedXSeries series = new SharedXSeries(title, scaleNumber, this, mColumns.size());
+    mColumns.add(series);
+    addSeries(series);
+    return series;
+  }
+
+  /**
+   * Returns a copy of an array with a new length.
+   * 
+   * @param array the array
+   * @param length the new length
+   * @return the new array
+   */
+  private static double[] grow(double[] array, int length) {
+    double[] result = new double[length];
+    System.arraycopy(array, 0, result, 0, Math.min(array.length, length));
+    return result;
+  }
+
+  /**
+   * Adds a row of values. The row is inserted at the position of its X value,
+   * so adding rows in X order only appends them. Rows with the same X value
+   * are kept in the order they were added.
+   * 
+   * @param x the value for the X axis
+   * @param ys the values for the Y axis of the columns, in the order the
+   *          columns were added, missing values being left empty
+   */
+  public void add(double x, double... ys) {
+    synchronized (mWriteLock) {
+      addLocked(x, ys);
+    }
+  }
+
+  /**
+   * Adds a row of values, while holding the changes lock.
+   * 
+   * @param x the value for the X axis
+   * @param ys the values for the Y axis of the columns
+   */
+  private void addLocked(double x, double[] ys) {
+    int columns = mColumns.size();
+    if (ys.length > columns) {
+      throw new IllegalArgumentException("The dataset has " + columns + " columns, not "
+          + ys.length);
+    }
+    int index;
+    synchronized (mLock) {
+      // after the rows with the same X, such as they keep their order
+      index = upperBound(x);
+      if (mSize == mXs.length) {
+        int capacity = mXs.length * 2;
+        mXs = grow(mXs, capacity);
+        for (int i = 0; i < columns; i++) {
+          mYs[i] = grow(mYs[i], capacity);
+        }
+      }
+      System.arraycopy(mXs, index, mXs, index + 1, mSize - index);
+      mXs[index] = x;
+      for (int i = 0; i < columns; i++) {
+        double y = i < ys.length ? ys[i] : MathHelper.NULL_VALUE;
+        System.arraycopy(mYs[i], index, mYs[i], index + 1, mSize - index);
+        mYs[i][index] = y;
+        mYIndexes[i].add(index, y);
+        updateRange(i, y);
+      }
+      mSize++;
+    }
+    recordChange(XYSeries.CHANGE_ADDED, index);
+  }
+
+  /**
+   * Removes a row of values.
+   * 
+   * @param index the index of the row to remove
+   */
+  public void removeRow(int index) {
+    synchronized (mWriteLock) {
+      synchronized (mLock) {
+        checkIndex(index);
+        System.arraycopy(mXs, index + 1, mXs, index, mSize - index - 1);
+        mSize--;
+        for (int i = 0; i < mColumns.size(); i++) {
+          double y = mYs[i][index];
+          System.arraycopy(mYs[i], index + 1, mYs[i], index, mSize - index);
+          mYIndexes[i].remove(index);
+          if (y == mMinY[i] || y == mMaxY[i]) {
+            initRange(i);
+          }
+        }
+      }
+      recordChange(XYSeries.CHANGE_REMOVED, index);
+    }
+  }
+
+  /**
+   * Removes all the rows, keeping the columns.
+   */
+  public void clearRows() {
+    synchronized (mWriteLock) {
+      synchronized (mLock) {
+        mSize = 0;
+        for (int i = 0; i < mColumns.size(); i++) {
+          mYIndexes[i].clear();
+          initRange(i);
+        }
+      }
+      recordChange(XYSeries.CHANGE_CLEARED, 0);
+    }
+  }
+
+  /**
+   * Removes all the rows and the columns, with their series views.
+   */
+  @Override
+  public void clear() {
+    synchronized (mWriteLock) {
+      synchronized (mLock) {
+        mSize = 0;
+        mYs = new double[0][];
+        mYIndexes = new RangeMinMaxIndex[0];
+        mMinY = new double[0];
+        mMaxY = new double[0];
+      }
+      mColumns.clear();
+    }
+    super.clear();
+  }
+
+  /**
+   * Returns the number of rows.
+   * 
+   * @return the number of rows
+   */
+  public int getRowCount() {
+    synchronized (mLock) {
+      return mSize;
+    }
+  }
+
+  /**
+   * Records a row change with the series views. The views are locked one at a
+   * time, after the columns lock is released, so that the readers holding a
+   * view lock can still take the columns lock.
+   * 
+   * @param type the change type
+   * @param index the index of the changed row
+   */
+  private void recordChange(int type, int index) {
+    int count = mColumns.size();
+    for (int i = 0; i < count; i++) {
+      SharedXSeries series = mColumns.get(i);
+      synchronized (series) {
+        series.recordChange(type, index);
+      }
+    }
+  }
+
+  /**
+   * Initializes the Y range of a column.
+   * 
+   * @param column the column
+   */
+  private void initRange(int column) {
+    mMinY[column] = MathHelper.NULL_VALUE;
+    mMaxY[column] = -MathHelper.NULL_VALUE;
+    double[] ys = mYs[column];
+    for (int i = 0; i < mSize; i++) {
+      updateRange(column, ys[i]);
+    }
+  }
+
+  /**
+   * Updates the Y range of a column with a new value. The missing values are
+   * stored as null values, which are not part of the range, and NaN neither.
+   * 
+   * @param column the column
+   * @param y the new value
+   */
+  private void updateRange(int column, double y) {
+    if (Double.isNaN(y) || y == MathHelper.NULL_VALUE) {
+      return;
+    }
+    mMinY[column] = Math.min(mMinY[column], y);
+    mMaxY[column] = Math.max(mMaxY[column], y);
+  }
+
+  /**
+   * Checks that a row index is within the dataset.
+   * 
+   * @param index the index
+   */
+  private void checkIndex(int index) {
+    if (index < 0 || index >= mSize) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+    }
+  }
+
+  /**
+   * Searches an X value in the X column, which returns the first one of the
+   * same X values.
+   * 
+   * @param x the X value
+   * @return the index of the value, or (-(insertion point) - 1) if not found
+   */
+  private int binarySearch(double x) {
+    int index = lowerBound(x);
+    return index < mSize && mXs[index] == x ? index : -(index + 1);
+  }
+
+  /**
+   * Returns the index of the first row with an X greater than or equal to the
+   * given one.
+   * 
+   * @param x the X value
+   * @return the index, or the row count if all the X values are lower
+   */
+  private int lowerBound(double x) {
+    int low = 0;
+    int high = mSize;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (mXs[middle] < x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index of the first row with an X greater than the given one.
+   * 
+   * @param x the X value
+   * @return the index, or the row count if all the X values are lower or equal
+   */
+  private int upperBound(double x) {
+    int low = 0;
+    int high = mSize;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (mXs[middle] <= x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the X value of a row.
+   * 
+   * @param index the row index
+   * @return the X value
+   */
+  double getX(int index) {
+    synchronized (mLock) {
+      checkIndex(index);
+      return mXs[index];
+    }
+  }
+
+  /**
+   * Returns the Y value of a column on a row.
+   * 
+   * @param column the column
+   * @param index the row index
+   * @return the Y value
+   */
+  double getY(int column, int index) {
+    synchronized (mLock) {
+      checkIndex(index);
+      return mYs[column][index];
+    }
+  }
+
+  /**
+   * Copies the X values and the Y values of a column within a row range.
+   * 
+   * @param column the column
+   * @param from the first row, inclusive
+   * @param to the last row, exclusive
+   * @param xs the array that receives the X values, or null
+   * @param ys the array that receives the Y values, or null
+   * @return the number of copied values
+   * @see XYSeries#copyRange(int, int, double[], double[])
+   */
+  int copyRange(int column, int from, int to, double[] xs, double[] ys) {
+    synchronized (mLock) {
+      return copyColumns(mXs, mYs[column], mSize, from, to, xs, ys);
+    }
+  }
+
+  /**
+   * Copies values from the columns.
+   * 
+   * @param srcXs the X column
+   * @param srcYs the Y column
+   * @param size the number of rows
+   * @param from the first row, inclusive
+   * @param to the last row, exclusive
+   * @param xs the array that receives the X values, or null
+   * @param ys the array that receives the Y values, or null
+   * @return the number of copied values
+   */
+  private static int copyColumns(double[] srcXs, double[] srcYs, int size, int from, int to,
+      double[] xs, double[] ys) {
+    from = Math.max(from, 0);
+    int count = Math.min(to, size) - from;
+    if (count <= 0) {
+      return 0;
+    }
+    if (xs != null) {
+      System.arraycopy(srcXs, from, xs, 0, count);
+    }
+    if (ys != null) {
+      System.arraycopy(srcYs, from, ys, 0, count);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the index of a row with the given X value, the first one when rows
+   * share the same X value.
+   * 
+   * @param x the X value
+   * @return the index of the row, or (-(insertion point) - 1) if not found
+   */
+  int getIndexForKey(double x) {
+    synchronized (mLock) {
+      return binarySearch(x);
+    }
+  }
+
+  /**
+   * Returns the index of the first row with an X greater than or equal to the
+   * given one.
+   * 
+   * @param x the X value
+   * @return the index, or the row count if all the X values are lower
+   */
+  int getCeilingIndex(double x) {
+    synchronized (mLock) {
+      return lowerBound(x);
+    }
+  }
+
+  /**
+   * Returns the index of the last row with an X lower than or equal to the
+   * given one.
+   * 
+   * @param x the X value
+   * @return the index, or -1 if all the X values are greater
+   */
+  int getFloorIndex(double x) {
+    synchronized (mLock) {
+      return upperBound(x) - 1;
+    }
+  }
+
+  /**
+   * Computes the Y range of a column within a row range.
+   * 
+   * @param column the column
+   * @param start the start X value
+   * @param stop the stop X value
+   * @param range an array that receives {minY, maxY}
+   * @return false if there are no values within the X range
+   * @see XYSeries#getYRange(double, double, double[])
+   */
+  boolean getYRange(int column, double start, double stop, double[] range) {
+    synchronized (mLock) {
+      return mYIndexes[column].getMinMax(lowerBound(start), upperBound(stop), range);
+    }
+  }
+
+  /**
+   * Returns the minimum X value.
+   * 
+   * @return the minimum X value
+   */
+  double getMinX() {
+    synchronized (mLock) {
+      return mSize > 0 ? mXs[0] : MathHelper.NULL_VALUE;
+    }
+  }
+
+  /**
+   * Returns the maximum X value.
+   * 
+   * @return the maximum X value
+   */
+  double getMaxX() {
+    synchronized (mLock) {
+      return mSize > 0 ? mXs[mSize - 1] : -MathHelper.NULL_VALUE;
+    }
+  }
+
+  /**
+   * Returns the minimum Y value of a column.
+   * 
+   * @param column the column
+   * @return the minimum Y value
+   */
+  double getMinY(int column) {
+    synchronized (mLock) {
+      return mMinY[column];
+    }
+  }
+
+  /**
+   * Returns the maximum Y value of a column.
+   * 
+   * @param column the column
+   * @return the maximum Y value
+   */
+  double getMaxY(int column) {
+    synchronized (mLock) {
+      return mMaxY[column];
+    }
+  }
+
+}
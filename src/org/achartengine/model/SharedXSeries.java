@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A view of a column of a {@link SharedXDataset} as an XY series. The values
+ * are stored by the dataset and can only be changed through it, while the
+ * annotations are stored by the view.
+ */
+public class SharedXSeries extends XYSeries {
+  /** The dataset storing the values. */
+  private final SharedXDataset mDataset;
+  /** The column of the values in the dataset. */
+  private final int mColumn;
+
+  /**
+   * Builds a new view of a shared X dataset column.
+   * 
+   * @param title the series title
+   * @param scaleNumber the series scale number
+   * @param dataset the dataset storing the values
+   * @param column the column of the values in the dataset
+   */
+  SharedXSeries(String title, int scaleNumber, SharedXDataset dataset, int column) {
+    super(title, scaleNumber);
+    mDataset = dataset;
+    mColumn = column;
+  }
+
+  /**
+   * Returns the dataset storing the values.
+   * 
+   * @return the dataset
+   */
+  public SharedXDataset getSharedXDataset() {
+    return mDataset;
+  }
+
+  /**
+   * Not supported, the values are added with {@link SharedXDataset#add(double, double...)}.
+   */
+  @Override
+  public void add(double x, double y) {
+    throw new UnsupportedOperationException("The values are added to the dataset");
+  }
+
+  /**
+   * Not supported, the values are added with {@link SharedXDataset#add(double, double...)}.
+   */
+  @Override
+  public void add(int index, double x, double y) {
+    throw new UnsupportedOperationException("The values are added to the dataset");
+  }
+
+  /**
+   * Not supported, the values are removed with {@link SharedXDataset#removeRow(int)}.
+   */
+  @Override
+  public void remove(int index) {
+    throw new UnsupportedOperationException("The values are removed from the dataset");
+  }
+
+  /**
+   * Not supported, the values are removed with {@link SharedXDataset#clearRows()}.
+   */
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException("The values are removed from the dataset");
+  }
+
+  @Override
+  public int getItemCount() {
+    return mDataset.getRowCount();
+  }
+
+  @Override
+  public double getX(int index) {
+    return mDataset.getX(index);
+  }
+
+  @Override
+  public double getY(int index) {
+    return mDataset.getY(mColumn, index);
+  }
+
+  @Override
+  public int copyRange(int from, int to, double[] xs, double[] ys) {
+    return mDataset.copyRange(mColumn, from, to, xs, ys);
+  }
+
+  @Override
+  public int getIndexForKey(double key) {
+    return mDataset.getIndexForKey(key);
+  }
+
+  @Override
+  public int getCeilingIndex(double x) {
+    return mDataset.getCeilingIndex(x);
+  }
+
+  @Override
+  public int getFloorIndex(double x) {
+    return mDataset.getFloorIndex(x);
+  }
+
+  @Override
+  public boolean getYRange(double start, double stop, double[] range) {
+    return mDataset.getYRange(mColumn, start, stop, range);
+  }
+
+  @Override
+  public SortedMap<Double, Double> getRange(double start, double stop, boolean beforeAfterPoints) {
+    int from = getCeilingIndex(start);
+    int to = getCeilingIndex(stop);
+    if (beforeAfterPoints) {
+      from = Math.max(0, from - 1);
+      to++;
+    }
+    int length = Math.max(0, to - from);
+    double[] xs = new double[length];
+    double[] ys = new double[length];
+    int count = copyRange(from, to, xs, ys);
+    SortedMap<Double, Double> range = new TreeMap<Double, Double>();
+    for (int i = 0; i < count; i++) {
+      range.put(xs[i], ys[i]);
+    }
+    return range;
+  }
+
+  @Override
+  public double getMinX() {
+    return mDataset.getMinX();
+  }
+
+  @Override
+  public double getMaxX() {
+    return mDataset.getMaxX();
+  }
+
+  @Override
+  public double getMinY() {
+    return mDataset.getMinY(mColumn);
+  }
+
+  @Override
+  public double getMaxY() {
+    return mDataset.getMaxY(mColumn);
+  }
+
+}
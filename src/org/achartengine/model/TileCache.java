@@ -0,0 +1,356 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used cache of data tiles loaded from {@link XYDataSource}
+ * instances. A tile holds the points of a series within one X bucket, at a
+ * given resolution level. The cache is bounded by the total size in bytes of
+ * the tiles it holds and keeps hit, miss and eviction statistics that can be
+ * used for sizing it. The series are only weakly referenced, so the tiles of
+ * a series that is not used anymore are dropped instead of keeping the series
+ * alive, even in the cache shared by all the views.
+ */
+public class TileCache {
+  /** The default cache size in bytes. */
+  public static final long DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
+  /** The approximate size in bytes of a tile, excluding its points. */
+  private static final int TILE_OVERHEAD = 64;
+  /** The default cache instance. */
+  private static TileCache sDefault;
+  /** The tiles, in access order. */
+  private final LinkedHashMap<TileKey, Tile> mTiles = new LinkedHashMap<TileKey, Tile>(16,
+      0.75f, true);
+  /** The queue of the keys whose series was garbage collected. */
+  private final ReferenceQueue<XYSeries> mCollected = new ReferenceQueue<XYSeries>();
+  /** The maximum cache size in bytes. */
+  private long mMaxSize;
+  /** The current cache size in bytes. */
+  private long mSize;
+  /** The number of cache hits. */
+  private long mHitCount;
+  /** The number of cache misses. */
+  private long mMissCount;
+  /** The number of evicted tiles. */
+  private long mEvictionCount;
+
+  /**
+   * Builds a new tile cache.
+   *
+   * @param maxSize the maximum cache size in bytes
+   */
+  public TileCache(long maxSize) {
+    mMaxSize = maxSize;
+  }
+
+  /**
+   * Returns the cache that is shared by the data source backed series which
+   * were not given a cache of their own.
+   *
+   * @return the default tile cache
+   */
+  public static synchronized TileCache getDefault() {
+    if (sDefault == null) {
+      sDefault = new TileCache(DEFAULT_MAX_SIZE);
+    }
+    return sDefault;
+  }
+
+  /**
+   * Returns a tile and updates the hit and miss statistics.
+   *
+   * @param series the series
+   * @param scale the scale
+   * @param bucket the X bucket
+   * @param level the resolution level
+   * @return the tile or null if it is not in the cache
+   */
+  synchronized Tile get(XYSeries series, int scale, long bucket, int level) {
+    expungeCollected();
+    Tile tile = mTiles.get(new TileKey(series, scale, bucket, level, null));
+    if (tile == null) {
+      mMissCount++;
+    } else {
+      mHitCount++;
+    }
+    return tile;
+  }
+
+  /**
+   * Checks if a tile is in the cache, without affecting the statistics or the
+   * eviction order.
+   *
+   * @param series the series
+   * @param scale the scale
+   * @param bucket the X bucket
+   * @param level the resolution level
+   * @return if the tile is in the cache
+   */
+  synchronized boolean contains(XYSeries series, int scale, long bucket, int level) {
+    expungeCollected();
+    return mTiles.containsKey(new TileKey(series, scale, bucket, level, null));
+  }
+
+  /**
+   * Adds a tile to the cache and evicts the least recently used tiles if the
+   * cache size goes over the limit.
+   *
+   * @param series the series
+   * @param scale the scale
+   * @param bucket the X bucket
+   * @param level the resolution level
+   * @param tile the tile
+   */
+  synchronized void put(XYSeries series, int scale, long bucket, int level, Tile tile) {
+    expungeCollected();
+    Tile old = mTiles.put(new TileKey(series, scale, bucket, level, mCollected), tile);
+    if (old != null) {
+      mSize -= old.getSize();
+    }
+    mSize += tile.getSize();
+    trimToSize(mMaxSize);
+  }
+
+  /**
+   * Removes all the tiles of a series.
+   *
+   * @param series the series
+   */
+  public synchronized void remove(XYSeries series) {
+    Iterator<Map.Entry<TileKey, Tile>> iterator = mTiles.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<TileKey, Tile> entry = iterator.next();
+      if (entry.getKey().get() == series) {
+        mSize -= entry.getValue().getSize();
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Removes all the tiles.
+   */
+  public synchronized void clear() {
+    mTiles.clear();
+    mSize = 0;
+    while (mCollected.poll() != null) {
+      // the keys are not in the cache anymore
+    }
+  }
+
+  /**
+   * Removes the tiles of the series that were garbage collected.
+   */
+  private void expungeCollected() {
+    Reference<? extends XYSeries> key;
+    while ((key = mCollected.poll()) != null) {
+      Tile tile = mTiles.remove(key);
+      if (tile != null) {
+        mSize -= tile.getSize();
+      }
+    }
+  }
+
+  /**
+   * Evicts the least recently used tiles until the cache size is under the
+   * given limit.
+   *
+   * @param maxSize the size limit in bytes
+   */
+  private void trimToSize(long maxSize) {
+    Iterator<Tile> iterator = mTiles.values().iterator();
+    while (mSize > maxSize && iterator.hasNext()) {
+      mSize -= iterator.next().getSize();
+      iterator.remove();
+      mEvictionCount++;
+    }
+  }
+
+  /**
+   * Returns the maximum cache size in bytes.
+   *
+   * @return the maximum cache size
+   */
+  public synchronized long getMaxSize() {
+    return mMaxSize;
+  }
+
+  /**
+   * Sets the maximum cache size in bytes.
+   *
+   * @param maxSize the maximum cache size
+   */
+  public synchronized void setMaxSize(long maxSize) {
+    mMaxSize = maxSize;
+    trimToSize(maxSize);
+  }
+
+  /**
+   * Returns the current cache size in bytes.
+   *
+   * @return the cache size
+   */
+  public synchronized long getSize() {
+    expungeCollected();
+    return mSize;
+  }
+
+  /**
+   * Returns the number of tiles in the cache.
+   *
+   * @return the tile count
+   */
+  public synchronized int getTileCount() {
+    expungeCollected();
+    return mTiles.size();
+  }
+
+  /**
+   * Returns the number of tile lookups that found the tile in the cache.
+   *
+   * @return the hit count
+   */
+  public synchronized long getHitCount() {
+    return mHitCount;
+  }
+
+  /**
+   * Returns the number of tile lookups that had to go to the data source.
+   *
+   * @return the miss count
+   */
+  public synchronized long getMissCount() {
+    return mMissCount;
+  }
+
+  /**
+   * Returns the number of tiles that were evicted to keep the cache size under
+   * the limit.
+   *
+   * @return the eviction count
+   */
+  public synchronized long getEvictionCount() {
+    return mEvictionCount;
+  }
+
+  /**
+   * Resets the hit, miss and eviction counters.
+   */
+  public synchronized void resetStatistics() {
+    mHitCount = 0;
+    mMissCount = 0;
+    mEvictionCount = 0;
+  }
+
+  /**
+   * The points of a series within one X bucket.
+   */
+  static class Tile {
+    /** The X values. */
+    final double[] mXs;
+    /** The Y values. */
+    final double[] mYs;
+    /** The number of points. */
+    final int mCount;
+
+    /**
+     * Builds a new tile.
+     *
+     * @param xs the X values
+     * @param ys the Y values
+     * @param count the number of points
+     */
+    Tile(double[] xs, double[] ys, int count) {
+      mXs = xs;
+      mYs = ys;
+      mCount = count;
+    }
+
+    /**
+     * Returns the approximate size of the tile in bytes.
+     *
+     * @return the tile size
+     */
+    int getSize() {
+      return TILE_OVERHEAD + 16 * mCount;
+    }
+  }
+
+  /**
+   * The cache key of a tile, which only weakly references the series. The keys
+   * used for lookups are not registered with the queue, and a key whose series
+   * was collected is only equal to itself.
+   */
+  private static class TileKey extends WeakReference<XYSeries> {
+    /** The scale. */
+    private final int mScale;
+    /** The X bucket. */
+    private final long mBucket;
+    /** The resolution level. */
+    private final int mLevel;
+    /** The hash code, computed while the series is referenced. */
+    private final int mHashCode;
+
+    /**
+     * Builds a new tile key.
+     *
+     * @param series the series
+     * @param scale the scale
+     * @param bucket the X bucket
+     * @param level the resolution level
+     * @param queue the queue the key is added to when the series is collected,
+     *          or null
+     */
+    TileKey(XYSeries series, int scale, long bucket, int level,
+        ReferenceQueue<XYSeries> queue) {
+      super(series, queue);
+      mScale = scale;
+      mBucket = bucket;
+      mLevel = level;
+      int result = System.identityHashCode(series);
+      result = 31 * result + scale;
+      result = 31 * result + (int) (bucket ^ (bucket >>> 32));
+      mHashCode = 31 * result + level;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof TileKey)) {
+        return false;
+      }
+      TileKey key = (TileKey) o;
+      XYSeries series = get();
+      return series != null && series == key.get() && mScale == key.mScale
+          && mBucket == key.mBucket && mLevel == key.mLevel;
+    }
+
+    @Override
+    public int hashCode() {
+      return mHashCode;
+    }
+  }
+
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+/**
+ * A backing store for series data that is too large to be kept in memory, like
+ * a local database, a file or a generator. Only the visible part of the data is
+ * pulled from the source, see {@link XYDataSourceSeries}.
+ */
+public interface XYDataSource {
+
+  /**
+   * Returns the global bounds of the data in the source.
+   *
+   * @return an array containing {minX, maxX, minY, maxY}
+   */
+  double[] getBounds();
+
+  /**
+   * Queries the points having the X value between the given bounds. This
+   * method is called from a background thread.
+   *
+   * @param minX the minimum X value
+   * @param maxX the maximum X value
+   * @param resolution the number of points the caller would like to receive,
+   *          the source may downsample the data to match it
+   * @param xs the array to be filled with the X values, in ascending order
+   * @param ys the array to be filled with the Y values
+   * @return the number of points written to the arrays, at most
+   *         <code>xs.length</code>
+   */
+  int query(double minX, double maxX, int resolution, double[] xs, double[] ys);
+
+}
@@ -0,0 +1,455 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An XY series that keeps only a window of its data in memory and pulls the
+ * rest from an {@link XYDataSource} when needed. The window is loaded in the
+ * background and is larger than the visible range, such as panning can use
+ * the already loaded data while the next window is being fetched. Until a new
+ * window has been loaded, the previous one stays in the series and gets
+ * rendered.
+ * The data is loaded in tiles which are kept in a {@link TileCache}, such as
+ * panning back and forth or zooming within the same resolution level does not
+ * query the data source again.
+ */
+public class XYDataSourceSeries extends XYSeries {
+  /** The number of visible ranges loaded on each side of the visible range. */
+  private static final int PREFETCH_WINDOWS = 1;
+  /** The number of points in a tile. */
+  private static final int TILE_POINTS = 256;
+  /** The time, in seconds, the pan prefetching looks ahead. */
+  private static final double PREFETCH_TIME = 0.5;
+  /** The executor that runs the queries against the data sources. */
+  private static ExecutorService sLoader;
+  /** The data source. */
+  private final transient XYDataSource mSource;
+  /** The data source listeners. */
+  private final transient List<XYDataSourceListener> mListeners =
+      new ArrayList<XYDataSourceListener>();
+  /** The start of the loaded window. */
+  private double mWindowMinX = Double.NaN;
+  /** The end of the loaded window. */
+  private double mWindowMaxX = Double.NaN;
+  /** The number of points per X unit in the loaded window. */
+  private double mWindowDensity;
+  /** The start of the window currently being loaded. */
+  private double mPendingMinX = Double.NaN;
+  /** The end of the window currently being loaded. */
+  private double mPendingMaxX = Double.NaN;
+  /** The start of the last prefetched interval. */
+  private double mPrefetchMinX = Double.NaN;
+  /** The end of the last prefetched interval. */
+  private double mPrefetchMaxX = Double.NaN;
+  /** The tile cache, null for the default one. */
+  private transient TileCache mTileCache;
+  /** The request counter, used to drop the results of outdated requests. */
+  private int mRequest;
+
+  /**
+   * Builds a new data source backed series.
+   *
+   * @param title the series title
+   * @param source the data source
+   */
+  public XYDataSourceSeries(String title, XYDataSource source) {
+    this(title, 0, source);
+  }
+
+  /**
+   * Builds a new data source backed series.
+   *
+   * @param title the series title
+   * @param scaleNumber the series scale number
+   * @param source the data source
+   */
+  public XYDataSourceSeries(String title, int scaleNumber, XYDataSource source) {
+    super(title, scaleNumber);
+    mSource = source;
+  }
+
+  /**
+   * Returns the data source.
+   *
+   * @return the data source
+   */
+  public XYDataSource getDataSource() {
+    return mSource;
+  }
+
+  /**
+   * Returns the tile cache the loaded data is kept in.
+   *
+   * @return the tile cache
+   */
+  public synchronized TileCache getTileCache() {
+    if (mTileCache == null) {
+      return TileCache.getDefault();
+    }
+    return mTileCache;
+  }
+
+  /**
+   * Sets the tile cache the loaded data is kept in. By default, the data
+   * source backed series share {@link TileCache#getDefault()}.
+   *
+   * @param cache the tile cache
+   */
+  public synchronized void setTileCache(TileCache cache) {
+    mTileCache = cache;
+  }
+
+  /**
+   * Makes sure the data for the visible range gets loaded. If the visible range
+   * is already covered by the loaded window, nothing happens, otherwise a
+   * background request is issued for the visible range and the adjacent ones.
+   *
+   * @param minX the visible range minimum X value
+   * @param maxX the visible range maximum X value
+   * @param resolution the number of points needed to render the visible range,
+   *          usually its width in pixels
+   */
+  public synchronized void requestWindow(double minX, double maxX, int resolution) {
+    double span = maxX - minX;
+    if (span <= 0 || resolution <= 0) {
+      return;
+    }
+    double density = resolution / span;
+    // ask for a new window when the visible range gets close to the edge of
+    // the loaded one, so the data is there before it becomes visible
+    double margin = span / 2;
+    if (covers(mWindowMinX, mWindowMaxX, minX - margin, maxX + margin)
+        && density <= mWindowDensity * 2) {
+      return;
+    }
+    if (covers(mPendingMinX, mPendingMaxX, minX, maxX)) {
+      return;
+    }
+    mPendingMinX = minX - span * PREFETCH_WINDOWS;
+    mPendingMaxX = maxX + span * PREFETCH_WINDOWS;
+    final double requestMinX = mPendingMinX;
+    final double requestMaxX = mPendingMaxX;
+    final int requestResolution = resolution * (1 + 2 * PREFETCH_WINDOWS);
+    final int request = ++mRequest;
+    getLoader().execute(new Runnable() {
+      public void run() {
+        load(request, requestMinX, requestMaxX, requestResolution);
+      }
+    });
+  }
+
+  /**
+   * Prefetches the data that is about to become visible while panning. The
+   * tiles ahead of the visible range, in the pan direction, are loaded into the
+   * tile cache in the background, so the next window can be assembled without
+   * querying the data source.
+   *
+   * @param minX the visible range minimum X value
+   * @param maxX the visible range maximum X value
+   * @param velocity the pan velocity, in X units per second
+   */
+  public void prefetch(double minX, double maxX, double velocity) {
+    if (velocity == 0 || Double.isNaN(velocity) || Double.isInfinite(velocity)) {
+      return;
+    }
+    double lookahead = velocity * PREFETCH_TIME;
+    if (lookahead > 0) {
+      prefetchRange(maxX, maxX + lookahead);
+    } else {
+      prefetchRange(minX + lookahead, minX);
+    }
+  }
+
+  /**
+   * Prefetches the data of an X interval that is about to become visible, such
+   * as the destination of a fling. The tiles covering the interval are loaded
+   * into the tile cache in the background, at the resolution of the loaded
+   * window.
+   *
+   * @param requestMinX the interval minimum X value
+   * @param requestMaxX the interval maximum X value
+   */
+  public void prefetchRange(final double requestMinX, final double requestMaxX) {
+    final int level;
+    synchronized (this) {
+      if (mWindowDensity <= 0 || !(requestMinX < requestMaxX)) {
+        return;
+      }
+      if (covers(mWindowMinX, mWindowMaxX, requestMinX, requestMaxX)
+          || covers(mPendingMinX, mPendingMaxX, requestMinX, requestMaxX)
+          || covers(mPrefetchMinX, mPrefetchMaxX, requestMinX, requestMaxX)) {
+        return;
+      }
+      mPrefetchMinX = requestMinX;
+      mPrefetchMaxX = requestMaxX;
+      level = getLevel(mWindowDensity);
+    }
+    getLoader().execute(new Runnable() {
+      public void run() {
+        loadTiles(requestMinX, requestMaxX, level, null, null);
+      }
+    });
+  }
+
+  /**
+   * Assembles a window from the tile cache, querying the data source for the
+   * missing tiles, and swaps it into the series.
+   *
+   * @param request the request number
+   * @param minX the window minimum X value
+   * @param maxX the window maximum X value
+   * @param resolution the window resolution
+   */
+  private void load(int request, double minX, double maxX, int resolution) {
+    synchronized (this) {
+      if (request != mRequest) {
+        return;
+      }
+    }
+    int level = getLevel(resolution / (maxX - minX));
+    List<TileCache.Tile> tiles = new ArrayList<TileCache.Tile>();
+    loadTiles(minX, maxX, level, tiles, request);
+    int count = 0;
+    for (TileCache.Tile tile : tiles) {
+      count += tile.mCount;
+    }
+    double[] xs = new double[count];
+    double[] ys = new double[count];
+    int position = 0;
+    for (TileCache.Tile tile : tiles) {
+      System.arraycopy(tile.mXs, 0, xs, position, tile.mCount);
+      System.arraycopy(tile.mYs, 0, ys, position, tile.mCount);
+      position += tile.mCount;
+    }
+    synchronized (this) {
+      if (request != mRequest) {
+        return;
+      }
+      replaceValues(xs, ys, count);
+      mWindowMinX = minX;
+      mWindowMaxX = maxX;
+      mWindowDensity = TILE_POINTS / getTileWidth(level);
+      mPendingMinX = Double.NaN;
+      mPendingMaxX = Double.NaN;
+    }
+    notifyListeners();
+  }
+
+  /**
+   * Makes sure the tiles covering an X interval are in the tile cache.
+   *
+   * @param minX the interval minimum X value
+   * @param maxX the interval maximum X value
+   * @param level the resolution level
+   * @param tiles the list to add the tiles to, in X order, or null if the
+   *          tiles are only prefetched
+   * @param request the request number that is checked between the tiles, or
+   *          null if the loading cannot become outdated
+   */
+  private void loadTiles(double minX, double maxX, int level, List<TileCache.Tile> tiles,
+      Integer request) {
+    TileCache cache = getTileCache();
+    int scale = getScaleNumber();
+    double width = getTileWidth(level);
+    long first = (long) Math.floor(minX / width);
+    long last = (long) Math.floor(maxX / width);
+    for (long bucket = first; bucket <= last; bucket++) {
+      if (request != null) {
+        synchronized (this) {
+          if (request != mRequest) {
+            return;
+          }
+        }
+      }
+      TileCache.Tile tile;
+      if (tiles == null) {
+        if (cache.contains(this, scale, bucket, level)) {
+          continue;
+        }
+        tile = null;
+      } else {
+        tile = cache.get(this, scale, bucket, level);
+      }
+      if (tile == null) {
+        tile = queryTile(bucket * width, (bucket + 1) * width);
+        cache.put(this, scale, bucket, level, tile);
+      }
+      if (tiles != null) {
+        tiles.add(tile);
+      }
+    }
+  }
+
+  /**
+   * Queries the data source for the points of a tile.
+   *
+   * @param start the tile start, inclusive
+   * @param end the tile end, exclusive
+   * @return the tile
+   */
+  private TileCache.Tile queryTile(double start, double end) {
+    // two extra slots for the points right outside the tile
+    double[] xs = new double[TILE_POINTS + 2];
+    double[] ys = new double[TILE_POINTS + 2];
+    int count = mSource.query(start, end, TILE_POINTS, xs, ys);
+    int length = 0;
+    for (int i = 0; i < count; i++) {
+      // the neighbouring tiles own the points outside of this one
+      if (xs[i] >= start && xs[i] < end) {
+        xs[length] = xs[i];
+        ys[length] = ys[i];
+        length++;
+      }
+    }
+    double[] tileXs = new double[length];
+    double[] tileYs = new double[length];
+    System.arraycopy(xs, 0, tileXs, 0, length);
+    System.arraycopy(ys, 0, tileYs, 0, length);
+    return new TileCache.Tile(tileXs, tileYs, length);
+  }
+
+  /**
+   * Returns the resolution level for a point density. The tile width of a
+   * level is a power of two, chosen such as the density of a tile is between
+   * one and two times the requested one.
+   *
+   * @param density the number of points per X unit
+   * @return the resolution level
+   */
+  private static int getLevel(double density) {
+    return (int) Math.floor(Math.log(TILE_POINTS / density) / Math.log(2));
+  }
+
+  /**
+   * Returns the tile width for a resolution level.
+   *
+   * @param level the resolution level
+   * @return the tile width, in X units
+   */
+  private static double getTileWidth(int level) {
+    return Math.pow(2, level);
+  }
+
+  /**
+   * Checks if an interval is entirely contained in another one.
+   *
+   * @param outerMin the outer interval start
+   * @param outerMax the outer interval end
+   * @param innerMin the inner interval start
+   * @param innerMax the inner interval end
+   * @return if the inner interval is covered
+   */
+  private static boolean covers(double outerMin, double outerMax, double innerMin,
+      double innerMax) {
+    return outerMin <= innerMin && innerMax <= outerMax;
+  }
+
+  /**
+   * Returns the minimum value on the X axis, over the whole data source.
+   *
+   * @return the X axis minimum value
+   */
+  @Override
+  public double getMinX() {
+    return mSource.getBounds()[0];
+  }
+
+  /**
+   * Returns the maximum value on the X axis, over the whole data source.
+   *
+   * @return the X axis maximum value
+   */
+  @Override
+  public double getMaxX() {
+    return mSource.getBounds()[1];
+  }
+
+  /**
+   * Returns the minimum value on the Y axis, over the whole data source.
+   *
+   * @return the Y axis minimum value
+   */
+  @Override
+  public double getMinY() {
+    return mSource.getBounds()[2];
+  }
+
+  /**
+   * Returns the maximum value on the Y axis, over the whole data source.
+   *
+   * @return the Y axis maximum value
+   */
+  @Override
+  public double getMaxY() {
+    return mSource.getBounds()[3];
+  }
+
+  /**
+   * Adds a new data source listener.
+   *
+   * @param listener data source listener
+   */
+  public synchronized void addDataSourceListener(XYDataSourceListener listener) {
+    mListeners.add(listener);
+  }
+
+  /**
+   * Removes a data source listener.
+   *
+   * @param listener data source listener
+   */
+  public synchronized void removeDataSourceListener(XYDataSourceListener listener) {
+    mListeners.remove(listener);
+  }
+
+  /**
+   * Notify the data source listeners about a loaded window.
+   */
+  private void notifyListeners() {
+    XYDataSourceListener[] listeners;
+    synchronized (this) {
+      listeners = mListeners.toArray(new XYDataSourceListener[mListeners.size()]);
+    }
+    for (XYDataSourceListener listener : listeners) {
+      listener.windowLoaded(this);
+    }
+  }
+
+  /**
+   * Returns the executor that runs the data source queries.
+   *
+   * @return the loader executor
+   */
+  private static synchronized ExecutorService getLoader() {
+    if (sLoader == null) {
+      sLoader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "achartengine-loader");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return sLoader;
+  }
+
+}
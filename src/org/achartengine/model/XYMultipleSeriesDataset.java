@@ -1,110 +1,232 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.model;
-
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * A series that includes 0 to many XYSeries.
- */
-public class XYMultipleSeriesDataset implements Serializable {
-  /** The included series. */
-  private List<XYSeries> mSeries = new ArrayList<XYSeries>();
-
-  /**
-   * Adds a new XY series to the list.
-   * 
-   * @param series the XY series to add
-   */
-  public synchronized void addSeries(XYSeries series) {
-    mSeries.add(series);
-  }
-
-  /**
-   * Adds a new XY series to the list.
-   * 
-   * @param index the index in the series list
-   * @param series the XY series to add
-   */
-  public synchronized void addSeries(int index, XYSeries series) {
-    mSeries.add(index, series);
-  }
-
-  /**
-   * Adds all the provided XY series to the list.
-   * 
-   * @param series the XY series to add
-   */
-  public synchronized void addAllSeries(List<XYSeries> series) {
-    mSeries.addAll(series);
-  }
-
-  /**
-   * Removes the XY series from the list.
-   * 
-   * @param index the index in the series list of the series to remove
-   */
-  public synchronized void removeSeries(int index) {
-    mSeries.remove(index);
-  }
-
-  /**
-   * Removes the XY series from the list.
-   * 
-   * @param series the XY series to be removed
-   */
-  public synchronized void removeSeries(XYSeries series) {
-    mSeries.remove(series);
-  }
-
-  /**
-   * Removes all the XY series from the list.
-   */
-  public synchronized void clear() {
-    mSeries.clear();
-  }
-
-  /**
-   * Returns the XY series at the specified index.
-   * 
-   * @param index the index
-   * @return the XY series at the index
-   */
-  public synchronized XYSeries getSeriesAt(int index) {
-    return mSeries.get(index);
-  }
-
-  /**
-   * Returns the XY series count.
-   * 
-   * @return the XY series count
-   */
-  public synchronized int getSeriesCount() {
-    return mSeries.size();
-  }
-
-  /**
-   * Returns an array of the XY series.
-   * 
-   * @return the XY series array
-   */
-  public synchronized XYSeries[] getSeries() {
-    return mSeries.toArray(new XYSeries[0]);
-  }
-
-}
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A series that includes 0 to many XYSeries.
+ */
+public class XYMultipleSeriesDataset implements Serializable {
+  /** The included series. */
+  private List<XYSeries> mSeries = new ArrayList<XYSeries>();
+  /** The dataset version, incremented when the series or their versions change. */
+  private int mVersion;
+  /** The sum of the series versions, when the dataset version was last read. */
+  private long mSeriesVersions;
+  /** The change listeners, registered with all the series. */
+  private transient List<SeriesChangeListener> mChangeListeners;
+  /** The series copied for dispatching the changes, reused to avoid allocations. */
+  private transient XYSeries[] mDispatchSeries = new XYSeries[0];
+
+  /**
+   * Adds a new XY series to the list.
+   * 
+   * @param series the XY series to add
+   */
+  public synchronized void addSeries(XYSeries series) {
+    mSeries.add(series);
+    seriesAdded(series);
+  }
+
+  /**
+   * Adds a new XY series to the list.
+   * 
+   * @param index the index in the series list
+   * @param series the XY series to add
+   */
+  public synchronized void addSeries(int index, XYSeries series) {
+    mSeries.add(index, series);
+    seriesAdded(series);
+  }
+
+  /**
+   * Adds all the provided XY series to the list.
+   * 
+   * @param series the XY series to add
+   */
+  public synchronized void addAllSeries(List<XYSeries> series) {
+    mSeries.addAll(series);
+    for (XYSeries added : series) {
+      seriesAdded(added);
+    }
+  }
+
+  /**
+   * Removes the XY series from the list.
+   * 
+   * @param index the index in the series list of the series to remove
+   */
+  public synchronized void removeSeries(int index) {
+    seriesRemoved(mSeries.remove(index));
+  }
+
+  /**
+   * Removes the XY series from the list.
+   * 
+   * @param series the XY series to be removed
+   */
+  public synchronized void removeSeries(XYSeries series) {
+    if (mSeries.remove(series)) {
+      seriesRemoved(series);
+    }
+  }
+
+  /**
+   * Removes all the XY series from the list.
+   */
+  public synchronized void clear() {
+    for (XYSeries series : mSeries) {
+      seriesRemoved(series);
+    }
+    mSeries.clear();
+  }
+
+  /**
+   * Registers the change listeners with an added series.
+   * 
+   * @param series the added series
+   */
+  private void seriesAdded(XYSeries series) {
+    mVersion++;
+    if (mChangeListeners != null) {
+      for (SeriesChangeListener listener : mChangeListeners) {
+        series.addChangeListener(listener);
+      }
+    }
+  }
+
+  /**
+   * Unregisters the change listeners from a removed series, unless the series
+   * is still in the list.
+   * 
+   * @param series the removed series
+   */
+  private void seriesRemoved(XYSeries series) {
+    mVersion++;
+    if (mChangeListeners != null && !mSeries.contains(series)) {
+      for (SeriesChangeListener listener : mChangeListeners) {
+        series.removeChangeListener(listener);
+      }
+    }
+  }
+
+  /**
+   * Returns the dataset version, which changes when series are added or
+   * removed and when any of the series changes, such as the work depending on
+   * the dataset can be skipped when it did not change.
+   * 
+   * @return the dataset version
+   */
+  public synchronized int getVersion() {
+    long seriesVersions = 0;
+    int count = mSeries.size();
+    for (int i = 0; i < count; i++) {
+      seriesVersions += mSeries.get(i).getVersion();
+    }
+    // the sum only stays the same if none of the series changed
+    if (seriesVersions != mSeriesVersions) {
+      mSeriesVersions = seriesVersions;
+      mVersion++;
+    }
+    return mVersion;
+  }
+
+  /**
+   * Adds a change listener to all the series, including the ones added later.
+   * 
+   * @param listener the change listener
+   */
+  public synchronized void addChangeListener(SeriesChangeListener listener) {
+    if (mChangeListeners == null) {
+      mChangeListeners = new ArrayList<SeriesChangeListener>();
+    }
+    if (!mChangeListeners.contains(listener)) {
+      mChangeListeners.add(listener);
+      for (XYSeries series : mSeries) {
+        series.addChangeListener(listener);
+      }
+    }
+  }
+
+  /**
+   * Removes a change listener from all the series.
+   * 
+   * @param listener the change listener
+   */
+  public synchronized void removeChangeListener(SeriesChangeListener listener) {
+    if (mChangeListeners != null && mChangeListeners.remove(listener)) {
+      for (XYSeries series : mSeries) {
+        series.removeChangeListener(listener);
+      }
+    }
+  }
+
+  /**
+   * Delivers the changes of all the series made since the last dispatch to the
+   * change listeners. See {@link XYSeries#dispatchChanges()}.
+   * 
+   * @return if there were any changes to deliver
+   */
+  public boolean dispatchChanges() {
+    XYSeries[] series;
+    int count;
+    synchronized (this) {
+      count = mSeries.size();
+      if (mDispatchSeries == null || mDispatchSeries.length < count) {
+        mDispatchSeries = new XYSeries[count];
+      }
+      series = mDispatchSeries;
+      mSeries.toArray(series);
+    }
+    boolean changed = false;
+    for (int i = 0; i < count; i++) {
+      changed |= series[i].dispatchChanges();
+    }
+    return changed;
+  }
+
+  /**
+   * Returns the XY series at the specified index.
+   * 
+   * @param index the index
+   * @return the XY series at the index
+   */
+  public synchronized XYSeries getSeriesAt(int index) {
+    return mSeries.get(index);
+  }
+
+  /**
+   * Returns the XY series count.
+   * 
+   * @return the XY series count
+   */
+  public synchronized int getSeriesCount() {
+    return mSeries.size();
+  }
+
+  /**
+   * Returns an array of the XY series.
+   * 
+   * @return the XY series array
+   */
+  public synchronized XYSeries[] getSeries() {
+    return mSeries.toArray(new XYSeries[0]);
+  }
+
+}
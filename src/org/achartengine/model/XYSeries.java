@@ -1,356 +1,1113 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- * 
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- * 
- *      http://www.apache.org/licenses/LICENSE-2.0
- * 
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.model;
-
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.SortedMap;
-
-import org.achartengine.util.IndexXYMap;
-import org.achartengine.util.MathHelper;
-import org.achartengine.util.XYEntry;
-
-/**
- * An XY series encapsulates values for XY charts like line, time, area,
- * scatter... charts.
- */
-public class XYSeries implements Serializable {
-  /** The series title. */
-  private String mTitle;
-  /** A map to contain values for X and Y axes and index for each bundle */
-  private final IndexXYMap<Double, Double> mXY = new IndexXYMap<Double, Double>();
-  /** The minimum value for the X axis. */
-  private double mMinX = MathHelper.NULL_VALUE;
-  /** The maximum value for the X axis. */
-  private double mMaxX = -MathHelper.NULL_VALUE;
-  /** The minimum value for the Y axis. */
-  private double mMinY = MathHelper.NULL_VALUE;
-  /** The maximum value for the Y axis. */
-  private double mMaxY = -MathHelper.NULL_VALUE;
-  /** The scale number for this series. */
-  private final int mScaleNumber;
-  /** A padding value that will be added when adding values with the same X. */
-  private static final double PADDING = 0.000000000001;
-  /** Contains the annotations. */
-  private List<String> mAnnotations = new ArrayList<String>();
-  /** A map contain a (x,y) value for each String annotation. */
-  private final IndexXYMap<Double, Double> mStringXY = new IndexXYMap<Double, Double>();
-
-  /**
-   * Builds a new XY series.
-   * 
-   * @param title the series title.
-   */
-  public XYSeries(String title) {
-    this(title, 0);
-  }
-
-  /**
-   * Builds a new XY series.
-   * 
-   * @param title the series title.
-   * @param scaleNumber the series scale number
-   */
-  public XYSeries(String title, int scaleNumber) {
-    mTitle = title;
-    mScaleNumber = scaleNumber;
-    initRange();
-  }
-
-  public int getScaleNumber() {
-    return mScaleNumber;
-  }
-
-  /**
-   * Initializes the range for both axes.
-   */
-  private void initRange() {
-    mMinX = MathHelper.NULL_VALUE;
-    mMaxX = -MathHelper.NULL_VALUE;
-    mMinY = MathHelper.NULL_VALUE;
-    mMaxY = -MathHelper.NULL_VALUE;
-    int length = getItemCount();
-    for (int k = 0; k < length; k++) {
-      double x = getX(k);
-      double y = getY(k);
-      updateRange(x, y);
-    }
-  }
-
-  /**
-   * Updates the range on both axes.
-   * 
-   * @param x the new x value
-   * @param y the new y value
-   */
-  private void updateRange(double x, double y) {
-    mMinX = Math.min(mMinX, x);
-    mMaxX = Math.max(mMaxX, x);
-    mMinY = Math.min(mMinY, y);
-    mMaxY = Math.max(mMaxY, y);
-  }
-
-  /**
-   * Returns the series title.
-   * 
-   * @return the series title
-   */
-  public String getTitle() {
-    return mTitle;
-  }
-
-  /**
-   * Sets the series title.
-   * 
-   * @param title the series title
-   */
-  public void setTitle(String title) {
-    mTitle = title;
-  }
-
-  /**
-   * Adds a new value to the series.
-   * 
-   * @param x the value for the X axis
-   * @param y the value for the Y axis
-   */
-  public synchronized void add(double x, double y) {
-    while (mXY.get(x) != null) {
-      // add a very small value to x such as data points sharing the same x will
-      // still be added
-      x += getPadding();
-    }
-    mXY.put(x, y);
-    updateRange(x, y);
-  }
-
-  /**
-   * Adds a new value to the series at the specified index.
-   * 
-   * @param index the index to be added the data to
-   * @param x the value for the X axis
-   * @param y the value for the Y axis
-   */
-  public synchronized void add(int index, double x, double y) {
-    while (mXY.get(x) != null) {
-      // add a very small value to x such as data points sharing the same x will
-      // still be added
-      x += getPadding();
-    }
-    mXY.put(index, x, y);
-    updateRange(x, y);
-  }
-  
-  protected double getPadding() {
-    return PADDING;
-  }
-
-  /**
-   * Removes an existing value from the series.
-   * 
-   * @param index the index in the series of the value to remove
-   */
-  public synchronized void remove(int index) {
-    XYEntry<Double, Double> removedEntry = mXY.removeByIndex(index);
-    double removedX = removedEntry.getKey();
-    double removedY = removedEntry.getValue();
-    if (removedX == mMinX || removedX == mMaxX || removedY == mMinY || removedY == mMaxY) {
-      initRange();
-    }
-  }
-
-  /**
-   * Removes all the existing values from the series.
-   */
-  public synchronized void clear() {
-    mXY.clear();
-    mStringXY.clear();
-    initRange();
-  }
-
-  /**
-   * Returns the X axis value at the specified index.
-   * 
-   * @param index the index
-   * @return the X value
-   */
-  public synchronized double getX(int index) {
-    return mXY.getXByIndex(index);
-  }
-
-  /**
-   * Returns the Y axis value at the specified index.
-   * 
-   * @param index the index
-   * @return the Y value
-   */
-  public synchronized double getY(int index) {
-    return mXY.getYByIndex(index);
-  }
-
-  /**
-   * Add an String at (x,y) coordinates
-   * 
-   * @param annotation String text
-   * @param x
-   * @param y
-   */
-  public void addAnnotation(String annotation, double x, double y) {
-    mAnnotations.add(annotation);
-    mStringXY.put(x, y);
-  }
-
-  /**
-   * Remove an String at index
-   * 
-   * @param index
-   */
-  public void removeAnnotation(int index) {
-    mAnnotations.remove(index);
-    mStringXY.removeByIndex(index);
-  }
-
-  /**
-   * Get X coordinate of the String at index
-   * 
-   * @param index
-   * @return
-   */
-  public double getAnnotationX(int index) {
-    return mStringXY.getXByIndex(index);
-  }
-
-  /**
-   * Get Y coordinate of the String at index
-   * 
-   * @param index
-   * @return
-   */
-  public double getAnnotationY(int index) {
-    return mStringXY.getYByIndex(index);
-  }
-
-  /**
-   * Get String count
-   * 
-   * @return
-   */
-  public int getAnnotationCount() {
-    return mAnnotations.size();
-  }
-
-  /**
-   * Get the String at index
-   * 
-   * @param index
-   * @return String
-   */
-  public String getAnnotationAt(int index) {
-    return mAnnotations.get(index);
-  }
-
-  /**
-   * Returns submap of x and y values according to the given start and end
-   * 
-   * @param start start x value
-   * @param stop stop x value
-   * @param beforeAfterPoints if the points before and after the first and last
-   *          visible ones must be displayed
-   * @return a submap of x and y values
-   */
-  public synchronized SortedMap<Double, Double> getRange(double start, double stop,
-      boolean beforeAfterPoints) {
-    if (beforeAfterPoints) {
-      // we need to add one point before the start and one point after the end
-      // (if
-      // there are any)
-      // to ensure that line doesn't end before the end of the screen
-
-      // this would be simply: start = mXY.lowerKey(start) but NavigableMap is
-      // available since API 9
-      SortedMap<Double, Double> headMap = mXY.headMap(start);
-      if (!headMap.isEmpty()) {
-        start = headMap.lastKey();
-      }
-
-      // this would be simply: end = mXY.higherKey(end) but NavigableMap is
-      // available since API 9
-      // so we have to do this hack in order to support older versions
-      SortedMap<Double, Double> tailMap = mXY.tailMap(stop);
-      if (!tailMap.isEmpty()) {
-        Iterator<Double> tailIterator = tailMap.keySet().iterator();
-        Double next = tailIterator.next();
-        if (tailIterator.hasNext()) {
-          stop = tailIterator.next();
-        } else {
-          stop += next;
-        }
-      }
-    }
-    return mXY.subMap(start, stop);
-  }
-
-  public int getIndexForKey(double key) {
-    return mXY.getIndexForKey(key);
-  }
-
-  /**
-   * Returns the series item count.
-   * 
-   * @return the series item count
-   */
-  public synchronized int getItemCount() {
-    return mXY.size();
-  }
-
-  /**
-   * Returns the minimum value on the X axis.
-   * 
-   * @return the X axis minimum value
-   */
-  public double getMinX() {
-    return mMinX;
-  }
-
-  /**
-   * Returns the minimum value on the Y axis.
-   * 
-   * @return the Y axis minimum value
-   */
-  public double getMinY() {
-    return mMinY;
-  }
-
-  /**
-   * Returns the maximum value on the X axis.
-   * 
-   * @return the X axis maximum value
-   */
-  public double getMaxX() {
-    return mMaxX;
-  }
-
-  /**
-   * Returns the maximum value on the Y axis.
-   * 
-   * @return the Y axis maximum value
-   */
-  public double getMaxY() {
-    return mMaxY;
-  }
-}
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.achartengine.util.IndexXYMap;
+import org.achartengine.util.MathHelper;
+import org.achartengine.util.RangeMinMaxIndex;
+
+/**
+ * An XY series encapsulates values for XY charts like line, time, area,
+ * scatter... charts.
+ */
+public class XYSeries implements Serializable {
+  /** The series title. */
+  private String mTitle;
+  /** A map to contain values for X and Y axes, sorted by X, unused for duplicate X values */
+  private final TreeMap<Double, Double> mXY = new TreeMap<Double, Double>();
+  /** If values with the same X are kept as they are instead of padding their X. */
+  private boolean mDuplicateXAllowed;
+  /** The index of the Y values, used to get the Y range of an X range. */
+  private final RangeMinMaxIndex mYIndex = new RangeMinMaxIndex();
+  /** The minimum value for the X axis. */
+  private double mMinX = MathHelper.NULL_VALUE;
+  /** The maximum value for the X axis. */
+  private double mMaxX = -MathHelper.NULL_VALUE;
+  /** The minimum value for the Y axis. */
+  private double mMinY = MathHelper.NULL_VALUE;
+  /** The maximum value for the Y axis. */
+  private double mMaxY = -MathHelper.NULL_VALUE;
+  /** The scale number for this series. */
+  private final int mScaleNumber;
+  /** A padding value that will be added when adding values with the same X. */
+  private static final double PADDING = 0.000000000001;
+  /** Contains the annotations. */
+  private List<String> mAnnotations = new ArrayList<String>();
+  /** A map contain a (x,y) value for each String annotation. */
+  private final IndexXYMap<Double, Double> mStringXY = new IndexXYMap<Double, Double>();
+  /** The X values, in index order. */
+  private double[] mXs = new double[INITIAL_CAPACITY];
+  /** The Y values, in index order. */
+  private double[] mYs = new double[INITIAL_CAPACITY];
+  /** The number of values. */
+  private int mSize;
+  /** The X values added out of order and not merged yet, sorted, created on first use. */
+  private double[] mStagedXs;
+  /** The Y values added out of order and not merged yet. */
+  private double[] mStagedYs;
+  /** The index each staged value gets when merged, reused between merges. */
+  private int[] mStagedPositions;
+  /** The number of values added out of order and not merged yet. */
+  private int mStagedCount;
+  /** The number of values added out of order that are merged together. */
+  private static final int STAGING_CAPACITY = 64;
+  /** The initial capacity of the value arrays. */
+  private static final int INITIAL_CAPACITY = 16;
+  /** A Y range, reused to avoid allocations. */
+  private final double[] mYRange = new double[2];
+  /** The series version, incremented on every change. */
+  private volatile int mVersion;
+  /** The change listeners. */
+  private transient List<SeriesChangeListener> mChangeListeners;
+  /** The change listeners, copied for dispatching the changes. */
+  private transient SeriesChangeListener[] mDispatchListeners;
+  /** The listeners notified of each change while the series is locked, or null. */
+  private transient SeriesChangeListener[] mLockedListeners;
+  /** The changes since the last dispatch, as type, index and count triples. */
+  private transient int[] mPendingChanges;
+  /** The number of changes since the last dispatch. */
+  private transient int mPendingCount;
+  /** The changes being dispatched, swapped with the pending ones. */
+  private transient int[] mDispatchedChanges;
+  /** The change type for added values. */
+  static final int CHANGE_ADDED = 0;
+  /** The change type for removed values. */
+  static final int CHANGE_REMOVED = 1;
+  /** The change type for a cleared series. */
+  static final int CHANGE_CLEARED = 2;
+  /** The number of changes kept between two dispatches before merging them. */
+  private static final int MAX_PENDING_CHANGES = 32;
+
+  /**
+   * Builds a new XY series.
+   * 
+   * @param title the series title.
+   */
+  public XYSeries(String title) {
+    this(title, 0);
+  }
+
+  /**
+   * Builds a new XY series.
+   * 
+   * @param title the series title.
+   * @param scaleNumber the series scale number
+   */
+  public XYSeries(String title, int scaleNumber) {
+    mTitle = title;
+    mScaleNumber = scaleNumber;
+    initRange();
+  }
+
+  public int getScaleNumber() {
+    return mScaleNumber;
+  }
+
+  /**
+   * Sets if values with the same X are kept as they are. By default, a small
+   * padding is added to the X of a value that has the same X as an existing
+   * one. When duplicate X values are allowed, the values with the same X are
+   * stored in the order they were added, without padding and without the X
+   * map lookups, and a value is added in O(log n). The mode can only be changed
+   * while the series is empty.
+   * 
+   * @param allowed if duplicate X values are allowed
+   */
+  public synchronized void setDuplicateXAllowed(boolean allowed) {
+    if (mSize + mStagedCount > 0) {
+      throw new IllegalStateException("The series must be empty to change the duplicate X mode");
+    }
+    mDuplicateXAllowed = allowed;
+  }
+
+  /**
+   * Returns if values with the same X are kept as they are.
+   * 
+   * @return if duplicate X values are allowed
+   */
+  public boolean isDuplicateXAllowed() {
+    return mDuplicateXAllowed;
+  }
+
+  /**
+   * Initializes the range for both axes.
+   */
+  private void initRange() {
+    mMinX = MathHelper.NULL_VALUE;
+    mMaxX = -MathHelper.NULL_VALUE;
+    mMinY = MathHelper.NULL_VALUE;
+    mMaxY = -MathHelper.NULL_VALUE;
+    for (int k = 0; k < mSize; k++) {
+      updateRange(mXs[k], mYs[k]);
+    }
+  }
+
+  /**
+   * Updates the range on both axes.
+   * 
+   * @param x the new x value
+   * @param y the new y value
+   */
+  private void updateRange(double x, double y) {
+    mMinX = Math.min(mMinX, x);
+    mMaxX = Math.max(mMaxX, x);
+    mMinY = Math.min(mMinY, y);
+    mMaxY = Math.max(mMaxY, y);
+  }
+
+  /**
+   * Returns the series title.
+   * 
+   * @return the series title
+   */
+  public String getTitle() {
+    return mTitle;
+  }
+
+  /**
+   * Sets the series title.
+   * 
+   * @param title the series title
+   */
+  public void setTitle(String title) {
+    mTitle = title;
+  }
+
+  /**
+   * Adds a new value to the series.
+   * 
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   */
+  public synchronized void add(double x, double y) {
+    x = padX(x);
+    int index;
+    if (mSize == 0 || x > mXs[mSize - 1] || mDuplicateXAllowed && x == mXs[mSize - 1]) {
+      insertValue(mSize, x, y);
+      mYIndex.add(y);
+      index = mSize + mStagedCount - 1;
+    } else {
+      index = stageValue(x, y);
+    }
+    if (!mDuplicateXAllowed) {
+      mXY.put(x, y);
+    }
+    updateRange(x, y);
+    recordChange(CHANGE_ADDED, index);
+  }
+
+  /**
+   * Stages a value added out of order. The staged values are kept sorted and
+   * merged together with the other values when the staging is full or when
+   * the values are read by index, so adding late values only shifts the
+   * values after them once per merge.
+   * 
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   * @return the index of the value, once merged
+   */
+  private int stageValue(double x, double y) {
+    if (mStagedXs == null) {
+      mStagedXs = new double[STAGING_CAPACITY];
+      mStagedYs = new double[STAGING_CAPACITY];
+      mStagedPositions = new int[STAGING_CAPACITY];
+    } else if (mStagedCount == STAGING_CAPACITY) {
+      mergeStaged();
+    }
+    // after the values with the same X, such as duplicate X values keep their order
+    int index = upperBound(mStagedXs, mStagedCount, x);
+    System.arraycopy(mStagedXs, index, mStagedXs, index + 1, mStagedCount - index);
+    System.arraycopy(mStagedYs, index, mStagedYs, index + 1, mStagedCount - index);
+    mStagedXs[index] = x;
+    mStagedYs[index] = y;
+    mStagedCount++;
+    return index + upperBound(mXs, mSize, x);
+  }
+
+  /**
+   * Merges the staged values with the other values, from the end, such as only
+   * the values after the first staged one are moved. Must be called while
+   * holding the series lock.
+   */
+  private void mergeStaged() {
+    if (mStagedCount == 0) {
+      return;
+    }
+    ensureCapacity(mSize + mStagedCount);
+    int main = mSize - 1;
+    int staged = mStagedCount - 1;
+    for (int target = mSize + mStagedCount - 1; staged >= 0; target--) {
+      // the staged values were added last, so they go after the same X values
+      if (main >= 0 && mXs[main] > mStagedXs[staged]) {
+        mXs[target] = mXs[main];
+        mYs[target] = mYs[main];
+        main--;
+      } else {
+        mXs[target] = mStagedXs[staged];
+        mYs[target] = mStagedYs[staged];
+        mStagedPositions[staged] = target;
+        staged--;
+      }
+    }
+    // inserted in index order, each value is inserted at its final index
+    for (int i = 0; i < mStagedCount; i++) {
+      mYIndex.add(mStagedPositions[i], mStagedYs[i]);
+    }
+    mSize += mStagedCount;
+    mStagedCount = 0;
+  }
+
+  /**
+   * Adds a new value to the series at the specified index.
+   * 
+   * @param index the index to be added the data to
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   */
+  public synchronized void add(int index, double x, double y) {
+    x = padX(x);
+    mergeStaged();
+    if (!mDuplicateXAllowed) {
+      mXY.put(x, y);
+    }
+    insertValue(index, x, y);
+    mYIndex.add(index, y);
+    updateRange(x, y);
+    recordChange(CHANGE_ADDED, index);
+  }
+
+  /**
+   * Replaces the Y value at the specified index, which is reported to the
+   * change listeners as a removed and an added value.
+   * 
+   * @param index the index of the value
+   * @param y the new value for the Y axis
+   */
+  protected synchronized void setY(int index, double y) {
+    mergeStaged();
+    checkIndex(index);
+    double oldY = mYs[index];
+    mYs[index] = y;
+    if (!mDuplicateXAllowed) {
+      mXY.put(mXs[index], y);
+    }
+    mYIndex.set(index, y);
+    if (oldY == mMinY || oldY == mMaxY) {
+      // the other extreme values are found in the Y index, null values aside
+      double[] range = mYRange;
+      if (oldY == MathHelper.NULL_VALUE || !mYIndex.getMinMax(0, mSize, range)) {
+        initRange();
+      } else {
+        if (oldY == mMinY) {
+          mMinY = range[0];
+        }
+        if (oldY == mMaxY) {
+          mMaxY = range[1];
+        }
+      }
+    }
+    updateRange(mXs[index], y);
+    recordChange(CHANGE_REMOVED, index);
+    recordChange(CHANGE_ADDED, index);
+  }
+
+  /**
+   * Inserts a value into the value arrays, growing them when needed.
+   * 
+   * @param index the index
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   */
+  private void insertValue(int index, double x, double y) {
+    if (index < 0 || index > mSize) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+    }
+    ensureCapacity(mSize + 1);
+    System.arraycopy(mXs, index, mXs, index + 1, mSize - index);
+    System.arraycopy(mYs, index, mYs, index + 1, mSize - index);
+    mXs[index] = x;
+    mYs[index] = y;
+    mSize++;
+  }
+  
+  /**
+   * Grows the value arrays when needed.
+   * 
+   * @param capacity the number of values the arrays must hold
+   */
+  private void ensureCapacity(int capacity) {
+    if (capacity > mXs.length) {
+      int length = Math.max(capacity, mXs.length * 2);
+      double[] xs = new double[length];
+      double[] ys = new double[length];
+      System.arraycopy(mXs, 0, xs, 0, mSize);
+      System.arraycopy(mYs, 0, ys, 0, mSize);
+      mXs = xs;
+      mYs = ys;
+    }
+  }
+
+  /**
+   * Pads an X value until it does not match an existing one, unless duplicate X
+   * values are allowed.
+   * 
+   * @param x the X value
+   * @return the X value to add
+   */
+  private double padX(double x) {
+    if (!mDuplicateXAllowed) {
+      while (mXY.get(x) != null) {
+        // add a very small value to x such as data points sharing the same x
+        // will still be added
+        x += getPadding();
+      }
+    }
+    return x;
+  }
+
+  protected double getPadding() {
+    return PADDING;
+  }
+
+  /**
+   * Removes an existing value from the series.
+   * 
+   * @param index the index in the series of the value to remove
+   */
+  public synchronized void remove(int index) {
+    mergeStaged();
+    checkIndex(index);
+    double removedX = mXs[index];
+    double removedY = mYs[index];
+    if (!mDuplicateXAllowed) {
+      mXY.remove(removedX);
+    }
+    System.arraycopy(mXs, index + 1, mXs, index, mSize - index - 1);
+    System.arraycopy(mYs, index + 1, mYs, index, mSize - index - 1);
+    mSize--;
+    mYIndex.remove(index);
+    if (removedX == mMinX || removedX == mMaxX || removedY == mMinY || removedY == mMaxY) {
+      initRange();
+    }
+    recordChange(CHANGE_REMOVED, index);
+  }
+
+  /**
+   * Removes all the existing values from the series.
+   */
+  public synchronized void clear() {
+    mXY.clear();
+    mSize = 0;
+    mStagedCount = 0;
+    mYIndex.clear();
+    mStringXY.clear();
+    initRange();
+    recordChange(CHANGE_CLEARED, 0);
+  }
+
+  /**
+   * Replaces all the values at once, such as when a new window of data is
+   * loaded. The annotations are kept, and the change listeners get a single
+   * change instead of one per value.
+   * 
+   * @param xs the X values, in ascending order, which the series takes
+   *          ownership of
+   * @param ys the Y values, which the series takes ownership of
+   * @param count the number of values
+   */
+  synchronized void replaceValues(double[] xs, double[] ys, int count) {
+    if (!mDuplicateXAllowed) {
+      mXY.clear();
+      for (int i = 0; i < count; i++) {
+        if (i > 0 && xs[i] <= xs[i - 1]) {
+          // the same padding as when adding values with the same X
+          xs[i] = xs[i - 1] + getPadding();
+        }
+        mXY.put(xs[i], ys[i]);
+      }
+    }
+    mXs = xs;
+    mYs = ys;
+    mSize = count;
+    mStagedCount = 0;
+    mYIndex.setAll(ys, count);
+    initRange();
+    mVersion++;
+    if (mLockedListeners != null) {
+      for (SeriesChangeListener listener : mLockedListeners) {
+        listener.seriesCleared(this);
+        if (count > 0) {
+          listener.valuesAdded(this, 0, count);
+        }
+      }
+    }
+    if (mChangeListeners == null || mChangeListeners.isEmpty()) {
+      return;
+    }
+    boolean first = mPendingCount == 0;
+    // the previous changes do not matter anymore
+    mPendingCount = 0;
+    appendChange(CHANGE_CLEARED, 0, 0);
+    if (count > 0) {
+      appendChange(CHANGE_ADDED, 0, count);
+    }
+    if (first) {
+      for (SeriesChangeListener listener : mDispatchListeners) {
+        listener.changesPending(this);
+      }
+    }
+  }
+
+  /**
+   * Returns the series version, which is incremented on every change of the
+   * values or annotations, such as the work depending on them can be skipped
+   * when it did not change.
+   * 
+   * @return the series version
+   */
+  public int getVersion() {
+    return mVersion;
+  }
+
+  /**
+   * Adds a new change listener. The changes are only collected while the
+   * series has change listeners.
+   * 
+   * @param listener the change listener
+   */
+  public synchronized void addChangeListener(SeriesChangeListener listener) {
+    if (mChangeListeners == null) {
+      mChangeListeners = new ArrayList<SeriesChangeListener>();
+      mPendingChanges = new int[MAX_PENDING_CHANGES * 3];
+      mDispatchedChanges = new int[MAX_PENDING_CHANGES * 3];
+    }
+    if (!mChangeListeners.contains(listener)) {
+      mChangeListeners.add(listener);
+      mDispatchListeners = mChangeListeners.toArray(new SeriesChangeListener[0]);
+    }
+  }
+
+  /**
+   * Removes a change listener.
+   * 
+   * @param listener the change listener
+   */
+  public synchronized void removeChangeListener(SeriesChangeListener listener) {
+    if (mChangeListeners != null && mChangeListeners.remove(listener)) {
+      mDispatchListeners = mChangeListeners.toArray(new SeriesChangeListener[0]);
+      if (mChangeListeners.isEmpty()) {
+        mPendingCount = 0;
+      }
+    }
+  }
+
+  /**
+   * Adds a listener that is notified of each change as it is made, from the
+   * thread that changes the series and while the series is locked, with the
+   * index of the changed value at that time. Unlike the change listeners, it
+   * does not depend on the changes being dispatched. The listener must return
+   * quickly and must not take any other lock than its own.
+   * 
+   * @param listener the listener
+   */
+  synchronized void addLockedListener(SeriesChangeListener listener) {
+    int count = mLockedListeners == null ? 0 : mLockedListeners.length;
+    SeriesChangeListener[] listeners = new SeriesChangeListener[count + 1];
+    if (count > 0) {
+      System.arraycopy(mLockedListeners, 0, listeners, 0, count);
+    }
+    listeners[count] = listener;
+    mLockedListeners = listeners;
+  }
+
+  /**
+   * Removes a listener notified of each change while the series is locked.
+   * 
+   * @param listener the listener
+   */
+  synchronized void removeLockedListener(SeriesChangeListener listener) {
+    if (mLockedListeners == null) {
+      return;
+    }
+    List<SeriesChangeListener> listeners = new ArrayList<SeriesChangeListener>();
+    for (SeriesChangeListener locked : mLockedListeners) {
+      if (locked != listener) {
+        listeners.add(locked);
+      }
+    }
+    mLockedListeners = listeners.isEmpty() ? null : listeners
+        .toArray(new SeriesChangeListener[listeners.size()]);
+  }
+
+  /**
+   * Delivers the changes made since the last dispatch to the change listeners.
+   * The listeners are called on the calling thread, without the series being
+   * locked, so the changes must always be dispatched from the same thread,
+   * usually the user interface one, once per frame.
+   * 
+   * @return if there were any changes to deliver
+   */
+  public boolean dispatchChanges() {
+    int[] changes;
+    int count;
+    SeriesChangeListener[] listeners;
+    synchronized (this) {
+      if (mPendingCount == 0) {
+        return false;
+      }
+      changes = mPendingChanges;
+      count = mPendingCount;
+      listeners = mDispatchListeners;
+      mPendingChanges = mDispatchedChanges;
+      mDispatchedChanges = changes;
+      mPendingCount = 0;
+    }
+    for (int i = 0; i < count; i++) {
+      int type = changes[3 * i];
+      int index = changes[3 * i + 1];
+      int changeCount = changes[3 * i + 2];
+      for (SeriesChangeListener listener : listeners) {
+        if (type == CHANGE_ADDED) {
+          listener.valuesAdded(this, index, changeCount);
+        } else if (type == CHANGE_REMOVED) {
+          listener.valuesRemoved(this, index, changeCount);
+        } else {
+          listener.seriesCleared(this);
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Increments the version, notifies the locked listeners and records a change
+   * of one value for the change listeners, merging it with the previous change
+   * when possible. Must be called while holding the series lock.
+   * 
+   * @param type the change type
+   * @param index the index of the changed value
+   */
+  void recordChange(int type, int index) {
+    mVersion++;
+    if (mLockedListeners != null) {
+      for (SeriesChangeListener listener : mLockedListeners) {
+        if (type == CHANGE_ADDED) {
+          listener.valuesAdded(this, index, 1);
+        } else if (type == CHANGE_REMOVED) {
+          listener.valuesRemoved(this, index, 1);
+        } else {
+          listener.seriesCleared(this);
+        }
+      }
+    }
+    if (mChangeListeners == null || mChangeListeners.isEmpty()) {
+      return;
+    }
+    boolean first = mPendingCount == 0;
+    if (!mergeChange(type, index)) {
+      if (mPendingCount == MAX_PENDING_CHANGES) {
+        // too many distinct changes, the listeners get the whole series again
+        mPendingCount = 0;
+        appendChange(CHANGE_CLEARED, 0, 0);
+        if (getItemCount() > 0) {
+          appendChange(CHANGE_ADDED, 0, getItemCount());
+        }
+      } else {
+        appendChange(type, index, 1);
+      }
+    }
+    if (first) {
+      for (SeriesChangeListener listener : mDispatchListeners) {
+        listener.changesPending(this);
+      }
+    }
+  }
+
+  /**
+   * Merges a change of one value into the pending changes. Appending values
+   * while removing the first ones, as a sliding window does, is kept as a
+   * single removed range followed by a single added range.
+   * 
+   * @param type the change type
+   * @param index the index of the changed value
+   * @return false if the change could not be merged
+   */
+  private boolean mergeChange(int type, int index) {
+    if (type == CHANGE_CLEARED) {
+      // the previous changes do not matter anymore
+      mPendingCount = 0;
+      return false;
+    }
+    if (mPendingCount == 0) {
+      return false;
+    }
+    int last = (mPendingCount - 1) * 3;
+    int lastType = mPendingChanges[last];
+    int lastIndex = mPendingChanges[last + 1];
+    int lastCount = mPendingChanges[last + 2];
+    if (type == CHANGE_ADDED) {
+      if (lastType == CHANGE_ADDED && index >= lastIndex && index <= lastIndex + lastCount) {
+        mPendingChanges[last + 2]++;
+        return true;
+      }
+      return false;
+    }
+    if (lastType == CHANGE_REMOVED) {
+      return mergeRemoval(last, index);
+    }
+    if (lastType != CHANGE_ADDED) {
+      return false;
+    }
+    if (index >= lastIndex && index < lastIndex + lastCount) {
+      // a value added since the last dispatch is removed again
+      if (lastCount == 1) {
+        mPendingCount--;
+      } else {
+        mPendingChanges[last + 2]--;
+      }
+      return true;
+    }
+    if (index < lastIndex) {
+      // the value was before the added ones, so it can be reported as removed
+      // before them
+      if (mPendingCount > 1 && mergeRemoval(last - 3, index)) {
+        mPendingChanges[last + 1]--;
+        return true;
+      }
+      if (mPendingCount == MAX_PENDING_CHANGES) {
+        return false;
+      }
+      System.arraycopy(mPendingChanges, last, mPendingChanges, last + 3, 3);
+      mPendingChanges[last] = CHANGE_REMOVED;
+      mPendingChanges[last + 1] = index;
+      mPendingChanges[last + 2] = 1;
+      mPendingChanges[last + 4]--;
+      mPendingCount++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Merges the removal of one value into a pending removed range.
+   * 
+   * @param position the position of the removed range in the pending changes
+   * @param index the index of the removed value
+   * @return false if the removal could not be merged
+   */
+  private boolean mergeRemoval(int position, int index) {
+    if (mPendingChanges[position] != CHANGE_REMOVED) {
+      return false;
+    }
+    int rangeIndex = mPendingChanges[position + 1];
+    if (index == rangeIndex || index == rangeIndex - 1) {
+      mPendingChanges[position + 1] = index;
+      mPendingChanges[position + 2]++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Appends a change to the pending changes.
+   * 
+   * @param type the change type
+   * @param index the index of the first changed value
+   * @param count the number of changed values
+   */
+  private void appendChange(int type, int index, int count) {
+    int position = mPendingCount * 3;
+    mPendingChanges[position] = type;
+    mPendingChanges[position + 1] = index;
+    mPendingChanges[position + 2] = count;
+    mPendingCount++;
+  }
+
+  /**
+   * Returns the X axis value at the specified index.
+   * 
+   * @param index the index
+   * @return the X value
+   */
+  public synchronized double getX(int index) {
+    mergeStaged();
+    checkIndex(index);
+    return mXs[index];
+  }
+
+  /**
+   * Returns the Y axis value at the specified index.
+   * 
+   * @param index the index
+   * @return the Y value
+   */
+  public synchronized double getY(int index) {
+    mergeStaged();
+    checkIndex(index);
+    return mYs[index];
+  }
+
+  /**
+   * Checks that an index is within the series.
+   * 
+   * @param index the index
+   */
+  private void checkIndex(int index) {
+    if (index < 0 || index >= mSize) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+    }
+  }
+
+  /**
+   * Copies the values within an index range. This gives a consistent view of
+   * the values to readers on other threads, such as the values of a chart
+   * frame, while taking the series lock only once for the whole range.
+   * 
+   * @param from the first index, inclusive
+   * @param to the last index, exclusive
+   * @param xs the array that receives the X values, or null
+   * @param ys the array that receives the Y values, or null
+   * @return the number of copied values, as the range is limited to the
+   *         values of the series
+   */
+  public synchronized int copyRange(int from, int to, double[] xs, double[] ys) {
+    mergeStaged();
+    return copyColumns(mXs, mYs, mSize, from, to, xs, ys);
+  }
+
+  /**
+   * Copies values from the value arrays.
+   * 
+   * @param srcXs the X values
+   * @param srcYs the Y values
+   * @param size the number of values
+   * @param from the first index, inclusive
+   * @param to the last index, exclusive
+   * @param xs the array that receives the X values, or null
+   * @param ys the array that receives the Y values, or null
+   * @return the number of copied values
+   */
+  private static int copyColumns(double[] srcXs, double[] srcYs, int size, int from, int to,
+      double[] xs, double[] ys) {
+    from = Math.max(from, 0);
+    int count = Math.min(to, size) - from;
+    if (count <= 0) {
+      return 0;
+    }
+    if (xs != null) {
+      System.arraycopy(srcXs, from, xs, 0, count);
+    }
+    if (ys != null) {
+      System.arraycopy(srcYs, from, ys, 0, count);
+    }
+    return count;
+  }
+
+  /**
+   * Add an String at (x,y) coordinates
+   * 
+   * @param annotation String text
+   * @param x
+   * @param y
+   */
+  public synchronized void addAnnotation(String annotation, double x, double y) {
+    mAnnotations.add(annotation);
+    mStringXY.put(x, y);
+    mVersion++;
+  }
+
+  /**
+   * Remove an String at index
+   * 
+   * @param index
+   */
+  public synchronized void removeAnnotation(int index) {
+    mAnnotations.remove(index);
+    mStringXY.removeByIndex(index);
+    mVersion++;
+  }
+
+  /**
+   * Get X coordinate of the String at index
+   * 
+   * @param index
+   * @return
+   */
+  public double getAnnotationX(int index) {
+    return mStringXY.getXByIndex(index);
+  }
+
+  /**
+   * Get Y coordinate of the String at index
+   * 
+   * @param index
+   * @return
+   */
+  public double getAnnotationY(int index) {
+    return mStringXY.getYByIndex(index);
+  }
+
+  /**
+   * Get String count
+   * 
+   * @return
+   */
+  public int getAnnotationCount() {
+    return mAnnotations.size();
+  }
+
+  /**
+   * Get the String at index
+   * 
+   * @param index
+   * @return String
+   */
+  public String getAnnotationAt(int index) {
+    return mAnnotations.get(index);
+  }
+
+  /**
+   * Returns submap of x and y values according to the given start and end
+   * 
+   * @param start start x value
+   * @param stop stop x value
+   * @param beforeAfterPoints if the points before and after the first and last
+   *          visible ones must be displayed
+   * @return a submap of x and y values
+   */
+  public synchronized SortedMap<Double, Double> getRange(double start, double stop,
+      boolean beforeAfterPoints) {
+    if (mDuplicateXAllowed) {
+      return getIndexedRange(start, stop, beforeAfterPoints);
+    }
+    if (beforeAfterPoints) {
+      // we need to add one point before the start and one point after the end
+      // (if
+      // there are any)
+      // to ensure that line doesn't end before the end of the screen
+
+      // this would be simply: start = mXY.lowerKey(start) but NavigableMap is
+      // available since API 9
+      SortedMap<Double, Double> headMap = mXY.headMap(start);
+      if (!headMap.isEmpty()) {
+        start = headMap.lastKey();
+      }
+
+      // this would be simply: end = mXY.higherKey(end) but NavigableMap is
+      // available since API 9
+      // so we have to do this hack in order to support older versions
+      SortedMap<Double, Double> tailMap = mXY.tailMap(stop);
+      if (!tailMap.isEmpty()) {
+        Iterator<Double> tailIterator = tailMap.keySet().iterator();
+        Double next = tailIterator.next();
+        if (tailIterator.hasNext()) {
+          stop = tailIterator.next();
+        } else {
+          stop += next;
+        }
+      }
+    }
+    return mXY.subMap(start, stop);
+  }
+
+  /**
+   * Builds the submap of x and y values from the value arrays, for duplicate X
+   * values which are not kept in the X map. Only the last value of each X is in
+   * the submap, the indexed getters return all of them.
+   * 
+   * @param start start x value
+   * @param stop stop x value
+   * @param beforeAfterPoints if the points before and after the first and last
+   *          visible ones must be displayed
+   * @return a submap of x and y values
+   */
+  private SortedMap<Double, Double> getIndexedRange(double start, double stop,
+      boolean beforeAfterPoints) {
+    mergeStaged();
+    int from = lowerBound(mXs, mSize, start);
+    int to = lowerBound(mXs, mSize, stop);
+    if (beforeAfterPoints) {
+      from = Math.max(0, from - 1);
+      to = Math.min(mSize, to + 1);
+    }
+    SortedMap<Double, Double> range = new TreeMap<Double, Double>();
+    for (int i = from; i < to; i++) {
+      range.put(mXs[i], mYs[i]);
+    }
+    return range;
+  }
+
+  /**
+   * Returns the index of a X value, the first one when duplicate X values are
+   * allowed.
+   * 
+   * @param key the X value
+   * @return the index of the value, or (-(insertion point) - 1) if not found
+   */
+  public synchronized int getIndexForKey(double key) {
+    mergeStaged();
+    return binarySearch(mXs, mSize, key);
+  }
+
+  /**
+   * Searches an X value in sorted values, which returns the first one of the
+   * same X values.
+   * 
+   * @param values the sorted values
+   * @param size the number of values
+   * @param x the X value
+   * @return the index of the value, or (-(insertion point) - 1) if not found
+   */
+  private static int binarySearch(double[] values, int size, double x) {
+    int index = lowerBound(values, size, x);
+    return index < size && values[index] == x ? index : -(index + 1);
+  }
+
+  /**
+   * Returns the index of the first value greater than or equal to the given
+   * one, in sorted values.
+   * 
+   * @param values the sorted values
+   * @param size the number of values
+   * @param x the X value
+   * @return the index, or the size if all the values are lower
+   */
+  private static int lowerBound(double[] values, int size, double x) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (values[middle] < x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index of the first value greater than the given one, in sorted
+   * values.
+   * 
+   * @param values the sorted values
+   * @param size the number of values
+   * @param x the X value
+   * @return the index, or the size if all the values are lower or equal
+   */
+  private static int upperBound(double[] values, int size, double x) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (values[middle] <= x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index of the first value with an X greater than or equal to the
+   * given one.
+   * 
+   * @param x the X value
+   * @return the index, or the item count if all the X values are lower
+   */
+  public synchronized int getCeilingIndex(double x) {
+    mergeStaged();
+    return lowerBound(mXs, mSize, x);
+  }
+
+  /**
+   * Returns the index of the last value with an X lower than or equal to the
+   * given one.
+   * 
+   * @param x the X value
+   * @return the index, or -1 if all the X values are greater
+   */
+  public synchronized int getFloorIndex(double x) {
+    mergeStaged();
+    return upperBound(mXs, mSize, x) - 1;
+  }
+
+  /**
+   * Computes the Y range of the values within an X range, in O(log n).
+   * 
+   * @param start the start X value
+   * @param stop the stop X value
+   * @param range an array that receives {minY, maxY}
+   * @return false if there are no values within the X range, in which case the
+   *         array is left unchanged
+   */
+  public synchronized boolean getYRange(double start, double stop, double[] range) {
+    return mYIndex.getMinMax(getCeilingIndex(start), getFloorIndex(stop) + 1, range);
+  }
+
+  /**
+   * Returns the series item count.
+   * 
+   * @return the series item count
+   */
+  public synchronized int getItemCount() {
+    return mSize + mStagedCount;
+  }
+
+  /**
+   * Returns the minimum value on the X axis.
+   * 
+   * @return the X axis minimum value
+   */
+  public double getMinX() {
+    return mMinX;
+  }
+
+  /**
+   * Returns the minimum value on the Y axis.
+   * 
+   * @return the Y axis minimum value
+   */
+  public double getMinY() {
+    return mMinY;
+  }
+
+  /**
+   * Returns the maximum value on the X axis.
+   * 
+   * @return the X axis maximum value
+   */
+  public double getMaxX() {
+    return mMaxX;
+  }
+
+  /**
+   * Returns the maximum value on the Y axis.
+   * 
+   * @return the Y axis maximum value
+   */
+  public double getMaxY() {
+    return mMaxY;
+  }
+}
@@ -1,139 +1,209 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.model;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import org.achartengine.util.MathHelper;
-
-/**
- * An extension of the XY series which adds a third dimension. It is used for XY
- * charts like bubble.
- */
-public class XYValueSeries extends XYSeries {
-  /** A list to contain the series values. */
-  private List<Double> mValue = new ArrayList<Double>();
-  /** The minimum value. */
-  private double mMinValue = MathHelper.NULL_VALUE;
-  /** The maximum value. */
-  private double mMaxValue = -MathHelper.NULL_VALUE;
-
-  /**
-   * Builds a new XY value series.
-   * 
-   * @param title the series title.
-   */
-  public XYValueSeries(String title) {
-    super(title);
-  }
-
-  /**
-   * Adds a new value to the series.
-   * 
-   * @param x the value for the X axis
-   * @param y the value for the Y axis
-   * @param value the value
-   */
-  public synchronized void add(double x, double y, double value) {
-    super.add(x, y);
-    mValue.add(value);
-    updateRange(value);
-  }
-
-  /**
-   * Initializes the values range.
-   */
-  private void initRange() {
-    mMinValue = MathHelper.NULL_VALUE;
-    mMaxValue = MathHelper.NULL_VALUE;
-    int length = getItemCount();
-    for (int k = 0; k < length; k++) {
-      updateRange(getValue(k));
-    }
-  }
-
-  /**
-   * Updates the values range.
-   * 
-   * @param value the new value
-   */
-  private void updateRange(double value) {
-    mMinValue = Math.min(mMinValue, value);
-    mMaxValue = Math.max(mMaxValue, value);
-  }
-
-  /**
-   * Adds a new value to the series.
-   * 
-   * @param x the value for the X axis
-   * @param y the value for the Y axis
-   */
-  public synchronized void add(double x, double y) {
-    add(x, y, 0d);
-  }
-
-  /**
-   * Removes an existing value from the series.
-   * 
-   * @param index the index in the series of the value to remove
-   */
-  public synchronized void remove(int index) {
-    super.remove(index);
-    double removedValue = mValue.remove(index);
-    if (removedValue == mMinValue || removedValue == mMaxValue) {
-      initRange();
-    }
-  }
-
-  /**
-   * Removes all the values from the series.
-   */
-  public synchronized void clear() {
-    super.clear();
-    mValue.clear();
-    initRange();
-  }
-
-  /**
-   * Returns the value at the specified index.
-   * 
-   * @param index the index
-   * @return the value
-   */
-  public synchronized double getValue(int index) {
-    return mValue.get(index);
-  }
-
-  /**
-   * Returns the minimum value.
-   * 
-   * @return the minimum value
-   */
-  public double getMinValue() {
-    return mMinValue;
-  }
-
-  /**
-   * Returns the maximum value.
-   * 
-   * @return the maximum value
-   */
-  public double getMaxValue() {
-    return mMaxValue;
-  }
-
-}
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.model;
+
+import org.achartengine.util.MathHelper;
+
+/**
+ * An extension of the XY series which adds a third dimension. It is used for XY
+ * charts like bubble.
+ */
+public class XYValueSeries extends XYSeries {
+  /** The series values, in index order. */
+  private double[] mValues = new double[16];
+  /** The number of values. */
+  private int mValueCount;
+  /** The minimum value. */
+  private double mMinValue = MathHelper.NULL_VALUE;
+  /** The maximum value. */
+  private double mMaxValue = -MathHelper.NULL_VALUE;
+
+  /**
+   * Builds a new XY value series.
+   * 
+   * @param title the series title.
+   */
+  public XYValueSeries(String title) {
+    super(title);
+  }
+
+  /**
+   * Adds a new value to the series.
+   * 
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   * @param value the value
+   */
+  public synchronized void add(double x, double y, double value) {
+    // the values are not staged, so a value added out of order is inserted at
+    // its index right away and stays aligned with its X and Y
+    int index = getFloorIndex(x) + 1;
+    super.add(index, x, y);
+    insertValue(index, value);
+    updateRange(value);
+  }
+
+  /**
+   * Inserts a value into the values array, growing it when needed.
+   * 
+   * @param index the index
+   * @param value the value
+   */
+  private void insertValue(int index, double value) {
+    if (mValueCount == mValues.length) {
+      double[] values = new double[mValues.length * 2];
+      System.arraycopy(mValues, 0, values, 0, mValueCount);
+      mValues = values;
+    }
+    System.arraycopy(mValues, index, mValues, index + 1, mValueCount - index);
+    mValues[index] = value;
+    mValueCount++;
+  }
+
+  /**
+   * Initializes the values range.
+   */
+  private void initRange() {
+    mMinValue = MathHelper.NULL_VALUE;
+    mMaxValue = MathHelper.NULL_VALUE;
+    for (int k = 0; k < mValueCount; k++) {
+      updateRange(mValues[k]);
+    }
+  }
+
+  /**
+   * Updates the values range.
+   * 
+   * @param value the new value
+   */
+  private void updateRange(double value) {
+    mMinValue = Math.min(mMinValue, value);
+    mMaxValue = Math.max(mMaxValue, value);
+  }
+
+  /**
+   * Adds a new value to the series.
+   * 
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   */
+  public synchronized void add(double x, double y) {
+    add(x, y, 0d);
+  }
+
+  /**
+   * Adds a new value to the series at the specified index.
+   * 
+   * @param index the index to be added the data to
+   * @param x the value for the X axis
+   * @param y the value for the Y axis
+   */
+  public synchronized void add(int index, double x, double y) {
+    super.add(index, x, y);
+    insertValue(index, 0d);
+    updateRange(0d);
+  }
+
+  /**
+   * Removes an existing value from the series.
+   * 
+   * @param index the index in the series of the value to remove
+   */
+  public synchronized void remove(int index) {
+    super.remove(index);
+    double removedValue = mValues[index];
+    System.arraycopy(mValues, index + 1, mValues, index, mValueCount - index - 1);
+    mValueCount--;
+    if (removedValue == mMinValue || removedValue == mMaxValue) {
+      initRange();
+    }
+  }
+
+  /**
+   * Removes all the values from the series.
+   */
+  public synchronized void clear() {
+    super.clear();
+    mValueCount = 0;
+    initRange();
+  }
+
+  /**
+   * Returns the value at the specified index.
+   * 
+   * @param index the index
+   * @return the value
+   */
+  public synchronized double getValue(int index) {
+    if (index < 0 || index >= mValueCount) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mValueCount);
+    }
+    return mValues[index];
+  }
+
+  /**
+   * Copies the values within an index range, taking the series lock only once
+   * for the whole range.
+   * 
+   * @param from the first index, inclusive
+   * @param to the last index, exclusive
+   * @param values the array that receives the values
+   * @return the number of copied values
+   * @see #copyRange(int, int, double[], double[])
+   */
+  public synchronized int copyValues(int from, int to, double[] values) {
+    return copyValues(mValues, mValueCount, from, to, values);
+  }
+
+  /**
+   * Copies values from the values array.
+   * 
+   * @param source the values array
+   * @param size the number of values
+   * @param from the first index, inclusive
+   * @param to the last index, exclusive
+   * @param values the array that receives the values
+   * @return the number of copied values
+   */
+  private static int copyValues(double[] source, int size, int from, int to, double[] values) {
+    from = Math.max(from, 0);
+    int count = Math.min(to, size) - from;
+    if (count <= 0) {
+      return 0;
+    }
+    System.arraycopy(source, from, values, 0, count);
+    return count;
+  }
+
+  /**
+   * Returns the minimum value.
+   * 
+   * @return the minimum value
+   */
+  public double getMinValue() {
+    return mMinValue;
+  }
+
+  /**
+   * Returns the maximum value.
+   * 
+   * @return the maximum value
+   */
+  public double getMaxValue() {
+    return mMaxValue;
+  }
+
+}
@@ -0,0 +1,468 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.renderer;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.graphics.Paint.Align;
+
+/**
+ * An immutable snapshot of the style of a multiple XY series renderer, as read
+ * by the chart while drawing the labels, the titles and the axes. The snapshot
+ * is compiled by {@link XYMultipleSeriesRenderer#getStyle()} and built again
+ * only when a style setter was called, so a frame reads plain fields instead of
+ * calling the renderer getters, some of them synchronized, for every label.
+ */
+public final class XYRendererStyle {
+  /** The renderer style version the snapshot was built from. */
+  private final int mVersion;
+  /** The orientation rotate angle. */
+  private final int mOrientationAngle;
+  /** The chart title. */
+  private final String mChartTitle;
+  /** The chart title text size. */
+  private final float mChartTitleTextSize;
+  /** The X axis title. */
+  private final String mXTitle;
+  /** The Y axis titles, per scale. */
+  private final String[] mYTitles;
+  /** The axis title text size. */
+  private final float mAxisTitleTextSize;
+  /** The labels text size. */
+  private final float mLabelsTextSize;
+  /** The labels color. */
+  private final int mLabelsColor;
+  /** The axes color. */
+  private final int mAxesColor;
+  /** The grid color. */
+  private final int mGridColor;
+  /** The margins color. */
+  private final int mMarginsColor;
+  /** The X axis labels color. */
+  private final int mXLabelsColor;
+  /** The Y axis labels colors, per scale. */
+  private final int[] mYLabelsColors;
+  /** The X axis labels alignment. */
+  private final Align mXLabelsAlign;
+  /** The Y axis labels alignments, per scale. */
+  private final Align[] mYLabelsAligns;
+  /** The Y axis alignments, per scale. */
+  private final Align[] mYAxisAligns;
+  /** If any Y axis is aligned to the right. */
+  private final boolean mRightAxis;
+  /** The X text label padding. */
+  private final float mXLabelsPadding;
+  /** The Y text label padding. */
+  private final float mYLabelsPadding;
+  /** The Y axis labels vertical padding. */
+  private final float mYLabelsVerticalPadding;
+  /** The X axis labels rotation angle. */
+  private final float mXLabelsAngle;
+  /** The Y axis labels rotation angle. */
+  private final float mYLabelsAngle;
+  /** The label format. */
+  private final NumberFormat mLabelFormat;
+  /** If the labels are visible. */
+  private final boolean mShowLabels;
+  /** If the axes are visible. */
+  private final boolean mShowAxes;
+  /** If the X axis grid is visible. */
+  private final boolean mShowGridX;
+  /** If the Y axis grid is visible. */
+  private final boolean mShowGridY;
+  /** If the custom text grid is visible. */
+  private final boolean mShowCustomTextGrid;
+  /** The X text label locations. */
+  private final Double[] mXTextLabelLocations;
+  /** The X axis text labels. */
+  private final Map<Double, String> mXTextLabels;
+  /** The Y text label locations, per scale. */
+  private final Double[][] mYTextLabelLocations;
+  /** The Y axis text labels, per scale. */
+  private final List<Map<Double, String>> mYTextLabels;
+
+  /**
+   * Builds a snapshot of the style of a renderer.
+   * 
+   * @param renderer the renderer
+   * @param version the renderer style version
+   */
+  XYRendererStyle(XYMultipleSeriesRenderer renderer, int version) {
+    mVersion = version;
+    mOrientationAngle = renderer.getOrientation().getAngle();
+    mChartTitle = renderer.getChartTitle();
+    mChartTitleTextSize = renderer.getChartTitleTextSize();
+    mXTitle = renderer.getXTitle();
+    mAxisTitleTextSize = renderer.getAxisTitleTextSize();
+    mLabelsTextSize = renderer.getLabelsTextSize();
+    mLabelsColor = renderer.getLabelsColor();
+    mAxesColor = renderer.getAxesColor();
+    mGridColor = renderer.getGridColor();
+    mMarginsColor = renderer.getMarginsColor();
+    mXLabelsColor = renderer.getXLabelsColor();
+    mXLabelsAlign = renderer.getXLabelsAlign();
+    mXLabelsPadding = renderer.getXLabelsPadding();
+    mYLabelsPadding = renderer.getYLabelsPadding();
+    mYLabelsVerticalPadding = renderer.getYLabelsVerticalPadding();
+    mXLabelsAngle = renderer.getXLabelsAngle();
+    mYLabelsAngle = renderer.getYLabelsAngle();
+    mLabelFormat = renderer.getLabelFormat();
+    mShowLabels = renderer.isShowLabels();
+    mShowAxes = renderer.isShowAxes();
+    mShowGridX = renderer.isShowGridX();
+    mShowGridY = renderer.isShowGridY();
+    mShowCustomTextGrid = renderer.isShowCustomTextGrid();
+    mXTextLabelLocations = renderer.getXTextLabelLocations();
+    mXTextLabels = new HashMap<Double, String>();
+    for (Double location : mXTextLabelLocations) {
+      mXTextLabels.put(location, renderer.getXTextLabel(location));
+    }
+    int scales = renderer.getScalesCount();
+    mYTitles = new String[scales];
+    mYLabelsColors = new int[scales];
+    mYLabelsAligns = new Align[scales];
+    mYAxisAligns = new Align[scales];
+    mYTextLabelLocations = new Double[scales][];
+    mYTextLabels = new ArrayList<Map<Double, String>>(scales);
+    boolean rightAxis = false;
+    for (int i = 0; i < scales; i++) {
+      mYTitles[i] = renderer.getYTitle(i);
+      mYLabelsColors[i] = renderer.getYLabelsColor(i);
+      mYLabelsAligns[i] = renderer.getYLabelsAlign(i);
+      mYAxisAligns[i] = renderer.getYAxisAlign(i);
+      rightAxis |= mYAxisAligns[i] == Align.RIGHT;
+      mYTextLabelLocations[i] = renderer.getYTextLabelLocations(i);
+      Map<Double, String> labels = new HashMap<Double, String>();
+      for (Double location : mYTextLabelLocations[i]) {
+        labels.put(location, renderer.getYTextLabel(location, i));
+      }
+      mYTextLabels.add(labels);
+    }
+    mRightAxis = rightAxis;
+  }
+
+  /**
+   * Returns the renderer style version the snapshot was built from.
+   * 
+   * @return the style version
+   */
+  public int getVersion() {
+    return mVersion;
+  }
+
+  /**
+   * Returns the orientation rotate angle.
+   * 
+   * @return the orientation rotate angle
+   */
+  public int getOrientationAngle() {
+    return mOrientationAngle;
+  }
+
+  /**
+   * Returns the chart title.
+   * 
+   * @return the chart title
+   */
+  public String getChartTitle() {
+    return mChartTitle;
+  }
+
+  /**
+   * Returns the chart title text size.
+   * 
+   * @return the chart title text size
+   */
+  public float getChartTitleTextSize() {
+    return mChartTitleTextSize;
+  }
+
+  /**
+   * Returns the X axis title.
+   * 
+   * @return the X axis title
+   */
+  public String getXTitle() {
+    return mXTitle;
+  }
+
+  /**
+   * Returns the Y axis title of a scale.
+   * 
+   * @param scale the renderer scale
+   * @return the Y axis title
+   */
+  public String getYTitle(int scale) {
+    return mYTitles[scale];
+  }
+
+  /**
+   * Returns the axis title text size.
+   * 
+   * @return the axis title text size
+   */
+  public float getAxisTitleTextSize() {
+    return mAxisTitleTextSize;
+  }
+
+  /**
+   * Returns the labels text size.
+   * 
+   * @return the labels text size
+   */
+  public float getLabelsTextSize() {
+    return mLabelsTextSize;
+  }
+
+  /**
+   * Returns the labels color.
+   * 
+   * @return the labels color
+   */
+  public int getLabelsColor() {
+    return mLabelsColor;
+  }
+
+  /**
+   * Returns the axes color.
+   * 
+   * @return the axes color
+   */
+  public int getAxesColor() {
+    return mAxesColor;
+  }
+
+  /**
+   * Returns the grid color.
+   * 
+   * @return the grid color
+   */
+  public int getGridColor() {
+    return mGridColor;
+  }
+
+  /**
+   * Returns the margins color.
+   * 
+   * @return the margins color
+   */
+  public int getMarginsColor() {
+    return mMarginsColor;
+  }
+
+  /**
+   * Returns the X axis labels color.
+   * 
+   * @return the X axis labels color
+   */
+  public int getXLabelsColor() {
+    return mXLabelsColor;
+  }
+
+  /**
+   * Returns the Y axis labels color of a scale.
+   * 
+   * @param scale the renderer scale
+   * @return the Y axis labels color
+   */
+  public int getYLabelsColor(int scale) {
+    return mYLabelsColors[scale];
+  }
+
+  /**
+   * Returns the X axis labels alignment.
+   * 
+   * @return the X axis labels alignment
+   */
+  public Align getXLabelsAlign() {
+    return mXLabelsAlign;
+  }
+
+  /**
+   * Returns the Y axis labels alignment of a scale.
+   * 
+   * @param scale the renderer scale
+   * @return the Y axis labels alignment
+   */
+  public Align getYLabelsAlign(int scale) {
+    return mYLabelsAligns[scale];
+  }
+
+  /**
+   * Returns the Y axis alignment of a scale.
+   * 
+   * @param scale the renderer scale
+   * @return the Y axis alignment
+   */
+  public Align getYAxisAlign(int scale) {
+    return mYAxisAligns[scale];
+  }
+
+  /**
+   * Returns if any Y axis is aligned to the right.
+   * 
+   * @return if there is a right Y axis
+   */
+  public boolean isRightAxis() {
+    return mRightAxis;
+  }
+
+  /**
+   * Returns the X text label padding.
+   * 
+   * @return the X text label padding
+   */
+  public float getXLabelsPadding() {
+    return mXLabelsPadding;
+  }
+
+  /**
+   * Returns the Y text label padding.
+   * 
+   * @return the Y text label padding
+   */
+  public float getYLabelsPadding() {
+    return mYLabelsPadding;
+  }
+
+  /**
+   * Returns the Y axis labels vertical padding.
+   * 
+   * @return the Y axis labels vertical padding
+   */
+  public float getYLabelsVerticalPadding() {
+    return mYLabelsVerticalPadding;
+  }
+
+  /**
+   * Returns the X axis labels rotation angle.
+   * 
+   * @return the X axis labels rotation angle
+   */
+  public float getXLabelsAngle() {
+    return mXLabelsAngle;
+  }
+
+  /**
+   * Returns the Y axis labels rotation angle.
+   * 
+   * @return the Y axis labels rotation angle
+   */
+  public float getYLabelsAngle() {
+    return mYLabelsAngle;
+  }
+
+  /**
+   * Returns the label format.
+   * 
+   * @return the label format
+   */
+  public NumberFormat getLabelFormat() {
+    return mLabelFormat;
+  }
+
+  /**
+   * Returns if the labels are visible.
+   * 
+   * @return if the labels are visible
+   */
+  public boolean isShowLabels() {
+    return mShowLabels;
+  }
+
+  /**
+   * Returns if the axes are visible.
+   * 
+   * @return if the axes are visible
+   */
+  public boolean isShowAxes() {
+    return mShowAxes;
+  }
+
+  /**
+   * Returns if the X axis grid is visible.
+   * 
+   * @return if the X axis grid is visible
+   */
+  public boolean isShowGridX() {
+    return mShowGridX;
+  }
+
+  /**
+   * Returns if the Y axis grid is visible.
+   * 
+   * @return if the Y axis grid is visible
+   */
+  public boolean isShowGridY() {
+    return mShowGridY;
+  }
+
+  /**
+   * Returns if the custom text grid is visible.
+   * 
+   * @return if the custom text grid is visible
+   */
+  public boolean isShowCustomTextGrid() {
+    return mShowCustomTextGrid;
+  }
+
+  /**
+   * Returns the X text label locations. The array is shared and must not be
+   * modified.
+   * 
+   * @return the X text label locations
+   */
+  public Double[] getXTextLabelLocations() {
+    return mXTextLabelLocations;
+  }
+
+  /**
+   * Returns the X axis text label at the specified X axis value.
+   * 
+   * @param x the X axis value
+   * @return the X axis text label, or null
+   */
+  public String getXTextLabel(Double x) {
+    return mXTextLabels.get(x);
+  }
+
+  /**
+   * Returns the Y text label locations of a scale. The array is shared and
+   * must not be modified.
+   * 
+   * @param scale the renderer scale
+   * @return the Y text label locations
+   */
+  public Double[] getYTextLabelLocations(int scale) {
+    return mYTextLabelLocations[scale];
+  }
+
+  /**
+   * Returns the Y axis text label at the specified Y axis value.
+   * 
+   * @param y the Y axis value
+   * @param scale the renderer scale
+   * @return the Y axis text label, or null
+   */
+  public String getYTextLabel(Double y, int scale) {
+    return mYTextLabels.get(scale).get(y);
+  }
+
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.tools;
+
+import org.achartengine.chart.AbstractChart;
+
+/**
+ * Abstract class for being extended by the tools that change the chart range
+ * over several frames. The graphical view steps all the running animations
+ * from a single frame loop and draws the chart once per frame.
+ */
+public abstract class AnimationTool extends AbstractTool {
+
+  /**
+   * Animation tool constructor.
+   *
+   * @param chart the chart
+   */
+  public AnimationTool(AbstractChart chart) {
+    super(chart);
+  }
+
+  /**
+   * Advances the animation to a frame.
+   *
+   * @param time the frame time, in milliseconds
+   * @return if the animation is still running after this frame
+   */
+  public abstract boolean step(long time);
+
+  /**
+   * Returns if the animation is running.
+   *
+   * @return if the animation is running
+   */
+  public abstract boolean isRunning();
+
+  /**
+   * Stops the animation.
+   */
+  public abstract void cancel();
+
+}
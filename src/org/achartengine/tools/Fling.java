@@ -0,0 +1,192 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.achartengine.chart.AbstractChart;
+import org.achartengine.chart.ViewportTransform;
+import org.achartengine.chart.XYChart;
+import org.achartengine.model.XYDataSourceSeries;
+import org.achartengine.model.XYSeries;
+
+/**
+ * The fling tool, which keeps panning the chart after the finger is lifted,
+ * with a velocity that decays exponentially. Each frame moves the chart
+ * through the pan tool, so the pan limits and the pan listeners apply as if
+ * the chart was dragged.
+ */
+public class Fling extends AnimationTool {
+  /** The velocity decay time constant, in seconds. */
+  private static final double TIME_CONSTANT = 0.325;
+  /** The velocity under which a fling stops, in pixels per second. */
+  public static final float MIN_VELOCITY = 50;
+  /** The pan tool the chart is moved with. */
+  private final Pan mPan;
+  /** The fling listeners. */
+  private List<FlingListener> mFlingListeners = new ArrayList<FlingListener>();
+  /** The range of the scale being predicted, reused to avoid allocations. */
+  private final double[] mRange = new double[4];
+  /** The current velocity on the X axis, in pixels per second. */
+  private double mVelocityX;
+  /** The current velocity on the Y axis, in pixels per second. */
+  private double mVelocityY;
+  /** The previous frame time, or -1 before the first frame. */
+  private long mLastTime = -1;
+  /** If the fling is running. */
+  private boolean mRunning;
+
+  /**
+   * Builds an instance of the fling tool.
+   *
+   * @param chart the XY chart
+   * @param pan the pan tool the chart is moved with
+   */
+  public Fling(AbstractChart chart, Pan pan) {
+    super(chart);
+    mPan = pan;
+  }
+
+  /**
+   * Starts a fling.
+   *
+   * @param velocityX the initial velocity on X axis, in pixels per second
+   * @param velocityY the initial velocity on Y axis, in pixels per second
+   * @return false if the velocity is too low for a fling, in which case the
+   *         fling is not started
+   */
+  public boolean start(float velocityX, float velocityY) {
+    if (!(mChart instanceof XYChart)) {
+      return false;
+    }
+    mVelocityX = mRenderer.isPanXEnabled() ? velocityX : 0;
+    mVelocityY = mRenderer.isPanYEnabled() && !mRenderer.isFitYToVisibleX() ? velocityY : 0;
+    if (Math.hypot(mVelocityX, mVelocityY) < MIN_VELOCITY) {
+      mRunning = false;
+      return false;
+    }
+    mLastTime = -1;
+    mRunning = true;
+    prewarm();
+    return true;
+  }
+
+  /**
+   * Prefetches the data for the X axis range the fling is predicted to end at
+   * and notifies the fling listeners about it. The remaining distance of an
+   * exponentially decaying velocity is the velocity times the time constant.
+   */
+  private void prewarm() {
+    XYChart chart = (XYChart) mChart;
+    float distanceX = (float) (mVelocityX * TIME_CONSTANT);
+    float distanceY = (float) (mVelocityY * TIME_CONSTANT);
+    int scales = mRenderer.getScalesCount();
+    for (int i = 0; i < scales; i++) {
+      getRange(i, mRange);
+      checkRange(mRange, i);
+      ViewportTransform transform = chart.getViewportTransform(i);
+      double deltaX = transform.toRealX(0) - transform.toRealX(distanceX);
+      if (chart.isVertical(mRenderer)) {
+        double deltaY = transform.toRealY(0) - transform.toRealY(distanceY);
+        deltaX = -deltaY * Math.abs(mRange[1] - mRange[0]) / Math.abs(mRange[3] - mRange[2]);
+      }
+      double minX = mRange[0] + deltaX;
+      double maxX = mRange[1] + deltaX;
+      for (XYSeries series : chart.getDataset().getSeries()) {
+        if (series instanceof XYDataSourceSeries && series.getScaleNumber() == i) {
+          ((XYDataSourceSeries) series).prefetchRange(minX, maxX);
+        }
+      }
+      notifyFlingListeners(i, minX, maxX);
+    }
+  }
+
+  @Override
+  public boolean step(long time) {
+    if (!mRunning) {
+      return false;
+    }
+    if (mLastTime < 0) {
+      mLastTime = time;
+      return true;
+    }
+    double elapsed = (time - mLastTime) / 1000.0;
+    mLastTime = time;
+    if (elapsed <= 0) {
+      return true;
+    }
+    // the distance covered while the velocity decays during the frame
+    double decay = Math.exp(-elapsed / TIME_CONSTANT);
+    float distanceX = (float) (mVelocityX * TIME_CONSTANT * (1 - decay));
+    float distanceY = (float) (mVelocityY * TIME_CONSTANT * (1 - decay));
+    mVelocityX *= decay;
+    mVelocityY *= decay;
+    mPan.setVelocity((float) mVelocityX, (float) mVelocityY);
+    mPan.apply(0, 0, distanceX, distanceY);
+    if (Math.hypot(mVelocityX, mVelocityY) < MIN_VELOCITY) {
+      cancel();
+    }
+    return mRunning;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return mRunning;
+  }
+
+  @Override
+  public void cancel() {
+    if (mRunning) {
+      mRunning = false;
+      mPan.setVelocity(0, 0);
+      mPan.stop();
+    }
+  }
+
+  /**
+   * Notify the fling listeners about a fling start.
+   *
+   * @param scale the scale
+   * @param minX the predicted range minimum X value
+   * @param maxX the predicted range maximum X value
+   */
+  private synchronized void notifyFlingListeners(int scale, double minX, double maxX) {
+    int count = mFlingListeners.size();
+    for (int i = 0; i < count; i++) {
+      mFlingListeners.get(i).flingStarted(scale, minX, maxX);
+    }
+  }
+
+  /**
+   * Adds a new fling listener.
+   *
+   * @param listener fling listener
+   */
+  public synchronized void addFlingListener(FlingListener listener) {
+    mFlingListeners.add(listener);
+  }
+
+  /**
+   * Removes a fling listener.
+   *
+   * @param listener fling listener
+   */
+  public synchronized void removeFlingListener(FlingListener listener) {
+    mFlingListeners.remove(listener);
+  }
+
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.tools;
+
+/**
+ * A fling listener.
+ */
+public interface FlingListener {
+
+  /**
+   * Called when a fling starts, with the X axis range the fling is predicted to
+   * end at, such as the data for that range can be loaded ahead.
+   *
+   * @param scale the scale
+   * @param minX the predicted range minimum X value
+   * @param maxX the predicted range maximum X value
+   */
+  void flingStarted(int scale, double minX, double maxX);
+
+}
@@ -1,163 +1,238 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- * 
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- * 
- *      http://www.apache.org/licenses/LICENSE-2.0
- * 
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.tools;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import org.achartengine.chart.AbstractChart;
-import org.achartengine.chart.RoundChart;
-import org.achartengine.chart.XYChart;
-
-/**
- * The pan tool.
- */
-public class Pan extends AbstractTool {
-  /** The pan listeners. */
-  private List<PanListener> mPanListeners = new ArrayList<PanListener>();
-  /** Pan limits reached on the X axis. */
-  private boolean limitsReachedX = false;
-  /** Pan limits reached on the X axis. */
-  private boolean limitsReachedY = false;
-
-  /**
-   * Builds and instance of the pan tool.
-   * 
-   * @param chart the XY chart
-   */
-  public Pan(AbstractChart chart) {
-    super(chart);
-  }
-
-  /**
-   * Apply the tool.
-   * 
-   * @param oldX the previous location on X axis
-   * @param oldY the previous location on Y axis
-   * @param newX the current location on X axis
-   * @param newY the current location on the Y axis
-   */
-  public void apply(float oldX, float oldY, float newX, float newY) {
-    boolean notLimitedUp = true;
-    boolean notLimitedBottom = true;
-    boolean notLimitedLeft = true;
-    boolean notLimitedRight = true;
-    if (mChart instanceof XYChart) {
-      int scales = mRenderer.getScalesCount();
-      double[] limits = mRenderer.getPanLimits();
-      boolean limited = limits != null && limits.length == 4;
-      XYChart chart = (XYChart) mChart;
-      for (int i = 0; i < scales; i++) {
-        double[] range = getRange(i);
-        double[] calcRange = chart.getCalcRange(i);
-        if (limitsReachedX
-            && limitsReachedY
-            && (range[0] == range[1] && calcRange[0] == calcRange[1] || range[2] == range[3]
-                && calcRange[2] == calcRange[3])) {
-          return;
-        }
-        checkRange(range, i);
-
-        double[] realPoint = chart.toRealPoint(oldX, oldY, i);
-        double[] realPoint2 = chart.toRealPoint(newX, newY, i);
-        double deltaX = realPoint[0] - realPoint2[0];
-        double deltaY = realPoint[1] - realPoint2[1];
-        double ratio = getAxisRatio(range);
-        if (chart.isVertical(mRenderer)) {
-          double newDeltaX = -deltaY * ratio;
-          double newDeltaY = deltaX / ratio;
-          deltaX = newDeltaX;
-          deltaY = newDeltaY;
-        }
-        if (mRenderer.isPanXEnabled()) {
-          if (limits != null) {
-            if (notLimitedLeft) {
-              notLimitedLeft = limits[0] <= range[0] + deltaX;
-            }
-            if (notLimitedRight) {
-              notLimitedRight = limits[1] >= range[1] + deltaX;
-            }
-          }
-          if (!limited || (notLimitedLeft && notLimitedRight)) {
-            setXRange(range[0] + deltaX, range[1] + deltaX, i);
-            limitsReachedX = false;
-          } else {
-            limitsReachedX = true;
-          }
-        }
-        if (mRenderer.isPanYEnabled()) {
-          if (limits != null) {
-            if (notLimitedBottom) {
-              notLimitedBottom = limits[2] <= range[2] + deltaY;
-            }
-            if (notLimitedUp) {
-              notLimitedUp = limits[3] >= range[3] + deltaY;
-            }
-          }
-          if (!limited || (notLimitedBottom && notLimitedUp)) {
-            setYRange(range[2] + deltaY, range[3] + deltaY, i);
-            limitsReachedY = false;
-          } else {
-            limitsReachedY = true;
-          }
-        }
-      }
-    } else {
-      RoundChart chart = (RoundChart) mChart;
-      chart.setCenterX(chart.getCenterX() + (int) (newX - oldX));
-      chart.setCenterY(chart.getCenterY() + (int) (newY - oldY));
-    }
-    notifyPanListeners();
-  }
-
-  /**
-   * Return the X / Y axis range ratio.
-   * 
-   * @param range the axis range
-   * @return the ratio
-   */
-  private double getAxisRatio(double[] range) {
-    return Math.abs(range[1] - range[0]) / Math.abs(range[3] - range[2]);
-  }
-
-  /**
-   * Notify the pan listeners about a pan.
-   */
-  private synchronized void notifyPanListeners() {
-    for (PanListener listener : mPanListeners) {
-      listener.panApplied();
-    }
-  }
-
-  /**
-   * Adds a new pan listener.
-   * 
-   * @param listener pan listener
-   */
-  public synchronized void addPanListener(PanListener listener) {
-    mPanListeners.add(listener);
-  }
-
-  /**
-   * Removes a pan listener.
-   * 
-   * @param listener pan listener
-   */
-  public synchronized void removePanListener(PanListener listener) {
-    mPanListeners.remove(listener);
-  }
-
-}
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.achartengine.chart.AbstractChart;
+import org.achartengine.chart.RoundChart;
+import org.achartengine.chart.ViewportTransform;
+import org.achartengine.chart.XYChart;
+import org.achartengine.model.XYDataSourceSeries;
+import org.achartengine.model.XYSeries;
+
+/**
+ * The pan tool.
+ */
+public class Pan extends AbstractTool {
+  /** The pan listeners. */
+  private List<PanListener> mPanListeners = new ArrayList<PanListener>();
+  /** Pan limits reached on the X axis. */
+  private boolean limitsReachedX = false;
+  /** Pan limits reached on the X axis. */
+  private boolean limitsReachedY = false;
+  /** The pan velocity on the X axis, in pixels per second. */
+  private float mVelocityX;
+  /** The pan velocity on the Y axis, in pixels per second. */
+  private float mVelocityY;
+  /** The range of the scale being panned, reused to avoid allocations. */
+  private final double[] mRange = new double[4];
+
+  /**
+   * Builds and instance of the pan tool.
+   * 
+   * @param chart the XY chart
+   */
+  public Pan(AbstractChart chart) {
+    super(chart);
+  }
+
+  /**
+   * Sets the current pan velocity, used for prefetching the data of the series
+   * that are backed by a data source.
+   * 
+   * @param velocityX the velocity on X axis, in pixels per second
+   * @param velocityY the velocity on Y axis, in pixels per second
+   */
+  public void setVelocity(float velocityX, float velocityY) {
+    mVelocityX = velocityX;
+    mVelocityY = velocityY;
+  }
+
+  /**
+   * Stops the panning, such as the next frame draws the series entirely.
+   * 
+   * @return if the chart was being panned
+   */
+  public boolean stop() {
+    if (mChart instanceof XYChart && ((XYChart) mChart).isPanning()) {
+      ((XYChart) mChart).setPanning(false);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Apply the tool.
+   * 
+   * @param oldX the previous location on X axis
+   * @param oldY the previous location on Y axis
+   * @param newX the current location on X axis
+   * @param newY the current location on the Y axis
+   */
+  public void apply(float oldX, float oldY, float newX, float newY) {
+    boolean notLimitedUp = true;
+    boolean notLimitedBottom = true;
+    boolean notLimitedLeft = true;
+    boolean notLimitedRight = true;
+    if (mChart instanceof XYChart) {
+      int scales = mRenderer.getScalesCount();
+      double[] limits = mRenderer.getPanLimits();
+      boolean limited = limits != null && limits.length == 4;
+      XYChart chart = (XYChart) mChart;
+      chart.setPanning(true);
+      for (int i = 0; i < scales; i++) {
+        double[] range = getRange(i, mRange);
+        double[] calcRange = chart.getCalcRange(i);
+        if (limitsReachedX
+            && limitsReachedY
+            && (range[0] == range[1] && calcRange[0] == calcRange[1] || range[2] == range[3]
+                && calcRange[2] == calcRange[3])) {
+          return;
+        }
+        checkRange(range, i);
+
+        ViewportTransform transform = chart.getViewportTransform(i);
+        double realX = transform.toRealX(oldX);
+        double realY = transform.toRealY(oldY);
+        double deltaX = realX - transform.toRealX(newX);
+        double deltaY = realY - transform.toRealY(newY);
+        double ratio = getAxisRatio(range);
+        if (chart.isVertical(mRenderer)) {
+          double newDeltaX = -deltaY * ratio;
+          double newDeltaY = deltaX / ratio;
+          deltaX = newDeltaX;
+          deltaY = newDeltaY;
+        }
+        if (mRenderer.isPanXEnabled()) {
+          if (limits != null) {
+            if (notLimitedLeft) {
+              notLimitedLeft = limits[0] <= range[0] + deltaX;
+            }
+            if (notLimitedRight) {
+              notLimitedRight = limits[1] >= range[1] + deltaX;
+            }
+          }
+          if (!limited || (notLimitedLeft && notLimitedRight)) {
+            setXRange(range[0] + deltaX, range[1] + deltaX, i);
+            limitsReachedX = false;
+            prefetch(chart, i, oldX, oldY, realX, realY, transform, ratio, range[0] + deltaX,
+                range[1] + deltaX);
+          } else {
+            limitsReachedX = true;
+          }
+        }
+        if (mRenderer.isFitYToVisibleX()) {
+          fitYRange(i);
+        } else if (mRenderer.isPanYEnabled()) {
+          if (limits != null) {
+            if (notLimitedBottom) {
+              notLimitedBottom = limits[2] <= range[2] + deltaY;
+            }
+            if (notLimitedUp) {
+              notLimitedUp = limits[3] >= range[3] + deltaY;
+            }
+          }
+          if (!limited || (notLimitedBottom && notLimitedUp)) {
+            setYRange(range[2] + deltaY, range[3] + deltaY, i);
+            limitsReachedY = false;
+          } else {
+            limitsReachedY = true;
+          }
+        }
+      }
+    } else {
+      RoundChart chart = (RoundChart) mChart;
+      chart.setCenterX(chart.getCenterX() + (int) (newX - oldX));
+      chart.setCenterY(chart.getCenterY() + (int) (newY - oldY));
+    }
+    notifyPanListeners();
+  }
+
+  /**
+   * Prefetches the data ahead of the visible range for the data source backed
+   * series of a scale.
+   * 
+   * @param chart the XY chart
+   * @param scale the scale
+   * @param oldX the previous location on X axis
+   * @param oldY the previous location on Y axis
+   * @param realX the previous location on X axis in real coordinates
+   * @param realY the previous location on Y axis in real coordinates
+   * @param transform the transform of the scale, before the pan
+   * @param ratio the X / Y axis range ratio
+   * @param minX the new visible range minimum X value
+   * @param maxX the new visible range maximum X value
+   */
+  private void prefetch(XYChart chart, int scale, float oldX, float oldY, double realX,
+      double realY, ViewportTransform transform, double ratio, double minX, double maxX) {
+    if (mVelocityX == 0 && mVelocityY == 0) {
+      return;
+    }
+    XYSeries[] series = chart.getDataset().getSeries();
+    for (XYSeries s : series) {
+      if (s instanceof XYDataSourceSeries && s.getScaleNumber() == scale) {
+        // the screen is linear, so the real distance covered in a second is
+        // the distance to the point the velocity vector points away from
+        double velocity = transform.toRealX(oldX - mVelocityX) - realX;
+        if (chart.isVertical(mRenderer)) {
+          velocity = -(transform.toRealY(oldY - mVelocityY) - realY) * ratio;
+        }
+        ((XYDataSourceSeries) s).prefetch(minX, maxX, velocity);
+      }
+    }
+  }
+
+  /**
+   * Return the X / Y axis range ratio.
+   * 
+   * @param range the axis range
+   * @return the ratio
+   */
+  private double getAxisRatio(double[] range) {
+    return Math.abs(range[1] - range[0]) / Math.abs(range[3] - range[2]);
+  }
+
+  /**
+   * Notify the pan listeners about a pan.
+   */
+  private synchronized void notifyPanListeners() {
+    int count = mPanListeners.size();
+    for (int i = 0; i < count; i++) {
+      mPanListeners.get(i).panApplied();
+    }
+  }
+
+  /**
+   * Adds a new pan listener.
+   * 
+   * @param listener pan listener
+   */
+  public synchronized void addPanListener(PanListener listener) {
+    mPanListeners.add(listener);
+  }
+
+  /**
+   * Removes a pan listener.
+   * 
+   * @param listener pan listener
+   */
+  public synchronized void removePanListener(PanListener listener) {
+    mPanListeners.remove(listener);
+  }
+
+}
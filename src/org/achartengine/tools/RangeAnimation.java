@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.tools;
+
+import org.achartengine.chart.AbstractChart;
+import org.achartengine.chart.XYChart;
+
+/**
+ * Animates the chart range from one state to another, such as the change
+ * made by a zoom. The range before the change is captured with
+ * {@link #begin()}, then the change is applied by any tool, and
+ * {@link #start(long)} takes the resulting range as the target and moves the
+ * chart back to where it was, for the animation to get there.
+ */
+public class RangeAnimation extends AnimationTool {
+  /** The range each scale starts from. */
+  private double[][] mFrom = new double[0][];
+  /** The range each scale ends at. */
+  private double[][] mTo = new double[0][];
+  /** The number of animated scales. */
+  private int mScales;
+  /** The animation duration, in milliseconds. */
+  private long mDuration;
+  /** The first frame time, or -1 before the first frame. */
+  private long mStartTime = -1;
+  /** If the animation is running. */
+  private boolean mRunning;
+
+  /**
+   * Builds an instance of the range animation.
+   *
+   * @param chart the XY chart
+   */
+  public RangeAnimation(AbstractChart chart) {
+    super(chart);
+  }
+
+  /**
+   * Captures the current range as the start of the animation. If an animation
+   * is already running, it starts from where it got to.
+   */
+  public void begin() {
+    mRunning = false;
+    if (!(mChart instanceof XYChart)) {
+      return;
+    }
+    mScales = mRenderer.getScalesCount();
+    if (mFrom.length < mScales) {
+      mFrom = new double[mScales][4];
+      mTo = new double[mScales][4];
+    }
+    for (int i = 0; i < mScales; i++) {
+      getRange(i, mFrom[i]);
+      checkRange(mFrom[i], i);
+    }
+  }
+
+  /**
+   * Captures the current range as the end of the animation and moves the chart
+   * back to the start of the animation.
+   *
+   * @param duration the animation duration, in milliseconds
+   * @return false if there is nothing to animate, in which case the chart is
+   *         left at the current range
+   */
+  public boolean start(long duration) {
+    if (!(mChart instanceof XYChart) || duration <= 0) {
+      return false;
+    }
+    boolean changed = false;
+    for (int i = 0; i < mScales; i++) {
+      getRange(i, mTo[i]);
+      for (int j = 0; j < 4; j++) {
+        changed |= mFrom[i][j] != mTo[i][j];
+      }
+    }
+    if (!changed) {
+      return false;
+    }
+    for (int i = 0; i < mScales; i++) {
+      setXRange(mFrom[i][0], mFrom[i][1], i);
+      setYRange(mFrom[i][2], mFrom[i][3], i);
+    }
+    mDuration = duration;
+    mStartTime = -1;
+    mRunning = true;
+    return true;
+  }
+
+  @Override
+  public boolean step(long time) {
+    if (!mRunning) {
+      return false;
+    }
+    if (mStartTime < 0) {
+      mStartTime = time;
+    }
+    double fraction = Math.min(1, (double) (time - mStartTime) / mDuration);
+    if (fraction >= 1) {
+      cancel();
+      return false;
+    }
+    // decelerate towards the target
+    double progress = 1 - (1 - fraction) * (1 - fraction);
+    for (int i = 0; i < mScales; i++) {
+      double[] from = mFrom[i];
+      double[] to = mTo[i];
+      setXRange(from[0] + (to[0] - from[0]) * progress, from[1] + (to[1] - from[1]) * progress, i);
+      setYRange(from[2] + (to[2] - from[2]) * progress, from[3] + (to[3] - from[3]) * progress, i);
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return mRunning;
+  }
+
+  /**
+   * Stops the animation, with the chart at the target range.
+   */
+  @Override
+  public void cancel() {
+    if (mRunning) {
+      mRunning = false;
+      for (int i = 0; i < mScales; i++) {
+        setXRange(mTo[i][0], mTo[i][1], i);
+        setYRange(mTo[i][2], mTo[i][3], i);
+      }
+    }
+  }
+
+}
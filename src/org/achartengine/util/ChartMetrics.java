@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+/**
+ * The rendering metrics of one chart frame. An instance is reused from frame
+ * to frame, so the values are only valid while
+ * {@link ChartMetricsListener#frameRendered(ChartMetrics)} is running.
+ */
+public class ChartMetrics {
+  /** The whole frame, including the work done outside of the chart. */
+  public static final int PHASE_FRAME = 0;
+  /** Getting the visible ranges and the series points within them. */
+  public static final int PHASE_RANGE_SCAN = 1;
+  /** Projecting the series points to screen coordinates. */
+  public static final int PHASE_PROJECTION = 2;
+  /** Building and drawing the series paths and their clickable areas. */
+  public static final int PHASE_PATH_BUILD = 3;
+  /** Drawing the labels, the grid, the titles and the axes. */
+  public static final int PHASE_LABELS = 4;
+  /** Drawing the legend. */
+  public static final int PHASE_LEGEND = 5;
+  /** The number of phases. */
+  public static final int PHASE_COUNT = 6;
+  /** The phase durations, in nanoseconds. */
+  private final long[] mPhaseNanos = new long[PHASE_COUNT];
+  /** The number of series points that were scanned. */
+  private int mPointsScanned;
+  /** The number of series points that were drawn. */
+  private int mPointsDrawn;
+  /** The number of objects allocated by the drawing code. */
+  private int mAllocations;
+  /** The number of calls made on the canvas. */
+  private int mCanvasCalls;
+  /** The number of repaint requests since the previous frame. */
+  private int mRepaintRequests;
+  /** The number of repaint requests that were merged into a pending one. */
+  private int mRepaintsCoalesced;
+
+  /**
+   * Clears the metrics for a new frame.
+   */
+  public void reset() {
+    for (int i = 0; i < PHASE_COUNT; i++) {
+      mPhaseNanos[i] = 0;
+    }
+    mPointsScanned = 0;
+    mPointsDrawn = 0;
+    mAllocations = 0;
+    mCanvasCalls = 0;
+    mRepaintRequests = 0;
+    mRepaintsCoalesced = 0;
+  }
+
+  /**
+   * Adds time to a phase.
+   *
+   * @param phase the phase
+   * @param nanos the duration, in nanoseconds
+   */
+  public void addPhaseTime(int phase, long nanos) {
+    mPhaseNanos[phase] += nanos;
+  }
+
+  /**
+   * Returns the time spent in a phase.
+   *
+   * @param phase the phase
+   * @return the duration, in nanoseconds
+   */
+  public long getPhaseTime(int phase) {
+    return mPhaseNanos[phase];
+  }
+
+  /**
+   * Adds to the number of scanned series points.
+   *
+   * @param count the number of points
+   */
+  public void addPointsScanned(int count) {
+    mPointsScanned += count;
+  }
+
+  /**
+   * Returns the number of series points that were scanned.
+   *
+   * @return the number of scanned points
+   */
+  public int getPointsScanned() {
+    return mPointsScanned;
+  }
+
+  /**
+   * Adds to the number of drawn series points.
+   *
+   * @param count the number of points
+   */
+  public void addPointsDrawn(int count) {
+    mPointsDrawn += count;
+  }
+
+  /**
+   * Returns the number of series points that were drawn.
+   *
+   * @return the number of drawn points
+   */
+  public int getPointsDrawn() {
+    return mPointsDrawn;
+  }
+
+  /**
+   * Adds to the number of allocated objects.
+   *
+   * @param count the number of objects
+   */
+  public void addAllocations(int count) {
+    mAllocations += count;
+  }
+
+  /**
+   * Returns the number of objects the drawing code is known to allocate, such
+   * as boxed screen coordinates, paths and clickable areas. Allocations made by
+   * the platform are not counted.
+   *
+   * @return the number of allocated objects
+   */
+  public int getAllocations() {
+    return mAllocations;
+  }
+
+  /**
+   * Adds to the number of canvas calls.
+   *
+   * @param count the number of calls
+   */
+  public void addCanvasCalls(int count) {
+    mCanvasCalls += count;
+  }
+
+  /**
+   * Returns the number of canvas calls made through the shared chart drawing
+   * code. The calls made by the series specific drawing are not counted.
+   *
+   * @return the number of canvas calls
+   */
+  public int getCanvasCalls() {
+    return mCanvasCalls;
+  }
+
+  /**
+   * Sets the repaint statistics.
+   *
+   * @param requests the number of repaint requests since the previous frame
+   * @param coalesced the number of requests merged into a pending one
+   */
+  public void setRepaints(int requests, int coalesced) {
+    mRepaintRequests = requests;
+    mRepaintsCoalesced = coalesced;
+  }
+
+  /**
+   * Returns the number of repaint requests since the previous frame.
+   *
+   * @return the number of repaint requests
+   */
+  public int getRepaintRequests() {
+    return mRepaintRequests;
+  }
+
+  /**
+   * Returns the number of repaint requests that did not schedule a frame of
+   * their own, because one was already pending.
+   *
+   * @return the number of coalesced repaint requests
+   */
+  public int getRepaintsCoalesced() {
+    return mRepaintsCoalesced;
+  }
+
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+import java.util.Arrays;
+
+/**
+ * A metrics listener that aggregates the phase timings of the last frames, such
+ * as their percentiles can be queried. Set it on a chart with
+ * {@link org.achartengine.chart.AbstractChart#setMetricsListener(ChartMetricsListener)}
+ * and read the percentiles from any thread.
+ */
+public class ChartMetricsHistogram implements ChartMetricsListener {
+  /** The default number of frames that are kept. */
+  public static final int DEFAULT_CAPACITY = 256;
+  /** The phase timings of the last frames, in nanoseconds. */
+  private final long[][] mSamples;
+  /** The number of frames that were recorded since the last reset. */
+  private long mFrameCount;
+  /** The number of points scanned since the last reset. */
+  private long mPointsScanned;
+  /** The number of points drawn since the last reset. */
+  private long mPointsDrawn;
+  /** The number of objects allocated since the last reset. */
+  private long mAllocations;
+  /** The number of canvas calls since the last reset. */
+  private long mCanvasCalls;
+  /** The number of repaint requests since the last reset. */
+  private long mRepaintRequests;
+  /** The number of coalesced repaint requests since the last reset. */
+  private long mRepaintsCoalesced;
+
+  /**
+   * Builds a new histogram that keeps the timings of the last
+   * {@link #DEFAULT_CAPACITY} frames.
+   */
+  public ChartMetricsHistogram() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Builds a new histogram.
+   *
+   * @param capacity the number of frames to keep the timings of
+   */
+  public ChartMetricsHistogram(int capacity) {
+    mSamples = new long[ChartMetrics.PHASE_COUNT][capacity];
+  }
+
+  public synchronized void frameRendered(ChartMetrics metrics) {
+    int slot = (int) (mFrameCount % mSamples[0].length);
+    for (int i = 0; i < ChartMetrics.PHASE_COUNT; i++) {
+      mSamples[i][slot] = metrics.getPhaseTime(i);
+    }
+    mFrameCount++;
+    mPointsScanned += metrics.getPointsScanned();
+    mPointsDrawn += metrics.getPointsDrawn();
+    mAllocations += metrics.getAllocations();
+    mCanvasCalls += metrics.getCanvasCalls();
+    mRepaintRequests += metrics.getRepaintRequests();
+    mRepaintsCoalesced += metrics.getRepaintsCoalesced();
+  }
+
+  /**
+   * Returns a percentile of a phase duration over the kept frames.
+   *
+   * @param phase the phase, one of the {@link ChartMetrics} phase constants
+   * @param percentile the percentile, between 0 and 100
+   * @return the duration, in nanoseconds, or 0 if no frame was recorded
+   */
+  public synchronized long getPercentile(int phase, double percentile) {
+    int count = (int) Math.min(mFrameCount, mSamples[phase].length);
+    if (count == 0) {
+      return 0;
+    }
+    long[] sorted = new long[count];
+    System.arraycopy(mSamples[phase], 0, sorted, 0, count);
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100 * count) - 1;
+    return sorted[Math.max(0, Math.min(count - 1, index))];
+  }
+
+  /**
+   * Returns the median duration of a phase.
+   *
+   * @param phase the phase
+   * @return the duration, in nanoseconds
+   */
+  public long getP50(int phase) {
+    return getPercentile(phase, 50);
+  }
+
+  /**
+   * Returns the 95th percentile duration of a phase.
+   *
+   * @param phase the phase
+   * @return the duration, in nanoseconds
+   */
+  public long getP95(int phase) {
+    return getPercentile(phase, 95);
+  }
+
+  /**
+   * Returns the 99th percentile duration of a phase.
+   *
+   * @param phase the phase
+   * @return the duration, in nanoseconds
+   */
+  public long getP99(int phase) {
+    return getPercentile(phase, 99);
+  }
+
+  /**
+   * Returns the number of frames recorded since the last reset.
+   *
+   * @return the frame count
+   */
+  public synchronized long getFrameCount() {
+    return mFrameCount;
+  }
+
+  /**
+   * Returns the number of points scanned since the last reset.
+   *
+   * @return the number of scanned points
+   */
+  public synchronized long getPointsScanned() {
+    return mPointsScanned;
+  }
+
+  /**
+   * Returns the number of points drawn since the last reset.
+   *
+   * @return the number of drawn points
+   */
+  public synchronized long getPointsDrawn() {
+    return mPointsDrawn;
+  }
+
+  /**
+   * Returns the number of objects allocated since the last reset.
+   *
+   * @return the number of allocated objects
+   */
+  public synchronized long getAllocations() {
+    return mAllocations;
+  }
+
+  /**
+   * Returns the number of canvas calls since the last reset.
+   *
+   * @return the number of canvas calls
+   */
+  public synchronized long getCanvasCalls() {
+    return mCanvasCalls;
+  }
+
+  /**
+   * Returns the number of repaint requests since the last reset.
+   *
+   * @return the number of repaint requests
+   */
+  public synchronized long getRepaintRequests() {
+    return mRepaintRequests;
+  }
+
+  /**
+   * Returns the number of coalesced repaint requests since the last reset.
+   *
+   * @return the number of coalesced repaint requests
+   */
+  public synchronized long getRepaintsCoalesced() {
+    return mRepaintsCoalesced;
+  }
+
+  /**
+   * Clears all the recorded frames.
+   */
+  public synchronized void reset() {
+    mFrameCount = 0;
+    mPointsScanned = 0;
+    mPointsDrawn = 0;
+    mAllocations = 0;
+    mCanvasCalls = 0;
+    mRepaintRequests = 0;
+    mRepaintsCoalesced = 0;
+  }
+
+}
@@ -0,0 +1,397 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+import java.io.Serializable;
+
+/**
+ * A block of XY values compressed as they are appended, in the way of the
+ * Gorilla time series database. The X values are stored as the difference
+ * between consecutive deltas when they are integers, such as timestamps, and
+ * the Y values as the XOR of consecutive values. Regular timestamps and slowly
+ * changing values then take only a few bits per point. The block header keeps
+ * the first and last values and the Y range, such as a block can be skipped or
+ * summarized without being decoded. Null values ({@link MathHelper#NULL_VALUE})
+ * and NaN are ignored by the Y range.
+ */
+public class CompressedBlock implements Serializable {
+  /** The smallest delta of delta stored in 7 bits. */
+  private static final int DOD_7_BITS = 63;
+  /** The smallest delta of delta stored in 9 bits. */
+  private static final int DOD_9_BITS = 255;
+  /** The smallest delta of delta stored in 12 bits. */
+  private static final int DOD_12_BITS = 2047;
+  /** The largest integer X value, beyond which doubles are not all integers. */
+  private static final double MAX_INTEGER_X = 1L << 53;
+  /** The encoded bits. */
+  private long[] mBits = new long[4];
+  /** The number of encoded bits. */
+  private int mBitCount;
+  /** The number of values. */
+  private int mCount;
+  /** If the X values are encoded as deltas of deltas, otherwise as XOR. */
+  private boolean mIntegerX;
+  /** The first X value. */
+  private double mFirstX;
+  /** The last X value. */
+  private double mLastX;
+  /** The first Y value. */
+  private double mFirstY;
+  /** The last Y value. */
+  private double mLastY;
+  /** The minimum Y value. */
+  private double mMinY = MathHelper.NULL_VALUE;
+  /** The maximum Y value. */
+  private double mMaxY = -MathHelper.NULL_VALUE;
+  /** The previous X delta, when the X values are integers. */
+  private long mDelta;
+  /** The leading zeros of the previous X XOR, or -1 before the first one. */
+  private int mXLeading = -1;
+  /** The trailing zeros of the previous X XOR. */
+  private int mXTrailing;
+  /** The leading zeros of the previous Y XOR, or -1 before the first one. */
+  private int mYLeading = -1;
+  /** The trailing zeros of the previous Y XOR. */
+  private int mYTrailing;
+
+  /**
+   * Returns if a value can be appended to the block. The values of a block with
+   * integer X values must all have an integer X.
+   * 
+   * @param x the X value
+   * @return if the value can be appended
+   */
+  public boolean canAppend(double x) {
+    return mCount == 0 || !mIntegerX || isInteger(x);
+  }
+
+  /**
+   * Returns if an X value can be encoded as an integer.
+   * 
+   * @param x the X value
+   * @return if the value is an integer
+   */
+  private static boolean isInteger(double x) {
+    return x == Math.rint(x) && Math.abs(x) < MAX_INTEGER_X;
+  }
+
+  /**
+   * Appends a value to the block.
+   * 
+   * @param x the value for the X axis, greater than the previous one
+   * @param y the value for the Y axis
+   */
+  public void append(double x, double y) {
+    if (mCount == 0) {
+      mIntegerX = isInteger(x);
+      write(Double.doubleToRawLongBits(x), 64);
+      write(Double.doubleToRawLongBits(y), 64);
+      mFirstX = x;
+      mFirstY = y;
+    } else {
+      if (mIntegerX) {
+        long delta = (long) x - (long) mLastX;
+        writeDeltaOfDelta(delta - mDelta);
+        mDelta = delta;
+      } else {
+        writeXor(Double.doubleToRawLongBits(mLastX) ^ Double.doubleToRawLongBits(x), true);
+      }
+      writeXor(Double.doubleToRawLongBits(mLastY) ^ Double.doubleToRawLongBits(y), false);
+    }
+    mLastX = x;
+    mLastY = y;
+    if (!Double.isNaN(y) && y != MathHelper.NULL_VALUE) {
+      mMinY = Math.min(mMinY, y);
+      mMaxY = Math.max(mMaxY, y);
+    }
+    mCount++;
+  }
+
+  /**
+   * Writes a delta of delta, with a prefix telling the number of bits.
+   * 
+   * @param dod the delta of delta
+   */
+  private void writeDeltaOfDelta(long dod) {
+    if (dod == 0) {
+      write(0, 1);
+    } else if (dod >= -DOD_7_BITS && dod <= DOD_7_BITS + 1) {
+      write(2, 2);
+      write(dod + DOD_7_BITS, 7);
+    } else if (dod >= -DOD_9_BITS && dod <= DOD_9_BITS + 1) {
+      write(6, 3);
+      write(dod + DOD_9_BITS, 9);
+    } else if (dod >= -DOD_12_BITS && dod <= DOD_12_BITS + 1) {
+      write(14, 4);
+      write(dod + DOD_12_BITS, 12);
+    } else {
+      write(15, 4);
+      write(dod, 64);
+    }
+  }
+
+  /**
+   * Writes the XOR of a value with the previous one. Only the meaningful bits
+   * are written, reusing the leading and trailing zeros of the previous XOR
+   * when they fit.
+   * 
+   * @param xor the XOR
+   * @param x if the XOR is of X values, otherwise of Y values
+   */
+  private void writeXor(long xor, boolean x) {
+    if (xor == 0) {
+      write(0, 1);
+      return;
+    }
+    int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+    int trailing = Long.numberOfTrailingZeros(xor);
+    int previousLeading = x ? mXLeading : mYLeading;
+    int previousTrailing = x ? mXTrailing : mYTrailing;
+    if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+      write(2, 2);
+      write(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+      return;
+    }
+    int length = 64 - leading - trailing;
+    write(3, 2);
+    write(leading, 5);
+    // a length of 64 does not fit in 6 bits and is written as 0
+    write(length & 63, 6);
+    write(xor >>> trailing, length);
+    if (x) {
+      mXLeading = leading;
+      mXTrailing = trailing;
+    } else {
+      mYLeading = leading;
+      mYTrailing = trailing;
+    }
+  }
+
+  /**
+   * Writes the lowest bits of a value.
+   * 
+   * @param value the value
+   * @param bits the number of bits, from 1 to 64
+   */
+  private void write(long value, int bits) {
+    if (mBitCount + bits > (long) mBits.length * 64) {
+      long[] words = new long[mBits.length * 2];
+      System.arraycopy(mBits, 0, words, 0, mBits.length);
+      mBits = words;
+    }
+    if (bits < 64) {
+      value &= (1L << bits) - 1;
+    }
+    int word = mBitCount >>> 6;
+    int offset = mBitCount & 63;
+    int free = 64 - offset;
+    if (bits <= free) {
+      mBits[word] |= value << (free - bits);
+    } else {
+      mBits[word] |= value >>> (bits - free);
+      mBits[word + 1] |= value << (64 - bits + free);
+    }
+    mBitCount += bits;
+  }
+
+  /**
+   * Decodes the values of the block.
+   * 
+   * @param xs the array that receives the X values, from the offset on
+   * @param ys the array that receives the Y values, from the offset on
+   * @param offset the index of the first decoded value in the arrays
+   * @return the number of decoded values
+   */
+  public int decode(double[] xs, double[] ys, int offset) {
+    if (mCount == 0) {
+      return 0;
+    }
+    Reader reader = new Reader();
+    long xBits = reader.read(64);
+    long yBits = reader.read(64);
+    xs[offset] = Double.longBitsToDouble(xBits);
+    ys[offset] = Double.longBitsToDouble(yBits);
+    long x = (long) xs[offset];
+    long delta = 0;
+    int xLeading = 0;
+    int xTrailing = 0;
+    int yLeading = 0;
+    int yTrailing = 0;
+    for (int i = 1; i < mCount; i++) {
+      if (mIntegerX) {
+        delta += readDeltaOfDelta(reader);
+        x += delta;
+        xs[offset + i] = x;
+      } else {
+        if (reader.read(1) != 0) {
+          if (reader.read(1) != 0) {
+            xLeading = (int) reader.read(5);
+            int length = (int) reader.read(6);
+            xTrailing = 64 - xLeading - (length == 0 ? 64 : length);
+          }
+          xBits ^= reader.read(64 - xLeading - xTrailing) << xTrailing;
+        }
+        xs[offset + i] = Double.longBitsToDouble(xBits);
+      }
+      if (reader.read(1) != 0) {
+        if (reader.read(1) != 0) {
+          yLeading = (int) reader.read(5);
+          int length = (int) reader.read(6);
+          yTrailing = 64 - yLeading - (length == 0 ? 64 : length);
+        }
+        yBits ^= reader.read(64 - yLeading - yTrailing) << yTrailing;
+      }
+      ys[offset + i] = Double.longBitsToDouble(yBits);
+    }
+    return mCount;
+  }
+
+  /**
+   * Reads a delta of delta.
+   * 
+   * @param reader the reader
+   * @return the delta of delta
+   */
+  private static long readDeltaOfDelta(Reader reader) {
+    if (reader.read(1) == 0) {
+      return 0;
+    }
+    if (reader.read(1) == 0) {
+      return reader.read(7) - DOD_7_BITS;
+    }
+    if (reader.read(1) == 0) {
+      return reader.read(9) - DOD_9_BITS;
+    }
+    if (reader.read(1) == 0) {
+      return reader.read(12) - DOD_12_BITS;
+    }
+    return reader.read(64);
+  }
+
+  /**
+   * Reads the encoded bits in order.
+   */
+  private class Reader {
+    /** The position of the next bit. */
+    private int mPosition;
+
+    /**
+     * Reads bits.
+     * 
+     * @param bits the number of bits, from 1 to 64
+     * @return the bits, as the lowest bits of the result
+     */
+    long read(int bits) {
+      int word = mPosition >>> 6;
+      int offset = mPosition & 63;
+      int available = 64 - offset;
+      long value;
+      if (bits <= available) {
+        value = mBits[word] << offset >>> (64 - bits);
+      } else {
+        value = (mBits[word] << offset >>> offset) << (bits - available)
+            | mBits[word + 1] >>> (64 - bits + available);
+      }
+      mPosition += bits;
+      return value;
+    }
+  }
+
+  /**
+   * Returns the number of values.
+   * 
+   * @return the number of values
+   */
+  public int getCount() {
+    return mCount;
+  }
+
+  /**
+   * Returns the first X value.
+   * 
+   * @return the first X value
+   */
+  public double getFirstX() {
+    return mFirstX;
+  }
+
+  /**
+   * Returns the last X value.
+   * 
+   * @return the last X value
+   */
+  public double getLastX() {
+    return mLastX;
+  }
+
+  /**
+   * Returns the first Y value.
+   * 
+   * @return the first Y value
+   */
+  public double getFirstY() {
+    return mFirstY;
+  }
+
+  /**
+   * Returns the last Y value.
+   * 
+   * @return the last Y value
+   */
+  public double getLastY() {
+    return mLastY;
+  }
+
+  /**
+   * Returns the minimum Y value.
+   * 
+   * @return the minimum Y value, {@link MathHelper#NULL_VALUE} if there is none
+   */
+  public double getMinY() {
+    return mMinY;
+  }
+
+  /**
+   * Returns the maximum Y value.
+   * 
+   * @return the maximum Y value, -{@link MathHelper#NULL_VALUE} if there is none
+   */
+  public double getMaxY() {
+    return mMaxY;
+  }
+
+  /**
+   * Returns the size of the encoded values.
+   * 
+   * @return the size, in bytes
+   */
+  public int getEncodedSize() {
+    return (mBitCount + 7) / 8;
+  }
+
+  /**
+   * Releases the unused capacity, once no value is appended anymore.
+   */
+  public void trim() {
+    int words = (mBitCount + 63) >>> 6;
+    if (words < mBits.length) {
+      long[] bits = new long[Math.max(words, 1)];
+      System.arraycopy(mBits, 0, bits, 0, words);
+      mBits = bits;
+    }
+  }
+
+}
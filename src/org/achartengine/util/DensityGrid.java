@@ -0,0 +1,282 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A 2D histogram of XY values at the pixel resolution, used to draw large
+ * series as a density map. The values are binned in a single pass over the
+ * value arrays. For large inputs, the pixel cells of the values are computed
+ * in chunks by several threads and then counted by the calling thread, which
+ * only needs one cell index per value besides the counts.
+ */
+public class DensityGrid {
+  /** The number of values from which the cells are computed by several threads. */
+  private static final int PARALLEL_THRESHOLD = 200000;
+  /** The minimum number of values each thread computes the cells of. */
+  private static final int MIN_CHUNK = 100000;
+  /** The number of precomputed color levels, for the lowest counts. */
+  private static final int LEVEL_CACHE_SIZE = 4096;
+  /** The number of threads of the executor. */
+  private static final int THREADS = Runtime.getRuntime().availableProcessors();
+  /** The executor that computes the cells of large inputs. */
+  private static ExecutorService sExecutor;
+  /** The grid width. */
+  private int mWidth;
+  /** The grid height. */
+  private int mHeight;
+  /** The value count of each pixel, row by row. */
+  private int[] mCounts = new int[0];
+  /** The highest count. */
+  private int mMaxCount;
+  /** The cell of each value, or -1 for the values outside of the grid. */
+  private int[] mCells = new int[0];
+  /** The pixel colors. */
+  private int[] mPixels = new int[0];
+  /** The color level of the lowest counts, reused between frames. */
+  private int[] mLevels = new int[0];
+
+  /**
+   * Bins values into the grid, which is cleared first.
+   * 
+   * @param xs the X values
+   * @param ys the Y values
+   * @param count the number of values
+   * @param width the grid width, in pixels
+   * @param height the grid height, in pixels
+   * @param minX the X value of the left edge of the grid
+   * @param xPixelsPerUnit the number of pixels per unit on the X axis
+   * @param maxY the Y value of the top edge of the grid
+   * @param yPixelsPerUnit the number of pixels per unit on the Y axis
+   */
+  public void bin(final double[] xs, final double[] ys, int count, int width, int height,
+      final double minX, final double xPixelsPerUnit, final double maxY,
+      final double yPixelsPerUnit) {
+    mWidth = width;
+    mHeight = height;
+    int size = width * height;
+    if (mCounts.length < size) {
+      mCounts = new int[size];
+    } else {
+      for (int i = 0; i < size; i++) {
+        mCounts[i] = 0;
+      }
+    }
+    if (mCells.length < count) {
+      mCells = new int[count];
+    }
+    int threads = Math.min(THREADS, count / MIN_CHUNK);
+    if (count < PARALLEL_THRESHOLD || threads < 2) {
+      computeCells(xs, ys, 0, count, minX, xPixelsPerUnit, maxY, yPixelsPerUnit);
+    } else {
+      // the calling thread computes the first chunk while the others run
+      final int chunk = (count + threads - 1) / threads;
+      List<Future<?>> futures = new ArrayList<Future<?>>(threads - 1);
+      for (int i = 1; i < threads; i++) {
+        final int from = i * chunk;
+        final int to = Math.min(count, from + chunk);
+        futures.add(getExecutor().submit(new Runnable() {
+          public void run() {
+            computeCells(xs, ys, from, to, minX, xPixelsPerUnit, maxY, yPixelsPerUnit);
+          }
+        }));
+      }
+      computeCells(xs, ys, 0, chunk, minX, xPixelsPerUnit, maxY, yPixelsPerUnit);
+      for (int i = 1; i < threads; i++) {
+        try {
+          futures.get(i - 1).get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          // the chunk still has to be binned, so it is computed here
+          computeCells(xs, ys, i * chunk, Math.min(count, (i + 1) * chunk), minX,
+              xPixelsPerUnit, maxY, yPixelsPerUnit);
+        } catch (ExecutionException e) {
+          computeCells(xs, ys, i * chunk, Math.min(count, (i + 1) * chunk), minX,
+              xPixelsPerUnit, maxY, yPixelsPerUnit);
+        }
+      }
+    }
+    int[] counts = mCounts;
+    int[] cells = mCells;
+    int max = 0;
+    for (int i = 0; i < count; i++) {
+      int cell = cells[i];
+      if (cell >= 0) {
+        int value = ++counts[cell];
+        if (value > max) {
+          max = value;
+        }
+      }
+    }
+    mMaxCount = max;
+  }
+
+  /**
+   * Computes the cells of a range of values.
+   * 
+   * @param xs the X values
+   * @param ys the Y values
+   * @param from the first value index, inclusive
+   * @param to the last value index, exclusive
+   * @param minX the X value of the left edge of the grid
+   * @param xPixelsPerUnit the number of pixels per unit on the X axis
+   * @param maxY the Y value of the top edge of the grid
+   * @param yPixelsPerUnit the number of pixels per unit on the Y axis
+   */
+  private void computeCells(double[] xs, double[] ys, int from, int to, double minX,
+      double xPixelsPerUnit, double maxY, double yPixelsPerUnit) {
+    int[] cells = mCells;
+    int width = mWidth;
+    int height = mHeight;
+    for (int i = from; i < to; i++) {
+      double column = (xs[i] - minX) * xPixelsPerUnit;
+      double row = (maxY - ys[i]) * yPixelsPerUnit;
+      // written such as NaN values are outside of the grid too
+      if (column >= 0 && column < width && row >= 0 && row < height) {
+        cells[i] = (int) row * width + (int) column;
+      } else {
+        cells[i] = -1;
+      }
+    }
+  }
+
+  /**
+   * Returns the grid width.
+   * 
+   * @return the width, in pixels
+   */
+  public int getWidth() {
+    return mWidth;
+  }
+
+  /**
+   * Returns the grid height.
+   * 
+   * @return the height, in pixels
+   */
+  public int getHeight() {
+    return mHeight;
+  }
+
+  /**
+   * Returns the value count of a pixel.
+   * 
+   * @param column the pixel column
+   * @param row the pixel row
+   * @return the value count
+   */
+  public int getCount(int column, int row) {
+    return mCounts[row * mWidth + column];
+  }
+
+  /**
+   * Returns the highest value count of a pixel.
+   * 
+   * @return the highest count
+   */
+  public int getMaxCount() {
+    return mMaxCount;
+  }
+
+  /**
+   * Maps the value counts to colors, on a logarithmic scale from the first
+   * color for a single value to the last one for the highest count. The pixels
+   * without values are transparent.
+   * 
+   * @param ramp the colors, from the lowest to the highest density
+   * @return the pixel colors, row by row, reused by the next call
+   */
+  public int[] getPixels(int[] ramp) {
+    int size = mWidth * mHeight;
+    if (mPixels.length < size) {
+      mPixels = new int[size];
+    }
+    double scale = (ramp.length - 1) / Math.log(1 + mMaxCount);
+    int cached = Math.min(mMaxCount, LEVEL_CACHE_SIZE - 1) + 1;
+    if (mLevels.length < cached) {
+      mLevels = new int[LEVEL_CACHE_SIZE];
+    }
+    for (int i = 1; i < cached; i++) {
+      mLevels[i] = ramp[(int) (Math.log(1 + i) * scale)];
+    }
+    int[] counts = mCounts;
+    int[] pixels = mPixels;
+    for (int i = 0; i < size; i++) {
+      int value = counts[i];
+      if (value == 0) {
+        pixels[i] = 0;
+      } else if (value < cached) {
+        pixels[i] = mLevels[value];
+      } else {
+        pixels[i] = ramp[(int) (Math.log(1 + value) * scale)];
+      }
+    }
+    return pixels;
+  }
+
+  /**
+   * Builds a color ramp by interpolating colors, channel by channel.
+   * 
+   * @param colors the colors, at least two
+   * @param size the number of ramp colors
+   * @return the color ramp
+   */
+  public static int[] createRamp(int[] colors, int size) {
+    int[] ramp = new int[size];
+    int segments = colors.length - 1;
+    for (int i = 0; i < size; i++) {
+      double position = (double) i * segments / (size - 1);
+      int segment = Math.min((int) position, segments - 1);
+      double fraction = position - segment;
+      int from = colors[segment];
+      int to = colors[segment + 1];
+      int color = 0;
+      for (int shift = 0; shift < 32; shift += 8) {
+        int a = (from >>> shift) & 0xff;
+        int b = (to >>> shift) & 0xff;
+        color |= ((int) Math.round(a + (b - a) * fraction) & 0xff) << shift;
+      }
+      ramp[i] = color;
+    }
+    return ramp;
+  }
+
+  /**
+   * Returns the executor that computes the cells of large inputs.
+   * 
+   * @return the executor
+   */
+  private static synchronized ExecutorService getExecutor() {
+    if (sExecutor == null) {
+      sExecutor = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "achartengine-density");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return sExecutor;
+  }
+
+}
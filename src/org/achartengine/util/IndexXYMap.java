@@ -111,4 +111,28 @@ public class IndexXYMap<K, V> extends TreeMap<K, V> {
   public int getIndexForKey(K key) {
     return Collections.binarySearch(indexList, key, null);
   }
+
+  /**
+   * Returns the index of the first key that is greater than or equal to the
+   * given one
+   * 
+   * @param key
+   * @return the index, or the size if all the keys are lower
+   */
+  public int getCeilingIndex(K key) {
+    int index = getIndexForKey(key);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /**
+   * Returns the index of the last key that is lower than or equal to the given
+   * one
+   * 
+   * @param key
+   * @return the index, or -1 if all the keys are greater
+   */
+  public int getFloorIndex(K key) {
+    int index = getIndexForKey(key);
+    return index >= 0 ? index : -index - 2;
+  }
 }
@@ -0,0 +1,252 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+/**
+ * Keeps track of the bounds of the labels already drawn on a chart, in a
+ * uniform grid of cells, such as checking if a new label overlaps any of them
+ * only looks at the labels of the cells it covers. Bounds outside of the grid
+ * area are clamped to the border cells. An instance is meant to be reset and
+ * reused from frame to frame.
+ */
+public class LabelGrid {
+  /** The maximum number of cells on each axis. */
+  private static final int MAX_CELLS = 64;
+  /** The label bounds, as left, top, right, bottom. */
+  private float[] mBounds = new float[64];
+  /** The number of labels. */
+  private int mCount;
+  /** The first entry of each cell, or -1. */
+  private int[] mCellHeads = new int[0];
+  /** The label index of each entry. */
+  private int[] mEntryLabels = new int[32];
+  /** The next entry of the same cell of each entry, or -1. */
+  private int[] mEntryNext = new int[32];
+  /** The number of entries. */
+  private int mEntryCount;
+  /** The grid area left. */
+  private float mLeft;
+  /** The grid area top. */
+  private float mTop;
+  /** The cell width. */
+  private float mCellWidth = 1;
+  /** The cell height. */
+  private float mCellHeight = 1;
+  /** The number of columns. */
+  private int mColumns;
+  /** The number of rows. */
+  private int mRows;
+
+  /**
+   * Builds a new empty label grid.
+   */
+  public LabelGrid() {
+    reset(0, 0, 1, 1, 1);
+  }
+
+  /**
+   * Removes all the labels and sets the grid area.
+   *
+   * @param left the area left
+   * @param top the area top
+   * @param right the area right
+   * @param bottom the area bottom
+   * @param cellSize the desired cell size, typically about the size of a label
+   */
+  public void reset(float left, float top, float right, float bottom, float cellSize) {
+    mLeft = left;
+    mTop = top;
+    float width = Math.max(right - left, 1);
+    float height = Math.max(bottom - top, 1);
+    cellSize = Math.max(cellSize, 1);
+    mColumns = Math.max(1, Math.min(MAX_CELLS, (int) Math.ceil(width / cellSize)));
+    mRows = Math.max(1, Math.min(MAX_CELLS, (int) Math.ceil(height / cellSize)));
+    mCellWidth = width / mColumns;
+    mCellHeight = height / mRows;
+    int cells = mColumns * mRows;
+    if (mCellHeads.length < cells) {
+      mCellHeads = new int[cells];
+    }
+    for (int i = 0; i < cells; i++) {
+      mCellHeads[i] = -1;
+    }
+    mCount = 0;
+    mEntryCount = 0;
+  }
+
+  /**
+   * Returns the number of labels.
+   *
+   * @return the number of labels
+   */
+  public int size() {
+    return mCount;
+  }
+
+  /**
+   * Finds a label that overlaps the given bounds.
+   *
+   * @param left the bounds left
+   * @param top the bounds top
+   * @param right the bounds right
+   * @param bottom the bounds bottom
+   * @return the index of an overlapping label, or -1 if there is none
+   */
+  public int findOverlap(float left, float top, float right, float bottom) {
+    int firstColumn = getColumn(left);
+    int lastColumn = getColumn(right);
+    int firstRow = getRow(top);
+    int lastRow = getRow(bottom);
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        int entry = mCellHeads[row * mColumns + column];
+        while (entry >= 0) {
+          int label = mEntryLabels[entry];
+          int offset = label * 4;
+          if (mBounds[offset] < right && left < mBounds[offset + 2]
+              && mBounds[offset + 1] < bottom && top < mBounds[offset + 3]) {
+            return label;
+          }
+          entry = mEntryNext[entry];
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the bottom of a label.
+   *
+   * @param index the label index
+   * @return the label bottom
+   */
+  public float getBottom(int index) {
+    return mBounds[index * 4 + 3];
+  }
+
+  /**
+   * Adds a label, without checking if it overlaps other labels.
+   *
+   * @param left the label left
+   * @param top the label top
+   * @param right the label right
+   * @param bottom the label bottom
+   */
+  public void add(float left, float top, float right, float bottom) {
+    if ((mCount + 1) * 4 > mBounds.length) {
+      float[] bounds = new float[mBounds.length * 2];
+      System.arraycopy(mBounds, 0, bounds, 0, mCount * 4);
+      mBounds = bounds;
+    }
+    int offset = mCount * 4;
+    mBounds[offset] = left;
+    mBounds[offset + 1] = top;
+    mBounds[offset + 2] = right;
+    mBounds[offset + 3] = bottom;
+    int firstColumn = getColumn(left);
+    int lastColumn = getColumn(right);
+    int lastRow = getRow(bottom);
+    for (int row = getRow(top); row <= lastRow; row++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        addEntry(row * mColumns + column, mCount);
+      }
+    }
+    mCount++;
+  }
+
+  /**
+   * Adds a label if it does not overlap any other label.
+   *
+   * @param left the label left
+   * @param top the label top
+   * @param right the label right
+   * @param bottom the label bottom
+   * @return if the label was added
+   */
+  public boolean tryAdd(float left, float top, float right, float bottom) {
+    if (findOverlap(left, top, right, bottom) >= 0) {
+      return false;
+    }
+    add(left, top, right, bottom);
+    return true;
+  }
+
+  /**
+   * Adds a label at the first of the candidate positions where it does not
+   * overlap any other label.
+   *
+   * @param width the label width
+   * @param height the label height
+   * @param candidates the candidate positions, as pairs of left and top
+   * @param count the number of candidate positions
+   * @return the index of the chosen candidate, or -1 if the label overlaps
+   *         other labels at all the candidate positions
+   */
+  public int place(float width, float height, float[] candidates, int count) {
+    for (int i = 0; i < count; i++) {
+      float left = candidates[2 * i];
+      float top = candidates[2 * i + 1];
+      if (tryAdd(left, top, left + width, top + height)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Links a label into a cell.
+   *
+   * @param cell the cell
+   * @param label the label index
+   */
+  private void addEntry(int cell, int label) {
+    if (mEntryCount == mEntryLabels.length) {
+      int[] labels = new int[mEntryCount * 2];
+      int[] next = new int[mEntryCount * 2];
+      System.arraycopy(mEntryLabels, 0, labels, 0, mEntryCount);
+      System.arraycopy(mEntryNext, 0, next, 0, mEntryCount);
+      mEntryLabels = labels;
+      mEntryNext = next;
+    }
+    mEntryLabels[mEntryCount] = label;
+    mEntryNext[mEntryCount] = mCellHeads[cell];
+    mCellHeads[cell] = mEntryCount;
+    mEntryCount++;
+  }
+
+  /**
+   * Returns the column of an X value, clamped to the grid.
+   *
+   * @param x the X value
+   * @return the column
+   */
+  private int getColumn(float x) {
+    int column = (int) ((x - mLeft) / mCellWidth);
+    return Math.max(0, Math.min(mColumns - 1, column));
+  }
+
+  /**
+   * Returns the row of a Y value, clamped to the grid.
+   *
+   * @param y the Y value
+   * @return the row
+   */
+  private int getRow(float y) {
+    int row = (int) ((y - mTop) / mCellHeight);
+    return Math.max(0, Math.min(mRows - 1, row));
+  }
+
+}
@@ -1,148 +1,240 @@
-/**
- * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
- *  
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *  
- *      http://www.apache.org/licenses/LICENSE-2.0
- *  
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.achartengine.util;
-
-import java.text.NumberFormat;
-import java.text.ParseException;
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * Utility class for math operations.
- */
-public class MathHelper {
-  /** A value that is used a null value. */
-  public static final double NULL_VALUE = Double.MAX_VALUE;
-  /**
-   * A number formatter to be used to make sure we have a maximum number of
-   * fraction digits in the labels.
-   */
-  private static final NumberFormat FORMAT = NumberFormat.getNumberInstance();
-
-  private MathHelper() {
-    // empty constructor
-  }
-
-  /**
-   * Calculate the minimum and maximum values out of a list of doubles.
-   * 
-   * @param values the input values
-   * @return an array with the minimum and maximum values
-   */
-  public static double[] minmax(List<Double> values) {
-    if (values.size() == 0) {
-      return new double[2];
-    }
-    double min = values.get(0);
-    double max = min;
-    int length = values.size();
-    for (int i = 1; i < length; i++) {
-      double value = values.get(i);
-      min = Math.min(min, value);
-      max = Math.max(max, value);
-    }
-    return new double[] { min, max };
-  }
-
-  /**
-   * Computes a reasonable set of labels for a data interval and number of
-   * labels.
-   * 
-   * @param start start value
-   * @param end final value
-   * @param approxNumLabels desired number of labels
-   * @return collection containing the label values
-   */
-  public static List<Double> getLabels(final double start, final double end,
-      final int approxNumLabels) {
-    List<Double> labels = new ArrayList<Double>();
-    if (approxNumLabels <= 0) {
-      return labels;
-    }
-    FORMAT.setMaximumFractionDigits(5);
-    double[] labelParams = computeLabels(start, end, approxNumLabels);
-    // when the start > end the inc will be negative so it will still work
-    int numLabels = 1 + (int) ((labelParams[1] - labelParams[0]) / labelParams[2]);
-    // we want the range to be inclusive but we don't want to blow up when
-    // looping for the case where the min and max are the same. So we loop
-    // on
-    // numLabels not on the values.
-    for (int i = 0; i < numLabels; i++) {
-      double z = labelParams[0] + i * labelParams[2];
-      try {
-        // this way, we avoid a label value like 0.4000000000000000001 instead
-        // of 0.4
-        z = FORMAT.parse(FORMAT.format(z)).doubleValue();
-      } catch (ParseException e) {
-        // do nothing here
-      }
-      labels.add(z);
-    }
-    return labels;
-  }
-
-  /**
-   * Computes a reasonable number of labels for a data range.
-   * 
-   * @param start start value
-   * @param end final value
-   * @param approxNumLabels desired number of labels
-   * @return double[] array containing {start value, end value, increment}
-   */
-  private static double[] computeLabels(final double start, final double end,
-      final int approxNumLabels) {
-    if (Math.abs(start - end) < 0.0000001f) {
-      return new double[] { start, start, 0 };
-    }
-    double s = start;
-    double e = end;
-    boolean switched = false;
-    if (s > e) {
-      switched = true;
-      double tmp = s;
-      s = e;
-      e = tmp;
-    }
-    double xStep = roundUp(Math.abs(s - e) / approxNumLabels);
-    // Compute x starting point so it is a multiple of xStep.
-    double xStart = xStep * Math.ceil(s / xStep);
-    double xEnd = xStep * Math.floor(e / xStep);
-    if (switched) {
-      return new double[] { xEnd, xStart, -1.0 * xStep };
-    }
-    return new double[] { xStart, xEnd, xStep };
-  }
-
-  /**
-   * Given a number, round up to the nearest power of ten times 1, 2, or 5.
-   * 
-   * @param val the number, it must be strictly positive
-   */
-  private static double roundUp(final double val) {
-    int exponent = (int) Math.floor(Math.log10(val));
-    double rval = val * Math.pow(10, -exponent);
-    if (rval > 5.0) {
-      rval = 10.0;
-    } else if (rval > 2.0) {
-      rval = 5.0;
-    } else if (rval > 1.0) {
-      rval = 2.0;
-    }
-    rval *= Math.pow(10, exponent);
-    return rval;
-  }
-
-}
+/**
+ * Copyright (C) 2009 - 2012 SC 4ViewSoft SRL
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for math operations.
+ */
+public class MathHelper {
+  /** A value that is used a null value. */
+  public static final double NULL_VALUE = Double.MAX_VALUE;
+  /** The powers of ten that are exactly representable as doubles. */
+  private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+      1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+  /** The largest integer up to which all the integers are exact doubles. */
+  private static final long MAX_EXACT_LONG = 1L << 53;
+  /** The labels cache of each thread. */
+  private static final ThreadLocal<LabelsCache> LABELS_CACHE = new ThreadLocal<LabelsCache>() {
+    @Override
+    protected LabelsCache initialValue() {
+      return new LabelsCache();
+    }
+  };
+
+  private MathHelper() {
+    // empty constructor
+  }
+
+  /**
+   * Calculate the minimum and maximum values out of a list of doubles.
+   * 
+   * @param values the input values
+   * @return an array with the minimum and maximum values
+   */
+  public static double[] minmax(List<Double> values) {
+    if (values.size() == 0) {
+      return new double[2];
+    }
+    double min = values.get(0);
+    double max = min;
+    int length = values.size();
+    for (int i = 1; i < length; i++) {
+      double value = values.get(i);
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+    return new double[] { min, max };
+  }
+
+  /**
+   * Computes a reasonable set of labels for a data interval and number of
+   * labels.
+   * 
+   * @param start start value
+   * @param end final value
+   * @param approxNumLabels desired number of labels
+   * @return collection containing the label values
+   */
+  public static List<Double> getLabels(final double start, final double end,
+      final int approxNumLabels) {
+    return new ArrayList<Double>(getTicks(start, end, approxNumLabels));
+  }
+
+  /**
+   * Computes a reasonable set of labels for a data interval and number of
+   * labels, without copying them. The result is cached per thread, so the same
+   * list is returned while the interval does not change, and it cannot be
+   * modified.
+   * 
+   * @param start start value
+   * @param end final value
+   * @param approxNumLabels desired number of labels
+   * @return the label values
+   */
+  public static TickList getTicks(final double start, final double end,
+      final int approxNumLabels) {
+    return LABELS_CACHE.get().getLabels(start, end, approxNumLabels);
+  }
+
+  /**
+   * Computes a reasonable set of labels for a data interval and number of
+   * labels, writing them to an array.
+   * 
+   * @param start start value
+   * @param end final value
+   * @param approxNumLabels desired number of labels
+   * @param labels the array to write the label values to
+   * @return the number of labels, which may be more than the array length, in
+   *         which case only the first labels are written
+   */
+  public static int getLabels(final double start, final double end, final int approxNumLabels,
+      final double[] labels) {
+    TickList ticks = LABELS_CACHE.get().getLabels(start, end, approxNumLabels);
+    ticks.copyTo(labels);
+    return ticks.size();
+  }
+
+  /**
+   * Computes the labels for a data interval and number of labels.
+   * 
+   * @param start start value
+   * @param end final value
+   * @param approxNumLabels desired number of labels
+   * @return the label values
+   */
+  private static TickList computeLabels(final double start, final double end,
+      final int approxNumLabels) {
+    if (approxNumLabels <= 0 || Double.isNaN(start) || Double.isNaN(end)
+        || Double.isInfinite(start) || Double.isInfinite(end)) {
+      return new TickList(new double[0], 0);
+    }
+    if (Math.abs(start - end) < 0.0000001f) {
+      return new TickList(new double[] { start }, 1);
+    }
+    double s = Math.min(start, end);
+    double e = Math.max(start, end);
+    // the step is mantissa * 10^exponent, with the mantissa being 1, 2 or 5
+    double raw = (e - s) / approxNumLabels;
+    int exponent = (int) Math.floor(Math.log10(raw));
+    double scaled = raw / pow10(exponent);
+    int mantissa;
+    if (scaled > 5.0) {
+      mantissa = 1;
+      exponent++;
+    } else if (scaled > 2.0) {
+      mantissa = 5;
+    } else if (scaled > 1.0) {
+      mantissa = 2;
+    } else {
+      mantissa = 1;
+    }
+    double step = mantissa * pow10(exponent);
+    long first = (long) Math.ceil(s / step);
+    long last = (long) Math.floor(e / step);
+    int count = (int) Math.max(0, last - first + 1);
+    double[] values = new double[count];
+    for (int i = 0; i < count; i++) {
+      // when the start > end the labels go downwards
+      long k = start > end ? last - i : first + i;
+      values[i] = tick(k, mantissa, exponent);
+    }
+    return new TickList(values, count);
+  }
+
+  /**
+   * Returns k * mantissa * 10^exponent as the double closest to the exact
+   * decimal value, such as a label is 0.4 and not 0.4000000000000001.
+   * 
+   * @param k the step multiplier
+   * @param mantissa the step mantissa
+   * @param exponent the step exponent
+   * @return the label value
+   */
+  private static double tick(long k, int mantissa, int exponent) {
+    if (Math.abs(k) > MAX_EXACT_LONG / mantissa || Math.abs(exponent) >= POWERS_OF_TEN.length) {
+      return (double) k * mantissa * pow10(exponent);
+    }
+    long units = k * mantissa;
+    if (exponent >= 0) {
+      // both factors are exact, so the product is correctly rounded
+      return units * POWERS_OF_TEN[exponent];
+    }
+    // both operands are exact, so the quotient is correctly rounded
+    return units / POWERS_OF_TEN[-exponent];
+  }
+
+  /**
+   * Returns 10 raised to the power of the given exponent.
+   * 
+   * @param exponent the exponent
+   * @return the power of ten
+   */
+  private static double pow10(int exponent) {
+    if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+      return POWERS_OF_TEN[exponent];
+    }
+    if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+      return 1 / POWERS_OF_TEN[-exponent];
+    }
+    return Math.pow(10, exponent);
+  }
+
+  /**
+   * A small per thread cache of the last computed labels.
+   */
+  private static class LabelsCache {
+    /** The number of cached label sets. */
+    private static final int SIZE = 8;
+    /** The cached interval starts. */
+    private final double[] mStart = new double[SIZE];
+    /** The cached interval ends. */
+    private final double[] mEnd = new double[SIZE];
+    /** The cached label counts. */
+    private final int[] mCount = new int[SIZE];
+    /** The cached labels. */
+    private final TickList[] mLabels = new TickList[SIZE];
+    /** The next entry to be replaced. */
+    private int mNext;
+
+    /**
+     * Returns the labels for an interval, computing them if not cached.
+     * 
+     * @param start start value
+     * @param end final value
+     * @param approxNumLabels desired number of labels
+     * @return the label values
+     */
+    TickList getLabels(double start, double end, int approxNumLabels) {
+      for (int i = 0; i < SIZE; i++) {
+        if (mLabels[i] != null && mCount[i] == approxNumLabels
+            && Double.compare(mStart[i], start) == 0 && Double.compare(mEnd[i], end) == 0) {
+          return mLabels[i];
+        }
+      }
+      TickList labels = computeLabels(start, end, approxNumLabels);
+      mStart[mNext] = start;
+      mEnd[mNext] = end;
+      mCount[mNext] = approxNumLabels;
+      mLabels[mNext] = labels;
+      mNext = (mNext + 1) % SIZE;
+      return labels;
+    }
+  }
+
+}
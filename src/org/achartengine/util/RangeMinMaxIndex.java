@@ -0,0 +1,287 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+import java.io.Serializable;
+
+/**
+ * A segment tree that answers the minimum and the maximum of any index range of
+ * a sequence of values in O(log n). Appending a value and removing the first
+ * one, which is what live charts do, are O(log n) as well. Inserting or
+ * removing values elsewhere only shifts the values, the tree is then rebuilt on
+ * the next query. Null values ({@link MathHelper#NULL_VALUE}) and NaN are
+ * ignored.
+ */
+public class RangeMinMaxIndex implements Serializable {
+  /** The initial capacity. */
+  private static final int INITIAL_CAPACITY = 16;
+  /** The node minimums, the leaves are stored from the capacity on. */
+  private double[] mMin;
+  /** The node maximums, the leaves are stored from the capacity on. */
+  private double[] mMax;
+  /** The number of leaves. */
+  private int mCapacity;
+  /** The leaf of the first value. */
+  private int mOffset;
+  /** The number of values. */
+  private int mSize;
+  /** If the inner nodes need to be rebuilt. */
+  private boolean mDirty;
+
+  /**
+   * Builds a new empty index.
+   */
+  public RangeMinMaxIndex() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Returns the number of values.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * Appends a value.
+   *
+   * @param value the value
+   */
+  public void add(double value) {
+    if (mOffset + mSize == mCapacity) {
+      makeRoom();
+    }
+    setLeaf(mOffset + mSize, value);
+    mSize++;
+  }
+
+  /**
+   * Inserts a value.
+   *
+   * @param index the index to insert the value at
+   * @param value the value
+   */
+  public void add(int index, double value) {
+    if (index == mSize) {
+      add(value);
+      return;
+    }
+    checkIndex(index, mSize);
+    if (mOffset + mSize == mCapacity) {
+      makeRoom();
+    }
+    int leaf = mCapacity + mOffset + index;
+    int count = mSize - index;
+    System.arraycopy(mMin, leaf, mMin, leaf + 1, count);
+    System.arraycopy(mMax, leaf, mMax, leaf + 1, count);
+    mSize++;
+    mDirty = true;
+    setLeaf(mOffset + index, value);
+  }
+
+  /**
+   * Replaces a value.
+   *
+   * @param index the index of the value
+   * @param value the new value
+   */
+  public void set(int index, double value) {
+    checkIndex(index, mSize - 1);
+    setLeaf(mOffset + index, value);
+  }
+
+  /**
+   * Removes a value.
+   *
+   * @param index the index of the value to remove
+   */
+  public void remove(int index) {
+    checkIndex(index, mSize - 1);
+    if (index == 0) {
+      setLeaf(mOffset, MathHelper.NULL_VALUE);
+      mOffset++;
+      mSize--;
+      return;
+    }
+    int leaf = mCapacity + mOffset + index;
+    int count = mSize - index - 1;
+    System.arraycopy(mMin, leaf + 1, mMin, leaf, count);
+    System.arraycopy(mMax, leaf + 1, mMax, leaf, count);
+    mSize--;
+    mDirty = true;
+    setLeaf(mOffset + mSize, MathHelper.NULL_VALUE);
+  }
+
+  /**
+   * Removes all the values.
+   */
+  public void clear() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Replaces all the values. The tree is built once, on the next query,
+   * instead of being updated for each value.
+   *
+   * @param values the new values
+   * @param count the number of values
+   */
+  public void setAll(double[] values, int count) {
+    int capacity = INITIAL_CAPACITY;
+    while (capacity < count) {
+      capacity *= 2;
+    }
+    allocate(capacity);
+    mDirty = true;
+    for (int i = 0; i < count; i++) {
+      setLeaf(i, values[i]);
+    }
+    mSize = count;
+  }
+
+  /**
+   * Computes the minimum and the maximum of an index range.
+   *
+   * @param from the first index, inclusive
+   * @param to the last index, exclusive
+   * @param range an array that receives {min, max}
+   * @return false if the range contains no value, in which case the array is
+   *         left unchanged
+   */
+  public boolean getMinMax(int from, int to, double[] range) {
+    from = Math.max(from, 0);
+    to = Math.min(to, mSize);
+    if (from >= to) {
+      return false;
+    }
+    if (mDirty) {
+      rebuild();
+    }
+    double min = Double.POSITIVE_INFINITY;
+    double max = Double.NEGATIVE_INFINITY;
+    int left = mCapacity + mOffset + from;
+    int right = mCapacity + mOffset + to;
+    while (left < right) {
+      if ((left & 1) == 1) {
+        min = Math.min(min, mMin[left]);
+        max = Math.max(max, mMax[left]);
+        left++;
+      }
+      if ((right & 1) == 1) {
+        right--;
+        min = Math.min(min, mMin[right]);
+        max = Math.max(max, mMax[right]);
+      }
+      left >>= 1;
+      right >>= 1;
+    }
+    if (min == Double.POSITIVE_INFINITY) {
+      return false;
+    }
+    range[0] = min;
+    range[1] = max;
+    return true;
+  }
+
+  /**
+   * Sets a leaf value and updates its ancestors, unless the tree is going to be
+   * rebuilt anyway.
+   *
+   * @param position the leaf position, relative to the first leaf
+   * @param value the value
+   */
+  private void setLeaf(int position, double value) {
+    int node = mCapacity + position;
+    if (Double.isNaN(value) || value == MathHelper.NULL_VALUE) {
+      mMin[node] = Double.POSITIVE_INFINITY;
+      mMax[node] = Double.NEGATIVE_INFINITY;
+    } else {
+      mMin[node] = value;
+      mMax[node] = value;
+    }
+    if (mDirty) {
+      return;
+    }
+    node >>= 1;
+    while (node > 0) {
+      mMin[node] = Math.min(mMin[2 * node], mMin[2 * node + 1]);
+      mMax[node] = Math.max(mMax[2 * node], mMax[2 * node + 1]);
+      node >>= 1;
+    }
+  }
+
+  /**
+   * Makes room for one more value at the end, by moving the values to the
+   * beginning if the removed head takes enough space, or by doubling the
+   * capacity otherwise.
+   */
+  private void makeRoom() {
+    int capacity = mOffset >= mCapacity / 2 ? mCapacity : mCapacity * 2;
+    double[] min = mMin;
+    double[] max = mMax;
+    int start = mCapacity + mOffset;
+    int size = mSize;
+    allocate(capacity);
+    System.arraycopy(min, start, mMin, mCapacity, size);
+    System.arraycopy(max, start, mMax, mCapacity, size);
+    mSize = size;
+    mDirty = true;
+  }
+
+  /**
+   * Allocates an empty tree.
+   *
+   * @param capacity the number of leaves, a power of two
+   */
+  private void allocate(int capacity) {
+    mCapacity = capacity;
+    mMin = new double[2 * capacity];
+    mMax = new double[2 * capacity];
+    for (int i = 0; i < 2 * capacity; i++) {
+      mMin[i] = Double.POSITIVE_INFINITY;
+      mMax[i] = Double.NEGATIVE_INFINITY;
+    }
+    mOffset = 0;
+    mSize = 0;
+    mDirty = false;
+  }
+
+  /**
+   * Rebuilds the inner nodes from the leaves.
+   */
+  private void rebuild() {
+    for (int node = mCapacity - 1; node > 0; node--) {
+      mMin[node] = Math.min(mMin[2 * node], mMin[2 * node + 1]);
+      mMax[node] = Math.max(mMax[2 * node], mMax[2 * node + 1]);
+    }
+    mDirty = false;
+  }
+
+  /**
+   * Checks an index against the bounds.
+   *
+   * @param index the index
+   * @param last the last valid index
+   */
+  private static void checkIndex(int index, int last) {
+    if (index < 0 || index > last) {
+      throw new IndexOutOfBoundsException("Index: " + index);
+    }
+  }
+
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import android.graphics.Paint;
+import android.graphics.Paint.Align;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+/**
+ * A least recently used cache of text measurements. A text is split into lines
+ * and measured once for a given text size, typeface and alignment, such as
+ * drawing the same labels, legend titles and annotations frame after frame
+ * does not measure them again.
+ */
+public class TextLayoutCache {
+  /** The default maximum number of cached texts. */
+  public static final int DEFAULT_MAX_ENTRIES = 256;
+  /** The text layouts, in access order. */
+  private final LinkedHashMap<LayoutKey, TextLayout> mLayouts;
+  /** The key used for looking up layouts, reused to avoid allocations. */
+  private final LayoutKey mLookupKey = new LayoutKey();
+  /** The bounds used for measuring, reused to avoid allocations. */
+  private final Rect mBounds = new Rect();
+  /** The number of cache hits. */
+  private long mHitCount;
+  /** The number of cache misses. */
+  private long mMissCount;
+
+  /**
+   * Builds a new cache that holds up to {@link #DEFAULT_MAX_ENTRIES} texts.
+   */
+  public TextLayoutCache() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * Builds a new cache.
+   *
+   * @param maxEntries the maximum number of cached texts
+   */
+  public TextLayoutCache(final int maxEntries) {
+    mLayouts = new LinkedHashMap<LayoutKey, TextLayout>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<LayoutKey, TextLayout> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the layout of a text, as measured with the text size, typeface and
+   * alignment of a paint.
+   *
+   * @param text the text
+   * @param paint the paint
+   * @return the text layout
+   */
+  public synchronized TextLayout get(String text, Paint paint) {
+    mLookupKey.set(text, paint.getTextSize(), paint.getTypeface(), paint.getTextAlign());
+    TextLayout layout = mLayouts.get(mLookupKey);
+    if (layout != null) {
+      mHitCount++;
+      return layout;
+    }
+    mMissCount++;
+    layout = measure(text, paint);
+    LayoutKey key = new LayoutKey();
+    key.set(text, paint.getTextSize(), paint.getTypeface(), paint.getTextAlign());
+    mLayouts.put(key, layout);
+    return layout;
+  }
+
+  /**
+   * Measures a text.
+   *
+   * @param text the text
+   * @param paint the paint
+   * @return the text layout
+   */
+  private TextLayout measure(String text, Paint paint) {
+    String[] lines = text.split("\n");
+    float[] lineHeights = new float[lines.length];
+    for (int i = 0; i < lines.length; i++) {
+      paint.getTextBounds(lines[i], 0, lines[i].length(), mBounds);
+      lineHeights[i] = mBounds.height();
+    }
+    float[] widths = new float[text.length()];
+    paint.getTextWidths(text, widths);
+    float width = 0;
+    for (float value : widths) {
+      width += value;
+    }
+    paint.getTextBounds(text, 0, text.length(), mBounds);
+    return new TextLayout(lines, lineHeights, width, mBounds.width());
+  }
+
+  /**
+   * Returns the number of cached texts.
+   *
+   * @return the number of cached texts
+   */
+  public synchronized int size() {
+    return mLayouts.size();
+  }
+
+  /**
+   * Returns the number of cache hits.
+   *
+   * @return the number of hits
+   */
+  public synchronized long getHitCount() {
+    return mHitCount;
+  }
+
+  /**
+   * Returns the number of cache misses.
+   *
+   * @return the number of misses
+   */
+  public synchronized long getMissCount() {
+    return mMissCount;
+  }
+
+  /**
+   * Removes all the cached texts and resets the statistics.
+   */
+  public synchronized void clear() {
+    mLayouts.clear();
+    mHitCount = 0;
+    mMissCount = 0;
+  }
+
+  /**
+   * The measured layout of a text.
+   */
+  public static class TextLayout {
+    /** The text lines. */
+    private final String[] mLines;
+    /** The bounds height of each line. */
+    private final float[] mLineHeights;
+    /** The advance width of the whole text. */
+    private final float mWidth;
+    /** The bounds width of the whole text. */
+    private final int mBoundsWidth;
+
+    /**
+     * Builds a new text layout.
+     *
+     * @param lines the text lines
+     * @param lineHeights the bounds height of each line
+     * @param width the advance width of the whole text
+     * @param boundsWidth the bounds width of the whole text
+     */
+    TextLayout(String[] lines, float[] lineHeights, float width, int boundsWidth) {
+      mLines = lines;
+      mLineHeights = lineHeights;
+      mWidth = width;
+      mBoundsWidth = boundsWidth;
+    }
+
+    /**
+     * Returns the number of lines.
+     *
+     * @return the number of lines
+     */
+    public int getLineCount() {
+      return mLines.length;
+    }
+
+    /**
+     * Returns a line of the text.
+     *
+     * @param index the line index
+     * @return the line
+     */
+    public String getLine(int index) {
+      return mLines[index];
+    }
+
+    /**
+     * Returns the bounds height of a line.
+     *
+     * @param index the line index
+     * @return the line height
+     */
+    public float getLineHeight(int index) {
+      return mLineHeights[index];
+    }
+
+    /**
+     * Returns the advance width of the whole text, as the sum of its character
+     * widths.
+     *
+     * @return the text width
+     */
+    public float getWidth() {
+      return mWidth;
+    }
+
+    /**
+     * Returns the bounds width of the whole text.
+     *
+     * @return the bounds width
+     */
+    public int getBoundsWidth() {
+      return mBoundsWidth;
+    }
+  }
+
+  /**
+   * The cache key of a text layout.
+   */
+  private static class LayoutKey {
+    /** The text. */
+    private String mText;
+    /** The text size. */
+    private float mTextSize;
+    /** The typeface. */
+    private Typeface mTypeface;
+    /** The text alignment. */
+    private Align mAlign;
+
+    /**
+     * Sets the key values.
+     *
+     * @param text the text
+     * @param textSize the text size
+     * @param typeface the typeface
+     * @param align the text alignment
+     */
+    void set(String text, float textSize, Typeface typeface, Align align) {
+      mText = text;
+      mTextSize = textSize;
+      mTypeface = typeface;
+      mAlign = align;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof LayoutKey)) {
+        return false;
+      }
+      LayoutKey key = (LayoutKey) o;
+      return mText.equals(key.mText) && mTextSize == key.mTextSize
+          && (mTypeface == null ? key.mTypeface == null : mTypeface.equals(key.mTypeface))
+          && mAlign == key.mAlign;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = mText.hashCode();
+      hash = 31 * hash + Float.floatToIntBits(mTextSize);
+      hash = 31 * hash + (mTypeface == null ? 0 : mTypeface.hashCode());
+      return 31 * hash + (mAlign == null ? 0 : mAlign.hashCode());
+    }
+  }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2013 Henning Dodenhof
+ *  
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.achartengine.util;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of axis label values, as computed by
+ * {@link MathHelper#getTicks(double, double, int)}. The values are kept both
+ * as primitives and boxed, such as iterating the list does not allocate.
+ */
+public final class TickList extends AbstractList<Double> implements RandomAccess {
+  /** The label values. */
+  private final double[] mValues;
+  /** The boxed label values. */
+  private final Double[] mBoxed;
+
+  /**
+   * Builds a new tick list.
+   *
+   * @param values the label values, which are not copied
+   * @param count the number of values to use
+   */
+  TickList(double[] values, int count) {
+    mValues = values;
+    mBoxed = new Double[count];
+    for (int i = 0; i < count; i++) {
+      mBoxed[i] = values[i];
+    }
+  }
+
+  @Override
+  public Double get(int index) {
+    return mBoxed[index];
+  }
+
+  /**
+   * Returns a label value, without boxing it.
+   *
+   * @param index the label index
+   * @return the label value
+   */
+  public double getValue(int index) {
+    if (index >= mBoxed.length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mBoxed.length);
+    }
+    return mValues[index];
+  }
+
+  @Override
+  public int size() {
+    return mBoxed.length;
+  }
+
+  /**
+   * Copies the label values to an array.
+   *
+   * @param dest the destination array
+   * @return the number of copied values, at most the destination length
+   */
+  public int copyTo(double[] dest) {
+    int count = Math.min(dest.length, mBoxed.length);
+    System.arraycopy(mValues, 0, dest, 0, count);
+    return count;
+  }
+
+}